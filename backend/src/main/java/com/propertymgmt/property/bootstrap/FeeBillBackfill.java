@@ -0,0 +1,46 @@
+package com.propertymgmt.property.bootstrap;
+
+import com.propertymgmt.property.repository.FeeBillJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 启动时为历史数据回填新增列（账单的规范化账期、版本号与滞纳金、住户面积数值、收费项目计价方式）
+ */
+@Component
+public class FeeBillBackfill implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(FeeBillBackfill.class);
+
+    private final FeeBillJdbcRepository feeBillJdbcRepository;
+
+    public FeeBillBackfill(FeeBillJdbcRepository feeBillJdbcRepository) {
+        this.feeBillJdbcRepository = feeBillJdbcRepository;
+    }
+
+    @Override
+    public void run(String... args) {
+        int periods = feeBillJdbcRepository.backfillPeriods();
+        if (periods > 0) {
+            log.info("已为 {} 条历史账单回填账期", periods);
+        }
+        int versions = feeBillJdbcRepository.backfillVersions();
+        if (versions > 0) {
+            log.info("已为 {} 条历史账单初始化版本号", versions);
+        }
+        int lateFees = feeBillJdbcRepository.backfillLateFees();
+        if (lateFees > 0) {
+            log.info("已为 {} 条历史账单初始化滞纳金", lateFees);
+        }
+        int areas = feeBillJdbcRepository.backfillResidentAreas();
+        if (areas > 0) {
+            log.info("已为 {} 位住户回填面积数值", areas);
+        }
+        int items = feeBillJdbcRepository.backfillFeeItemPricing();
+        if (items > 0) {
+            log.info("已为 {} 个收费项目回填计价方式", items);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.propertymgmt.property.config;
+
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BillingJobConfig {
+
+    /**
+     * 出账任务专用的有界线程池：固定工作线程数 + 有界等待队列，队列满时拒绝新任务
+     */
+    @Bean
+    public ThreadPoolTaskExecutor billingJobExecutor(
+        @Value("${app.billing.job-workers:2}") int workers,
+        @Value("${app.billing.job-queue-capacity:20}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("billing-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 催缴专用的单线程执行器：催缴按限速长时间运行，且同一时刻只允许一个批次，
+     * 与出账任务分开，避免占用出账工作线程
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dunningExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("dunning-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 整月出账（billing run）按楼栋分片并行执行所用的 fork-join 池
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool billingRunPool(@Value("${app.billing.run-parallelism:4}") int parallelism) {
+        return new ForkJoinPool(parallelism);
+    }
+}
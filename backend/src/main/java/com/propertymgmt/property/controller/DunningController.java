@@ -0,0 +1,40 @@
+package com.propertymgmt.property.controller;
+
+import com.propertymgmt.property.dto.ApiResponse;
+import com.propertymgmt.property.model.DunningRun;
+import com.propertymgmt.property.service.DunningService;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/fees/dunning")
+@PreAuthorize("hasRole('ADMIN')")
+public class DunningController {
+
+    private final DunningService dunningService;
+
+    public DunningController(DunningService dunningService) {
+        this.dunningService = dunningService;
+    }
+
+    @PostMapping("/runs")
+    public ResponseEntity<ApiResponse<DunningRun>> start() {
+        return ResponseEntity.ok(ApiResponse.ok("催缴已开始", dunningService.start()));
+    }
+
+    @GetMapping("/runs")
+    public ResponseEntity<ApiResponse<List<DunningRun>>> findRecent() {
+        return ResponseEntity.ok(ApiResponse.ok(dunningService.findRecent()));
+    }
+
+    @GetMapping("/runs/{id}")
+    public ResponseEntity<ApiResponse<DunningRun>> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.ok(dunningService.findById(id)));
+    }
+}
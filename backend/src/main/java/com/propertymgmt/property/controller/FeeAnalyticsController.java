@@ -0,0 +1,43 @@
+package com.propertymgmt.property.controller;
+
+import com.propertymgmt.property.dto.ApiResponse;
+import com.propertymgmt.property.dto.FeePivot;
+import com.propertymgmt.property.service.FeeAnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/fees/analytics")
+@PreAuthorize("hasRole('ADMIN')")
+public class FeeAnalyticsController {
+
+    private final FeeAnalyticsService feeAnalyticsService;
+
+    public FeeAnalyticsController(FeeAnalyticsService feeAnalyticsService) {
+        this.feeAnalyticsService = feeAnalyticsService;
+    }
+
+    /**
+     * 例：rows=building&columns=month&from=2025年1月&to=2025年12月 —— 各楼栋逐月的缴费率
+     */
+    @GetMapping("/pivot")
+    public ResponseEntity<ApiResponse<FeePivot>> pivot(
+            @RequestParam(defaultValue = "building") String rows,
+            @RequestParam(required = false) String columns,
+            @RequestParam(required = false) String building,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        return ResponseEntity.ok(ApiResponse.ok(feeAnalyticsService.pivot(rows, columns, building, type, from, to)));
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<ApiResponse<Integer>> reload() {
+        return ResponseEntity.ok(ApiResponse.ok("收费分析缓存已重新装载", feeAnalyticsService.reload()));
+    }
+}
@@ -1,24 +1,47 @@
 package com.propertymgmt.property.controller;
 
+import com.propertymgmt.property.dto.AgingReport;
 import com.propertymgmt.property.dto.ApiResponse;
+import com.propertymgmt.property.dto.BatchPaymentReceipt;
+import com.propertymgmt.property.dto.BatchPaymentRequest;
 import com.propertymgmt.property.dto.BillRequest;
+import com.propertymgmt.property.dto.BillingRunRequest;
+import com.propertymgmt.property.dto.BillingRunResult;
+import com.propertymgmt.property.dto.CursorPage;
 import com.propertymgmt.property.dto.FeeItemRequest;
+import com.propertymgmt.property.dto.FeeQueryFilter;
 import com.propertymgmt.property.dto.FeeStatistics;
 import com.propertymgmt.property.dto.GenerateBillsRequest;
+import com.propertymgmt.property.dto.GenerateBillsResult;
 import com.propertymgmt.property.dto.PaymentRequest;
+import com.propertymgmt.property.model.BillGenerationJob;
 import com.propertymgmt.property.model.FeeBill;
 import com.propertymgmt.property.model.FeeItem;
 import com.propertymgmt.property.model.Payment;
+import com.propertymgmt.property.service.ArrearsAgingService;
+import com.propertymgmt.property.service.BillGenerationJobService;
+import com.propertymgmt.property.service.BillingRunService;
+import com.propertymgmt.property.service.FeeExportService;
 import com.propertymgmt.property.service.FeeService;
+import com.propertymgmt.property.service.PaymentIdempotencyStore;
+import com.propertymgmt.property.util.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -28,25 +51,49 @@ import org.springframework.web.bind.annotation.RestController;
 public class FeeController {
 
     private final FeeService feeService;
-
-    public FeeController(FeeService feeService) {
+    private final BillGenerationJobService billGenerationJobService;
+    private final PaymentIdempotencyStore paymentIdempotencyStore;
+    private final FeeExportService feeExportService;
+    private final BillingRunService billingRunService;
+    private final ArrearsAgingService arrearsAgingService;
+
+    public FeeController(FeeService feeService,
+                         BillGenerationJobService billGenerationJobService,
+                         PaymentIdempotencyStore paymentIdempotencyStore,
+                         FeeExportService feeExportService,
+                         BillingRunService billingRunService,
+                         ArrearsAgingService arrearsAgingService) {
         this.feeService = feeService;
+        this.billGenerationJobService = billGenerationJobService;
+        this.paymentIdempotencyStore = paymentIdempotencyStore;
+        this.feeExportService = feeExportService;
+        this.billingRunService = billingRunService;
+        this.arrearsAgingService = arrearsAgingService;
     }
 
     // ========== 账单管理 ==========
 
     @GetMapping("/bills")
-    public ResponseEntity<ApiResponse<List<FeeBill>>> getAllBills(
-            @RequestParam(required = false) String ownerName) {
-        if (ownerName != null && !ownerName.isEmpty()) {
-            // 如果提供了业主姓名，筛选该业主的账单
-            List<FeeBill> allBills = feeService.findAllBills();
-            List<FeeBill> filtered = allBills.stream()
-                .filter(bill -> ownerName.equals(bill.getOwnerName()))
-                .toList();
-            return ResponseEntity.ok(ApiResponse.ok(filtered));
-        }
-        return ResponseEntity.ok(ApiResponse.ok(feeService.findAllBills()));
+    public ResponseEntity<ApiResponse<List<FeeBill>>> getAllBills(FeeQueryFilter filter) {
+        return ResponseEntity.ok(ApiResponse.ok(feeService.findBills(filter)));
+    }
+
+    @GetMapping("/bills/page")
+    public ResponseEntity<ApiResponse<CursorPage<FeeBill>>> getBillPage(
+            FeeQueryFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.ok(feeService.findBillPage(filter, cursor, size)));
+    }
+
+    @GetMapping("/bills/export")
+    public void exportBills(@RequestParam(required = false) String format,
+                            FeeQueryFilter filter,
+                            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        feeExportService.validateBillFilter(filter);
+        prepareDownload(response, exportFormat, "账单");
+        feeExportService.exportBills(filter, exportFormat, response.getOutputStream());
     }
 
     @GetMapping("/bills/{id}")
@@ -62,13 +109,41 @@ public class FeeController {
     // ========== 缴费记录 ==========
 
     @GetMapping("/payments")
-    public ResponseEntity<ApiResponse<List<Payment>>> getAllPayments() {
-        return ResponseEntity.ok(ApiResponse.ok(feeService.findAllPayments()));
+    public ResponseEntity<ApiResponse<List<Payment>>> getAllPayments(FeeQueryFilter filter) {
+        return ResponseEntity.ok(ApiResponse.ok(feeService.findPayments(filter)));
+    }
+
+    @GetMapping("/payments/page")
+    public ResponseEntity<ApiResponse<CursorPage<Payment>>> getPaymentPage(
+            FeeQueryFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.ok(feeService.findPaymentPage(filter, cursor, size)));
+    }
+
+    @GetMapping("/payments/export")
+    public void exportPayments(@RequestParam(required = false) String format,
+                               FeeQueryFilter filter,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        feeExportService.validatePaymentFilter(filter);
+        prepareDownload(response, exportFormat, "缴费记录");
+        feeExportService.exportPayments(filter, exportFormat, response.getOutputStream());
     }
 
     @PostMapping("/payments")
-    public ResponseEntity<ApiResponse<Payment>> createPayment(@Valid @RequestBody PaymentRequest request) {
-        return ResponseEntity.ok(ApiResponse.ok(feeService.createPayment(request)));
+    public ResponseEntity<ApiResponse<Payment>> createPayment(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody PaymentRequest request) {
+        Payment payment = paymentIdempotencyStore.execute(idempotencyKey, request.getBillId(),
+            () -> feeService.createPayment(request));
+        return ResponseEntity.ok(ApiResponse.ok(payment));
+    }
+
+    @PostMapping("/payments/batch")
+    public ResponseEntity<ApiResponse<BatchPaymentReceipt>> createBatchPayment(
+            @Valid @RequestBody BatchPaymentRequest request) {
+        return ResponseEntity.ok(ApiResponse.ok(feeService.createBatchPayment(request)));
     }
 
     // ========== 收费项目 ==========
@@ -106,11 +181,54 @@ public class FeeController {
     }
 
     @PostMapping("/items/{id}/generate-bills")
-    public ResponseEntity<ApiResponse<List<FeeBill>>> generateBillsFromFeeItem(
+    public ResponseEntity<ApiResponse<GenerateBillsResult>> generateBillsFromFeeItem(
+            @PathVariable Long id,
+            @Valid @RequestBody GenerateBillsRequest request) {
+        GenerateBillsResult result = feeService.generateBillsFromFeeItem(id, request.getBillingPeriod());
+        return ResponseEntity.ok(ApiResponse.ok(result));
+    }
+
+    // ========== 欠费账龄 ==========
+
+    @GetMapping("/aging")
+    public ResponseEntity<ApiResponse<AgingReport>> getAgingReport(
+            @RequestParam(required = false) String building,
+            @RequestParam(required = false) String type) {
+        return ResponseEntity.ok(ApiResponse.ok(arrearsAgingService.getReport(building, type)));
+    }
+
+    @PostMapping("/aging/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildAging() {
+        return ResponseEntity.ok(ApiResponse.ok("欠费账龄已重建", arrearsAgingService.rebuild()));
+    }
+
+    // ========== 整月出账 ==========
+
+    @PostMapping("/billing-runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BillingRunResult>> runBilling(@Valid @RequestBody BillingRunRequest request) {
+        BillingRunResult result = billingRunService.run(request.getBillingPeriod(), request.isDryRun());
+        return ResponseEntity.ok(ApiResponse.ok(request.isDryRun() ? "试算完成" : "出账完成", result));
+    }
+
+    // ========== 异步出账任务 ==========
+
+    @PostMapping("/items/{id}/generate-bills/jobs")
+    public ResponseEntity<ApiResponse<BillGenerationJob>> submitBillGenerationJob(
             @PathVariable Long id,
             @Valid @RequestBody GenerateBillsRequest request) {
-        List<FeeBill> bills = feeService.generateBillsFromFeeItem(id, request.getBillingPeriod());
-        return ResponseEntity.ok(ApiResponse.ok(bills));
+        return ResponseEntity.ok(ApiResponse.ok(billGenerationJobService.submit(id, request.getBillingPeriod())));
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ApiResponse<BillGenerationJob>> getBillGenerationJob(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.ok(billGenerationJobService.findById(id)));
+    }
+
+    @PostMapping("/jobs/{id}/resume")
+    public ResponseEntity<ApiResponse<BillGenerationJob>> resumeBillGenerationJob(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.ok(billGenerationJobService.resume(id)));
     }
 
     // ========== 统计 ==========
@@ -119,4 +237,17 @@ public class FeeController {
     public ResponseEntity<ApiResponse<FeeStatistics>> getStatistics() {
         return ResponseEntity.ok(ApiResponse.ok(feeService.getStatistics()));
     }
+
+    @PostMapping("/statistics/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildStatistics() {
+        return ResponseEntity.ok(ApiResponse.ok("统计汇总已重建", feeService.rebuildStatistics()));
+    }
+
+    private void prepareDownload(HttpServletResponse response, ExportFormat format, String name) {
+        String filename = name + "-" + LocalDate.now() + "." + format.getExtension();
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename, StandardCharsets.UTF_8).build().toString());
+    }
 }
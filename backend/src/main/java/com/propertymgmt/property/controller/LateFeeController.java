@@ -0,0 +1,42 @@
+package com.propertymgmt.property.controller;
+
+import com.propertymgmt.property.dto.ApiResponse;
+import com.propertymgmt.property.model.LateFeeRun;
+import com.propertymgmt.property.service.LateFeeService;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/fees/late-fees")
+@PreAuthorize("hasRole('ADMIN')")
+public class LateFeeController {
+
+    private final LateFeeService lateFeeService;
+
+    public LateFeeController(LateFeeService lateFeeService) {
+        this.lateFeeService = lateFeeService;
+    }
+
+    /**
+     * 指定日期时只计收该日，否则从上次计收日补计到今天
+     */
+    @PostMapping("/runs")
+    public ResponseEntity<ApiResponse<List<LateFeeRun>>> accrue(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        List<LateFeeRun> runs = date != null ? List.of(lateFeeService.accrue(date)) : lateFeeService.accrueDue();
+        return ResponseEntity.ok(ApiResponse.ok("滞纳金已计收", runs));
+    }
+
+    @GetMapping("/runs")
+    public ResponseEntity<ApiResponse<List<LateFeeRun>>> findRecent() {
+        return ResponseEntity.ok(ApiResponse.ok(lateFeeService.findRecent()));
+    }
+}
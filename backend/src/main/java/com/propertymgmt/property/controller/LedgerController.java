@@ -0,0 +1,60 @@
+package com.propertymgmt.property.controller;
+
+import com.propertymgmt.property.dto.ApiResponse;
+import com.propertymgmt.property.dto.ArrearsSummary;
+import com.propertymgmt.property.dto.CursorPage;
+import com.propertymgmt.property.dto.LedgerVerification;
+import com.propertymgmt.property.model.LedgerEntry;
+import com.propertymgmt.property.model.OwnerAccount;
+import com.propertymgmt.property.service.LedgerService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/fees/ledger")
+public class LedgerController {
+
+    private final LedgerService ledgerService;
+
+    public LedgerController(LedgerService ledgerService) {
+        this.ledgerService = ledgerService;
+    }
+
+    @GetMapping("/account")
+    public ResponseEntity<ApiResponse<OwnerAccount>> getAccount(
+            @RequestParam String ownerName,
+            @RequestParam(required = false) String location) {
+        return ResponseEntity.ok(ApiResponse.ok(ledgerService.getAccount(ownerName, location)));
+    }
+
+    @GetMapping("/account/entries")
+    public ResponseEntity<ApiResponse<CursorPage<LedgerEntry>>> getEntries(
+            @RequestParam String ownerName,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.ok(ledgerService.getEntries(ownerName, location, cursor, size)));
+    }
+
+    @GetMapping("/arrears")
+    public ResponseEntity<ApiResponse<ArrearsSummary>> getArrears(@RequestParam(defaultValue = "10") int top) {
+        return ResponseEntity.ok(ApiResponse.ok(ledgerService.getArrearsSummary(top)));
+    }
+
+    @GetMapping("/verify")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<LedgerVerification>> verify() {
+        return ResponseEntity.ok(ApiResponse.ok(ledgerService.verify()));
+    }
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuild() {
+        return ResponseEntity.ok(ApiResponse.ok("业主账户已重建", ledgerService.rebuild()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.propertymgmt.property.controller;
+
+import com.propertymgmt.property.dto.ApiResponse;
+import com.propertymgmt.property.dto.MeterIngestResult;
+import com.propertymgmt.property.dto.MeterReadingBatchRequest;
+import com.propertymgmt.property.model.MeterReading;
+import com.propertymgmt.property.service.MeterReadingService;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/fees/meter-readings")
+public class MeterReadingController {
+
+    private final MeterReadingService meterReadingService;
+
+    public MeterReadingController(MeterReadingService meterReadingService) {
+        this.meterReadingService = meterReadingService;
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<MeterIngestResult>> append(@Valid @RequestBody MeterReadingBatchRequest request) {
+        return ResponseEntity.ok(ApiResponse.ok("读数已录入", meterReadingService.append(request)));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<MeterIngestResult>> importCsv(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam Long feeItemId,
+            @RequestParam String billingPeriod,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate readOn)
+            throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("读数文件为空");
+        }
+        try (InputStream in = file.getInputStream()) {
+            MeterIngestResult result = meterReadingService.importCsv(in, feeItemId, billingPeriod, readOn);
+            return ResponseEntity.ok(ApiResponse.ok("读数已导入", result));
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<MeterReading>>> findHistory(@RequestParam Long residentId,
+                                                                       @RequestParam Long feeItemId) {
+        return ResponseEntity.ok(ApiResponse.ok(meterReadingService.findHistory(residentId, feeItemId)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.propertymgmt.property.controller;
+
+import com.propertymgmt.property.dto.ApiResponse;
+import com.propertymgmt.property.dto.PropertyUnitNode;
+import com.propertymgmt.property.dto.PropertyUnitRequest;
+import com.propertymgmt.property.model.PropertyUnit;
+import com.propertymgmt.property.service.PropertyUnitService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/property-units")
+public class PropertyUnitController {
+
+    private final PropertyUnitService propertyUnitService;
+
+    public PropertyUnitController(PropertyUnitService propertyUnitService) {
+        this.propertyUnitService = propertyUnitService;
+    }
+
+    /**
+     * 房产概览：默认展开到单元，房间通过 /{id}/children 按需加载
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<ApiResponse<List<PropertyUnitNode>>> tree(@RequestParam(defaultValue = "2") int depth) {
+        return ResponseEntity.ok(ApiResponse.ok(propertyUnitService.tree(depth)));
+    }
+
+    @GetMapping("/{id}/children")
+    public ResponseEntity<ApiResponse<List<PropertyUnitNode>>> children(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.ok(propertyUnitService.children(id)));
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PropertyUnit>> create(@Valid @RequestBody PropertyUnitRequest request) {
+        return ResponseEntity.ok(ApiResponse.ok(propertyUnitService.create(request)));
+    }
+
+    @PostMapping("/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> reload() {
+        return ResponseEntity.ok(ApiResponse.ok("房产统计已重新装载", propertyUnitService.reload()));
+    }
+}
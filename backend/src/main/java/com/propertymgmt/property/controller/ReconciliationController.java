@@ -0,0 +1,65 @@
+package com.propertymgmt.property.controller;
+
+import com.propertymgmt.property.dto.ApiResponse;
+import com.propertymgmt.property.model.Reconciliation;
+import com.propertymgmt.property.model.ReconciliationItem;
+import com.propertymgmt.property.service.ReconciliationService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/fees/reconciliations")
+@PreAuthorize("hasRole('ADMIN')")
+public class ReconciliationController {
+
+    private final ReconciliationService reconciliationService;
+
+    public ReconciliationController(ReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<Reconciliation>> reconcile(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam String period,
+            @RequestParam(required = false) String payMethod) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("对账单为空");
+        }
+        try (InputStream in = file.getInputStream()) {
+            Reconciliation result = reconciliationService.reconcile(in, file.getOriginalFilename(), period, payMethod);
+            return ResponseEntity.ok(ApiResponse.ok("对账完成", result));
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<Reconciliation>>> findRecent() {
+        return ResponseEntity.ok(ApiResponse.ok(reconciliationService.findRecent()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<Reconciliation>> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.ok(reconciliationService.findById(id)));
+    }
+
+    @GetMapping("/{id}/items")
+    public ResponseEntity<ApiResponse<List<ReconciliationItem>>> findItems(
+            @PathVariable Long id,
+            @RequestParam String type,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(ApiResponse.ok(reconciliationService.findItems(id, type, afterId, size)));
+    }
+}
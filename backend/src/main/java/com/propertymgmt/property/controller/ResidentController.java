@@ -1,14 +1,28 @@
 package com.propertymgmt.property.controller;
 
 import com.propertymgmt.property.dto.ApiResponse;
+import com.propertymgmt.property.dto.CursorPage;
+import com.propertymgmt.property.dto.ResidentImportResult;
 import com.propertymgmt.property.dto.ResidentRequest;
+import com.propertymgmt.property.dto.ResidentSuggestion;
 import com.propertymgmt.property.model.Resident;
 import com.propertymgmt.property.service.ResidentService;
+import com.propertymgmt.property.util.CsvRowReader;
+import com.propertymgmt.property.util.ExportFormat;
+import com.propertymgmt.property.util.RowReader;
+import com.propertymgmt.property.util.XlsxRowReader;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,7 +31,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 @RestController
 @RequestMapping("/api/residents")
@@ -36,11 +52,54 @@ public class ResidentController {
         return ResponseEntity.ok(ApiResponse.ok(residentService.search(keyword, status, pageable)));
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<Resident>>> page(@RequestParam(required = false) String keyword,
+                                                                  @RequestParam(required = false) String status,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.ok(residentService.findPage(keyword, status, cursor, size)));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<ResidentSuggestion>>> suggest(@RequestParam String q,
+                                                                         @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.ok(residentService.suggest(q, limit)));
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<Resident>> create(@Valid @RequestBody ResidentRequest request) {
         return ResponseEntity.ok(ApiResponse.ok(residentService.create(request)));
     }
 
+    /**
+     * 批量导入住户：format 缺省时按文件扩展名判断；XLSX 先落到临时文件再逐行读取，避免整个文件解压进内存
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ResidentImportResult>> importResidents(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) String format) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("住户文件为空");
+        }
+        String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
+        ExportFormat importFormat = ExportFormat.of(StringUtils.hasText(format) ? format : extension);
+        if (importFormat == ExportFormat.CSV) {
+            try (RowReader reader = new CsvRowReader(file.getInputStream())) {
+                return ResponseEntity.ok(ApiResponse.ok("住户已导入", residentService.importResidents(reader)));
+            }
+        }
+        Path temp = Files.createTempFile("residents-", ".xlsx");
+        try {
+            file.transferTo(temp);
+            try (RowReader reader = new XlsxRowReader(temp.toFile())) {
+                return ResponseEntity.ok(ApiResponse.ok("住户已导入", residentService.importResidents(reader)));
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Resident>> update(@PathVariable Long id,
                                                         @Valid @RequestBody ResidentRequest request) {
@@ -1,6 +1,7 @@
 package com.propertymgmt.property.controller;
 
 import com.propertymgmt.property.dto.ApiResponse;
+import com.propertymgmt.property.dto.CursorPage;
 import com.propertymgmt.property.dto.UpdateUserRequest;
 import com.propertymgmt.property.dto.UserRequest;
 import com.propertymgmt.property.dto.UserResponse;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -35,6 +37,12 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.ok(userService.getAllUsers(pageable)));
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> page(@RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.ok(userService.getUserPage(cursor, size)));
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<UserResponse>> create(@Valid @RequestBody UserRequest request) {
         return ResponseEntity.ok(ApiResponse.ok(userService.createUser(request)));
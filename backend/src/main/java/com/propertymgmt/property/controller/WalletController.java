@@ -0,0 +1,54 @@
+package com.propertymgmt.property.controller;
+
+import com.propertymgmt.property.dto.ApiResponse;
+import com.propertymgmt.property.dto.AutoDebitResult;
+import com.propertymgmt.property.dto.WalletDepositRequest;
+import com.propertymgmt.property.model.Wallet;
+import com.propertymgmt.property.model.WalletTransaction;
+import com.propertymgmt.property.service.WalletService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/fees/wallets")
+public class WalletController {
+
+    private final WalletService walletService;
+
+    public WalletController(WalletService walletService) {
+        this.walletService = walletService;
+    }
+
+    @PostMapping("/deposit")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Wallet>> deposit(@Valid @RequestBody WalletDepositRequest request) {
+        return ResponseEntity.ok(ApiResponse.ok("预存成功", walletService.deposit(request)));
+    }
+
+    @GetMapping("/{residentId}")
+    public ResponseEntity<ApiResponse<Wallet>> getWallet(@PathVariable Long residentId) {
+        return ResponseEntity.ok(ApiResponse.ok(walletService.getWallet(residentId)));
+    }
+
+    @GetMapping("/{residentId}/transactions")
+    public ResponseEntity<ApiResponse<List<WalletTransaction>>> getTransactions(
+            @PathVariable Long residentId,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.ok(walletService.getTransactions(residentId, limit)));
+    }
+
+    @PostMapping("/auto-debit")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<AutoDebitResult>> autoDebit() {
+        return ResponseEntity.ok(ApiResponse.ok("自动扣缴完成", walletService.autoDebit()));
+    }
+}
@@ -0,0 +1,8 @@
+package com.propertymgmt.property.dto;
+
+/**
+ * 业主账户的归属：户主姓名 + 房屋描述（即账单与缴费记录上的 building，如 "1号楼 2单元 301"）。
+ * 同名业主按房屋区分，各自一个账户
+ */
+public record AccountKey(String ownerName, String location) {
+}
@@ -0,0 +1,114 @@
+package com.propertymgmt.property.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class AgingReport {
+
+    private LocalDate asOf;              // 账龄计算日
+    private List<String> buckets;        // 账龄段名称，与各行 amounts/counts 的下标对应
+    private List<Row> rows;              // 按楼栋 × 费用类型
+    private List<BigDecimal> totals;     // 各账龄段合计
+    private BigDecimal totalAmount;      // 欠费合计
+
+    public static class Row {
+
+        private String building;
+        private String feeType;
+        private List<Long> counts;
+        private List<BigDecimal> amounts;
+        private BigDecimal total;
+
+        public Row() {
+        }
+
+        public Row(String building, String feeType, List<Long> counts, List<BigDecimal> amounts, BigDecimal total) {
+            this.building = building;
+            this.feeType = feeType;
+            this.counts = counts;
+            this.amounts = amounts;
+            this.total = total;
+        }
+
+        public String getBuilding() {
+            return building;
+        }
+
+        public void setBuilding(String building) {
+            this.building = building;
+        }
+
+        public String getFeeType() {
+            return feeType;
+        }
+
+        public void setFeeType(String feeType) {
+            this.feeType = feeType;
+        }
+
+        public List<Long> getCounts() {
+            return counts;
+        }
+
+        public void setCounts(List<Long> counts) {
+            this.counts = counts;
+        }
+
+        public List<BigDecimal> getAmounts() {
+            return amounts;
+        }
+
+        public void setAmounts(List<BigDecimal> amounts) {
+            this.amounts = amounts;
+        }
+
+        public BigDecimal getTotal() {
+            return total;
+        }
+
+        public void setTotal(BigDecimal total) {
+            this.total = total;
+        }
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDate asOf) {
+        this.asOf = asOf;
+    }
+
+    public List<String> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<String> buckets) {
+        this.buckets = buckets;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<Row> rows) {
+        this.rows = rows;
+    }
+
+    public List<BigDecimal> getTotals() {
+        return totals;
+    }
+
+    public void setTotals(List<BigDecimal> totals) {
+        this.totals = totals;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+}
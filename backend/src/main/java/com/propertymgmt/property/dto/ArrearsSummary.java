@@ -0,0 +1,45 @@
+package com.propertymgmt.property.dto;
+
+import com.propertymgmt.property.model.OwnerAccount;
+import java.math.BigDecimal;
+import java.util.List;
+
+public class ArrearsSummary {
+
+    private BigDecimal totalArrears;        // 欠费总额
+    private long debtorCount;               // 欠费户数
+    private List<OwnerAccount> topDebtors;  // 欠费最多的业主
+
+    public ArrearsSummary() {
+    }
+
+    public ArrearsSummary(BigDecimal totalArrears, long debtorCount, List<OwnerAccount> topDebtors) {
+        this.totalArrears = totalArrears;
+        this.debtorCount = debtorCount;
+        this.topDebtors = topDebtors;
+    }
+
+    public BigDecimal getTotalArrears() {
+        return totalArrears;
+    }
+
+    public void setTotalArrears(BigDecimal totalArrears) {
+        this.totalArrears = totalArrears;
+    }
+
+    public long getDebtorCount() {
+        return debtorCount;
+    }
+
+    public void setDebtorCount(long debtorCount) {
+        this.debtorCount = debtorCount;
+    }
+
+    public List<OwnerAccount> getTopDebtors() {
+        return topDebtors;
+    }
+
+    public void setTopDebtors(List<OwnerAccount> topDebtors) {
+        this.topDebtors = topDebtors;
+    }
+}
@@ -0,0 +1,98 @@
+package com.propertymgmt.property.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class AutoDebitResult {
+
+    private LocalDateTime startedAt;
+    private int chunks;                 // 已提交的批次数（每批一个事务）
+    private int walletsScanned;         // 扫描的有余额钱包数
+    private int walletsDebited;         // 发生扣款的钱包数
+    private int walletsAmbiguous;       // 同一业主姓名与房屋对应多个钱包、未扣款的钱包数
+    private int billsPaid;              // 扣款缴清的账单数
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    private long elapsedMillis;
+    private double billsPerSecond;      // 吞吐量
+    private String error;               // 中途失败的原因，已提交的批次保留，重新执行即可继续
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+
+    public int getWalletsScanned() {
+        return walletsScanned;
+    }
+
+    public void setWalletsScanned(int walletsScanned) {
+        this.walletsScanned = walletsScanned;
+    }
+
+    public int getWalletsDebited() {
+        return walletsDebited;
+    }
+
+    public void setWalletsDebited(int walletsDebited) {
+        this.walletsDebited = walletsDebited;
+    }
+
+    public int getWalletsAmbiguous() {
+        return walletsAmbiguous;
+    }
+
+    public void setWalletsAmbiguous(int walletsAmbiguous) {
+        this.walletsAmbiguous = walletsAmbiguous;
+    }
+
+    public int getBillsPaid() {
+        return billsPaid;
+    }
+
+    public void setBillsPaid(int billsPaid) {
+        this.billsPaid = billsPaid;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getBillsPerSecond() {
+        return billsPerSecond;
+    }
+
+    public void setBillsPerSecond(double billsPerSecond) {
+        this.billsPerSecond = billsPerSecond;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,133 @@
+package com.propertymgmt.property.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BatchPaymentReceipt {
+
+    private String ownerName;       // 业主（多业主合并支付时为空）
+    private String payMethod;       // 支付方式
+    private LocalDateTime paidAt;   // 支付时间
+    private int billCount;          // 账单数
+    private BigDecimal totalAmount; // 合计金额
+    private List<Item> items;       // 明细
+
+    public static class Item {
+        private Long billId;
+        private String billNumber;
+        private String orderNumber;
+        private String type;
+        private String billingPeriod;
+        private BigDecimal amount;
+
+        public Item() {
+        }
+
+        public Item(Long billId, String billNumber, String orderNumber, String type,
+                    String billingPeriod, BigDecimal amount) {
+            this.billId = billId;
+            this.billNumber = billNumber;
+            this.orderNumber = orderNumber;
+            this.type = type;
+            this.billingPeriod = billingPeriod;
+            this.amount = amount;
+        }
+
+        public Long getBillId() {
+            return billId;
+        }
+
+        public void setBillId(Long billId) {
+            this.billId = billId;
+        }
+
+        public String getBillNumber() {
+            return billNumber;
+        }
+
+        public void setBillNumber(String billNumber) {
+            this.billNumber = billNumber;
+        }
+
+        public String getOrderNumber() {
+            return orderNumber;
+        }
+
+        public void setOrderNumber(String orderNumber) {
+            this.orderNumber = orderNumber;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public String getBillingPeriod() {
+            return billingPeriod;
+        }
+
+        public void setBillingPeriod(String billingPeriod) {
+            this.billingPeriod = billingPeriod;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+    }
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public void setOwnerName(String ownerName) {
+        this.ownerName = ownerName;
+    }
+
+    public String getPayMethod() {
+        return payMethod;
+    }
+
+    public void setPayMethod(String payMethod) {
+        this.payMethod = payMethod;
+    }
+
+    public LocalDateTime getPaidAt() {
+        return paidAt;
+    }
+
+    public void setPaidAt(LocalDateTime paidAt) {
+        this.paidAt = paidAt;
+    }
+
+    public int getBillCount() {
+        return billCount;
+    }
+
+    public void setBillCount(int billCount) {
+        this.billCount = billCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+}
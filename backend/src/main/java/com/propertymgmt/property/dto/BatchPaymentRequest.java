@@ -0,0 +1,32 @@
+package com.propertymgmt.property.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class BatchPaymentRequest {
+
+    @NotEmpty(message = "账单ID不能为空")
+    @Size(max = 100, message = "一次最多合并支付100张账单")
+    private List<Long> billIds;
+
+    @NotBlank(message = "支付方式不能为空")
+    private String payMethod;
+
+    public List<Long> getBillIds() {
+        return billIds;
+    }
+
+    public void setBillIds(List<Long> billIds) {
+        this.billIds = billIds;
+    }
+
+    public String getPayMethod() {
+        return payMethod;
+    }
+
+    public void setPayMethod(String payMethod) {
+        this.payMethod = payMethod;
+    }
+}
@@ -0,0 +1,27 @@
+package com.propertymgmt.property.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class BillingRunRequest {
+
+    @NotBlank(message = "账期不能为空")
+    private String billingPeriod;
+
+    private boolean dryRun;  // 试算：只统计不写入
+
+    public String getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(String billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+}
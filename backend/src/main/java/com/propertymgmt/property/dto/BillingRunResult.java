@@ -0,0 +1,186 @@
+package com.propertymgmt.property.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class BillingRunResult {
+
+    private String billingPeriod;
+    private boolean dryRun;
+    private int feeItemCount;           // 参与出账的收费项目数
+    private List<String> skippedItems;  // 未参与的收费项目（抄表计费但本期没有读数）
+    private int created;                // 生成（试算时为将生成）的账单数
+    private int unpriced;               // 缺少面积、缺少上期读数或读数倒退而无法计价的住户数
+    private int failedPartitions;       // 失败的分片数，可重新执行补齐
+    private BigDecimal totalAmount;
+    private long elapsedMillis;
+    private List<Partition> partitions; // 按收费项目 × 楼栋的明细
+    private AutoDebitResult autoDebit;  // 出账后的预存款自动扣缴，未执行时为 null
+
+    /**
+     * 一个分片（收费项目 × 楼栋）的结果
+     */
+    public static class Partition {
+
+        private Long feeItemId;
+        private String feeItemName;
+        private String building;
+        private int created;
+        private int unpriced;
+        private BigDecimal amount = BigDecimal.ZERO;
+        private String error;  // 分片失败时的原因，成功为 null
+
+        public Partition() {
+        }
+
+        public Partition(Long feeItemId, String feeItemName, String building) {
+            this.feeItemId = feeItemId;
+            this.feeItemName = feeItemName;
+            this.building = building;
+        }
+
+        public Long getFeeItemId() {
+            return feeItemId;
+        }
+
+        public void setFeeItemId(Long feeItemId) {
+            this.feeItemId = feeItemId;
+        }
+
+        public String getFeeItemName() {
+            return feeItemName;
+        }
+
+        public void setFeeItemName(String feeItemName) {
+            this.feeItemName = feeItemName;
+        }
+
+        public String getBuilding() {
+            return building;
+        }
+
+        public void setBuilding(String building) {
+            this.building = building;
+        }
+
+        public int getCreated() {
+            return created;
+        }
+
+        public void setCreated(int created) {
+            this.created = created;
+        }
+
+        public int getUnpriced() {
+            return unpriced;
+        }
+
+        public void setUnpriced(int unpriced) {
+            this.unpriced = unpriced;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+
+    public String getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(String billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public int getFeeItemCount() {
+        return feeItemCount;
+    }
+
+    public void setFeeItemCount(int feeItemCount) {
+        this.feeItemCount = feeItemCount;
+    }
+
+    public List<String> getSkippedItems() {
+        return skippedItems;
+    }
+
+    public void setSkippedItems(List<String> skippedItems) {
+        this.skippedItems = skippedItems;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getUnpriced() {
+        return unpriced;
+    }
+
+    public void setUnpriced(int unpriced) {
+        this.unpriced = unpriced;
+    }
+
+    public int getFailedPartitions() {
+        return failedPartitions;
+    }
+
+    public void setFailedPartitions(int failedPartitions) {
+        this.failedPartitions = failedPartitions;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<Partition> getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(List<Partition> partitions) {
+        this.partitions = partitions;
+    }
+
+    public AutoDebitResult getAutoDebit() {
+        return autoDebit;
+    }
+
+    public void setAutoDebit(AutoDebitResult autoDebit) {
+        this.autoDebit = autoDebit;
+    }
+}
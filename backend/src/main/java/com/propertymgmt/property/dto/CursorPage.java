@@ -0,0 +1,50 @@
+package com.propertymgmt.property.dto;
+
+import com.propertymgmt.property.model.BaseEntity;
+import com.propertymgmt.property.util.KeysetCursor;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 键集分页结果：nextCursor 为下一页的起点，没有更多数据时为 null
+ */
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    /**
+     * 由按 (created_at, id) 倒序、多取一行的查询结果构造：多出的一行表示还有下一页，游标指向本页最后一条
+     */
+    public static <T extends BaseEntity> CursorPage<T> of(List<T> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        T last = items.get(limit - 1);
+        return new CursorPage<>(items, new KeysetCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
@@ -1,9 +1,13 @@
 package com.propertymgmt.property.dto;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.math.BigDecimal;
+import java.util.List;
 
 public class FeeItemRequest {
 
@@ -19,6 +23,48 @@ public class FeeItemRequest {
 
     private String description;
 
+    private String pricingMode;  // FLAT / PER_AREA / TIERED / METERED，为空时按计费单位推断
+
+    @Valid
+    private List<Tier> tiers;    // 阶梯档位（TIERED 必填，METERED 可选），按上限递增
+
+    @PositiveOrZero(message = "滞纳金日费率不能为负")
+    @DecimalMax(value = "0.01", message = "滞纳金日费率不能超过 1%")
+    private BigDecimal lateFeeDailyRate;   // 如 0.0005 表示每日万分之五，为空或 0 表示不计收
+
+    @Positive(message = "滞纳金封顶比例必须大于0")
+    @DecimalMax(value = "1", message = "滞纳金封顶比例不能超过本金")
+    private BigDecimal lateFeeCapRate;     // 累计滞纳金占本金的上限，为空表示不封顶
+
+    @PositiveOrZero(message = "宽限天数不能为负")
+    private Integer lateFeeGraceDays;      // 到期后的宽限天数，为空按 0
+
+    public static class Tier {
+
+        @PositiveOrZero(message = "档位上限不能为负")
+        private BigDecimal upTo;     // 为空表示不设上限
+
+        @NotNull(message = "档位单价不能为空")
+        @PositiveOrZero(message = "档位单价不能为负")
+        private BigDecimal unitPrice;
+
+        public BigDecimal getUpTo() {
+            return upTo;
+        }
+
+        public void setUpTo(BigDecimal upTo) {
+            this.upTo = upTo;
+        }
+
+        public BigDecimal getUnitPrice() {
+            return unitPrice;
+        }
+
+        public void setUnitPrice(BigDecimal unitPrice) {
+            this.unitPrice = unitPrice;
+        }
+    }
+
     public String getName() {
         return name;
     }
@@ -50,4 +96,44 @@ public class FeeItemRequest {
     public void setDescription(String description) {
         this.description = description;
     }
+
+    public String getPricingMode() {
+        return pricingMode;
+    }
+
+    public void setPricingMode(String pricingMode) {
+        this.pricingMode = pricingMode;
+    }
+
+    public List<Tier> getTiers() {
+        return tiers;
+    }
+
+    public void setTiers(List<Tier> tiers) {
+        this.tiers = tiers;
+    }
+
+    public BigDecimal getLateFeeDailyRate() {
+        return lateFeeDailyRate;
+    }
+
+    public void setLateFeeDailyRate(BigDecimal lateFeeDailyRate) {
+        this.lateFeeDailyRate = lateFeeDailyRate;
+    }
+
+    public BigDecimal getLateFeeCapRate() {
+        return lateFeeCapRate;
+    }
+
+    public void setLateFeeCapRate(BigDecimal lateFeeCapRate) {
+        this.lateFeeCapRate = lateFeeCapRate;
+    }
+
+    public Integer getLateFeeGraceDays() {
+        return lateFeeGraceDays;
+    }
+
+    public void setLateFeeGraceDays(Integer lateFeeGraceDays) {
+        this.lateFeeGraceDays = lateFeeGraceDays;
+    }
 }
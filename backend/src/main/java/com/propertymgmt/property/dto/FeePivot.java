@@ -0,0 +1,151 @@
+package com.propertymgmt.property.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class FeePivot {
+
+    private String rowDimension;         // 行维度：building / type / month / quarter / year / status
+    private String columnDimension;      // 列维度，为空时只按行维度汇总
+    private List<Cell> cells;            // 有账单的 (行, 列) 组合，按行、列排序
+    private Cell total;                  // 筛选范围内合计
+    private long rowsScanned;            // 扫描的账单行数
+    private double scanMillis;           // 扫描与聚合耗时
+    private LocalDateTime loadedAt;      // 分析缓存装载时间
+
+    public static class Cell {
+
+        private String row;
+        private String column;
+        private long billCount;
+        private BigDecimal billedAmount;
+        private long paidCount;
+        private BigDecimal paidAmount;
+        private BigDecimal arrearsAmount;
+        private double paidRate;         // 已缴金额 / 应收金额，百分数
+
+        public Cell() {
+        }
+
+        public String getRow() {
+            return row;
+        }
+
+        public void setRow(String row) {
+            this.row = row;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+
+        public void setColumn(String column) {
+            this.column = column;
+        }
+
+        public long getBillCount() {
+            return billCount;
+        }
+
+        public void setBillCount(long billCount) {
+            this.billCount = billCount;
+        }
+
+        public BigDecimal getBilledAmount() {
+            return billedAmount;
+        }
+
+        public void setBilledAmount(BigDecimal billedAmount) {
+            this.billedAmount = billedAmount;
+        }
+
+        public long getPaidCount() {
+            return paidCount;
+        }
+
+        public void setPaidCount(long paidCount) {
+            this.paidCount = paidCount;
+        }
+
+        public BigDecimal getPaidAmount() {
+            return paidAmount;
+        }
+
+        public void setPaidAmount(BigDecimal paidAmount) {
+            this.paidAmount = paidAmount;
+        }
+
+        public BigDecimal getArrearsAmount() {
+            return arrearsAmount;
+        }
+
+        public void setArrearsAmount(BigDecimal arrearsAmount) {
+            this.arrearsAmount = arrearsAmount;
+        }
+
+        public double getPaidRate() {
+            return paidRate;
+        }
+
+        public void setPaidRate(double paidRate) {
+            this.paidRate = paidRate;
+        }
+    }
+
+    public String getRowDimension() {
+        return rowDimension;
+    }
+
+    public void setRowDimension(String rowDimension) {
+        this.rowDimension = rowDimension;
+    }
+
+    public String getColumnDimension() {
+        return columnDimension;
+    }
+
+    public void setColumnDimension(String columnDimension) {
+        this.columnDimension = columnDimension;
+    }
+
+    public List<Cell> getCells() {
+        return cells;
+    }
+
+    public void setCells(List<Cell> cells) {
+        this.cells = cells;
+    }
+
+    public Cell getTotal() {
+        return total;
+    }
+
+    public void setTotal(Cell total) {
+        this.total = total;
+    }
+
+    public long getRowsScanned() {
+        return rowsScanned;
+    }
+
+    public void setRowsScanned(long rowsScanned) {
+        this.rowsScanned = rowsScanned;
+    }
+
+    public double getScanMillis() {
+        return scanMillis;
+    }
+
+    public void setScanMillis(double scanMillis) {
+        this.scanMillis = scanMillis;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    public void setLoadedAt(LocalDateTime loadedAt) {
+        this.loadedAt = loadedAt;
+    }
+}
@@ -0,0 +1,53 @@
+package com.propertymgmt.property.dto;
+
+/**
+ * 账单/缴费记录查询与导出的筛选条件，均为可选
+ */
+public class FeeQueryFilter {
+
+    private String ownerName; // 业主姓名（精确匹配）
+    private String period;   // 账期，如 2025年10月（缴费记录按缴费月份筛选）
+    private String status;   // 状态
+    private String building; // 楼栋（前缀匹配）
+    private String type;     // 费用类型
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public void setOwnerName(String ownerName) {
+        this.ownerName = ownerName;
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(String period) {
+        this.period = period;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getBuilding() {
+        return building;
+    }
+
+    public void setBuilding(String building) {
+        this.building = building;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+}
@@ -0,0 +1,73 @@
+package com.propertymgmt.property.dto;
+
+import java.math.BigDecimal;
+
+public class GenerateBillsResult {
+
+    private String billingPeriod;  // 账期
+    private String feeItemName;    // 收费项目
+    private int created;           // 新生成账单数
+    private int skipped;           // 已存在而跳过的住户数
+    private BigDecimal totalAmount; // 新生成账单总金额
+    private int unpriced;          // 缺少面积等计价数据而未出账的住户数（不计入 skipped）
+
+    public GenerateBillsResult() {
+    }
+
+    public GenerateBillsResult(String billingPeriod, String feeItemName, int created, int skipped,
+                               BigDecimal totalAmount) {
+        this.billingPeriod = billingPeriod;
+        this.feeItemName = feeItemName;
+        this.created = created;
+        this.skipped = skipped;
+        this.totalAmount = totalAmount;
+    }
+
+    public String getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(String billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public String getFeeItemName() {
+        return feeItemName;
+    }
+
+    public void setFeeItemName(String feeItemName) {
+        this.feeItemName = feeItemName;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(int skipped) {
+        this.skipped = skipped;
+    }
+
+    public int getUnpriced() {
+        return unpriced;
+    }
+
+    public void setUnpriced(int unpriced) {
+        this.unpriced = unpriced;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+}
@@ -0,0 +1,49 @@
+package com.propertymgmt.property.dto;
+
+import com.propertymgmt.property.repository.LedgerJdbcRepository.Mismatch;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class LedgerVerification {
+
+    private LocalDateTime checkedAt;    // 核对时间
+    private long accountCount;          // 核对账户数
+    private List<Mismatch> mismatches;  // 余额与分录合计不一致的账户
+
+    public LedgerVerification() {
+    }
+
+    public LedgerVerification(LocalDateTime checkedAt, long accountCount, List<Mismatch> mismatches) {
+        this.checkedAt = checkedAt;
+        this.accountCount = accountCount;
+        this.mismatches = mismatches;
+    }
+
+    public boolean isConsistent() {
+        return mismatches == null || mismatches.isEmpty();
+    }
+
+    public LocalDateTime getCheckedAt() {
+        return checkedAt;
+    }
+
+    public void setCheckedAt(LocalDateTime checkedAt) {
+        this.checkedAt = checkedAt;
+    }
+
+    public long getAccountCount() {
+        return accountCount;
+    }
+
+    public void setAccountCount(long accountCount) {
+        this.accountCount = accountCount;
+    }
+
+    public List<Mismatch> getMismatches() {
+        return mismatches;
+    }
+
+    public void setMismatches(List<Mismatch> mismatches) {
+        this.mismatches = mismatches;
+    }
+}
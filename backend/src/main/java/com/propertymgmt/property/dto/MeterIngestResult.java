@@ -0,0 +1,62 @@
+package com.propertymgmt.property.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MeterIngestResult {
+
+    private int received;                            // 收到的读数条数
+    private int inserted;                            // 新增
+    private int updated;                             // 覆盖同账期已有读数
+    private int rejected;                            // 无法识别房间或读数不合法
+    private List<String> errors = new ArrayList<>(); // 被拒绝的原因（最多保留前 100 条）
+    private long elapsedMillis;
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
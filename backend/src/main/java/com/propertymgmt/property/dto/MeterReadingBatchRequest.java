@@ -0,0 +1,111 @@
+package com.propertymgmt.property.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class MeterReadingBatchRequest {
+
+    @NotNull(message = "收费项目ID不能为空")
+    private Long feeItemId;
+
+    @NotBlank(message = "账期不能为空")
+    private String billingPeriod;
+
+    private LocalDate readOn;  // 抄表日期，可为空
+
+    @NotEmpty(message = "读数不能为空")
+    @Size(max = 10000, message = "每批最多10000条读数")
+    private List<@Valid Item> readings;
+
+    /**
+     * 一条读数：房间（楼栋、单元、房号）与住户 ID（取其所在房间）二选一
+     */
+    public static class Item {
+
+        private Long residentId;
+        private String building;
+        private String unit;
+        private String roomNumber;
+
+        @NotNull(message = "读数不能为空")
+        private BigDecimal reading;
+
+        public Long getResidentId() {
+            return residentId;
+        }
+
+        public void setResidentId(Long residentId) {
+            this.residentId = residentId;
+        }
+
+        public String getBuilding() {
+            return building;
+        }
+
+        public void setBuilding(String building) {
+            this.building = building;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+
+        public void setUnit(String unit) {
+            this.unit = unit;
+        }
+
+        public String getRoomNumber() {
+            return roomNumber;
+        }
+
+        public void setRoomNumber(String roomNumber) {
+            this.roomNumber = roomNumber;
+        }
+
+        public BigDecimal getReading() {
+            return reading;
+        }
+
+        public void setReading(BigDecimal reading) {
+            this.reading = reading;
+        }
+    }
+
+    public Long getFeeItemId() {
+        return feeItemId;
+    }
+
+    public void setFeeItemId(Long feeItemId) {
+        this.feeItemId = feeItemId;
+    }
+
+    public String getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(String billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public LocalDate getReadOn() {
+        return readOn;
+    }
+
+    public void setReadOn(LocalDate readOn) {
+        this.readOn = readOn;
+    }
+
+    public List<Item> getReadings() {
+        return readings;
+    }
+
+    public void setReadings(List<Item> readings) {
+        this.readings = readings;
+    }
+}
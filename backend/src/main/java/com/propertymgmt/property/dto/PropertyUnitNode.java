@@ -0,0 +1,102 @@
+package com.propertymgmt.property.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 房产树节点及其下属统计：房间数、有人入住（自住或出租）的房间数、住户数、未缴账单数与金额（不含滞纳金）。
+ * children 为 null 表示未展开
+ */
+public class PropertyUnitNode {
+
+    private Long id;
+    private String level;
+    private String name;
+    private String path;
+    private long roomCount;
+    private long occupiedRoomCount;
+    private long residentCount;
+    private long arrearsBillCount;
+    private BigDecimal arrearsAmount;
+    private List<PropertyUnitNode> children;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public void setLevel(String level) {
+        this.level = level;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public long getRoomCount() {
+        return roomCount;
+    }
+
+    public void setRoomCount(long roomCount) {
+        this.roomCount = roomCount;
+    }
+
+    public long getOccupiedRoomCount() {
+        return occupiedRoomCount;
+    }
+
+    public void setOccupiedRoomCount(long occupiedRoomCount) {
+        this.occupiedRoomCount = occupiedRoomCount;
+    }
+
+    public long getResidentCount() {
+        return residentCount;
+    }
+
+    public void setResidentCount(long residentCount) {
+        this.residentCount = residentCount;
+    }
+
+    public long getArrearsBillCount() {
+        return arrearsBillCount;
+    }
+
+    public void setArrearsBillCount(long arrearsBillCount) {
+        this.arrearsBillCount = arrearsBillCount;
+    }
+
+    public BigDecimal getArrearsAmount() {
+        return arrearsAmount;
+    }
+
+    public void setArrearsAmount(BigDecimal arrearsAmount) {
+        this.arrearsAmount = arrearsAmount;
+    }
+
+    public List<PropertyUnitNode> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<PropertyUnitNode> children) {
+        this.children = children;
+    }
+}
@@ -0,0 +1,34 @@
+package com.propertymgmt.property.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 新增房产节点：parentId 为空时新增楼栋，否则新增其下一级（单元或房间）
+ */
+public class PropertyUnitRequest {
+
+    private Long parentId;
+
+    @NotBlank(message = "名称不能为空")
+    @Size(max = 50, message = "名称不能超过50个字符")
+    @Pattern(regexp = "[^/]*", message = "名称不能包含 /")
+    private String name;
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,25 @@
+package com.propertymgmt.property.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 发给一位业主的催缴提醒（合并其在该房屋的全部逾期账单）
+ */
+public record Reminder(String ownerName, String location, String phone, int billCount, BigDecimal amount,
+                       String oldestPeriod, List<String> billNumbers) {
+
+    /**
+     * 短信/邮件正文
+     */
+    public String text() {
+        StringBuilder text = new StringBuilder()
+            .append(ownerName).append("您好，您在").append(location).append("有 ").append(billCount)
+            .append(" 笔物业费用逾期未缴，合计 ")
+            .append(amount.toPlainString()).append(" 元");
+        if (oldestPeriod != null) {
+            text.append("（最早账期 ").append(oldestPeriod).append("）");
+        }
+        return text.append("，请及时缴纳。").toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.propertymgmt.property.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResidentImportResult {
+
+    private int received;                            // 文件中的数据行数
+    private int inserted;                            // 新增住户
+    private int duplicates;                          // 楼栋、单元、房号、姓名与已有住户或前面的行重复
+    private int rejected;                            // 校验不通过
+    private List<String> errors = new ArrayList<>(); // 被拒绝的原因（最多保留前 100 条）
+    private long elapsedMillis;
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
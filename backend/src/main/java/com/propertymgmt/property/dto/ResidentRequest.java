@@ -1,39 +1,52 @@
 package com.propertymgmt.property.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 public class ResidentRequest {
 
     @NotBlank
+    @Size(max = 50)
     private String name;
 
     @NotBlank
+    @Size(max = 20)
     private String phone;
 
     @NotBlank
+    @Size(max = 50)
     private String idCard;
 
     @NotBlank
+    @Size(max = 50)
     private String building;
 
     @NotBlank
+    @Size(max = 50)
     private String unit;
 
     @NotBlank
+    @Size(max = 50)
     private String roomNumber;
 
+    @Size(max = 20)
     private String area;
 
+    @Size(max = 20)
     private String residenceType;
 
+    @Size(max = 20)
     private String status;
 
     private String moveInDate;
 
+    @Size(max = 50)
     private String emergencyContact;
 
+    @Size(max = 20)
     private String emergencyPhone;
 
+    @Size(max = 500)
     private String remark;
 
     public String getName() {
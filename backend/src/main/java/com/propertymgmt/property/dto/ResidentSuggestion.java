@@ -0,0 +1,64 @@
+package com.propertymgmt.property.dto;
+
+/**
+ * 住户姓名联想结果（选择业主时使用，只含定位住户所需的字段）
+ */
+public class ResidentSuggestion {
+
+    private Long id;
+    private String name;
+    private String building;
+    private String unit;
+    private String roomNumber;
+
+    public ResidentSuggestion() {
+    }
+
+    public ResidentSuggestion(Long id, String name, String building, String unit, String roomNumber) {
+        this.id = id;
+        this.name = name;
+        this.building = building;
+        this.unit = unit;
+        this.roomNumber = roomNumber;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getBuilding() {
+        return building;
+    }
+
+    public void setBuilding(String building) {
+        this.building = building;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+
+    public void setRoomNumber(String roomNumber) {
+        this.roomNumber = roomNumber;
+    }
+}
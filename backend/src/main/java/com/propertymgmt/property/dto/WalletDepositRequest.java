@@ -0,0 +1,43 @@
+package com.propertymgmt.property.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+
+public class WalletDepositRequest {
+
+    @NotNull(message = "住户ID不能为空")
+    private Long residentId;
+
+    @NotNull(message = "预存金额不能为空")
+    @DecimalMin(value = "0.01", message = "预存金额必须大于0")
+    private BigDecimal amount;
+
+    @NotBlank(message = "支付方式不能为空")
+    private String payMethod;
+
+    public Long getResidentId() {
+        return residentId;
+    }
+
+    public void setResidentId(Long residentId) {
+        this.residentId = residentId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getPayMethod() {
+        return payMethod;
+    }
+
+    public void setPayMethod(String payMethod) {
+        this.payMethod = payMethod;
+    }
+}
@@ -0,0 +1,11 @@
+package com.propertymgmt.property.exception;
+
+/**
+ * 资源状态冲突（如账单已支付、同一请求正在处理），对应 HTTP 409
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,113 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+
+/**
+ * 欠费账龄：按 (账期, 楼栋, 费用类型) 汇总未缴账单，bucket 为该账期当前所在的账龄段。
+ * 出账与缴费时增量维护金额，每日任务随账单变老把整行移入更老的账龄段。
+ */
+@Entity
+@Table(name = "arrears_aging",
+    uniqueConstraints = @UniqueConstraint(name = "uk_aging_period_building_type",
+        columnNames = {"period", "building", "fee_type"}),
+    indexes = @Index(name = "idx_aging_bucket", columnList = "bucket"))
+public class ArrearsAging extends BaseEntity {
+
+    /**
+     * 账龄段：自账期最后一天（视为到期日）起算的天数
+     */
+    public enum Bucket {
+        DAYS_0_30("0-30天", 0),
+        DAYS_31_90("31-90天", 31),
+        DAYS_91_180("91-180天", 91),
+        DAYS_180_PLUS("180天以上", 181);
+
+        private final String label;
+        private final int minAgeDays;
+
+        Bucket(String label, int minAgeDays) {
+            this.label = label;
+            this.minAgeDays = minAgeDays;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public int getMinAgeDays() {
+            return minAgeDays;
+        }
+    }
+
+    @Column(nullable = false)
+    private Integer period;
+
+    @Column(nullable = false, length = 100)
+    private String building;
+
+    @Column(name = "fee_type", nullable = false, length = 30)
+    private String feeType;
+
+    // Bucket 的序号，便于按范围整体迁移
+    @Column(nullable = false)
+    private Integer bucket;
+
+    @Column(name = "bill_count", nullable = false)
+    private Long billCount = 0L;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount = BigDecimal.ZERO;
+
+    public Integer getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Integer period) {
+        this.period = period;
+    }
+
+    public String getBuilding() {
+        return building;
+    }
+
+    public void setBuilding(String building) {
+        this.building = building;
+    }
+
+    public String getFeeType() {
+        return feeType;
+    }
+
+    public void setFeeType(String feeType) {
+        this.feeType = feeType;
+    }
+
+    public Integer getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(Integer bucket) {
+        this.bucket = bucket;
+    }
+
+    public Long getBillCount() {
+        return billCount;
+    }
+
+    public void setBillCount(Long billCount) {
+        this.billCount = billCount;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+}
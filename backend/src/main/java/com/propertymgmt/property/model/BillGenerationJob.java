@@ -0,0 +1,236 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 异步批量出账任务，按住户 id 分块处理，每块提交后记录检查点 lastResidentId。
+ * 执行节点以条件更新认领任务（owner + heartbeatAt 租约），租约过期后其他节点才能接手
+ */
+@Entity
+@Table(name = "bill_generation_jobs")
+public class BillGenerationJob extends BaseEntity {
+
+    public enum JobStatus {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Column(name = "fee_item_id", nullable = false)
+    private Long feeItemId;
+
+    @Column(name = "fee_item_name", nullable = false, length = 50)
+    private String feeItemName;
+
+    @Column(name = "billing_period", nullable = false, length = 20)
+    private String billingPeriod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status = JobStatus.PENDING;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Column(name = "total_residents", nullable = false)
+    private Long totalResidents = 0L;
+
+    @Column(name = "processed_residents", nullable = false)
+    private Long processedResidents = 0L;
+
+    @Column(name = "created_bills", nullable = false)
+    private Long createdBills = 0L;
+
+    @Column(name = "skipped_bills", nullable = false)
+    private Long skippedBills = 0L;
+
+    @Column(name = "unpriced_bills")
+    private Long unpricedBills = 0L;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "last_resident_id", nullable = false)
+    private Long lastResidentId = 0L;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(length = 64)
+    private String owner;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * 进度百分比
+     */
+    public double getProgress() {
+        if (totalResidents == null || totalResidents == 0) {
+            return status == JobStatus.COMPLETED ? 100.0 : 0.0;
+        }
+        return Math.min(100.0, processedResidents * 100.0 / totalResidents);
+    }
+
+    /**
+     * 吞吐量（住户/秒），按开始到结束（或当前）时间计算
+     */
+    public double getThroughput() {
+        if (startedAt == null || processedResidents == null || processedResidents == 0) {
+            return 0.0;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long millis = Math.max(1, Duration.between(startedAt, end).toMillis());
+        return processedResidents * 1000.0 / millis;
+    }
+
+    public Long getFeeItemId() {
+        return feeItemId;
+    }
+
+    public void setFeeItemId(Long feeItemId) {
+        this.feeItemId = feeItemId;
+    }
+
+    public String getFeeItemName() {
+        return feeItemName;
+    }
+
+    public void setFeeItemName(String feeItemName) {
+        this.feeItemName = feeItemName;
+    }
+
+    public String getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(String billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobStatus status) {
+        this.status = status;
+    }
+
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(Integer chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public Long getTotalResidents() {
+        return totalResidents;
+    }
+
+    public void setTotalResidents(Long totalResidents) {
+        this.totalResidents = totalResidents;
+    }
+
+    public Long getProcessedResidents() {
+        return processedResidents;
+    }
+
+    public void setProcessedResidents(Long processedResidents) {
+        this.processedResidents = processedResidents;
+    }
+
+    public Long getCreatedBills() {
+        return createdBills;
+    }
+
+    public void setCreatedBills(Long createdBills) {
+        this.createdBills = createdBills;
+    }
+
+    public Long getSkippedBills() {
+        return skippedBills;
+    }
+
+    public void setSkippedBills(Long skippedBills) {
+        this.skippedBills = skippedBills;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public Long getLastResidentId() {
+        return lastResidentId;
+    }
+
+    public void setLastResidentId(Long lastResidentId) {
+        this.lastResidentId = lastResidentId;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public Long getUnpricedBills() {
+        return unpricedBills;
+    }
+
+    public void setUnpricedBills(Long unpricedBills) {
+        this.unpricedBills = unpricedBills;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public LocalDateTime getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public void setHeartbeatAt(LocalDateTime heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+    }
+}
@@ -0,0 +1,125 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+
+/**
+ * 发给一位业主（户主姓名 + 房屋）的催缴提醒及其投递状态
+ */
+@Entity
+@Table(name = "dunning_notices", indexes = {
+    @Index(name = "idx_dunning_notices_owner_location", columnList = "owner_name, location, status, created_at"),
+    @Index(name = "idx_dunning_notices_run", columnList = "run_id")
+})
+public class DunningNotice extends BaseEntity {
+
+    public enum DeliveryStatus {
+        SENT,
+        FAILED
+    }
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "owner_name", nullable = false, length = 50)
+    private String ownerName;
+
+    @Column(length = 100)
+    private String location;  // 房屋描述，与账单的 building 一致
+
+    @Column(length = 20)
+    private String phone;
+
+    @Column(nullable = false, length = 20)
+    private String channel;
+
+    @Column(name = "bill_count", nullable = false)
+    private Integer billCount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeliveryStatus status;
+
+    @Column(name = "error_message", length = 255)
+    private String errorMessage;
+
+    public Long getRunId() {
+        return runId;
+    }
+
+    public void setRunId(Long runId) {
+        this.runId = runId;
+    }
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public void setOwnerName(String ownerName) {
+        this.ownerName = ownerName;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public Integer getBillCount() {
+        return billCount;
+    }
+
+    public void setBillCount(Integer billCount) {
+        this.billCount = billCount;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public DeliveryStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(DeliveryStatus status) {
+        this.status = status;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
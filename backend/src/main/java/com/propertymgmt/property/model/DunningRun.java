@@ -0,0 +1,135 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 催缴批次：按业主合并逾期账单发送提醒，计数随发送进度更新
+ */
+@Entity
+@Table(name = "dunning_runs")
+public class DunningRun extends BaseEntity {
+
+    public enum RunStatus {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RunStatus status = RunStatus.RUNNING;
+
+    @Column(nullable = false, length = 20)
+    private String channel;
+
+    // 到期日不晚于该账期月末的未缴账单视为逾期
+    @Column(name = "cutoff_period", nullable = false)
+    private Integer cutoffPeriod;
+
+    @Column(name = "owners_notified", nullable = false)
+    private Long ownersNotified = 0L;
+
+    @Column(name = "owners_failed", nullable = false)
+    private Long ownersFailed = 0L;
+
+    @Column(name = "bill_count", nullable = false)
+    private Long billCount = 0L;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    public RunStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RunStatus status) {
+        this.status = status;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public Integer getCutoffPeriod() {
+        return cutoffPeriod;
+    }
+
+    public void setCutoffPeriod(Integer cutoffPeriod) {
+        this.cutoffPeriod = cutoffPeriod;
+    }
+
+    public Long getOwnersNotified() {
+        return ownersNotified;
+    }
+
+    public void setOwnersNotified(Long ownersNotified) {
+        this.ownersNotified = ownersNotified;
+    }
+
+    public Long getOwnersFailed() {
+        return ownersFailed;
+    }
+
+    public void setOwnersFailed(Long ownersFailed) {
+        this.ownersFailed = ownersFailed;
+    }
+
+    public Long getBillCount() {
+        return billCount;
+    }
+
+    public void setBillCount(Long billCount) {
+        this.billCount = billCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
@@ -1,15 +1,23 @@
 package com.propertymgmt.property.model;
 
+import com.propertymgmt.property.util.BillingPeriods;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "fee_bills")
+@Table(name = "fee_bills", indexes = {
+    @Index(name = "idx_fee_bills_period_status", columnList = "period, status"),
+    @Index(name = "idx_fee_bills_period_type", columnList = "period, type"),
+    @Index(name = "idx_fee_bills_owner_created", columnList = "owner_name, created_at, id"),
+    @Index(name = "idx_fee_bills_created", columnList = "created_at, id")
+})
 public class FeeBill extends BaseEntity {
 
     public enum BillStatus {
@@ -36,6 +44,10 @@ public class FeeBill extends BaseEntity {
     @Column(name = "billing_period", nullable = false, length = 20)
     private String billingPeriod;
 
+    // 规范化账期 yyyyMM，由 billingPeriod 推导，无法识别时为 0
+    @Column(name = "period")
+    private Integer period;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private BillStatus status = BillStatus.PENDING;
@@ -46,6 +58,29 @@ public class FeeBill extends BaseEntity {
     @Column(name = "pay_method", length = 30)
     private String payMethod;
 
+    // 已计收的滞纳金（不含在 amount 内），由每日计收任务累加；accruedOn 为最近一次计收的日期，同一日不会重复计收
+    @Column(name = "late_fee", precision = 19, scale = 2)
+    private BigDecimal lateFee = BigDecimal.ZERO;
+
+    @Column(name = "late_fee_accrued_on")
+    private LocalDate lateFeeAccruedOn;
+
+    @Version
+    @Column(nullable = false)
+    private Long version = 0L;
+
+    @Override
+    protected void onCreate() {
+        super.onCreate();
+        this.period = BillingPeriods.toKey(billingPeriod);
+    }
+
+    @Override
+    protected void onUpdate() {
+        super.onUpdate();
+        this.period = BillingPeriods.toKey(billingPeriod);
+    }
+
     public String getBillNumber() {
         return billNumber;
     }
@@ -94,6 +129,14 @@ public class FeeBill extends BaseEntity {
         this.billingPeriod = billingPeriod;
     }
 
+    public Integer getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Integer period) {
+        this.period = period;
+    }
+
     public BillStatus getStatus() {
         return status;
     }
@@ -117,4 +160,33 @@ public class FeeBill extends BaseEntity {
     public void setPayMethod(String payMethod) {
         this.payMethod = payMethod;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public BigDecimal getLateFee() {
+        return lateFee;
+    }
+
+    public void setLateFee(BigDecimal lateFee) {
+        this.lateFee = lateFee;
+    }
+
+    // 应缴金额：本金加已计收的滞纳金，缴费与预存款扣缴均按此金额收取
+    public BigDecimal getPayableAmount() {
+        return amount != null && lateFee != null ? amount.add(lateFee) : amount;
+    }
+
+    public LocalDate getLateFeeAccruedOn() {
+        return lateFeeAccruedOn;
+    }
+
+    public void setLateFeeAccruedOn(LocalDate lateFeeAccruedOn) {
+        this.lateFeeAccruedOn = lateFeeAccruedOn;
+    }
 }
@@ -1,11 +1,19 @@
 package com.propertymgmt.property.model;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "fee_items")
@@ -16,6 +24,20 @@ public class FeeItem extends BaseEntity {
         INACTIVE
     }
 
+    public enum PricingMode {
+        FLAT,      // 固定金额
+        PER_AREA,  // 单价 × 面积
+        TIERED,    // 按面积累进阶梯
+        METERED;   // 单价（或阶梯）× 抄表用量
+
+        /**
+         * 未指定计价方式时按计费单位推断（与历史行为一致：单位含 ㎡ 按面积计价）
+         */
+        public static PricingMode defaultFor(String unit) {
+            return unit != null && unit.contains("㎡") ? PER_AREA : FLAT;
+        }
+    }
+
     @Column(nullable = false, unique = true, length = 50)
     private String name;
 
@@ -32,6 +54,30 @@ public class FeeItem extends BaseEntity {
     @Column(nullable = false, length = 20)
     private ItemStatus status = ItemStatus.ACTIVE;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "pricing_mode", length = 20)
+    private PricingMode pricingMode;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "fee_item_tiers", joinColumns = @JoinColumn(name = "fee_item_id"))
+    @OrderColumn(name = "tier_index")
+    private List<PricingTier> tiers = new ArrayList<>();
+
+    // 滞纳金规则：到期（账期月末）满宽限天数后，按本金 × 日费率逐日计收，累计不超过本金 × 封顶比例；日费率为空表示不计收
+    @Column(name = "late_fee_daily_rate", precision = 10, scale = 6)
+    private BigDecimal lateFeeDailyRate;
+
+    @Column(name = "late_fee_cap_rate", precision = 10, scale = 4)
+    private BigDecimal lateFeeCapRate;
+
+    @Column(name = "late_fee_grace_days")
+    private Integer lateFeeGraceDays;
+
+    // 计价规则变更时递增，用作编译后计价函数的缓存版本
+    @Version
+    @Column(nullable = false)
+    private Long version = 0L;
+
     public String getName() {
         return name;
     }
@@ -71,4 +117,52 @@ public class FeeItem extends BaseEntity {
     public void setStatus(ItemStatus status) {
         this.status = status;
     }
+
+    public PricingMode getPricingMode() {
+        return pricingMode;
+    }
+
+    public void setPricingMode(PricingMode pricingMode) {
+        this.pricingMode = pricingMode;
+    }
+
+    public List<PricingTier> getTiers() {
+        return tiers;
+    }
+
+    public void setTiers(List<PricingTier> tiers) {
+        this.tiers = tiers;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public BigDecimal getLateFeeDailyRate() {
+        return lateFeeDailyRate;
+    }
+
+    public void setLateFeeDailyRate(BigDecimal lateFeeDailyRate) {
+        this.lateFeeDailyRate = lateFeeDailyRate;
+    }
+
+    public BigDecimal getLateFeeCapRate() {
+        return lateFeeCapRate;
+    }
+
+    public void setLateFeeCapRate(BigDecimal lateFeeCapRate) {
+        this.lateFeeCapRate = lateFeeCapRate;
+    }
+
+    public Integer getLateFeeGraceDays() {
+        return lateFeeGraceDays;
+    }
+
+    public void setLateFeeGraceDays(Integer lateFeeGraceDays) {
+        this.lateFeeGraceDays = lateFeeGraceDays;
+    }
 }
@@ -0,0 +1,105 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+
+/**
+ * 收费月度汇总：按 (账期 yyyyMM, 费用类型) 增量维护。
+ * 账单口径（bill/paid）按账单账期归属，缴费口径（payment/received）按缴费发生月份归属。
+ */
+@Entity
+@Table(name = "fee_monthly_rollup",
+    uniqueConstraints = @UniqueConstraint(name = "uk_rollup_period_type", columnNames = {"period", "fee_type"}))
+public class FeeMonthlyRollup extends BaseEntity {
+
+    @Column(nullable = false)
+    private Integer period;
+
+    @Column(name = "fee_type", nullable = false, length = 30)
+    private String feeType;
+
+    @Column(name = "bill_count", nullable = false)
+    private Long billCount = 0L;
+
+    @Column(name = "billed_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal billedAmount = BigDecimal.ZERO;
+
+    @Column(name = "paid_count", nullable = false)
+    private Long paidCount = 0L;
+
+    @Column(name = "paid_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal paidAmount = BigDecimal.ZERO;
+
+    @Column(name = "payment_count", nullable = false)
+    private Long paymentCount = 0L;
+
+    @Column(name = "received_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal receivedAmount = BigDecimal.ZERO;
+
+    public Integer getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Integer period) {
+        this.period = period;
+    }
+
+    public String getFeeType() {
+        return feeType;
+    }
+
+    public void setFeeType(String feeType) {
+        this.feeType = feeType;
+    }
+
+    public Long getBillCount() {
+        return billCount;
+    }
+
+    public void setBillCount(Long billCount) {
+        this.billCount = billCount;
+    }
+
+    public BigDecimal getBilledAmount() {
+        return billedAmount;
+    }
+
+    public void setBilledAmount(BigDecimal billedAmount) {
+        this.billedAmount = billedAmount;
+    }
+
+    public Long getPaidCount() {
+        return paidCount;
+    }
+
+    public void setPaidCount(Long paidCount) {
+        this.paidCount = paidCount;
+    }
+
+    public BigDecimal getPaidAmount() {
+        return paidAmount;
+    }
+
+    public void setPaidAmount(BigDecimal paidAmount) {
+        this.paidAmount = paidAmount;
+    }
+
+    public Long getPaymentCount() {
+        return paymentCount;
+    }
+
+    public void setPaymentCount(Long paymentCount) {
+        this.paymentCount = paymentCount;
+    }
+
+    public BigDecimal getReceivedAmount() {
+        return receivedAmount;
+    }
+
+    public void setReceivedAmount(BigDecimal receivedAmount) {
+        this.receivedAmount = receivedAmount;
+    }
+}
@@ -0,0 +1,59 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 滞纳金计收批次：每个计收日一行（accrual_date 唯一），与当日对账单的累加在同一事务提交
+ */
+@Entity
+@Table(name = "late_fee_runs")
+public class LateFeeRun extends BaseEntity {
+
+    @Column(name = "accrual_date", nullable = false, unique = true)
+    private LocalDate accrualDate;
+
+    @Column(name = "bill_count", nullable = false)
+    private long billCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "elapsed_millis", nullable = false)
+    private long elapsedMillis;
+
+    public LocalDate getAccrualDate() {
+        return accrualDate;
+    }
+
+    public void setAccrualDate(LocalDate accrualDate) {
+        this.accrualDate = accrualDate;
+    }
+
+    public long getBillCount() {
+        return billCount;
+    }
+
+    public void setBillCount(long billCount) {
+        this.billCount = billCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,87 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+
+/**
+ * 账户分录：只追加，不修改不删除
+ */
+@Entity
+@Table(name = "ledger_entries", indexes = {
+    @Index(name = "idx_ledger_entries_account", columnList = "account_id, id")
+})
+public class LedgerEntry extends BaseEntity {
+
+    public enum EntryType {
+        DEBIT,   // 借方：应缴增加（出账）
+        CREDIT   // 贷方：应缴减少（缴费）
+    }
+
+    public enum SourceType {
+        BILL,       // 账单
+        PAYMENT,    // 缴费记录
+        ADJUSTMENT  // 调整（如历史上无缴费记录的已缴账单、每日计收的滞纳金）
+    }
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 10)
+    private EntryType entryType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", nullable = false, length = 20)
+    private SourceType sourceType;
+
+    @Column(nullable = false, length = 30)
+    private String reference;  // 账单编号 / 缴费订单号 / 滞纳金计收日
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public EntryType getEntryType() {
+        return entryType;
+    }
+
+    public void setEntryType(EntryType entryType) {
+        this.entryType = entryType;
+    }
+
+    public SourceType getSourceType() {
+        return sourceType;
+    }
+
+    public void setSourceType(SourceType sourceType) {
+        this.sourceType = sourceType;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,99 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+
+/**
+ * 抄表读数：每个房间（楼栋、单元、房号）、每个抄表计费项目、每个账期一条，读数以 1/100 单位的整数保存。
+ * 表随房间而不随住户，换住户后读数历史延续；本期用量 = 本期读数 - 该表之前最近一期的读数。
+ */
+@Entity
+@Table(name = "meter_readings",
+    uniqueConstraints = @UniqueConstraint(name = "uk_meter_readings_meter_period",
+        columnNames = {"fee_item_id", "building", "unit", "room_number", "period"}),
+    indexes = @Index(name = "idx_meter_readings_period", columnList = "fee_item_id, period"))
+public class MeterReading extends BaseEntity {
+
+    @Column(nullable = false, length = 50)
+    private String building;
+
+    @Column(nullable = false, length = 50)
+    private String unit;
+
+    @Column(name = "room_number", nullable = false, length = 50)
+    private String roomNumber;
+
+    @Column(name = "fee_item_id", nullable = false)
+    private Long feeItemId;
+
+    // 规范化账期 yyyyMM
+    @Column(nullable = false)
+    private Integer period;
+
+    // 表底读数（1/100 单位）
+    @Column(name = "reading", nullable = false)
+    private Long readingHundredths;
+
+    @Column(name = "read_on")
+    private LocalDate readOn;
+
+    public String getBuilding() {
+        return building;
+    }
+
+    public void setBuilding(String building) {
+        this.building = building;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+
+    public void setRoomNumber(String roomNumber) {
+        this.roomNumber = roomNumber;
+    }
+
+    public Long getFeeItemId() {
+        return feeItemId;
+    }
+
+    public void setFeeItemId(Long feeItemId) {
+        this.feeItemId = feeItemId;
+    }
+
+    public Integer getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Integer period) {
+        this.period = period;
+    }
+
+    public Long getReadingHundredths() {
+        return readingHundredths;
+    }
+
+    public void setReadingHundredths(Long readingHundredths) {
+        this.readingHundredths = readingHundredths;
+    }
+
+    public LocalDate getReadOn() {
+        return readOn;
+    }
+
+    public void setReadOn(LocalDate readOn) {
+        this.readOn = readOn;
+    }
+}
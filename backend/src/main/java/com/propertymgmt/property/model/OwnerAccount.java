@@ -0,0 +1,97 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+
+/**
+ * 业主账户：每位业主每处房屋一个账户（户主姓名 + 房屋描述，见 AccountKey），
+ * balance 为物化的应缴余额（借方合计 - 贷方合计，正数表示欠费），与分录在同一事务内增量维护
+ */
+@Entity
+@Table(name = "owner_accounts",
+    uniqueConstraints = @UniqueConstraint(name = "uk_owner_accounts_owner_location",
+        columnNames = {"owner_name", "location"}),
+    indexes = @Index(name = "idx_owner_accounts_balance", columnList = "balance"))
+public class OwnerAccount extends BaseEntity {
+
+    @Column(name = "owner_name", nullable = false, length = 50)
+    private String ownerName;
+
+    @Column(nullable = false, length = 100)
+    private String location;  // 房屋描述，与账单的 building 一致
+
+    @Column(name = "resident_id")
+    private Long residentId;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    @Column(name = "total_debit", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalDebit = BigDecimal.ZERO;
+
+    @Column(name = "total_credit", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalCredit = BigDecimal.ZERO;
+
+    @Column(name = "entry_count", nullable = false)
+    private Long entryCount = 0L;
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public void setOwnerName(String ownerName) {
+        this.ownerName = ownerName;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Long getResidentId() {
+        return residentId;
+    }
+
+    public void setResidentId(Long residentId) {
+        this.residentId = residentId;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public BigDecimal getTotalDebit() {
+        return totalDebit;
+    }
+
+    public void setTotalDebit(BigDecimal totalDebit) {
+        this.totalDebit = totalDebit;
+    }
+
+    public BigDecimal getTotalCredit() {
+        return totalCredit;
+    }
+
+    public void setTotalCredit(BigDecimal totalCredit) {
+        this.totalCredit = totalCredit;
+    }
+
+    public Long getEntryCount() {
+        return entryCount;
+    }
+
+    public void setEntryCount(Long entryCount) {
+        this.entryCount = entryCount;
+    }
+}
@@ -4,11 +4,15 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+    @Index(name = "idx_payments_owner_created", columnList = "owner_name, created_at, id"),
+    @Index(name = "idx_payments_created", columnList = "created_at, id")
+})
 public class Payment extends BaseEntity {
 
     public enum PaymentStatus {
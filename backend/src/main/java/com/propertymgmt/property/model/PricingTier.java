@@ -0,0 +1,42 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.math.BigDecimal;
+
+/**
+ * 阶梯计价的一档：数量不超过 upTo 的部分按 unitPrice 计价，upTo 为空表示不设上限
+ */
+@Embeddable
+public class PricingTier {
+
+    @Column(name = "up_to", precision = 12, scale = 2)
+    private BigDecimal upTo;
+
+    @Column(name = "unit_price", nullable = false, precision = 12, scale = 2)
+    private BigDecimal unitPrice;
+
+    public PricingTier() {
+    }
+
+    public PricingTier(BigDecimal upTo, BigDecimal unitPrice) {
+        this.upTo = upTo;
+        this.unitPrice = unitPrice;
+    }
+
+    public BigDecimal getUpTo() {
+        return upTo;
+    }
+
+    public void setUpTo(BigDecimal upTo) {
+        this.upTo = upTo;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+}
@@ -0,0 +1,87 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * 房产登记：楼栋 → 单元 → 房间三级。path 为 "楼栋/单元/房间" 形式的完整路径（唯一），
+ * 与住户、账单上的楼栋、单元、房号文本对应
+ */
+@Entity
+@Table(name = "property_units", indexes = {
+    @Index(name = "idx_property_units_parent", columnList = "parent_id")
+})
+public class PropertyUnit extends BaseEntity {
+
+    public enum Level {
+        BUILDING,
+        UNIT,
+        ROOM
+    }
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Level level;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(nullable = false, unique = true, length = 160)
+    private String path;
+
+    /**
+     * 由各级名称拼出完整路径，名称为空的层级及其下级不计入
+     */
+    public static String pathOf(String... names) {
+        StringBuilder path = new StringBuilder();
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                break;
+            }
+            if (!path.isEmpty()) {
+                path.append('/');
+            }
+            path.append(name.trim());
+        }
+        return path.toString();
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+}
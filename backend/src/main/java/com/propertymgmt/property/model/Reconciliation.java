@@ -0,0 +1,190 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+
+/**
+ * 对账批次：一份银行/支付渠道对账单与某月缴费记录的核对结果，差异明细见 ReconciliationItem
+ */
+@Entity
+@Table(name = "reconciliations")
+public class Reconciliation extends BaseEntity {
+
+    public enum ReconcileStatus {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReconcileStatus status = ReconcileStatus.RUNNING;
+
+    @Column(name = "file_name", length = 200)
+    private String fileName;
+
+    // 核对的缴费月份（yyyyMM）
+    @Column(nullable = false)
+    private Integer period;
+
+    // 只核对该支付方式的缴费记录，为空表示全部
+    @Column(name = "pay_method", length = 30)
+    private String payMethod;
+
+    @Column(name = "statement_lines", nullable = false)
+    private Long statementLines = 0L;
+
+    @Column(name = "payment_count", nullable = false)
+    private Long paymentCount = 0L;
+
+    @Column(name = "matched_count", nullable = false)
+    private Long matchedCount = 0L;
+
+    @Column(name = "matched_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal matchedAmount = BigDecimal.ZERO;
+
+    @Column(name = "missing_in_system", nullable = false)
+    private Long missingInSystem = 0L;
+
+    @Column(name = "missing_in_statement", nullable = false)
+    private Long missingInStatement = 0L;
+
+    @Column(name = "duplicate_count", nullable = false)
+    private Long duplicateCount = 0L;
+
+    @Column(name = "amount_mismatch_count", nullable = false)
+    private Long amountMismatchCount = 0L;
+
+    @Column(name = "invalid_count", nullable = false)
+    private Long invalidCount = 0L;
+
+    @Column(name = "elapsed_millis")
+    private Long elapsedMillis;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    public ReconcileStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ReconcileStatus status) {
+        this.status = status;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public Integer getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Integer period) {
+        this.period = period;
+    }
+
+    public String getPayMethod() {
+        return payMethod;
+    }
+
+    public void setPayMethod(String payMethod) {
+        this.payMethod = payMethod;
+    }
+
+    public Long getStatementLines() {
+        return statementLines;
+    }
+
+    public void setStatementLines(Long statementLines) {
+        this.statementLines = statementLines;
+    }
+
+    public Long getPaymentCount() {
+        return paymentCount;
+    }
+
+    public void setPaymentCount(Long paymentCount) {
+        this.paymentCount = paymentCount;
+    }
+
+    public Long getMatchedCount() {
+        return matchedCount;
+    }
+
+    public void setMatchedCount(Long matchedCount) {
+        this.matchedCount = matchedCount;
+    }
+
+    public BigDecimal getMatchedAmount() {
+        return matchedAmount;
+    }
+
+    public void setMatchedAmount(BigDecimal matchedAmount) {
+        this.matchedAmount = matchedAmount;
+    }
+
+    public Long getMissingInSystem() {
+        return missingInSystem;
+    }
+
+    public void setMissingInSystem(Long missingInSystem) {
+        this.missingInSystem = missingInSystem;
+    }
+
+    public Long getMissingInStatement() {
+        return missingInStatement;
+    }
+
+    public void setMissingInStatement(Long missingInStatement) {
+        this.missingInStatement = missingInStatement;
+    }
+
+    public Long getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    public void setDuplicateCount(Long duplicateCount) {
+        this.duplicateCount = duplicateCount;
+    }
+
+    public Long getAmountMismatchCount() {
+        return amountMismatchCount;
+    }
+
+    public void setAmountMismatchCount(Long amountMismatchCount) {
+        this.amountMismatchCount = amountMismatchCount;
+    }
+
+    public Long getInvalidCount() {
+        return invalidCount;
+    }
+
+    public void setInvalidCount(Long invalidCount) {
+        this.invalidCount = invalidCount;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,117 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+
+/**
+ * 对账差异明细（核对一致的记录只计数，不逐条保存）
+ */
+@Entity
+@Table(name = "reconciliation_items", indexes = {
+    @Index(name = "idx_reconciliation_items_run", columnList = "reconciliation_id, type, id")
+})
+public class ReconciliationItem extends BaseEntity {
+
+    public enum ItemType {
+        MISSING_IN_SYSTEM,     // 对账单有、系统无此订单
+        MISSING_IN_STATEMENT,  // 系统有、对账单无此订单
+        DUPLICATE,             // 对账单中订单号重复出现
+        AMOUNT_MISMATCH,       // 订单号一致但金额不符
+        INVALID                // 无法解析的行
+    }
+
+    @Column(name = "reconciliation_id", nullable = false)
+    private Long reconciliationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ItemType type;
+
+    // 对账单行号（从 1 开始，含表头），系统侧差异为空
+    @Column(name = "line_number")
+    private Long lineNumber;
+
+    @Column(name = "order_number", length = 64)
+    private String orderNumber;
+
+    @Column(name = "statement_amount", precision = 19, scale = 2)
+    private BigDecimal statementAmount;
+
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Column(name = "payment_amount", precision = 19, scale = 2)
+    private BigDecimal paymentAmount;
+
+    @Column(length = 200)
+    private String detail;
+
+    public Long getReconciliationId() {
+        return reconciliationId;
+    }
+
+    public void setReconciliationId(Long reconciliationId) {
+        this.reconciliationId = reconciliationId;
+    }
+
+    public ItemType getType() {
+        return type;
+    }
+
+    public void setType(ItemType type) {
+        this.type = type;
+    }
+
+    public Long getLineNumber() {
+        return lineNumber;
+    }
+
+    public void setLineNumber(Long lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public void setOrderNumber(String orderNumber) {
+        this.orderNumber = orderNumber;
+    }
+
+    public BigDecimal getStatementAmount() {
+        return statementAmount;
+    }
+
+    public void setStatementAmount(BigDecimal statementAmount) {
+        this.statementAmount = statementAmount;
+    }
+
+    public Long getPaymentId() {
+        return paymentId;
+    }
+
+    public void setPaymentId(Long paymentId) {
+        this.paymentId = paymentId;
+    }
+
+    public BigDecimal getPaymentAmount() {
+        return paymentAmount;
+    }
+
+    public void setPaymentAmount(BigDecimal paymentAmount) {
+        this.paymentAmount = paymentAmount;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+}
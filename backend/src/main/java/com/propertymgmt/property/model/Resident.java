@@ -1,14 +1,23 @@
 package com.propertymgmt.property.model;
 
+import com.propertymgmt.property.model.listener.ResidentEntityListener;
+import com.propertymgmt.property.util.Areas;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "residents")
+@Table(name = "residents", indexes = {
+    @Index(name = "idx_residents_status_building", columnList = "status, building"),
+    @Index(name = "idx_residents_created", columnList = "created_at, id")
+})
+@EntityListeners(ResidentEntityListener.class)
 public class Resident extends BaseEntity {
 
     public enum Status {
@@ -44,6 +53,10 @@ public class Resident extends BaseEntity {
     @Column(length = 20)
     private String area;
 
+    // 面积数值（平方米），由 area 派生，供计价使用
+    @Column(name = "area_value", precision = 10, scale = 2)
+    private BigDecimal areaValue;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "residence_type", length = 20)
     private ResidenceType residenceType = ResidenceType.OWNER;
@@ -64,6 +77,18 @@ public class Resident extends BaseEntity {
     @Column(length = 500)
     private String remark;
 
+    @Override
+    protected void onCreate() {
+        super.onCreate();
+        this.areaValue = Areas.parse(area);
+    }
+
+    @Override
+    protected void onUpdate() {
+        super.onUpdate();
+        this.areaValue = Areas.parse(area);
+    }
+
     public String getName() {
         return name;
     }
@@ -112,6 +137,14 @@ public class Resident extends BaseEntity {
         this.area = area;
     }
 
+    public BigDecimal getAreaValue() {
+        return areaValue;
+    }
+
+    public void setAreaValue(BigDecimal areaValue) {
+        this.areaValue = areaValue;
+    }
+
     public Status getStatus() {
         return status;
     }
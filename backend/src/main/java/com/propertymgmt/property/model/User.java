@@ -3,6 +3,7 @@ package com.propertymgmt.property.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -13,7 +14,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "sys_users")
+@Table(name = "sys_users", indexes = {
+    @Index(name = "idx_sys_users_created", columnList = "created_at, id")
+})
 public class User extends BaseEntity {
 
     @Column(nullable = false, unique = true, length = 50)
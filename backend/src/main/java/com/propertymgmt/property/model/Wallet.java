@@ -0,0 +1,73 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+
+/**
+ * 预存款钱包：每位住户一个，余额只通过带条件的整体更新增减，不经实体回写
+ */
+@Entity
+@Table(name = "wallets", indexes = {
+    @Index(name = "idx_wallets_owner", columnList = "owner_name")
+})
+public class Wallet extends BaseEntity {
+
+    @Column(name = "resident_id", nullable = false, unique = true)
+    private Long residentId;
+
+    // 账单按业主姓名归属，扣款时以此匹配账单
+    @Column(name = "owner_name", nullable = false, length = 50)
+    private String ownerName;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    @Column(name = "total_deposited", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalDeposited = BigDecimal.ZERO;
+
+    @Column(name = "total_debited", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalDebited = BigDecimal.ZERO;
+
+    public Long getResidentId() {
+        return residentId;
+    }
+
+    public void setResidentId(Long residentId) {
+        this.residentId = residentId;
+    }
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public void setOwnerName(String ownerName) {
+        this.ownerName = ownerName;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public BigDecimal getTotalDeposited() {
+        return totalDeposited;
+    }
+
+    public void setTotalDeposited(BigDecimal totalDeposited) {
+        this.totalDeposited = totalDeposited;
+    }
+
+    public BigDecimal getTotalDebited() {
+        return totalDebited;
+    }
+
+    public void setTotalDebited(BigDecimal totalDebited) {
+        this.totalDebited = totalDebited;
+    }
+}
@@ -0,0 +1,91 @@
+package com.propertymgmt.property.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+
+/**
+ * 钱包流水：只追加；扣款流水的 bill_id 唯一，同一账单不会被重复扣款
+ */
+@Entity
+@Table(name = "wallet_transactions", indexes = {
+    @Index(name = "idx_wallet_transactions_wallet", columnList = "wallet_id, id")
+})
+public class WalletTransaction extends BaseEntity {
+
+    public enum TransactionType {
+        DEPOSIT,  // 预存
+        DEBIT     // 自动扣缴账单
+    }
+
+    @Column(name = "wallet_id", nullable = false)
+    private Long walletId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TransactionType type;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "balance_after", nullable = false, precision = 19, scale = 2)
+    private BigDecimal balanceAfter;
+
+    @Column(name = "bill_id", unique = true)
+    private Long billId;
+
+    @Column(length = 30)
+    private String reference;  // 预存为支付方式，扣款为缴费订单号
+
+    public Long getWalletId() {
+        return walletId;
+    }
+
+    public void setWalletId(Long walletId) {
+        this.walletId = walletId;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    public void setType(TransactionType type) {
+        this.type = type;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BigDecimal getBalanceAfter() {
+        return balanceAfter;
+    }
+
+    public void setBalanceAfter(BigDecimal balanceAfter) {
+        this.balanceAfter = balanceAfter;
+    }
+
+    public Long getBillId() {
+        return billId;
+    }
+
+    public void setBillId(Long billId) {
+        this.billId = billId;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+}
@@ -0,0 +1,34 @@
+package com.propertymgmt.property.model.listener;
+
+import com.propertymgmt.property.model.Resident;
+import com.propertymgmt.property.service.ResidentChangeListener;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 住户实体监听器：把 JPA 写入转发给各 {@link ResidentChangeListener}（由 Hibernate 通过 Spring 容器取得实例）
+ */
+@Component
+public class ResidentEntityListener {
+
+    // 订阅方可能依赖 JPA 仓库，而监听器在 EntityManagerFactory 创建时实例化，延迟到首次事件时再取
+    private final ObjectProvider<ResidentChangeListener> listeners;
+
+    public ResidentEntityListener(ObjectProvider<ResidentChangeListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void saved(Resident resident) {
+        listeners.orderedStream().forEach(listener -> listener.residentSaved(resident));
+    }
+
+    @PostRemove
+    public void removed(Resident resident) {
+        listeners.orderedStream().forEach(listener -> listener.residentRemoved(resident));
+    }
+}
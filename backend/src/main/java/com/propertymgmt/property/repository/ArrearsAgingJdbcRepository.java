@@ -0,0 +1,131 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.util.Money;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 欠费账龄表的增量写入与按账龄段迁移
+ */
+@Repository
+public class ArrearsAgingJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArrearsAgingJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 账龄行主键
+     */
+    public record Key(int period, String building, String feeType) {
+    }
+
+    /**
+     * 账龄增量（未缴账单数与金额（分），缴费时为负）
+     */
+    public record Delta(long billCount, long cents) {
+
+        public Delta plus(Delta other) {
+            return new Delta(billCount + other.billCount, Money.add(cents, other.cents));
+        }
+
+        public Delta negate() {
+            return new Delta(-billCount, Math.negateExact(cents));
+        }
+    }
+
+    public void apply(Key key, int bucket, Delta delta) {
+        if (increment(key, delta) > 0) {
+            return;
+        }
+        try {
+            insertAll(Map.of(key, delta), k -> bucket);
+        } catch (DuplicateKeyException ex) {
+            // 并发下其他事务已插入该行，改为增量更新
+            increment(key, delta);
+        }
+    }
+
+    /**
+     * 把到期日不晚于 cutoffPeriod 所在月末的行移入 bucket（只向更老的账龄段移动），返回迁移行数
+     */
+    public int moveToBucket(int bucket, int cutoffPeriod) {
+        return jdbcTemplate.update(
+            "update arrears_aging set bucket = ?, updated_at = ? where bucket < ? and period <= ?",
+            bucket, Timestamp.valueOf(LocalDateTime.now()), bucket, cutoffPeriod);
+    }
+
+    /**
+     * 清理已全部缴清的行
+     */
+    public int deleteSettled() {
+        return jdbcTemplate.update("delete from arrears_aging where bill_count <= 0");
+    }
+
+    public void deleteAll() {
+        jdbcTemplate.update("delete from arrears_aging");
+    }
+
+    public void insertAll(Map<Key, Delta> rows, ToIntFunction<Key> bucketOf) {
+        String sql = """
+            insert into arrears_aging
+                (period, building, fee_type, bucket, bill_count, amount, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, new ArrayList<>(rows.entrySet()), FeeBillJdbcRepository.BATCH_SIZE,
+            (ps, entry) -> {
+                Key key = entry.getKey();
+                ps.setInt(1, key.period());
+                ps.setString(2, key.building());
+                ps.setString(3, key.feeType());
+                ps.setInt(4, bucketOf.applyAsInt(key));
+                ps.setLong(5, entry.getValue().billCount());
+                ps.setBigDecimal(6, Money.toBigDecimal(entry.getValue().cents()));
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+            });
+    }
+
+    /**
+     * 账龄报表：按楼栋、费用类型、账龄段汇总
+     */
+    public void summarize(String building, String feeType, RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder("""
+            select building, fee_type, bucket, sum(bill_count) as bill_count, sum(amount) as amount
+            from arrears_aging
+            where bill_count > 0
+            """);
+        List<Object> args = new ArrayList<>();
+        if (building != null && !building.isBlank()) {
+            sql.append(" and building = ?");
+            args.add(building.trim());
+        }
+        if (feeType != null && !feeType.isBlank()) {
+            sql.append(" and fee_type = ?");
+            args.add(feeType.trim());
+        }
+        sql.append(" group by building, fee_type, bucket order by building, fee_type, bucket");
+        jdbcTemplate.query(sql.toString(), handler, args.toArray());
+    }
+
+    private int increment(Key key, Delta delta) {
+        return jdbcTemplate.update("""
+            update arrears_aging
+            set bill_count = bill_count + ?, amount = amount + ?, updated_at = ?
+            where period = ? and building = ? and fee_type = ?
+            """,
+            delta.billCount(), Money.toBigDecimal(delta.cents()), Timestamp.valueOf(LocalDateTime.now()),
+            key.period(), key.building(), key.feeType());
+    }
+}
@@ -0,0 +1,46 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.BillGenerationJob;
+import com.propertymgmt.property.model.BillGenerationJob.JobStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BillGenerationJobRepository extends JpaRepository<BillGenerationJob, Long> {
+
+    /**
+     * 无人认领或租约已过期的任务
+     */
+    @Query("""
+        select j from BillGenerationJob j
+        where j.status in :statuses and (j.owner is null or j.heartbeatAt is null or j.heartbeatAt < :staleBefore)
+        order by j.id
+        """)
+    List<BillGenerationJob> findClaimable(@Param("statuses") Collection<JobStatus> statuses,
+                                          @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 认领任务：未完成，且无人认领、已由本节点认领或租约已过期时才成功，返回更新行数
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update BillGenerationJob j
+        set j.owner = :owner, j.heartbeatAt = :now, j.status = :running
+        where j.id = :id and j.status <> :completed
+          and (j.owner is null or j.owner = :owner or j.heartbeatAt is null or j.heartbeatAt < :staleBefore)
+        """)
+    int claim(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore, @Param("running") JobStatus running,
+              @Param("completed") JobStatus completed);
+
+    /**
+     * 续租：仅当任务仍由 owner 持有时更新心跳，返回更新行数
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update BillGenerationJob j set j.heartbeatAt = :now where j.id = :id and j.owner = :owner")
+    int heartbeat(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,45 @@
+package com.propertymgmt.property.repository;
+
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 读取各业务表中已发放的最大编号（编号生成器启动时校准时钟用）
+ */
+@Repository
+public class BusinessNumberJdbcRepository {
+
+    /**
+     * 携带业务编号的表与列
+     */
+    public enum NumberColumn {
+        BILL("fee_bills", "bill_number"),
+        PAYMENT("payments", "order_number"),
+        REPAIR_ORDER("repair_orders", "order_number");
+
+        private final String table;
+        private final String column;
+
+        NumberColumn(String table, String column) {
+            this.table = table;
+            this.column = column;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BusinessNumberJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 按编号倒序取 prefix 后紧跟数字的前 limit 个编号（走编号列的唯一索引做范围扫描，不扫描全表）
+     */
+    public List<String> findHighest(NumberColumn number, String prefix, int limit) {
+        String sql = "select " + number.column + " from " + number.table
+            + " where " + number.column + " >= ? and " + number.column + " < ?"
+            + " order by " + number.column + " desc limit ?";
+        return jdbcTemplate.queryForList(sql, String.class, prefix + "0", prefix + ":", limit);
+    }
+}
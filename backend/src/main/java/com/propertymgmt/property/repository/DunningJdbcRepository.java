@@ -0,0 +1,76 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.DunningNotice;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 催缴：逾期账单的流式读取与提醒记录的批量写入
+ */
+@Repository
+public class DunningJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DunningJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 按业主（户主姓名 + 房屋，即账单的 building）、账单 id 顺序流式读取逾期未缴账单（金额含已计收的滞纳金），
+     * 跳过 remindedSince 之后已成功提醒过的业主。手机号取姓名与房屋都相符的住户；
+     * 房屋描述不是标准格式的账单（如手工录入）找不到时，仅当该姓名只有一位住户才取其手机号
+     */
+    public void streamOverdueBills(int cutoffPeriod, LocalDateTime remindedSince, int fetchSize,
+                                   RowCallbackHandler handler) {
+        String sql = """
+            select f.owner_name, f.building, f.bill_number, f.billing_period, f.period,
+                   f.amount + coalesce(f.late_fee, 0) as amount, coalesce(r.phone, u.phone) as phone
+            from fee_bills f
+            left join (
+                select name, concat(building, ' ', unit, ' ', room_number) as location, max(phone) as phone
+                from residents
+                group by name, building, unit, room_number
+            ) r on r.name = f.owner_name and r.location = f.building
+            left join (
+                select name, max(phone) as phone from residents group by name having count(*) = 1
+            ) u on u.name = f.owner_name
+            where f.status in ('PENDING', 'OVERDUE') and f.period <= ?
+              and not exists (
+                  select 1 from dunning_notices n
+                  where n.owner_name = f.owner_name and n.location = f.building
+                    and n.status = 'SENT' and n.created_at >= ?
+              )
+            order by f.owner_name, f.building, f.id
+            """;
+        FeeBillJdbcRepository.stream(jdbcTemplate, sql,
+            List.of(cutoffPeriod, Timestamp.valueOf(remindedSince)), fetchSize, handler);
+    }
+
+    public void insertNotices(List<DunningNotice> notices) {
+        String sql = """
+            insert into dunning_notices
+                (run_id, owner_name, location, phone, channel, bill_count, amount, status, error_message,
+                 created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, notices, FeeBillJdbcRepository.BATCH_SIZE, (ps, notice) -> {
+            ps.setLong(1, notice.getRunId());
+            ps.setString(2, notice.getOwnerName());
+            ps.setString(3, notice.getLocation());
+            ps.setString(4, notice.getPhone());
+            ps.setString(5, notice.getChannel());
+            ps.setInt(6, notice.getBillCount());
+            ps.setBigDecimal(7, notice.getAmount());
+            ps.setString(8, notice.getStatus().name());
+            ps.setString(9, notice.getErrorMessage());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.DunningRun;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DunningRunRepository extends JpaRepository<DunningRun, Long> {
+
+    List<DunningRun> findTop20ByOrderByIdDesc();
+
+    List<DunningRun> findByStatus(DunningRun.RunStatus status);
+}
@@ -0,0 +1,262 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.dto.FeeQueryFilter;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.FeeItem;
+import com.propertymgmt.property.util.Areas;
+import com.propertymgmt.property.util.BillingPeriods;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+/**
+ * 账单批量读写（绕过 JPA 实体管理，用于大批量账单生成）
+ */
+@Repository
+public class FeeBillJdbcRepository {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String MISSING_IN_BUILDING_SQL = """
+        select r.id, r.name, r.building, r.unit, r.room_number, r.area_value
+        from residents r
+        where r.status = 'OCCUPIED' and r.building = ?
+          and not exists (
+              select 1 from fee_bills f
+              where f.period = ? and f.type = ? and f.owner_name = r.name
+                and f.building = concat(r.building, ' ', r.unit, ' ', r.room_number)
+          )
+        order by r.id
+        """;
+
+    private static final RowMapper<BillingTarget> BILLING_TARGET_MAPPER = (rs, rowNum) -> new BillingTarget(
+        rs.getLong("id"),
+        rs.getString("name"),
+        rs.getString("building"),
+        rs.getString("unit"),
+        rs.getString("room_number"),
+        Areas.toHundredths(rs.getBigDecimal("area_value")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FeeBillJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 需要出账的住户（只包含计费所需字段）。计费数量以 1/100 单位的整数表示：
+     * 按面积出账时为面积，抄表出账时为本期用量；无法确定时为 Areas.MISSING
+     */
+    public record BillingTarget(Long residentId, String name, String building,
+                                String unit, String roomNumber, long quantityHundredths) {
+    }
+
+    /**
+     * 反连接查询：住户 id 在 (afterId, upToId] 范围内、已入住、且在该账期（yyyyMM）尚无该收费类型账单的住户。
+     * 账单按户主姓名加房屋描述（与 FeeBillFactory 生成的 "楼栋 单元 房号" 一致）认定归属，同名住户互不影响
+     */
+    public List<BillingTarget> findMissingBillingTargets(String type, int period, long afterId, long upToId) {
+        String sql = """
+            select r.id, r.name, r.building, r.unit, r.room_number, r.area_value
+            from residents r
+            where r.status = 'OCCUPIED' and r.id > ? and r.id <= ?
+              and not exists (
+                  select 1 from fee_bills f
+                  where f.period = ? and f.type = ? and f.owner_name = r.name
+                    and f.building = concat(r.building, ' ', r.unit, ' ', r.room_number)
+              )
+            order by r.id
+            """;
+        return jdbcTemplate.query(sql, BILLING_TARGET_MAPPER, afterId, upToId, period, type);
+    }
+
+    /**
+     * 反连接查询：某楼栋内已入住、且在该账期（yyyyMM）尚无该收费类型账单的住户
+     */
+    public List<BillingTarget> findMissingBillingTargets(String type, int period, String building) {
+        return jdbcTemplate.query(MISSING_IN_BUILDING_SQL, BILLING_TARGET_MAPPER, building, period, type);
+    }
+
+    /**
+     * 与 {@link #findMissingBillingTargets(String, int, String)} 相同的查询，以只进游标逐行回调（用于试算）
+     */
+    public void streamMissingBillingTargets(String type, int period, String building, int fetchSize,
+                                            Consumer<BillingTarget> consumer) {
+        stream(jdbcTemplate, MISSING_IN_BUILDING_SQL, List.of(building, period, type), fetchSize,
+            rs -> consumer.accept(BILLING_TARGET_MAPPER.mapRow(rs, 0)));
+    }
+
+    /**
+     * 已入住住户所在的楼栋
+     */
+    public List<String> findOccupiedBuildings() {
+        return jdbcTemplate.queryForList(
+            "select distinct building from residents where status = 'OCCUPIED' order by building", String.class);
+    }
+
+    /**
+     * 按 id 顺序取 afterId 之后的一段已入住住户 id（用于分块出账的键集分页）
+     */
+    public List<Long> findOccupiedResidentIds(long afterId, int limit) {
+        return jdbcTemplate.queryForList(
+            "select id from residents where status = 'OCCUPIED' and id > ? order by id limit ?",
+            Long.class, afterId, limit);
+    }
+
+    /**
+     * 按 BATCH_SIZE 分批插入账单
+     */
+    public void batchInsert(List<FeeBill> bills) {
+        String sql = """
+            insert into fee_bills
+                (bill_number, owner_name, building, type, amount, billing_period, period, status,
+                 late_fee, version, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?)
+            """;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, bills, BATCH_SIZE, (ps, bill) -> {
+            ps.setString(1, bill.getBillNumber());
+            ps.setString(2, bill.getOwnerName());
+            ps.setString(3, bill.getBuilding());
+            ps.setString(4, bill.getType());
+            ps.setBigDecimal(5, bill.getAmount());
+            ps.setString(6, bill.getBillingPeriod());
+            ps.setInt(7, BillingPeriods.toKey(bill.getBillingPeriod()));
+            ps.setString(8, bill.getStatus().name());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+
+    /**
+     * 按筛选条件以只进游标逐行读取账单，fetchSize 控制每次从数据库取回的行数
+     */
+    public void streamBills(FeeQueryFilter filter, int fetchSize, RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder("""
+            select id, bill_number, owner_name, building, type, amount, billing_period, status,
+                   paid_at, pay_method, created_at
+            from fee_bills
+            where 1 = 1
+            """);
+        List<Object> args = new ArrayList<>();
+        if (StringUtils.hasText(filter.getPeriod())) {
+            sql.append(" and period = ?");
+            args.add(BillingPeriods.requireKey(filter.getPeriod()));
+        }
+        if (StringUtils.hasText(filter.getStatus())) {
+            sql.append(" and status = ?");
+            args.add(FeeSpecifications.parseStatus(FeeBill.BillStatus.class, filter.getStatus()).name());
+        }
+        if (StringUtils.hasText(filter.getOwnerName())) {
+            sql.append(" and owner_name = ?");
+            args.add(filter.getOwnerName().trim());
+        }
+        if (StringUtils.hasText(filter.getBuilding())) {
+            sql.append(" and building like ?");
+            args.add(filter.getBuilding().trim() + "%");
+        }
+        if (StringUtils.hasText(filter.getType())) {
+            sql.append(" and type = ?");
+            args.add(filter.getType().trim());
+        }
+        sql.append(" order by id");
+        stream(jdbcTemplate, sql.toString(), args, fetchSize, handler);
+    }
+
+    /**
+     * 以只进游标读取全部账单的分析字段（装载分析缓存用）；amount 为本金加已计收的滞纳金
+     */
+    public void streamFacts(int fetchSize, RowCallbackHandler handler) {
+        stream(jdbcTemplate, """
+            select bill_number, building, type, period, amount + coalesce(late_fee, 0) as amount, status
+            from fee_bills
+            """, List.of(), fetchSize, handler);
+    }
+
+    /**
+     * 只进、只读游标查询
+     */
+    static void stream(JdbcTemplate jdbcTemplate, String sql, List<Object> args, int fetchSize,
+                       RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, handler);
+    }
+
+    /**
+     * 回填历史账单的规范化账期：按账期原文去重后逐个整体更新
+     */
+    public int backfillPeriods() {
+        List<String> rawPeriods = jdbcTemplate.queryForList(
+            "select distinct billing_period from fee_bills where period is null", String.class);
+        int updated = 0;
+        for (String rawPeriod : rawPeriods) {
+            updated += jdbcTemplate.update(
+                "update fee_bills set period = ? where billing_period = ? and period is null",
+                BillingPeriods.toKey(rawPeriod), rawPeriod);
+        }
+        return updated;
+    }
+
+    /**
+     * 回填住户面积数值：按面积原文去重后逐个整体更新
+     */
+    public int backfillResidentAreas() {
+        List<String> rawAreas = jdbcTemplate.queryForList(
+            "select distinct area from residents where area is not null and area_value is null", String.class);
+        int updated = 0;
+        for (String rawArea : rawAreas) {
+            BigDecimal value = Areas.parse(rawArea);
+            if (value != null) {
+                updated += jdbcTemplate.update(
+                    "update residents set area_value = ? where area = ? and area_value is null", value, rawArea);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 回填收费项目的计价方式与版本号（计价方式按计费单位推断）
+     */
+    public int backfillFeeItemPricing() {
+        int updated = jdbcTemplate.update("update fee_items set version = 0 where version is null");
+        List<Map<String, Object>> items = jdbcTemplate.queryForList(
+            "select id, unit from fee_items where pricing_mode is null");
+        for (Map<String, Object> item : items) {
+            FeeItem.PricingMode mode = FeeItem.PricingMode.defaultFor((String) item.get("unit"));
+            updated += jdbcTemplate.update("update fee_items set pricing_mode = ? where id = ?",
+                mode.name(), item.get("id"));
+        }
+        return updated;
+    }
+
+    /**
+     * 早于乐观锁版本列创建的账单，版本号从 0 开始
+     */
+    public int backfillVersions() {
+        return jdbcTemplate.update("update fee_bills set version = 0 where version is null");
+    }
+
+    /**
+     * 早于滞纳金列创建的账单，已计收滞纳金为 0
+     */
+    public int backfillLateFees() {
+        return jdbcTemplate.update("update fee_bills set late_fee = 0 where late_fee is null");
+    }
+}
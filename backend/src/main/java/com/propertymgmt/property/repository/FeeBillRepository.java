@@ -2,16 +2,76 @@ package com.propertymgmt.property.repository;
 
 import com.propertymgmt.property.model.FeeBill;
 import com.propertymgmt.property.model.FeeBill.BillStatus;
+import jakarta.persistence.LockModeType;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface FeeBillRepository extends JpaRepository<FeeBill, Long> {
+public interface FeeBillRepository extends JpaRepository<FeeBill, Long>, JpaSpecificationExecutor<FeeBill> {
 
     long countByStatus(BillStatus status);
 
-    @Query("select coalesce(sum(f.amount),0) from FeeBill f where f.status = 'PAID'")
+    @Query("select coalesce(sum(f.amount + coalesce(f.lateFee, 0)),0) from FeeBill f where f.status = 'PAID'")
     BigDecimal sumPaidAmount();
 
-    boolean existsByTypeAndBillingPeriodAndOwnerName(String type, String billingPeriod, String ownerName);
+    /**
+     * 条件状态迁移：仅当账单仍为待缴/逾期时置为已支付，返回受影响行数（0 表示已被支付）
+     */
+    @Modifying
+    @Query("""
+        update FeeBill f
+        set f.status = 'PAID',
+            f.paidAt = :paidAt, f.payMethod = :payMethod,
+            f.version = f.version + 1, f.updatedAt = :now
+        where f.id = :id
+          and f.status in ('PENDING', 'OVERDUE')
+        """)
+    int markPaidIfPayable(@Param("id") Long id,
+                          @Param("paidAt") LocalDate paidAt,
+                          @Param("payMethod") String payMethod,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 若干账单当前已计收的滞纳金合计（不经持久化上下文，读取数据库中的最新值）
+     */
+    @Query("select coalesce(sum(f.lateFee), 0) from FeeBill f where f.id in :ids")
+    BigDecimal sumLateFee(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 批量条件状态迁移，返回实际置为已支付的行数
+     */
+    @Modifying
+    @Query("""
+        update FeeBill f
+        set f.status = 'PAID',
+            f.paidAt = :paidAt, f.payMethod = :payMethod,
+            f.version = f.version + 1, f.updatedAt = :now
+        where f.id in :ids
+          and f.status in ('PENDING', 'OVERDUE')
+        """)
+    int markAllPaidIfPayable(@Param("ids") Collection<Long> ids,
+                             @Param("paidAt") LocalDate paidAt,
+                             @Param("payMethod") String payMethod,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * 锁定若干业主姓名下的待缴/逾期账单，按业主、账期、id 排序（最早的账单在前）；
+     * 同名住户的账单均在其中，调用方须再按房屋（building）区分
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select f from FeeBill f
+        where f.ownerName in :owners
+          and f.status in ('PENDING', 'OVERDUE')
+        order by f.ownerName, f.period, f.id
+        """)
+    List<FeeBill> lockPayableByOwners(@Param("owners") Collection<String> owners);
 }
@@ -1,9 +1,15 @@
 package com.propertymgmt.property.repository;
 
 import com.propertymgmt.property.model.FeeItem;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface FeeItemRepository extends JpaRepository<FeeItem, Long> {
+
+    List<FeeItem> findByStatusOrderByIdAsc(FeeItem.ItemStatus status);
+
+    // 设有滞纳金规则的收费项目（含已停用项目，其未缴账单照常计收）
+    List<FeeItem> findByLateFeeDailyRateIsNotNullOrderByIdAsc();
 }
@@ -0,0 +1,114 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.util.Money;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 月度汇总的增量写入：先按增量 update，行不存在时再 insert
+ */
+@Repository
+public class FeeMonthlyRollupJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FeeMonthlyRollupJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 汇总增量（或重建时的整行数值），金额以分表示
+     */
+    public record Delta(long billCount, long billedCents,
+                        long paidCount, long paidCents,
+                        long paymentCount, long receivedCents) {
+
+        public static final Delta ZERO = new Delta(0, 0, 0, 0, 0, 0);
+
+        public static Delta billed(long count, long cents) {
+            return new Delta(count, cents, 0, 0, 0, 0);
+        }
+
+        public static Delta paid(long count, long cents) {
+            return new Delta(0, 0, count, cents, 0, 0);
+        }
+
+        public static Delta received(long count, long cents) {
+            return new Delta(0, 0, 0, 0, count, cents);
+        }
+
+        public Delta plus(Delta other) {
+            return new Delta(billCount + other.billCount, Money.add(billedCents, other.billedCents),
+                paidCount + other.paidCount, Money.add(paidCents, other.paidCents),
+                paymentCount + other.paymentCount, Money.add(receivedCents, other.receivedCents));
+        }
+    }
+
+    /**
+     * 汇总行主键
+     */
+    public record Key(int period, String feeType) {
+    }
+
+    public void apply(int period, String feeType, Delta delta) {
+        if (increment(period, feeType, delta) > 0) {
+            return;
+        }
+        try {
+            insert(period, feeType, delta);
+        } catch (DuplicateKeyException ex) {
+            // 并发下其他事务已插入该行，改为增量更新
+            increment(period, feeType, delta);
+        }
+    }
+
+    public void deleteAll() {
+        jdbcTemplate.update("delete from fee_monthly_rollup");
+    }
+
+    public void insertAll(Map<Key, Delta> rows) {
+        String sql = """
+            insert into fee_monthly_rollup
+                (period, fee_type, bill_count, billed_amount, paid_count, paid_amount,
+                 payment_count, received_amount, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, rows.entrySet(), FeeBillJdbcRepository.BATCH_SIZE, (ps, entry) -> {
+            Delta delta = entry.getValue();
+            ps.setInt(1, entry.getKey().period());
+            ps.setString(2, entry.getKey().feeType());
+            ps.setLong(3, delta.billCount());
+            ps.setBigDecimal(4, Money.toBigDecimal(delta.billedCents()));
+            ps.setLong(5, delta.paidCount());
+            ps.setBigDecimal(6, Money.toBigDecimal(delta.paidCents()));
+            ps.setLong(7, delta.paymentCount());
+            ps.setBigDecimal(8, Money.toBigDecimal(delta.receivedCents()));
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+
+    private int increment(int period, String feeType, Delta delta) {
+        return jdbcTemplate.update("""
+            update fee_monthly_rollup
+            set bill_count = bill_count + ?, billed_amount = billed_amount + ?,
+                paid_count = paid_count + ?, paid_amount = paid_amount + ?,
+                payment_count = payment_count + ?, received_amount = received_amount + ?,
+                updated_at = ?
+            where period = ? and fee_type = ?
+            """,
+            delta.billCount(), Money.toBigDecimal(delta.billedCents()),
+            delta.paidCount(), Money.toBigDecimal(delta.paidCents()),
+            delta.paymentCount(), Money.toBigDecimal(delta.receivedCents()),
+            Timestamp.valueOf(LocalDateTime.now()), period, feeType);
+    }
+
+    private void insert(int period, String feeType, Delta delta) {
+        insertAll(Map.of(new Key(period, feeType), delta));
+    }
+}
@@ -0,0 +1,15 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.FeeMonthlyRollup;
+import java.math.BigDecimal;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface FeeMonthlyRollupRepository extends JpaRepository<FeeMonthlyRollup, Long> {
+
+    List<FeeMonthlyRollup> findByPeriod(Integer period);
+
+    @Query("select coalesce(sum(r.billedAmount - r.paidAmount), 0) from FeeMonthlyRollup r")
+    BigDecimal sumArrears();
+}
@@ -0,0 +1,75 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.dto.FeeQueryFilter;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.Payment;
+import com.propertymgmt.property.util.BillingPeriods;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+/**
+ * 账单/缴费记录的查询条件，全部下推到数据库执行
+ */
+public final class FeeSpecifications {
+
+    private FeeSpecifications() {
+    }
+
+    public static Specification<FeeBill> bills(FeeQueryFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = commonPredicates(filter, root, cb);
+            if (StringUtils.hasText(filter.getPeriod())) {
+                predicates.add(cb.equal(root.get("period"), BillingPeriods.requireKey(filter.getPeriod())));
+            }
+            if (StringUtils.hasText(filter.getStatus())) {
+                predicates.add(cb.equal(root.get("status"), parseStatus(FeeBill.BillStatus.class, filter.getStatus())));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<Payment> payments(FeeQueryFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = commonPredicates(filter, root, cb);
+            if (StringUtils.hasText(filter.getPeriod())) {
+                // 缴费记录没有账期列，按缴费月份的时间范围筛选以便走 created_at 索引
+                int period = BillingPeriods.requireKey(filter.getPeriod());
+                YearMonth month = YearMonth.of(period / 100, period % 100);
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), month.atDay(1).atStartOfDay()));
+                predicates.add(cb.lessThan(root.get("createdAt"), month.plusMonths(1).atDay(1).atStartOfDay()));
+            }
+            if (StringUtils.hasText(filter.getStatus())) {
+                predicates.add(cb.equal(root.get("status"), parseStatus(Payment.PaymentStatus.class, filter.getStatus())));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static <E extends Enum<E>> E parseStatus(Class<E> type, String status) {
+        try {
+            return Enum.valueOf(type, status.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("状态不正确: " + status);
+        }
+    }
+
+    private static List<Predicate> commonPredicates(FeeQueryFilter filter, Root<?> root, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (StringUtils.hasText(filter.getOwnerName())) {
+            predicates.add(cb.equal(root.get("ownerName"), filter.getOwnerName().trim()));
+        }
+        if (StringUtils.hasText(filter.getBuilding())) {
+            predicates.add(cb.like(root.get("building"), filter.getBuilding().trim() + "%"));
+        }
+        if (StringUtils.hasText(filter.getType())) {
+            predicates.add(cb.equal(root.get("type"), filter.getType().trim()));
+        }
+        return predicates;
+    }
+}
@@ -0,0 +1,36 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.BaseEntity;
+import com.propertymgmt.property.util.KeysetCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 按 (created_at, id) 倒序的键集分页：排序与游标定位条件，适用于任意实体
+ */
+public final class KeysetSpecifications {
+
+    /**
+     * 键集分页的排序：新记录在前，id 保证同一时刻内的顺序稳定
+     */
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private KeysetSpecifications() {
+    }
+
+    /**
+     * 定位到游标之后：created_at < ? or (created_at = ? and id < ?)
+     */
+    public static <T extends BaseEntity> Specification<T> after(KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            return cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(
+                    cb.equal(root.get("createdAt"), cursor.createdAt()),
+                    cb.lessThan(root.get("id"), cursor.id())));
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.util.Money;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 滞纳金的整批计收：每个收费类型一条带条件的 update，直接在账单上累加，不加载账单实体
+ */
+@Repository
+public class LateFeeJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LateFeeJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 计收的一张账单：当日滞纳金（分）、本金与计收后的累计滞纳金（分）及其归属，用于同步台账、汇总、账龄与内存缓存
+     */
+    public record AccruedBill(String billNumber, String ownerName, String building, int period, long cents,
+                              long amountCents, long lateFeeCents) {
+    }
+
+    /**
+     * 为某收费类型中账期不晚于 cutoffPeriod、且本日尚未计收的未缴账单累加 accrualDate 当日的滞纳金，
+     * 并置为逾期，返回计收的账单数。当日金额 = round(本金 × 日费率, 2)；设有封顶比例时不超过
+     * round(本金 × 封顶比例, 2) 减去已计收部分，已达封顶的账单不再更新。
+     * 先以加锁读逐行回调各账单的当日金额，再以相同条件整批更新：锁持有到事务结束，
+     * 期间账单不会被支付，回调的账单与更新的账单一致（行数不符说明有新账单插入，抛出冲突由调用方回滚）。
+     * 同时递增版本号，使持有旧版本的账单实体更新失败而不是覆盖累计额
+     */
+    public int accrue(String feeType, int cutoffPeriod, LocalDate accrualDate,
+                      BigDecimal dailyRate, BigDecimal capRate, int fetchSize, Consumer<AccruedBill> accrued) {
+        String amount = capRate == null
+            ? "round(amount * ?, 2)"
+            : "least(round(amount * ?, 2), round(amount * ?, 2) - late_fee)";
+        List<Object> amountArgs = capRate == null ? List.of(dailyRate) : List.of(dailyRate, capRate);
+        String where = """
+            where type = ? and status in ('PENDING', 'OVERDUE')
+              and period > 0 and period <= ?
+              and (late_fee_accrued_on is null or late_fee_accrued_on < ?)
+              and %s > 0
+            """.formatted(amount);
+        List<Object> whereArgs = new ArrayList<>(List.of(feeType, cutoffPeriod, accrualDate));
+        whereArgs.addAll(amountArgs);
+
+        List<Object> args = new ArrayList<>(amountArgs);
+        args.addAll(whereArgs);
+        long[] locked = new long[1];
+        FeeBillJdbcRepository.stream(jdbcTemplate,
+            "select bill_number, owner_name, building, period, amount, late_fee, " + amount + " as accrual"
+                + " from fee_bills " + where + " for update",
+            args, fetchSize, rs -> {
+                locked[0]++;
+                long cents = Money.toCents(rs.getBigDecimal("accrual"));
+                accrued.accept(new AccruedBill(rs.getString("bill_number"), rs.getString("owner_name"),
+                    rs.getString("building"), rs.getInt("period"), cents, Money.toCents(rs.getBigDecimal("amount")),
+                    Money.add(Money.toCents(rs.getBigDecimal("late_fee")), cents)));
+            });
+
+        args = new ArrayList<>(amountArgs);
+        args.add(accrualDate);
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(whereArgs);
+        int updated = jdbcTemplate.update("""
+            update fee_bills
+            set late_fee = late_fee + %s, late_fee_accrued_on = ?, status = 'OVERDUE',
+                version = version + 1, updated_at = ?
+            """.formatted(amount) + where, args.toArray());
+        if (updated != locked[0]) {
+            throw new ConflictException("计收期间账单发生变化，请重新执行");
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,16 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.LateFeeRun;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LateFeeRunRepository extends JpaRepository<LateFeeRun, Long> {
+
+    List<LateFeeRun> findTop31ByOrderByAccrualDateDesc();
+
+    Optional<LateFeeRun> findTopByOrderByAccrualDateDesc();
+
+    boolean existsByAccrualDate(LocalDate accrualDate);
+}
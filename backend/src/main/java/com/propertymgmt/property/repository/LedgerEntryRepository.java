@@ -0,0 +1,13 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.LedgerEntry;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    List<LedgerEntry> findByAccountIdOrderByIdDesc(Long accountId, Pageable pageable);
+
+    List<LedgerEntry> findByAccountIdAndIdLessThanOrderByIdDesc(Long accountId, Long id, Pageable pageable);
+}
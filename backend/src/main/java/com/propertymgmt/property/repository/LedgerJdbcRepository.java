@@ -0,0 +1,308 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.dto.AccountKey;
+import com.propertymgmt.property.model.LedgerEntry.EntryType;
+import com.propertymgmt.property.model.LedgerEntry.SourceType;
+import com.propertymgmt.property.util.Money;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 业主账户分录的批量写入：追加分录并在同一事务内增量更新物化余额
+ */
+@Repository
+public class LedgerJdbcRepository {
+
+    private static final int IN_CLAUSE_SIZE = 500;
+
+    // 与 FeeBillFactory.location 生成的账单房屋描述一致
+    private static final String RESIDENT_LOCATION = "concat(r.building, ' ', r.unit, ' ', r.room_number)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LedgerJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 待记账的一笔分录
+     */
+    public record Posting(AccountKey account, EntryType entryType, SourceType sourceType,
+                          String reference, BigDecimal amount, LocalDateTime occurredAt) {
+    }
+
+    /**
+     * 物化余额与分录合计不一致的账户
+     */
+    public record Mismatch(Long accountId, String ownerName, String location, BigDecimal balance,
+                           BigDecimal computed) {
+    }
+
+    /**
+     * 追加分录并更新账户余额；每个账户只更新一次，且按 id 升序加锁避免死锁
+     */
+    public void post(List<Posting> postings) {
+        if (postings.isEmpty()) {
+            return;
+        }
+        Map<AccountKey, Long> accountIds = resolveAccounts(
+            postings.stream().map(Posting::account).distinct().toList());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate("""
+            insert into ledger_entries
+                (account_id, entry_type, source_type, reference, amount, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """, postings, FeeBillJdbcRepository.BATCH_SIZE, (ps, posting) -> {
+            ps.setLong(1, accountIds.get(posting.account()));
+            ps.setString(2, posting.entryType().name());
+            ps.setString(3, posting.sourceType().name());
+            ps.setString(4, posting.reference());
+            ps.setBigDecimal(5, posting.amount());
+            ps.setTimestamp(6, posting.occurredAt() != null ? Timestamp.valueOf(posting.occurredAt()) : now);
+            ps.setTimestamp(7, now);
+        });
+
+        // 每个账户：借方合计、贷方合计（分）与分录数
+        Map<Long, long[]> totals = new TreeMap<>();
+        for (Posting posting : postings) {
+            long[] sums = totals.computeIfAbsent(accountIds.get(posting.account()), id -> new long[3]);
+            int slot = posting.entryType() == EntryType.DEBIT ? 0 : 1;
+            sums[slot] = Money.add(sums[slot], Money.toCents(posting.amount()));
+            sums[2]++;
+        }
+        jdbcTemplate.batchUpdate("""
+            update owner_accounts
+            set balance = balance + ? - ?, total_debit = total_debit + ?, total_credit = total_credit + ?,
+                entry_count = entry_count + ?, updated_at = ?
+            where id = ?
+            """, new ArrayList<>(totals.entrySet()), FeeBillJdbcRepository.BATCH_SIZE, (ps, entry) -> {
+            long[] sums = entry.getValue();
+            BigDecimal debit = Money.toBigDecimal(sums[0]);
+            BigDecimal credit = Money.toBigDecimal(sums[1]);
+            ps.setBigDecimal(1, debit);
+            ps.setBigDecimal(2, credit);
+            ps.setBigDecimal(3, debit);
+            ps.setBigDecimal(4, credit);
+            ps.setLong(5, sums[2]);
+            ps.setTimestamp(6, now);
+            ps.setLong(7, entry.getKey());
+        });
+    }
+
+    /**
+     * 按户主姓名与房屋取账户 id，不存在的账户就地开户（关联姓名与房屋都相符的住户）
+     */
+    public Map<AccountKey, Long> resolveAccounts(Collection<AccountKey> accounts) {
+        Map<AccountKey, Long> ids = findAccountIds(accounts);
+        List<AccountKey> missing = accounts.stream().filter(key -> !ids.containsKey(key)).toList();
+        if (missing.isEmpty()) {
+            return ids;
+        }
+        String sql = """
+            insert into owner_accounts
+                (owner_name, location, resident_id, balance, total_debit, total_credit, entry_count,
+                 created_at, updated_at)
+            values (?, ?, (select min(r.id) from residents r where r.name = ? and %s = ?), 0, 0, 0, 0, ?, ?)
+            """.formatted(RESIDENT_LOCATION);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.batchUpdate(sql, missing, FeeBillJdbcRepository.BATCH_SIZE, (ps, key) -> {
+                ps.setString(1, key.ownerName());
+                ps.setString(2, key.location());
+                ps.setString(3, key.ownerName());
+                ps.setString(4, key.location());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            });
+        } catch (DuplicateKeyException ex) {
+            // 并发下部分账户已被其他事务开户，逐个补开
+            for (AccountKey key : findMissing(missing)) {
+                try {
+                    jdbcTemplate.update(sql, key.ownerName(), key.location(), key.ownerName(), key.location(),
+                        now, now);
+                } catch (DuplicateKeyException ignored) {
+                    // 已由其他事务创建
+                }
+            }
+        }
+        ids.putAll(findAccountIds(missing));
+        return ids;
+    }
+
+    private List<AccountKey> findMissing(List<AccountKey> accounts) {
+        Map<AccountKey, Long> existing = findAccountIds(accounts);
+        return accounts.stream().filter(key -> !existing.containsKey(key)).toList();
+    }
+
+    /**
+     * 按姓名分批查询（走唯一键的姓名前缀），只保留房屋也相符的账户
+     */
+    private Map<AccountKey, Long> findAccountIds(Collection<AccountKey> accounts) {
+        Set<AccountKey> wanted = new HashSet<>(accounts);
+        Map<AccountKey, Long> ids = new HashMap<>();
+        List<String> names = accounts.stream().map(AccountKey::ownerName).distinct().toList();
+        for (int from = 0; from < names.size(); from += IN_CLAUSE_SIZE) {
+            List<String> chunk = names.subList(from, Math.min(from + IN_CLAUSE_SIZE, names.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("select id, owner_name, location from owner_accounts where owner_name in ("
+                + placeholders + ")", rs -> {
+                    AccountKey key = new AccountKey(rs.getString("owner_name"), rs.getString("location"));
+                    if (wanted.contains(key)) {
+                        ids.put(key, rs.getLong("id"));
+                    }
+                }, chunk.toArray());
+        }
+        return ids;
+    }
+
+    /**
+     * 核对物化余额与分录合计
+     */
+    public List<Mismatch> findBalanceMismatches() {
+        return jdbcTemplate.query("""
+            select a.id, a.owner_name, a.location, a.balance, coalesce(e.computed, 0) as computed
+            from owner_accounts a
+            left join (
+                select account_id,
+                       sum(case when entry_type = 'DEBIT' then amount else -amount end) as computed
+                from ledger_entries
+                group by account_id
+            ) e on e.account_id = a.id
+            where a.balance <> coalesce(e.computed, 0)
+            order by a.id
+            """, (rs, rowNum) -> new Mismatch(
+            rs.getLong("id"),
+            rs.getString("owner_name"),
+            rs.getString("location"),
+            rs.getBigDecimal("balance"),
+            rs.getBigDecimal("computed")));
+    }
+
+    /**
+     * 从账单（含已计收的滞纳金）与缴费记录全量重建账户和分录，返回重建后的账户数。
+     * 账户按户主姓名 + 房屋描述（账单与缴费记录的 building）归集
+     */
+    public int rebuild() {
+        jdbcTemplate.update("delete from ledger_entries");
+        jdbcTemplate.update("delete from owner_accounts");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int accounts = jdbcTemplate.update("""
+            insert into owner_accounts
+                (owner_name, location, resident_id, balance, total_debit, total_credit, entry_count,
+                 created_at, updated_at)
+            select o.owner_name, o.building,
+                   (select min(r.id) from residents r where r.name = o.owner_name and %s = o.building),
+                   0, 0, 0, 0, ?, ?
+            from (
+                select owner_name, building from fee_bills
+                union
+                select owner_name, building from payments where status = 'SUCCESS'
+            ) o
+            """.formatted(RESIDENT_LOCATION), now, now);
+
+        // 借方：每张账单一笔
+        jdbcTemplate.update("""
+            insert into ledger_entries
+                (account_id, entry_type, source_type, reference, amount, created_at, updated_at)
+            select a.id, 'DEBIT', 'BILL', f.bill_number, f.amount, f.created_at, ?
+            from fee_bills f
+            join owner_accounts a on a.owner_name = f.owner_name and a.location = f.building
+            """, now);
+        // 借方：已计收的滞纳金，每张账单一笔（日常按业主、计收日合并入账，重建后只保留每张账单的累计额）
+        jdbcTemplate.update("""
+            insert into ledger_entries
+                (account_id, entry_type, source_type, reference, amount, created_at, updated_at)
+            select a.id, 'DEBIT', 'ADJUSTMENT', f.bill_number, f.late_fee, coalesce(f.updated_at, f.created_at), ?
+            from fee_bills f
+            join owner_accounts a on a.owner_name = f.owner_name and a.location = f.building
+            where f.late_fee > 0
+            """, now);
+        // 贷方：每笔成功缴费一笔
+        jdbcTemplate.update("""
+            insert into ledger_entries
+                (account_id, entry_type, source_type, reference, amount, created_at, updated_at)
+            select a.id, 'CREDIT', 'PAYMENT', p.order_number, p.amount, p.created_at, ?
+            from payments p
+            join owner_accounts a on a.owner_name = p.owner_name and a.location = p.building
+            where p.status = 'SUCCESS'
+            """, now);
+        // 贷方：已缴但没有缴费记录的账单（历史数据）按调整入账
+        jdbcTemplate.update("""
+            insert into ledger_entries
+                (account_id, entry_type, source_type, reference, amount, created_at, updated_at)
+            select a.id, 'CREDIT', 'ADJUSTMENT', f.bill_number, f.amount + coalesce(f.late_fee, 0),
+                   coalesce(f.updated_at, f.created_at), ?
+            from fee_bills f
+            join owner_accounts a on a.owner_name = f.owner_name and a.location = f.building
+            where f.status = 'PAID'
+              and not exists (
+                  select 1 from payments p where p.bill_id = f.id and p.status = 'SUCCESS'
+              )
+            """, now);
+
+        jdbcTemplate.update("""
+            update owner_accounts
+            set total_debit = coalesce((select sum(e.amount) from ledger_entries e
+                                        where e.account_id = owner_accounts.id and e.entry_type = 'DEBIT'), 0),
+                total_credit = coalesce((select sum(e.amount) from ledger_entries e
+                                         where e.account_id = owner_accounts.id and e.entry_type = 'CREDIT'), 0),
+                entry_count = (select count(*) from ledger_entries e where e.account_id = owner_accounts.id)
+            """);
+        jdbcTemplate.update("update owner_accounts set balance = total_debit - total_credit");
+        return accounts;
+    }
+
+    /**
+     * 早期按姓名建账时的姓名唯一键（仅含 owner_name 的唯一索引）会阻止同名业主分别开户，存在时删除，
+     * 返回是否删除过
+     */
+    public boolean dropOwnerNameUniqueKey() {
+        List<String> keys = jdbcTemplate.execute((ConnectionCallback<List<String>>) con -> {
+            Map<String, List<String>> columns = new HashMap<>();
+            try (ResultSet rs = con.getMetaData().getIndexInfo(con.getCatalog(), null, "owner_accounts", true, false)) {
+                while (rs.next()) {
+                    String index = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (index != null && column != null) {
+                        columns.computeIfAbsent(index, name -> new ArrayList<>()).add(column.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return columns.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(List.of("owner_name")))
+                .map(Map.Entry::getKey)
+                .toList();
+        });
+        for (String key : keys) {
+            jdbcTemplate.execute("alter table owner_accounts drop index " + key);
+        }
+        return !keys.isEmpty();
+    }
+
+    /**
+     * 早期按姓名建的账户没有房屋描述
+     */
+    public boolean hasAccountsWithoutLocation() {
+        Integer count = jdbcTemplate.queryForObject(
+            "select count(*) from owner_accounts where location is null or location = ''", Integer.class);
+        return count != null && count > 0;
+    }
+}
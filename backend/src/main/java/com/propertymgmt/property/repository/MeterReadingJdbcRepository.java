@@ -0,0 +1,205 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.repository.FeeBillJdbcRepository.BillingTarget;
+import com.propertymgmt.property.util.Areas;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 抄表读数批量写入与按账期计算用量
+ */
+@Repository
+public class MeterReadingJdbcRepository {
+
+    /**
+     * 某楼栋内本期有读数、房间有已入住住户且该住户尚无该收费类型账单的房间，带本期读数与该表之前最近一期读数。
+     * 上期读数按房间查找，与住户无关；同一房间有多条已入住记录时向最新一条出账
+     */
+    private static final String METERED_IN_BUILDING_SQL = """
+        select r.id, r.name, r.building, r.unit, r.room_number,
+               m.reading as current_reading, p.reading as previous_reading
+        from meter_readings m
+        join residents r on r.id = (
+            select max(o.id) from residents o
+            where o.building = m.building and o.unit = m.unit and o.room_number = m.room_number
+              and o.status = 'OCCUPIED')
+        left join meter_readings p
+          on p.fee_item_id = m.fee_item_id and p.building = m.building and p.unit = m.unit
+         and p.room_number = m.room_number
+         and p.period = (select max(q.period) from meter_readings q
+                         where q.fee_item_id = m.fee_item_id and q.building = m.building
+                           and q.unit = m.unit and q.room_number = m.room_number
+                           and q.period < m.period)
+        where m.fee_item_id = ? and m.period = ? and m.building = ?
+          and not exists (
+              select 1 from fee_bills f
+              where f.period = ? and f.type = ? and f.owner_name = r.name
+                and f.building = concat(r.building, ' ', r.unit, ' ', r.room_number)
+          )
+        order by r.id
+        """;
+
+    // 用量 = 本期读数 - 上期读数；没有上期读数时无法计算
+    private static final RowMapper<BillingTarget> METERED_TARGET_MAPPER = (rs, rowNum) -> {
+        long current = rs.getLong("current_reading");
+        long previous = rs.getLong("previous_reading");
+        long usage = rs.wasNull() ? Areas.MISSING : current - previous;
+        return new BillingTarget(rs.getLong("id"), rs.getString("name"), rs.getString("building"),
+            rs.getString("unit"), rs.getString("room_number"), usage);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MeterReadingJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 一块表所在的房间，取值与住户登记的楼栋、单元、房号一致
+     */
+    public record Room(String building, String unit, String roomNumber) {
+    }
+
+    /**
+     * 一个房间的本期读数（1/100 单位）
+     */
+    public record Reading(Room room, long readingHundredths) {
+    }
+
+    /**
+     * 已登记住户的房间索引（键为 {@link #roomKey}），用于把录入的楼栋、单元、房号对应到住户登记的原文
+     */
+    public Map<String, Room> findRoomsByKey() {
+        Map<String, Room> rooms = new HashMap<>();
+        jdbcTemplate.query("select distinct building, unit, room_number from residents", rs -> {
+            Room room = new Room(rs.getString("building"), rs.getString("unit"), rs.getString("room_number"));
+            rooms.put(roomKey(room.building(), room.unit(), room.roomNumber()), room);
+        });
+        return rooms;
+    }
+
+    public static String roomKey(String building, String unit, String roomNumber) {
+        return building.trim() + '|' + unit.trim() + '|' + roomNumber.trim();
+    }
+
+    /**
+     * 给定住户 id 所在的房间，不存在的住户不在结果中
+     */
+    public Map<Long, Room> findRoomsByResidentIds(Collection<Long> residentIds) {
+        List<Long> ids = new ArrayList<>(residentIds);
+        Map<Long, Room> rooms = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += FeeBillJdbcRepository.BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + FeeBillJdbcRepository.BATCH_SIZE, ids.size()));
+            jdbcTemplate.query("select id, building, unit, room_number from residents where id in ("
+                + placeholders(chunk.size()) + ")", rs -> {
+                rooms.put(rs.getLong("id"),
+                    new Room(rs.getString("building"), rs.getString("unit"), rs.getString("room_number")));
+            }, chunk.toArray());
+        }
+        return rooms;
+    }
+
+    /**
+     * 写入一批读数：已有同账期读数的房间更新，其余插入。返回 {插入数, 更新数}
+     */
+    public int[] upsert(long feeItemId, int period, LocalDate readOn, List<Reading> readings) {
+        int inserted = 0;
+        int updated = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date readDate = readOn != null ? Date.valueOf(readOn) : null;
+        for (int from = 0; from < readings.size(); from += FeeBillJdbcRepository.BATCH_SIZE) {
+            List<Reading> chunk = readings.subList(from, Math.min(from + FeeBillJdbcRepository.BATCH_SIZE, readings.size()));
+            List<Object> args = new ArrayList<>(chunk.size() * 3 + 2);
+            args.add(feeItemId);
+            args.add(period);
+            for (Reading reading : chunk) {
+                args.add(reading.room().building());
+                args.add(reading.room().unit());
+                args.add(reading.room().roomNumber());
+            }
+            Set<Room> existing = new HashSet<>(jdbcTemplate.query(
+                "select building, unit, room_number from meter_readings where fee_item_id = ? and period = ?"
+                    + " and (building, unit, room_number) in ("
+                    + String.join(",", Collections.nCopies(chunk.size(), "(?, ?, ?)")) + ")",
+                (rs, rowNum) -> new Room(rs.getString("building"), rs.getString("unit"), rs.getString("room_number")),
+                args.toArray()));
+
+            List<Reading> updates = new ArrayList<>(existing.size());
+            List<Reading> inserts = new ArrayList<>(chunk.size() - existing.size());
+            for (Reading reading : chunk) {
+                (existing.contains(reading.room()) ? updates : inserts).add(reading);
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("""
+                    update meter_readings set reading = ?, read_on = ?, updated_at = ?
+                    where fee_item_id = ? and building = ? and unit = ? and room_number = ? and period = ?
+                    """, updates, updates.size(), (ps, reading) -> {
+                    ps.setLong(1, reading.readingHundredths());
+                    ps.setDate(2, readDate);
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, feeItemId);
+                    ps.setString(5, reading.room().building());
+                    ps.setString(6, reading.room().unit());
+                    ps.setString(7, reading.room().roomNumber());
+                    ps.setInt(8, period);
+                });
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate("""
+                    insert into meter_readings
+                        (building, unit, room_number, fee_item_id, period, reading, read_on, created_at, updated_at)
+                    values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    """, inserts, inserts.size(), (ps, reading) -> {
+                    ps.setString(1, reading.room().building());
+                    ps.setString(2, reading.room().unit());
+                    ps.setString(3, reading.room().roomNumber());
+                    ps.setLong(4, feeItemId);
+                    ps.setInt(5, period);
+                    ps.setLong(6, reading.readingHundredths());
+                    ps.setDate(7, readDate);
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                });
+            }
+            inserted += inserts.size();
+            updated += updates.size();
+        }
+        return new int[] {inserted, updated};
+    }
+
+    /**
+     * 按楼栋取需要抄表出账的住户，计费数量为本期用量
+     */
+    public List<BillingTarget> findMeteredBillingTargets(long feeItemId, String type, int period, String building) {
+        return jdbcTemplate.query(METERED_IN_BUILDING_SQL, METERED_TARGET_MAPPER,
+            feeItemId, period, building, period, type);
+    }
+
+    /**
+     * 与 {@link #findMeteredBillingTargets} 相同的查询，以只进游标逐行回调（用于试算）
+     */
+    public void streamMeteredBillingTargets(long feeItemId, String type, int period, String building, int fetchSize,
+                                            Consumer<BillingTarget> consumer) {
+        FeeBillJdbcRepository.stream(jdbcTemplate, METERED_IN_BUILDING_SQL,
+            List.of(feeItemId, period, building, period, type), fetchSize,
+            rs -> consumer.accept(METERED_TARGET_MAPPER.mapRow(rs, 0)));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,14 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.MeterReading;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MeterReadingRepository extends JpaRepository<MeterReading, Long> {
+
+    List<MeterReading> findTop24ByFeeItemIdAndBuildingAndUnitAndRoomNumberOrderByPeriodDesc(Long feeItemId, String building,
+                                                                                            String unit,
+                                                                                            String roomNumber);
+
+    boolean existsByFeeItemIdAndPeriod(Long feeItemId, Integer period);
+}
@@ -0,0 +1,26 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.OwnerAccount;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface OwnerAccountRepository extends JpaRepository<OwnerAccount, Long> {
+
+    Optional<OwnerAccount> findByOwnerNameAndLocation(String ownerName, String location);
+
+    List<OwnerAccount> findByOwnerNameOrderByIdAsc(String ownerName);
+
+    /**
+     * 欠费最多的账户（走 balance 索引倒序扫描）
+     */
+    List<OwnerAccount> findByBalanceGreaterThanOrderByBalanceDesc(BigDecimal balance, Pageable pageable);
+
+    @Query("select coalesce(sum(a.balance), 0) from OwnerAccount a where a.balance > 0")
+    BigDecimal sumArrears();
+
+    long countByBalanceGreaterThan(BigDecimal balance);
+}
@@ -0,0 +1,90 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.dto.FeeQueryFilter;
+import com.propertymgmt.property.model.Payment;
+import com.propertymgmt.property.util.BillingPeriods;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+/**
+ * 缴费记录批量写入
+ */
+@Repository
+public class PaymentJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PaymentJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 按 FeeBillJdbcRepository.BATCH_SIZE 分批插入缴费记录，createdAt 为空时取当前时间
+     */
+    public void batchInsert(List<Payment> payments) {
+        String sql = """
+            insert into payments
+                (order_number, bill_id, owner_name, building, amount, type, pay_method, status,
+                 created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, payments, FeeBillJdbcRepository.BATCH_SIZE, (ps, payment) -> {
+            Timestamp createdAt = payment.getCreatedAt() != null ? Timestamp.valueOf(payment.getCreatedAt()) : now;
+            ps.setString(1, payment.getOrderNumber());
+            ps.setObject(2, payment.getBillId());
+            ps.setString(3, payment.getOwnerName());
+            ps.setString(4, payment.getBuilding());
+            ps.setBigDecimal(5, payment.getAmount());
+            ps.setString(6, payment.getType());
+            ps.setString(7, payment.getPayMethod());
+            ps.setString(8, payment.getStatus().name());
+            ps.setTimestamp(9, createdAt);
+            ps.setTimestamp(10, createdAt);
+        });
+    }
+
+    /**
+     * 按筛选条件以只进游标逐行读取缴费记录（账期按缴费发生月份匹配）
+     */
+    public void streamPayments(FeeQueryFilter filter, int fetchSize, RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder("""
+            select id, order_number, bill_id, owner_name, building, amount, type, pay_method, status, created_at
+            from payments
+            where 1 = 1
+            """);
+        List<Object> args = new ArrayList<>();
+        if (StringUtils.hasText(filter.getPeriod())) {
+            int period = BillingPeriods.requireKey(filter.getPeriod());
+            YearMonth month = YearMonth.of(period / 100, period % 100);
+            sql.append(" and created_at >= ? and created_at < ?");
+            args.add(Timestamp.valueOf(month.atDay(1).atStartOfDay()));
+            args.add(Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()));
+        }
+        if (StringUtils.hasText(filter.getStatus())) {
+            sql.append(" and status = ?");
+            args.add(FeeSpecifications.parseStatus(Payment.PaymentStatus.class, filter.getStatus()).name());
+        }
+        if (StringUtils.hasText(filter.getOwnerName())) {
+            sql.append(" and owner_name = ?");
+            args.add(filter.getOwnerName().trim());
+        }
+        if (StringUtils.hasText(filter.getBuilding())) {
+            sql.append(" and building like ?");
+            args.add(filter.getBuilding().trim() + "%");
+        }
+        if (StringUtils.hasText(filter.getType())) {
+            sql.append(" and type = ?");
+            args.add(filter.getType().trim());
+        }
+        sql.append(" order by id");
+        FeeBillJdbcRepository.stream(jdbcTemplate, sql.toString(), args, fetchSize, handler);
+    }
+}
@@ -0,0 +1,136 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.model.PropertyUnit;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 房产登记的批量写入与读取
+ */
+@Repository
+public class PropertyUnitJdbcRepository {
+
+    private static final RowMapper<UnitRow> UNIT_ROW_MAPPER = (rs, rowNum) -> new UnitRow(
+        rs.getLong("id"),
+        PropertyUnit.Level.valueOf(rs.getString("level")),
+        rs.getObject("parent_id", Long.class),
+        rs.getString("name"),
+        rs.getString("path"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PropertyUnitJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 登记节点（只含建树所需字段）
+     */
+    public record UnitRow(long id, PropertyUnit.Level level, Long parentId, String name, String path) {
+    }
+
+    /**
+     * 按住户表逐级补登记尚未登记的楼栋、单元、房间，返回新增节点数
+     */
+    public int registerFromResidents() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = jdbcTemplate.update("""
+            insert into property_units (level, parent_id, name, path, created_at, updated_at)
+            select 'BUILDING', null, r.b, r.b, ?, ?
+            from (select distinct trim(building) as b from residents where trim(building) <> '') r
+            where not exists (select 1 from property_units p where p.path = r.b)
+            """, now, now);
+        inserted += jdbcTemplate.update("""
+            insert into property_units (level, parent_id, name, path, created_at, updated_at)
+            select 'UNIT', (select p.id from property_units p where p.path = r.b), r.u, concat(r.b, '/', r.u), ?, ?
+            from (
+                select distinct trim(building) as b, trim(unit) as u from residents
+                where trim(building) <> '' and trim(unit) <> ''
+            ) r
+            where not exists (select 1 from property_units p where p.path = concat(r.b, '/', r.u))
+            """, now, now);
+        inserted += jdbcTemplate.update("""
+            insert into property_units (level, parent_id, name, path, created_at, updated_at)
+            select 'ROOM', (select p.id from property_units p where p.path = concat(r.b, '/', r.u)), r.n,
+                   concat(r.b, '/', r.u, '/', r.n), ?, ?
+            from (
+                select distinct trim(building) as b, trim(unit) as u, trim(room_number) as n from residents
+                where trim(building) <> '' and trim(unit) <> '' and trim(room_number) <> ''
+            ) r
+            where not exists (select 1 from property_units p where p.path = concat(r.b, '/', r.u, '/', r.n))
+            """, now, now);
+        return inserted;
+    }
+
+    /**
+     * 逐级登记一个房间（已登记的层级跳过），返回从楼栋到最末一级的节点
+     */
+    public List<UnitRow> register(String building, String unit, String roomNumber) {
+        String[] names = {building, unit, roomNumber};
+        PropertyUnit.Level[] levels = PropertyUnit.Level.values();
+        List<UnitRow> rows = new ArrayList<>(names.length);
+        Long parentId = null;
+        for (int i = 0; i < names.length && names[i] != null && !names[i].isBlank(); i++) {
+            String path = PropertyUnit.pathOf(Arrays.copyOf(names, i + 1));
+            UnitRow row = findByPath(path);
+            if (row == null) {
+                insert(levels[i], parentId, names[i].trim(), path);
+                row = findByPath(path);
+                if (row == null) {
+                    throw new ConflictException("房产登记冲突，请稍后重试");
+                }
+            }
+            rows.add(row);
+            parentId = row.id();
+        }
+        return rows;
+    }
+
+    public void streamUnits(int fetchSize, RowCallbackHandler handler) {
+        FeeBillJdbcRepository.stream(jdbcTemplate,
+            "select id, level, parent_id, name, path from property_units order by id", List.of(), fetchSize, handler);
+    }
+
+    public void streamResidents(int fetchSize, RowCallbackHandler handler) {
+        FeeBillJdbcRepository.stream(jdbcTemplate,
+            "select id, building, unit, room_number, status from residents", List.of(), fetchSize, handler);
+    }
+
+    /**
+     * 未缴账单；amount 为本金加已计收的滞纳金
+     */
+    public void streamUnpaidBills(int fetchSize, RowCallbackHandler handler) {
+        FeeBillJdbcRepository.stream(jdbcTemplate, """
+            select bill_number, building, amount + coalesce(late_fee, 0) as amount
+            from fee_bills
+            where status in ('PENDING', 'OVERDUE')
+            """, List.of(), fetchSize, handler);
+    }
+
+    private UnitRow findByPath(String path) {
+        List<UnitRow> rows = jdbcTemplate.query(
+            "select id, level, parent_id, name, path from property_units where path = ?", UNIT_ROW_MAPPER, path);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private void insert(PropertyUnit.Level level, Long parentId, String name, String path) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update("""
+                insert into property_units (level, parent_id, name, path, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?)
+                """, level.name(), parentId, name, path, now, now);
+        } catch (DuplicateKeyException ex) {
+            // 并发下其他事务已登记该路径
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.PropertyUnit;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PropertyUnitRepository extends JpaRepository<PropertyUnit, Long> {
+
+    Optional<PropertyUnit> findByPath(String path);
+
+    boolean existsByPath(String path);
+}
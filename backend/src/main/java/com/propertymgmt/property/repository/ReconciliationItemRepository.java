@@ -0,0 +1,13 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.ReconciliationItem;
+import com.propertymgmt.property.model.ReconciliationItem.ItemType;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReconciliationItemRepository extends JpaRepository<ReconciliationItem, Long> {
+
+    List<ReconciliationItem> findByReconciliationIdAndTypeAndIdGreaterThanOrderByIdAsc(
+        Long reconciliationId, ItemType type, Long afterId, Pageable pageable);
+}
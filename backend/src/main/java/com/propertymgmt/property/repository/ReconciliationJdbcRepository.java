@@ -0,0 +1,68 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.ReconciliationItem;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+/**
+ * 对账：读取待核对的缴费记录、批量写入差异明细
+ */
+@Repository
+public class ReconciliationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReconciliationJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 以只进游标读取某月（按缴费发生时间）成功的缴费记录，只取订单号、id 与金额
+     */
+    public void streamPayments(YearMonth month, String payMethod, int fetchSize, RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder("""
+            select id, order_number, amount
+            from payments
+            where status = 'SUCCESS' and created_at >= ? and created_at < ?
+            """);
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(month.atDay(1).atStartOfDay()));
+        args.add(Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()));
+        if (StringUtils.hasText(payMethod)) {
+            sql.append(" and pay_method = ?");
+            args.add(payMethod.trim());
+        }
+        FeeBillJdbcRepository.stream(jdbcTemplate, sql.toString(), args, fetchSize, handler);
+    }
+
+    /**
+     * 按 FeeBillJdbcRepository.BATCH_SIZE 分批写入差异明细
+     */
+    public void insertItems(List<ReconciliationItem> items) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+            insert into reconciliation_items
+                (reconciliation_id, type, line_number, order_number, statement_amount,
+                 payment_id, payment_amount, detail, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """, items, FeeBillJdbcRepository.BATCH_SIZE, (ps, item) -> {
+            ps.setLong(1, item.getReconciliationId());
+            ps.setString(2, item.getType().name());
+            ps.setObject(3, item.getLineNumber());
+            ps.setString(4, item.getOrderNumber());
+            ps.setBigDecimal(5, item.getStatementAmount());
+            ps.setObject(6, item.getPaymentId());
+            ps.setBigDecimal(7, item.getPaymentAmount());
+            ps.setString(8, item.getDetail());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+}
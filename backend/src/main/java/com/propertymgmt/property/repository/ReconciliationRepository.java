@@ -0,0 +1,10 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.Reconciliation;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReconciliationRepository extends JpaRepository<Reconciliation, Long> {
+
+    List<Reconciliation> findTop20ByOrderByIdDesc();
+}
@@ -0,0 +1,71 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.Resident;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 住户批量读取（绕过 JPA 实体管理）
+ */
+@Repository
+public class ResidentJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResidentJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 以只进游标按 id 顺序读取住户的检索字段与创建时间（装载检索索引用）
+     */
+    public void streamSearchFields(int fetchSize, RowCallbackHandler handler) {
+        FeeBillJdbcRepository.stream(jdbcTemplate,
+            "select id, name, phone, building, unit, room_number, status, created_at from residents order by id",
+            List.of(), fetchSize, handler);
+    }
+
+    /**
+     * 以只进游标读取住户的楼栋、单元、房号与姓名（批量导入查重用）
+     */
+    public void streamIdentities(int fetchSize, RowCallbackHandler handler) {
+        FeeBillJdbcRepository.stream(jdbcTemplate,
+            "select building, unit, room_number, name from residents", List.of(), fetchSize, handler);
+    }
+
+    /**
+     * 按 BATCH_SIZE 分批插入住户（不回填 id，也不触发实体监听器）
+     */
+    public void batchInsert(List<Resident> residents) {
+        String sql = """
+            insert into residents
+                (name, phone, id_card, building, unit, room_number, area, area_value, residence_type, status,
+                 move_in_date, emergency_contact, emergency_phone, remark, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, residents, FeeBillJdbcRepository.BATCH_SIZE, (ps, resident) -> {
+            ps.setString(1, resident.getName());
+            ps.setString(2, resident.getPhone());
+            ps.setString(3, resident.getIdCard());
+            ps.setString(4, resident.getBuilding());
+            ps.setString(5, resident.getUnit());
+            ps.setString(6, resident.getRoomNumber());
+            ps.setString(7, resident.getArea());
+            ps.setBigDecimal(8, resident.getAreaValue());
+            ps.setString(9, resident.getResidenceType() != null ? resident.getResidenceType().name() : null);
+            ps.setString(10, resident.getStatus().name());
+            ps.setDate(11, resident.getMoveInDate() != null ? Date.valueOf(resident.getMoveInDate()) : null);
+            ps.setString(12, resident.getEmergencyContact());
+            ps.setString(13, resident.getEmergencyPhone());
+            ps.setString(14, resident.getRemark());
+            ps.setTimestamp(15, now);
+            ps.setTimestamp(16, now);
+        });
+    }
+}
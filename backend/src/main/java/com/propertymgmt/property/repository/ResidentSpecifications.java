@@ -0,0 +1,36 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.Resident;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+/**
+ * 住户列表的查询条件（键集分页在检索索引未就绪时使用），与 {@link ResidentRepository#searchByKeyword} 的匹配规则一致
+ */
+public final class ResidentSpecifications {
+
+    private ResidentSpecifications() {
+    }
+
+    public static Specification<Resident> residents(String keyword, Resident.Status status) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (StringUtils.hasText(keyword)) {
+                String pattern = "%" + keyword.trim().toLowerCase(Locale.ROOT) + "%";
+                predicates.add(cb.or(
+                    cb.like(cb.lower(root.get("name")), pattern),
+                    cb.like(cb.lower(root.get("phone")), pattern),
+                    cb.like(cb.lower(root.get("building")), pattern),
+                    cb.like(cb.lower(root.get("roomNumber")), pattern)));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
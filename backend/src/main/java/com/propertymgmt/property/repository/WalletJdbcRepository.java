@@ -0,0 +1,161 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.WalletTransaction;
+import com.propertymgmt.property.util.Money;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 钱包余额的整体更新与流水批量写入
+ */
+@Repository
+public class WalletJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WalletJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 有余额的钱包（扣款候选）；业主姓名与房屋取自钱包所属住户的当前资料
+     */
+    public record FundedWallet(long id, String ownerName, String building, String unit, String roomNumber,
+                               BigDecimal balance) {
+    }
+
+    /**
+     * 业主姓名 + 房屋（楼栋、单元、房号）
+     */
+    public record OwnerKey(String ownerName, String building, String unit, String roomNumber) {
+    }
+
+    /**
+     * 取得住户的钱包 id，不存在时创建；业主姓名随住户资料同步
+     */
+    public long ensureWallet(long residentId, String ownerName) {
+        List<Long> ids = jdbcTemplate.queryForList(
+            "select id from wallets where resident_id = ?", Long.class, residentId);
+        if (ids.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                jdbcTemplate.update("""
+                    insert into wallets
+                        (resident_id, owner_name, balance, total_deposited, total_debited, created_at, updated_at)
+                    values (?, ?, 0, 0, 0, ?, ?)
+                    """, residentId, ownerName, now, now);
+            } catch (DuplicateKeyException ex) {
+                // 并发创建，使用已存在的钱包
+            }
+            ids = jdbcTemplate.queryForList("select id from wallets where resident_id = ?", Long.class, residentId);
+        }
+        long walletId = ids.get(0);
+        jdbcTemplate.update("update wallets set owner_name = ? where id = ? and owner_name <> ?",
+            ownerName, walletId, ownerName);
+        return walletId;
+    }
+
+    /**
+     * 预存入账，返回入账后的余额
+     */
+    public BigDecimal deposit(long walletId, BigDecimal amount) {
+        jdbcTemplate.update("""
+            update wallets
+            set balance = balance + ?, total_deposited = total_deposited + ?, updated_at = ?
+            where id = ?
+            """, amount, amount, Timestamp.valueOf(LocalDateTime.now()), walletId);
+        return jdbcTemplate.queryForObject("select balance from wallets where id = ?", BigDecimal.class, walletId);
+    }
+
+    /**
+     * 按 id 顺序锁定 afterId 之后的一段有余额的钱包及其住户（键集分页，锁持有到事务结束）；
+     * 住户已删除的钱包无法对应账单，不在候选之列
+     */
+    public List<FundedWallet> lockFundedWallets(long afterId, int limit) {
+        return jdbcTemplate.query("""
+            select w.id, r.name, r.building, r.unit, r.room_number, w.balance
+            from wallets w
+            join residents r on r.id = w.resident_id
+            where w.balance > 0 and w.id > ?
+            order by w.id
+            limit ?
+            for update
+            """, (rs, rowNum) -> new FundedWallet(rs.getLong("id"), rs.getString("name"), rs.getString("building"),
+            rs.getString("unit"), rs.getString("room_number"), rs.getBigDecimal("balance")), afterId, limit);
+    }
+
+    /**
+     * 给定业主姓名中，同一姓名 + 房屋对应多个钱包的组合（无法确定账单应由哪个钱包扣款）
+     */
+    public List<OwnerKey> findSharedOwnerKeys(Collection<String> ownerNames) {
+        if (ownerNames.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(ownerNames.size(), "?"));
+        return jdbcTemplate.query("""
+            select r.name, r.building, r.unit, r.room_number
+            from wallets w
+            join residents r on r.id = w.resident_id
+            where r.name in (%s)
+            group by r.name, r.building, r.unit, r.room_number
+            having count(*) > 1
+            """.formatted(placeholders), (rs, rowNum) -> new OwnerKey(rs.getString("name"),
+            rs.getString("building"), rs.getString("unit"), rs.getString("room_number")), ownerNames.toArray());
+    }
+
+    /**
+     * 批量扣减余额（金额以分表示）：每个钱包一条带余额条件的更新，返回实际扣减成功的钱包数
+     */
+    public int debit(Map<Long, Long> amounts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate("""
+            update wallets
+            set balance = balance - ?, total_debited = total_debited + ?, updated_at = ?
+            where id = ? and balance >= ?
+            """, new ArrayList<>(amounts.entrySet()), FeeBillJdbcRepository.BATCH_SIZE, (ps, entry) -> {
+            BigDecimal amount = Money.toBigDecimal(entry.getValue());
+            ps.setBigDecimal(1, amount);
+            ps.setBigDecimal(2, amount);
+            ps.setTimestamp(3, now);
+            ps.setLong(4, entry.getKey());
+            ps.setBigDecimal(5, amount);
+        });
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                updated += count;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 按 FeeBillJdbcRepository.BATCH_SIZE 分批写入钱包流水
+     */
+    public void insertTransactions(List<WalletTransaction> transactions) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+            insert into wallet_transactions
+                (wallet_id, type, amount, balance_after, bill_id, reference, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """, transactions, FeeBillJdbcRepository.BATCH_SIZE, (ps, tx) -> {
+            ps.setLong(1, tx.getWalletId());
+            ps.setString(2, tx.getType().name());
+            ps.setBigDecimal(3, tx.getAmount());
+            ps.setBigDecimal(4, tx.getBalanceAfter());
+            ps.setObject(5, tx.getBillId());
+            ps.setString(6, tx.getReference());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+}
@@ -0,0 +1,10 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.Wallet;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface WalletRepository extends JpaRepository<Wallet, Long> {
+
+    Optional<Wallet> findByResidentId(Long residentId);
+}
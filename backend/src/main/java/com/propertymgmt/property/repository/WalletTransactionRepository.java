@@ -0,0 +1,11 @@
+package com.propertymgmt.property.repository;
+
+import com.propertymgmt.property.model.WalletTransaction;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface WalletTransactionRepository extends JpaRepository<WalletTransaction, Long> {
+
+    List<WalletTransaction> findByWalletIdOrderByIdDesc(Long walletId, Pageable pageable);
+}
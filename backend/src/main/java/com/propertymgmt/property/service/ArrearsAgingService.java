@@ -0,0 +1,22 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.dto.AgingReport;
+import com.propertymgmt.property.model.FeeBill;
+import java.util.Collection;
+
+public interface ArrearsAgingService {
+    // 增量维护（在调用方事务内执行）
+    void recordBills(Collection<FeeBill> bills);
+    void recordBillsPaid(Collection<FeeBill> bills);
+    // 计收的滞纳金计入账龄行欠费，账单数不变；building 为楼栋（见 Buildings）
+    void recordLateFee(int period, String building, String feeType, long amountCents);
+
+    // 查询
+    AgingReport getReport(String building, String feeType);
+
+    // 按当前日期迁移账龄段，返回迁移行数
+    int rebucket();
+
+    // 全量重建，返回重建后的行数
+    int rebuild();
+}
@@ -0,0 +1,9 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.model.BillGenerationJob;
+
+public interface BillGenerationJobService {
+    BillGenerationJob submit(Long feeItemId, String billingPeriod);
+    BillGenerationJob findById(Long id);
+    BillGenerationJob resume(Long id);
+}
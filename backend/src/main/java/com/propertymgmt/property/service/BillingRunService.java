@@ -0,0 +1,8 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.dto.BillingRunResult;
+
+public interface BillingRunService {
+    // 为账期对全部启用的收费项目出账；dryRun 为 true 时只试算不写入
+    BillingRunResult run(String billingPeriod, boolean dryRun);
+}
@@ -0,0 +1,12 @@
+package com.propertymgmt.property.service;
+
+public interface BusinessNumberService {
+    // 账单编号，如 B20251018093015001000123
+    String nextBillNumber();
+
+    // 缴费订单号（无前缀）
+    String nextPaymentNumber();
+
+    // 报修单号，如 R20251018093015001000007
+    String nextRepairOrderNumber();
+}
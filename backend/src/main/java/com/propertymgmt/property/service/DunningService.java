@@ -0,0 +1,12 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.model.DunningRun;
+import java.util.List;
+
+public interface DunningService {
+    // 提交一次催缴（后台执行），同一时间只允许一个批次
+    DunningRun start();
+
+    DunningRun findById(Long id);
+    List<DunningRun> findRecent();
+}
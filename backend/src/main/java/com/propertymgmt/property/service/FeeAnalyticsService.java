@@ -0,0 +1,19 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.dto.FeePivot;
+import com.propertymgmt.property.model.FeeBill;
+import java.util.Collection;
+
+public interface FeeAnalyticsService {
+    // 增量维护（调用方事务提交后才生效）
+    void recordBills(Collection<FeeBill> bills);
+    void recordBillsPaid(Collection<FeeBill> bills);
+    // 计收滞纳金后的账单（应缴金额为本金加累计滞纳金）
+    void recordLateFees(Collection<FeeBill> bills);
+
+    // 透视查询：按行维度（可选列维度）汇总应收、已缴、欠费与缴费率
+    FeePivot pivot(String rows, String columns, String building, String feeType, String from, String to);
+
+    // 从账单表重新装载，返回装载的账单数
+    int reload();
+}
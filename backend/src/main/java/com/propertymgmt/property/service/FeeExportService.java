@@ -0,0 +1,16 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.dto.FeeQueryFilter;
+import com.propertymgmt.property.util.ExportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface FeeExportService {
+    // 校验筛选条件（在写出响应头之前调用）
+    void validateBillFilter(FeeQueryFilter filter);
+    void validatePaymentFilter(FeeQueryFilter filter);
+
+    // 流式导出
+    long exportBills(FeeQueryFilter filter, ExportFormat format, OutputStream out) throws IOException;
+    long exportPayments(FeeQueryFilter filter, ExportFormat format, OutputStream out) throws IOException;
+}
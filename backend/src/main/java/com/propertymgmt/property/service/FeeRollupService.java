@@ -0,0 +1,23 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.dto.FeeStatistics;
+import com.propertymgmt.property.model.FeeBill;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+
+public interface FeeRollupService {
+    // 增量维护（金额以分表示，见 Money）
+    void recordBilled(int period, String feeType, long count, long amountCents);
+    void recordBillPaid(int period, String feeType, long amountCents);
+    // 已出账账单上计收的滞纳金计入该账期应收，账单数不变
+    void recordLateFee(int period, String feeType, long amountCents);
+    void recordPaymentReceived(LocalDateTime paidAt, String feeType, long amountCents);
+    void recordBillsPaid(Collection<FeeBill> bills, LocalDateTime paidAt);
+
+    // 查询
+    FeeStatistics getStatistics(YearMonth month);
+
+    // 全量重建，返回重建后的汇总行数
+    int rebuild();
+}
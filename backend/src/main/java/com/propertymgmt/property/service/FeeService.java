@@ -1,8 +1,13 @@
 package com.propertymgmt.property.service;
 
+import com.propertymgmt.property.dto.BatchPaymentReceipt;
+import com.propertymgmt.property.dto.BatchPaymentRequest;
 import com.propertymgmt.property.dto.BillRequest;
+import com.propertymgmt.property.dto.CursorPage;
 import com.propertymgmt.property.dto.FeeItemRequest;
+import com.propertymgmt.property.dto.FeeQueryFilter;
 import com.propertymgmt.property.dto.FeeStatistics;
+import com.propertymgmt.property.dto.GenerateBillsResult;
 import com.propertymgmt.property.dto.PaymentRequest;
 import com.propertymgmt.property.model.FeeBill;
 import com.propertymgmt.property.model.FeeItem;
@@ -11,13 +16,16 @@ import java.util.List;
 
 public interface FeeService {
     // 账单管理
-    List<FeeBill> findAllBills();
+    List<FeeBill> findBills(FeeQueryFilter filter);
+    CursorPage<FeeBill> findBillPage(FeeQueryFilter filter, String cursor, int size);
     FeeBill findBillById(Long id);
     FeeBill createBill(BillRequest request);
 
     // 缴费记录
-    List<Payment> findAllPayments();
+    List<Payment> findPayments(FeeQueryFilter filter);
+    CursorPage<Payment> findPaymentPage(FeeQueryFilter filter, String cursor, int size);
     Payment createPayment(PaymentRequest request);
+    BatchPaymentReceipt createBatchPayment(BatchPaymentRequest request);
 
     // 收费项目
     List<FeeItem> findAllFeeItems();
@@ -28,8 +36,9 @@ public interface FeeService {
     FeeItem toggleFeeItemStatus(Long id);
 
     // 批量生成账单
-    List<FeeBill> generateBillsFromFeeItem(Long feeItemId, String billingPeriod);
+    GenerateBillsResult generateBillsFromFeeItem(Long feeItemId, String billingPeriod);
 
     // 统计
     FeeStatistics getStatistics();
+    int rebuildStatistics();
 }
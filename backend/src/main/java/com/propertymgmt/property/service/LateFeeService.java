@@ -0,0 +1,15 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.model.LateFeeRun;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LateFeeService {
+    // 计收某一日的滞纳金，每个计收日至多一次
+    LateFeeRun accrue(LocalDate accrualDate);
+
+    // 从上次计收日的次日补计到今天，返回新增的批次
+    List<LateFeeRun> accrueDue();
+
+    List<LateFeeRun> findRecent();
+}
@@ -0,0 +1,30 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.dto.AccountKey;
+import com.propertymgmt.property.dto.ArrearsSummary;
+import com.propertymgmt.property.dto.CursorPage;
+import com.propertymgmt.property.dto.LedgerVerification;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.LedgerEntry;
+import com.propertymgmt.property.model.OwnerAccount;
+import com.propertymgmt.property.model.Payment;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+public interface LedgerService {
+    // 记账（在调用方事务内执行）
+    void recordBills(Collection<FeeBill> bills);
+    void recordPayments(Collection<Payment> payments);
+    // 某日计收的滞纳金，按业主账户各记一笔借方（金额以分表示，见 Money）
+    void recordLateFees(Map<AccountKey, Long> centsByAccount, LocalDate accrualDate);
+
+    // 查询：location 为房屋描述，业主只有一个账户时可省略
+    OwnerAccount getAccount(String ownerName, String location);
+    CursorPage<LedgerEntry> getEntries(String ownerName, String location, String cursor, int size);
+    ArrearsSummary getArrearsSummary(int top);
+
+    // 核对与重建
+    LedgerVerification verify();
+    int rebuild();
+}
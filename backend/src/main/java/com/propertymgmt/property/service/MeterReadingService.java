@@ -0,0 +1,19 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.dto.MeterIngestResult;
+import com.propertymgmt.property.dto.MeterReadingBatchRequest;
+import com.propertymgmt.property.model.MeterReading;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MeterReadingService {
+    // 追加一批读数，同一房间同一账期重复提交时以最后一次为准
+    MeterIngestResult append(MeterReadingBatchRequest request);
+
+    // 导入 CSV 读数（楼栋、单元、房号、读数，或住户ID、读数）
+    MeterIngestResult importCsv(InputStream csv, Long feeItemId, String billingPeriod, LocalDate readOn);
+
+    // 住户所在房间某表最近的读数（含此前住户期间的读数），按账期倒序
+    List<MeterReading> findHistory(Long residentId, Long feeItemId);
+}
@@ -0,0 +1,17 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.model.Payment;
+import java.util.function.Supplier;
+
+/**
+ * 缴费请求去重：按 Idempotency-Key 记住已完成的缴费结果。
+ * 跨节点的重复支付由账单的条件状态迁移兜底。
+ */
+public interface PaymentIdempotencyStore {
+
+    /**
+     * 以幂等方式执行缴费：key 为空时直接执行；同一 key 已成功则返回原结果，正在处理则抛出 ConflictException，
+     * 已用于其他账单则抛出 IllegalArgumentException；执行失败时释放 key 以便重试
+     */
+    Payment execute(String key, Long billId, Supplier<Payment> action);
+}
@@ -0,0 +1,26 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.dto.PropertyUnitNode;
+import com.propertymgmt.property.dto.PropertyUnitRequest;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.PropertyUnit;
+import java.util.Collection;
+import java.util.List;
+
+public interface PropertyUnitService extends ResidentChangeListener {
+    // 房产树（depth：1 仅楼栋，2 含单元，3 含房间），各节点附入住与欠费统计
+    List<PropertyUnitNode> tree(int depth);
+    List<PropertyUnitNode> children(Long id);
+    PropertyUnit create(PropertyUnitRequest request);
+
+    // 登记住户所在的楼栋、单元、房间（未登记时新增），在调用方事务内执行
+    void register(String building, String unit, String roomNumber);
+
+    // 增量维护（调用方事务提交后才生效；住户写入经 ResidentChangeListener 通知）
+    void recordBills(Collection<FeeBill> bills);
+    void recordBillsPaid(Collection<FeeBill> bills);
+    void recordLateFees(Collection<FeeBill> bills);
+
+    // 补登记住户表中的房间并重新装载统计，返回登记节点数
+    int reload();
+}
@@ -0,0 +1,18 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.model.Reconciliation;
+import com.propertymgmt.property.model.ReconciliationItem;
+import java.io.InputStream;
+import java.util.List;
+
+public interface ReconciliationService {
+    // 以对账单（CSV）核对某月的缴费记录，payMethod 为空时核对全部支付方式
+    Reconciliation reconcile(InputStream statement, String fileName, String period, String payMethod);
+
+    Reconciliation findById(Long id);
+
+    List<Reconciliation> findRecent();
+
+    // 某类差异明细，按 id 键集分页
+    List<ReconciliationItem> findItems(Long reconciliationId, String type, Long afterId, int size);
+}
@@ -0,0 +1,14 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.dto.Reminder;
+
+/**
+ * 催缴提醒的投递渠道（短信、邮件等），由 app.dunning.channel 按 name() 选择。
+ * send 抛出异常表示投递失败，会记录为失败并在下次催缴时重试。
+ */
+public interface ReminderChannel {
+
+    String name();
+
+    void send(Reminder reminder);
+}
@@ -0,0 +1,14 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.model.Resident;
+
+/**
+ * 住户写入的订阅方（检索索引、房产统计等），由住户实体监听器在 JPA 写入后逐个通知。
+ * 在写入所在的事务内调用，实现方须自行延迟到事务提交后生效。
+ */
+public interface ResidentChangeListener {
+
+    void residentSaved(Resident resident);
+
+    void residentRemoved(Resident resident);
+}
@@ -1,13 +1,24 @@
 package com.propertymgmt.property.service;
 
+import com.propertymgmt.property.dto.CursorPage;
+import com.propertymgmt.property.dto.ResidentImportResult;
 import com.propertymgmt.property.dto.ResidentRequest;
+import com.propertymgmt.property.dto.ResidentSuggestion;
 import com.propertymgmt.property.model.Resident;
+import com.propertymgmt.property.util.RowReader;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface ResidentService {
     Page<Resident> search(String keyword, String status, Pageable pageable);
+    // 键集分页（不统计总数），按创建时间倒序
+    CursorPage<Resident> findPage(String keyword, String status, String cursor, int size);
+    // 姓名联想：姓名原文、全拼或首字母前缀
+    List<ResidentSuggestion> suggest(String prefix, int limit);
     Resident create(ResidentRequest request);
     Resident update(Long id, ResidentRequest request);
     void delete(Long id);
+    // 批量导入（CSV/XLSX 逐行读取），按楼栋、单元、房号与姓名查重
+    ResidentImportResult importResidents(RowReader reader);
 }
@@ -1,5 +1,6 @@
 package com.propertymgmt.property.service;
 
+import com.propertymgmt.property.dto.CursorPage;
 import com.propertymgmt.property.dto.UpdateUserRequest;
 import com.propertymgmt.property.dto.UserRequest;
 import com.propertymgmt.property.dto.UserResponse;
@@ -8,6 +9,8 @@ import org.springframework.data.domain.Pageable;
 
 public interface UserService {
     Page<UserResponse> getAllUsers(Pageable pageable);
+    // 键集分页（不统计总数），按创建时间倒序
+    CursorPage<UserResponse> getUserPage(String cursor, int size);
     UserResponse createUser(UserRequest request);
     UserResponse updateUser(Long id, UpdateUserRequest request);
     void deleteUser(Long id);
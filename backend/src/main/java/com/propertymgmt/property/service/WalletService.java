@@ -0,0 +1,20 @@
+package com.propertymgmt.property.service;
+
+import com.propertymgmt.property.dto.AutoDebitResult;
+import com.propertymgmt.property.dto.WalletDepositRequest;
+import com.propertymgmt.property.model.Wallet;
+import com.propertymgmt.property.model.WalletTransaction;
+import java.util.List;
+
+public interface WalletService {
+    // 预存入账，钱包不存在时自动创建
+    Wallet deposit(WalletDepositRequest request);
+
+    Wallet getWallet(Long residentId);
+
+    // 最近的钱包流水，按时间倒序
+    List<WalletTransaction> getTransactions(Long residentId, int limit);
+
+    // 用钱包余额批量缴清待缴账单（最早的账单优先），可重复执行
+    AutoDebitResult autoDebit();
+}
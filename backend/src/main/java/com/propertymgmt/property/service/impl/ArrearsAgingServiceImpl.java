@@ -0,0 +1,217 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.AgingReport;
+import com.propertymgmt.property.model.ArrearsAging.Bucket;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.repository.ArrearsAgingJdbcRepository;
+import com.propertymgmt.property.repository.ArrearsAgingJdbcRepository.Delta;
+import com.propertymgmt.property.repository.ArrearsAgingJdbcRepository.Key;
+import com.propertymgmt.property.service.ArrearsAgingService;
+import com.propertymgmt.property.util.BillingPeriods;
+import com.propertymgmt.property.util.Buildings;
+import com.propertymgmt.property.util.Money;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class ArrearsAgingServiceImpl implements ArrearsAgingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArrearsAgingServiceImpl.class);
+    private static final Bucket[] BUCKETS = Bucket.values();
+
+    private final ArrearsAgingJdbcRepository agingJdbcRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArrearsAgingServiceImpl(ArrearsAgingJdbcRepository agingJdbcRepository, JdbcTemplate jdbcTemplate) {
+        this.agingJdbcRepository = agingJdbcRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // ========== 增量维护 ==========
+
+    @Override
+    public void recordBills(Collection<FeeBill> bills) {
+        apply(bills, false);
+    }
+
+    @Override
+    public void recordBillsPaid(Collection<FeeBill> bills) {
+        apply(bills, true);
+    }
+
+    @Override
+    public void recordLateFee(int period, String building, String feeType, long amountCents) {
+        Key key = new Key(period, building, feeType);
+        agingJdbcRepository.apply(key, bucketOf(period, LocalDate.now()).ordinal(), new Delta(0, amountCents));
+    }
+
+    private void apply(Collection<FeeBill> bills, boolean paid) {
+        // 先在内存中按账龄行归并，每行只更新一次
+        Map<Key, Delta> deltas = new HashMap<>();
+        for (FeeBill bill : bills) {
+            Delta delta = new Delta(1, Money.toCents(bill.getPayableAmount()));
+            deltas.merge(keyOf(bill), paid ? delta.negate() : delta, Delta::plus);
+        }
+        LocalDate today = LocalDate.now();
+        deltas.forEach((key, delta) -> agingJdbcRepository.apply(key, bucketOf(key.period(), today).ordinal(), delta));
+    }
+
+    private static Key keyOf(FeeBill bill) {
+        int period = bill.getPeriod() != null ? bill.getPeriod() : BillingPeriods.toKey(bill.getBillingPeriod());
+        return new Key(period, Buildings.of(bill.getBuilding()), bill.getType());
+    }
+
+    /**
+     * 账期的账龄段：以账期最后一天为到期日；无法识别账期的历史账单按最久计
+     */
+    static Bucket bucketOf(int period, LocalDate today) {
+        if (period == BillingPeriods.UNKNOWN) {
+            return Bucket.DAYS_180_PLUS;
+        }
+        LocalDate due = YearMonth.of(period / 100, period % 100).atEndOfMonth();
+        long age = ChronoUnit.DAYS.between(due, today);
+        Bucket result = Bucket.DAYS_0_30;
+        for (Bucket bucket : BUCKETS) {
+            if (age >= bucket.getMinAgeDays()) {
+                result = bucket;
+            }
+        }
+        return result;
+    }
+
+    // ========== 查询 ==========
+
+    @Override
+    @Transactional(readOnly = true)
+    public AgingReport getReport(String building, String feeType) {
+        // 按 (楼栋, 费用类型) 以分累加各账龄段，最后统一换算为报表金额
+        Map<String, RowSums> rows = new LinkedHashMap<>();
+        long[] totals = new long[BUCKETS.length];
+        agingJdbcRepository.summarize(building, feeType, rs -> {
+            String rowBuilding = rs.getString("building");
+            String rowType = rs.getString("fee_type");
+            RowSums row = rows.computeIfAbsent(rowBuilding + "\u0000" + rowType,
+                k -> new RowSums(rowBuilding, rowType));
+            int bucket = rs.getInt("bucket");
+            long cents = Money.toCents(rs.getBigDecimal("amount"));
+            row.counts[bucket] += rs.getLong("bill_count");
+            row.cents[bucket] = Money.add(row.cents[bucket], cents);
+            totals[bucket] = Money.add(totals[bucket], cents);
+        });
+
+        AgingReport report = new AgingReport();
+        report.setAsOf(LocalDate.now());
+        report.setBuckets(Arrays.stream(BUCKETS).map(Bucket::getLabel).toList());
+        report.setRows(rows.values().stream().map(RowSums::toRow).toList());
+        report.setTotals(toAmounts(totals));
+        report.setTotalAmount(Money.toBigDecimal(sum(totals)));
+        return report;
+    }
+
+    private record RowSums(String building, String feeType, long[] counts, long[] cents) {
+
+        RowSums(String building, String feeType) {
+            this(building, feeType, new long[BUCKETS.length], new long[BUCKETS.length]);
+        }
+
+        AgingReport.Row toRow() {
+            return new AgingReport.Row(building, feeType, new ArrayList<>(Arrays.stream(counts).boxed().toList()),
+                toAmounts(cents), Money.toBigDecimal(sum(cents)));
+        }
+    }
+
+    private static List<BigDecimal> toAmounts(long[] cents) {
+        List<BigDecimal> amounts = new ArrayList<>(cents.length);
+        for (long value : cents) {
+            amounts.add(Money.toBigDecimal(value));
+        }
+        return amounts;
+    }
+
+    private static long sum(long[] cents) {
+        long total = Money.ZERO;
+        for (long value : cents) {
+            total = Money.add(total, value);
+        }
+        return total;
+    }
+
+    // ========== 账龄迁移与重建 ==========
+
+    /**
+     * 每日把跨过账龄边界的行整体移入更老的账龄段；按截止账期范围更新，漏跑几天也能一次追平
+     */
+    @Override
+    @Scheduled(cron = "${app.aging.rebucket-cron:0 10 0 * * *}")
+    public int rebucket() {
+        LocalDate today = LocalDate.now();
+        int moved = 0;
+        for (int i = BUCKETS.length - 1; i > 0; i--) {
+            moved += agingJdbcRepository.moveToBucket(i, cutoffPeriod(today, BUCKETS[i].getMinAgeDays()));
+        }
+        int settled = agingJdbcRepository.deleteSettled();
+        if (moved > 0 || settled > 0) {
+            log.info("欠费账龄已更新：迁移 {} 行，清理已缴清 {} 行", moved, settled);
+        }
+        return moved;
+    }
+
+    /**
+     * 到期日（月末）距今不少于 minAgeDays 天的最晚账期
+     */
+    private static int cutoffPeriod(LocalDate today, int minAgeDays) {
+        return BillingPeriods.latestDueBy(today.minusDays(minAgeDays));
+    }
+
+    @Override
+    public int rebuild() {
+        Map<Key, Delta> rows = new HashMap<>();
+        jdbcTemplate.query("""
+            select period, building, type, count(*) as cnt, coalesce(sum(amount + coalesce(late_fee, 0)), 0) as total
+            from fee_bills
+            where status in ('PENDING', 'OVERDUE')
+            group by period, building, type
+            """, rs -> {
+            Key key = new Key(rs.getInt("period"), Buildings.of(rs.getString("building")), rs.getString("type"));
+            rows.merge(key, new Delta(rs.getLong("cnt"), Money.toCents(rs.getBigDecimal("total"))), Delta::plus);
+        });
+        LocalDate today = LocalDate.now();
+        agingJdbcRepository.deleteAll();
+        agingJdbcRepository.insertAll(rows, key -> bucketOf(key.period(), today).ordinal());
+        log.info("欠费账龄已重建，共 {} 行", rows.size());
+        return rows.size();
+    }
+
+    /**
+     * 启动时：账龄表为空但有未缴账单则重建，否则追平停机期间的账龄迁移
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Long rows = jdbcTemplate.queryForObject("select count(*) from arrears_aging", Long.class);
+        Long unpaid = jdbcTemplate.queryForObject(
+            "select count(*) from fee_bills where status in ('PENDING', 'OVERDUE')", Long.class);
+        if (rows != null && rows == 0 && unpaid != null && unpaid > 0) {
+            rebuild();
+        } else {
+            rebucket();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.model.BillGenerationJob;
+import com.propertymgmt.property.model.BillGenerationJob.JobStatus;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.FeeItem;
+import com.propertymgmt.property.model.Resident;
+import com.propertymgmt.property.repository.BillGenerationJobRepository;
+import com.propertymgmt.property.repository.FeeBillJdbcRepository;
+import com.propertymgmt.property.repository.FeeBillJdbcRepository.BillingTarget;
+import com.propertymgmt.property.repository.FeeItemRepository;
+import com.propertymgmt.property.repository.ResidentRepository;
+import com.propertymgmt.property.service.ArrearsAgingService;
+import com.propertymgmt.property.service.BillGenerationJobService;
+import com.propertymgmt.property.service.FeeAnalyticsService;
+import com.propertymgmt.property.service.FeeRollupService;
+import com.propertymgmt.property.service.LedgerService;
+import com.propertymgmt.property.service.PropertyUnitService;
+import com.propertymgmt.property.util.BillingPeriods;
+import com.propertymgmt.property.util.Money;
+import com.propertymgmt.property.util.PricingFunction;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 异步批量出账。多节点部署时任务以租约认领：认领成功的节点在每块事务中续租，
+ * 续租失败（租约已被其他节点接手）即停止；租约过期的任务由定时巡检或重启后的节点接手。
+ */
+@Service
+public class BillGenerationJobServiceImpl implements BillGenerationJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(BillGenerationJobServiceImpl.class);
+
+    private final BillGenerationJobRepository jobRepository;
+    private final FeeItemRepository feeItemRepository;
+    private final ResidentRepository residentRepository;
+    private final FeeBillJdbcRepository feeBillJdbcRepository;
+    private final FeeRollupService feeRollupService;
+    private final LedgerService ledgerService;
+    private final ArrearsAgingService arrearsAgingService;
+    private final FeeAnalyticsService feeAnalyticsService;
+    private final PropertyUnitService propertyUnitService;
+    private final FeeBillFactory feeBillFactory;
+    private final ThreadPoolTaskExecutor billingJobExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long leaseSeconds;
+
+    // 本进程的认领标识
+    private final String nodeOwner = UUID.randomUUID().toString();
+
+    // 当前节点上正在执行的任务，防止同一任务被重复调度
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public BillGenerationJobServiceImpl(BillGenerationJobRepository jobRepository,
+                                        FeeItemRepository feeItemRepository,
+                                        ResidentRepository residentRepository,
+                                        FeeBillJdbcRepository feeBillJdbcRepository,
+                                        FeeRollupService feeRollupService,
+                                        ArrearsAgingService arrearsAgingService,
+                                        FeeAnalyticsService feeAnalyticsService,
+                                        PropertyUnitService propertyUnitService,
+                                        LedgerService ledgerService,
+                                        FeeBillFactory feeBillFactory,
+                                        @Qualifier("billingJobExecutor") ThreadPoolTaskExecutor billingJobExecutor,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${app.billing.job-chunk-size:500}") int chunkSize,
+                                        @Value("${app.billing.job-lease-seconds:120}") long leaseSeconds) {
+        this.jobRepository = jobRepository;
+        this.feeItemRepository = feeItemRepository;
+        this.residentRepository = residentRepository;
+        this.feeBillJdbcRepository = feeBillJdbcRepository;
+        this.feeRollupService = feeRollupService;
+        this.ledgerService = ledgerService;
+        this.arrearsAgingService = arrearsAgingService;
+        this.feeAnalyticsService = feeAnalyticsService;
+        this.propertyUnitService = propertyUnitService;
+        this.feeBillFactory = feeBillFactory;
+        this.billingJobExecutor = billingJobExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    @Override
+    public BillGenerationJob submit(Long feeItemId, String billingPeriod) {
+        FeeItem feeItem = feeItemRepository.findById(feeItemId)
+            .orElseThrow(() -> new RuntimeException("收费项目不存在"));
+        if (feeItem.getStatus() != FeeItem.ItemStatus.ACTIVE) {
+            throw new RuntimeException("收费项目未启用，无法生成账单");
+        }
+        BillingPeriods.requireKey(billingPeriod);
+        feeBillFactory.areaPricingFor(feeItem);
+
+        BillGenerationJob job = new BillGenerationJob();
+        job.setFeeItemId(feeItem.getId());
+        job.setFeeItemName(feeItem.getName());
+        job.setBillingPeriod(billingPeriod);
+        job.setChunkSize(chunkSize);
+        job.setTotalResidents(residentRepository.countByStatus(Resident.Status.OCCUPIED));
+        job.setStatus(JobStatus.PENDING);
+        BillGenerationJob saved = transactionTemplate.execute(status -> jobRepository.save(job));
+        return dispatch(saved);
+    }
+
+    @Override
+    public BillGenerationJob findById(Long id) {
+        return jobRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("出账任务不存在"));
+    }
+
+    @Override
+    public BillGenerationJob resume(Long id) {
+        BillGenerationJob job = findById(id);
+        if (job.getStatus() == JobStatus.COMPLETED) {
+            throw new RuntimeException("出账任务已完成，无需继续");
+        }
+        return dispatch(job);
+    }
+
+    /**
+     * 启动后及定时巡检时继续执行无人认领或租约已过期的未完成任务（从检查点恢复）
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.billing.job-resume-interval-ms:60000}",
+               fixedDelayString = "${app.billing.job-resume-interval-ms:60000}")
+    public void resumeUnfinished() {
+        List<BillGenerationJob> unfinished = jobRepository.findClaimable(
+            List.of(JobStatus.PENDING, JobStatus.RUNNING), LocalDateTime.now().minusSeconds(leaseSeconds));
+        for (BillGenerationJob job : unfinished) {
+            if (runningJobs.contains(job.getId())) {
+                continue;
+            }
+            log.info("恢复出账任务 {}，检查点住户 id={}", job.getId(), job.getLastResidentId());
+            try {
+                dispatch(job);
+            } catch (RuntimeException ex) {
+                log.warn("恢复出账任务 {} 失败: {}", job.getId(), ex.getMessage());
+            }
+        }
+    }
+
+    private BillGenerationJob dispatch(BillGenerationJob job) {
+        Long jobId = job.getId();
+        if (!runningJobs.add(jobId)) {
+            return job;
+        }
+        try {
+            billingJobExecutor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    runningJobs.remove(jobId);
+                }
+            });
+        } catch (TaskRejectedException ex) {
+            runningJobs.remove(jobId);
+            throw new RuntimeException("出账任务队列已满，请稍后重试");
+        }
+        return job;
+    }
+
+    private void run(Long jobId) {
+        try {
+            FeeItem feeItem = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                if (jobRepository.claim(jobId, nodeOwner, now, now.minusSeconds(leaseSeconds),
+                        JobStatus.RUNNING, JobStatus.COMPLETED) == 0) {
+                    return null;
+                }
+                BillGenerationJob job = findById(jobId);
+                job.setErrorMessage(null);
+                if (job.getStartedAt() == null) {
+                    job.setStartedAt(LocalDateTime.now());
+                }
+                jobRepository.save(job);
+                return feeItemRepository.findById(job.getFeeItemId())
+                    .orElseThrow(() -> new RuntimeException("收费项目不存在"));
+            });
+            if (feeItem == null) {
+                log.info("出账任务 {} 已完成或正由其他节点执行", jobId);
+                return;
+            }
+
+            boolean done = false;
+            while (!done) {
+                done = Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(jobId, feeItem)));
+            }
+        } catch (LeaseLostException ex) {
+            log.warn("出账任务 {} 的租约已被其他节点接手，本节点停止执行", jobId);
+        } catch (RuntimeException ex) {
+            log.error("出账任务 {} 失败", jobId, ex);
+            transactionTemplate.executeWithoutResult(status -> {
+                BillGenerationJob job = findById(jobId);
+                if (!nodeOwner.equals(job.getOwner())) {
+                    return;
+                }
+                job.setStatus(JobStatus.FAILED);
+                job.setErrorMessage(ex.getMessage());
+                job.setOwner(null);
+                jobRepository.save(job);
+            });
+        }
+    }
+
+    /**
+     * 续租失败：任务已由其他节点接手，当前块回滚
+     */
+    private static final class LeaseLostException extends RuntimeException {
+    }
+
+    /**
+     * 处理一块住户并在同一事务内写入账单、汇总与检查点，返回任务是否已完成
+     */
+    private boolean processChunk(Long jobId, FeeItem feeItem) {
+        // 续租与本块写入在同一事务内，任务行被锁定到提交，其他节点无法在块中途接手
+        if (jobRepository.heartbeat(jobId, nodeOwner, LocalDateTime.now()) == 0) {
+            throw new LeaseLostException();
+        }
+        BillGenerationJob job = findById(jobId);
+        List<Long> residentIds = feeBillJdbcRepository.findOccupiedResidentIds(job.getLastResidentId(), job.getChunkSize());
+        if (residentIds.isEmpty()) {
+            job.setStatus(JobStatus.COMPLETED);
+            job.setFinishedAt(LocalDateTime.now());
+            job.setOwner(null);
+            jobRepository.save(job);
+            return true;
+        }
+
+        int period = BillingPeriods.toKey(job.getBillingPeriod());
+        long upToId = residentIds.get(residentIds.size() - 1);
+        List<BillingTarget> targets = feeBillJdbcRepository.findMissingBillingTargets(
+            job.getFeeItemName(), period, job.getLastResidentId(), upToId);
+
+        PricingFunction pricing = feeBillFactory.areaPricingFor(feeItem);
+        List<FeeBill> bills = new ArrayList<>(targets.size());
+        long chunkCents = Money.ZERO;
+        for (BillingTarget target : targets) {
+            FeeBill bill = feeBillFactory.newBill(feeItem, pricing, target, job.getBillingPeriod());
+            if (bill == null) {
+                continue;
+            }
+            chunkCents = Money.add(chunkCents, Money.toCents(bill.getAmount()));
+            bills.add(bill);
+        }
+        feeBillJdbcRepository.batchInsert(bills);
+        feeRollupService.recordBilled(period, job.getFeeItemName(), bills.size(), chunkCents);
+        ledgerService.recordBills(bills);
+        arrearsAgingService.recordBills(bills);
+        feeAnalyticsService.recordBills(bills);
+        propertyUnitService.recordBills(bills);
+
+        // 检查点
+        job.setLastResidentId(upToId);
+        job.setProcessedResidents(job.getProcessedResidents() + residentIds.size());
+        job.setCreatedBills(job.getCreatedBills() + bills.size());
+        // 已有账单的住户计入 skipped，无法计价的住户单独计入 unpriced
+        job.setSkippedBills(job.getSkippedBills() + residentIds.size() - targets.size());
+        long unpriced = job.getUnpricedBills() != null ? job.getUnpricedBills() : 0L;
+        job.setUnpricedBills(unpriced + targets.size() - bills.size());
+        job.setTotalAmount(Money.toBigDecimal(Money.add(Money.toCents(job.getTotalAmount()), chunkCents)));
+        jobRepository.save(job);
+        return false;
+    }
+}
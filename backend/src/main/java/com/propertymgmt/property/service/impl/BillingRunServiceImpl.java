@@ -0,0 +1,273 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.BillingRunResult;
+import com.propertymgmt.property.dto.BillingRunResult.Partition;
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.FeeItem;
+import com.propertymgmt.property.repository.FeeBillJdbcRepository;
+import com.propertymgmt.property.repository.FeeBillJdbcRepository.BillingTarget;
+import com.propertymgmt.property.repository.FeeItemRepository;
+import com.propertymgmt.property.repository.MeterReadingJdbcRepository;
+import com.propertymgmt.property.repository.MeterReadingRepository;
+import com.propertymgmt.property.service.ArrearsAgingService;
+import com.propertymgmt.property.service.BillingRunService;
+import com.propertymgmt.property.service.FeeAnalyticsService;
+import com.propertymgmt.property.service.FeeRollupService;
+import com.propertymgmt.property.service.LedgerService;
+import com.propertymgmt.property.service.PropertyUnitService;
+import com.propertymgmt.property.service.WalletService;
+import com.propertymgmt.property.util.BillingPeriods;
+import com.propertymgmt.property.util.Money;
+import com.propertymgmt.property.util.PricingFunction;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 整月出账：对账期内全部启用的收费项目按 (收费项目 × 楼栋) 分片，
+ * 在 fork-join 池上并行执行，每个分片一个事务；某个分片失败不影响其他分片，重新执行即可补齐。
+ * 抄表计费项目以本期读数与上期读数之差为计费数量，其余项目以面积为计费数量。
+ */
+@Service
+public class BillingRunServiceImpl implements BillingRunService {
+
+    private static final Logger log = LoggerFactory.getLogger(BillingRunServiceImpl.class);
+
+    private final FeeItemRepository feeItemRepository;
+    private final FeeBillJdbcRepository feeBillJdbcRepository;
+    private final MeterReadingRepository meterReadingRepository;
+    private final MeterReadingJdbcRepository meterReadingJdbcRepository;
+    private final FeeBillFactory feeBillFactory;
+    private final FeeRollupService feeRollupService;
+    private final LedgerService ledgerService;
+    private final ArrearsAgingService arrearsAgingService;
+    private final FeeAnalyticsService feeAnalyticsService;
+    private final PropertyUnitService propertyUnitService;
+    private final WalletService walletService;
+    private final ForkJoinPool billingRunPool;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final int fetchSize;
+    private final boolean autoDebitAfterRun;
+    private final Set<Integer> runningPeriods = ConcurrentHashMap.newKeySet();
+
+    public BillingRunServiceImpl(FeeItemRepository feeItemRepository,
+                                 FeeBillJdbcRepository feeBillJdbcRepository,
+                                 MeterReadingRepository meterReadingRepository,
+                                 MeterReadingJdbcRepository meterReadingJdbcRepository,
+                                 FeeBillFactory feeBillFactory,
+                                 FeeRollupService feeRollupService,
+                                 ArrearsAgingService arrearsAgingService,
+                                 FeeAnalyticsService feeAnalyticsService,
+                                 PropertyUnitService propertyUnitService,
+                                 LedgerService ledgerService,
+                                 WalletService walletService,
+                                 ForkJoinPool billingRunPool,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.export.fetch-size:1000}") int fetchSize,
+                                 @Value("${app.wallet.auto-debit-after-billing-run:true}") boolean autoDebitAfterRun) {
+        this.feeItemRepository = feeItemRepository;
+        this.feeBillJdbcRepository = feeBillJdbcRepository;
+        this.meterReadingRepository = meterReadingRepository;
+        this.meterReadingJdbcRepository = meterReadingJdbcRepository;
+        this.feeBillFactory = feeBillFactory;
+        this.feeRollupService = feeRollupService;
+        this.ledgerService = ledgerService;
+        this.arrearsAgingService = arrearsAgingService;
+        this.feeAnalyticsService = feeAnalyticsService;
+        this.propertyUnitService = propertyUnitService;
+        this.walletService = walletService;
+        this.billingRunPool = billingRunPool;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.autoDebitAfterRun = autoDebitAfterRun;
+    }
+
+    private record Work(FeeItem feeItem, PricingFunction pricing, String building) {
+
+        boolean metered() {
+            return feeItem.getPricingMode() == FeeItem.PricingMode.METERED;
+        }
+    }
+
+    @Override
+    public BillingRunResult run(String billingPeriod, boolean dryRun) {
+        int period = BillingPeriods.requireKey(billingPeriod);
+        if (!dryRun && !runningPeriods.add(period)) {
+            throw new ConflictException("该账期正在出账，请稍后再试");
+        }
+        try {
+            BillingRunResult result = execute(billingPeriod, period, dryRun);
+            if (!dryRun && autoDebitAfterRun && result.getCreated() > 0) {
+                autoDebit(result);
+            }
+            return result;
+        } finally {
+            if (!dryRun) {
+                runningPeriods.remove(period);
+            }
+        }
+    }
+
+    private BillingRunResult execute(String billingPeriod, int period, boolean dryRun) {
+        long start = System.currentTimeMillis();
+
+        // 每个收费项目只编译一次计价函数，本期没有读数的抄表计费项目不参与出账
+        List<FeeItem> items = feeItemRepository.findByStatusOrderByIdAsc(FeeItem.ItemStatus.ACTIVE);
+        List<String> skippedItems = new ArrayList<>();
+        List<String> buildings = feeBillJdbcRepository.findOccupiedBuildings();
+        List<Work> work = new ArrayList<>();
+        int billedItems = 0;
+        for (FeeItem item : items) {
+            if (item.getPricingMode() == FeeItem.PricingMode.METERED
+                    && !meterReadingRepository.existsByFeeItemIdAndPeriod(item.getId(), period)) {
+                skippedItems.add(item.getName());
+                continue;
+            }
+            billedItems++;
+            PricingFunction pricing = feeBillFactory.pricingFor(item);
+            for (String building : buildings) {
+                work.add(new Work(item, pricing, building));
+            }
+        }
+
+        List<Partition> partitions;
+        try {
+            partitions = billingRunPool.submit(() -> work.parallelStream()
+                .map(w -> dryRun ? preview(w, billingPeriod, period) : bill(w, billingPeriod, period))
+                .toList()).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("出账被中断", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("出账失败: " + ex.getCause().getMessage(), ex.getCause());
+        }
+
+        BillingRunResult result = new BillingRunResult();
+        result.setBillingPeriod(billingPeriod);
+        result.setDryRun(dryRun);
+        result.setFeeItemCount(billedItems);
+        result.setSkippedItems(skippedItems);
+        result.setPartitions(partitions);
+        long totalCents = Money.ZERO;
+        int created = 0;
+        int unpriced = 0;
+        int failed = 0;
+        for (Partition partition : partitions) {
+            totalCents = Money.add(totalCents, Money.toCents(partition.getAmount()));
+            created += partition.getCreated();
+            unpriced += partition.getUnpriced();
+            if (partition.getError() != null) {
+                failed++;
+            }
+        }
+        result.setCreated(created);
+        result.setUnpriced(unpriced);
+        result.setFailedPartitions(failed);
+        result.setTotalAmount(Money.toBigDecimal(totalCents));
+        result.setElapsedMillis(System.currentTimeMillis() - start);
+        log.info("账期 {} 出账{}完成：{} 个分片，{} 张账单，金额 {}，失败分片 {}，耗时 {} ms",
+            billingPeriod, dryRun ? "试算" : "", partitions.size(), created, result.getTotalAmount(), failed, result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 出账后用预存款自动扣缴新账单；扣缴失败不影响已提交的出账结果
+     */
+    private void autoDebit(BillingRunResult result) {
+        try {
+            result.setAutoDebit(walletService.autoDebit());
+        } catch (ConflictException ex) {
+            log.info("出账后自动扣缴未执行: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 写入一个分片：账单、账户分录与月度汇总在同一事务内提交
+     */
+    private Partition bill(Work work, String billingPeriod, int period) {
+        Partition partition = new Partition(work.feeItem().getId(), work.feeItem().getName(), work.building());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<BillingTarget> targets = work.metered()
+                    ? meterReadingJdbcRepository.findMeteredBillingTargets(
+                        work.feeItem().getId(), work.feeItem().getName(), period, work.building())
+                    : feeBillJdbcRepository.findMissingBillingTargets(work.feeItem().getName(), period, work.building());
+                List<FeeBill> bills = new ArrayList<>(targets.size());
+                long cents = Money.ZERO;
+                for (BillingTarget target : targets) {
+                    FeeBill bill = feeBillFactory.newBill(work.feeItem(), work.pricing(), target, billingPeriod);
+                    if (bill == null) {
+                        partition.setUnpriced(partition.getUnpriced() + 1);
+                        continue;
+                    }
+                    cents = Money.add(cents, Money.toCents(bill.getAmount()));
+                    bills.add(bill);
+                }
+                if (bills.isEmpty()) {
+                    return;
+                }
+                feeBillJdbcRepository.batchInsert(bills);
+                ledgerService.recordBills(bills);
+                arrearsAgingService.recordBills(bills);
+                feeAnalyticsService.recordBills(bills);
+                propertyUnitService.recordBills(bills);
+                // 汇总行由同一收费项目的各分片共享，最后更新以缩短行锁持有时间
+                feeRollupService.recordBilled(period, work.feeItem().getName(), bills.size(), cents);
+                partition.setCreated(bills.size());
+                partition.setAmount(Money.toBigDecimal(cents));
+            });
+        } catch (RuntimeException ex) {
+            log.warn("出账分片失败：{} / {}", work.feeItem().getName(), work.building(), ex);
+            partition.setCreated(0);
+            partition.setUnpriced(0);
+            partition.setAmount(BigDecimal.ZERO);
+            partition.setError(ex.getMessage());
+        }
+        return partition;
+    }
+
+    /**
+     * 试算一个分片：以只进游标逐行计价累加，不写入任何数据
+     */
+    private Partition preview(Work work, String billingPeriod, int period) {
+        Partition partition = new Partition(work.feeItem().getId(), work.feeItem().getName(), work.building());
+        long[] totals = new long[3]; // 账单数、无法计价数、金额（分）
+        Consumer<BillingTarget> accumulate = target -> {
+            long cents = work.pricing().amountCents(target.quantityHundredths());
+            if (cents == PricingFunction.UNPRICED) {
+                totals[1]++;
+            } else {
+                totals[0]++;
+                totals[2] = Money.add(totals[2], cents);
+            }
+        };
+        readOnlyTemplate.executeWithoutResult(status -> {
+            if (work.metered()) {
+                meterReadingJdbcRepository.streamMeteredBillingTargets(work.feeItem().getId(),
+                    work.feeItem().getName(), period, work.building(), fetchSize, accumulate);
+            } else {
+                feeBillJdbcRepository.streamMissingBillingTargets(work.feeItem().getName(), period, work.building(),
+                    fetchSize, accumulate);
+            }
+        });
+        partition.setCreated((int) totals[0]);
+        partition.setUnpriced((int) totals[1]);
+        partition.setAmount(Money.toBigDecimal(totals[2]));
+        return partition;
+    }
+}
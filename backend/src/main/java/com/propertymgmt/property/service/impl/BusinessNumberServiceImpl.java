@@ -0,0 +1,192 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.repository.BusinessNumberJdbcRepository;
+import com.propertymgmt.property.repository.BusinessNumberJdbcRepository.NumberColumn;
+import com.propertymgmt.property.service.BusinessNumberService;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 业务编号生成：前缀 + yyyyMMddHHmmss + 3 位节点号 + 6 位秒内序号。
+ * 状态为一个 AtomicLong（高位为秒、低 20 位为序号），CAS 递增，无锁且单调；
+ * 同一秒内序号用尽或时钟回拨时沿用/借用后续秒，保证不重复。
+ * 首次发号前按各业务表中已发放的最大编号校准时钟，重启后不会重发借用过的后续秒。
+ * 不同节点需配置不同的 app.numbering.node-id（0-999）；仅在未激活 profile 或 dev/test 下允许缺省。
+ */
+@Service
+public class BusinessNumberServiceImpl implements BusinessNumberService {
+
+    private static final Logger log = LoggerFactory.getLogger(BusinessNumberServiceImpl.class);
+
+    private static final int SEQUENCE_BITS = 20;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_SEQUENCE = 999_999L;
+    private static final int SEED_CANDIDATES = 100;
+    private static final Pattern NUMBER_DIGITS = Pattern.compile("\\d{23}");
+    private static final DateTimeFormatter SECOND_FORMAT = DateTimeFormatter.ofPattern("uuuuMMddHHmmss");
+
+    private final AtomicLong state = new AtomicLong();
+    private final int nodeId;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final BusinessNumberJdbcRepository businessNumberJdbcRepository;
+    private volatile boolean seeded;
+    // 最近一次格式化的秒及其 "yyyyMMddHHmmss + 节点号" 前缀，秒变化时才重新计算
+    private volatile SecondPrefix secondPrefix = new SecondPrefix(-1, "");
+
+    private record SecondPrefix(long epochSecond, String digits) {
+    }
+
+    public BusinessNumberServiceImpl(BusinessNumberJdbcRepository businessNumberJdbcRepository,
+                                     Environment environment,
+                                     @Value("${app.numbering.node-id:-1}") int configuredNodeId) {
+        this.businessNumberJdbcRepository = businessNumberJdbcRepository;
+        if (configuredNodeId >= 0 && configuredNodeId <= 999) {
+            this.nodeId = configuredNodeId;
+        } else if (configuredNodeId != -1) {
+            throw new IllegalStateException("app.numbering.node-id 须在 0-999 之间: " + configuredNodeId);
+        } else if (environment.getActiveProfiles().length == 0 || environment.acceptsProfiles(Profiles.of("dev", "test"))) {
+            this.nodeId = deriveNodeId();
+            log.warn("未配置 app.numbering.node-id，按主机名推导节点号 {}；仅限开发环境，部署时须显式配置", nodeId);
+        } else {
+            throw new IllegalStateException("未配置 app.numbering.node-id（0-999），各节点须配置不同的值");
+        }
+    }
+
+    @Override
+    public String nextBillNumber() {
+        return next("B");
+    }
+
+    @Override
+    public String nextPaymentNumber() {
+        return next("");
+    }
+
+    @Override
+    public String nextRepairOrderNumber() {
+        return next("R");
+    }
+
+    private String next(String prefix) {
+        if (!seeded) {
+            seed();
+        }
+        long now = System.currentTimeMillis() / 1000;
+        long current;
+        long updated;
+        do {
+            current = state.get();
+            long second = current >>> SEQUENCE_BITS;
+            long sequence = current & SEQUENCE_MASK;
+            if (now > second) {
+                updated = now << SEQUENCE_BITS;
+            } else if (sequence < MAX_SEQUENCE) {
+                updated = current + 1;
+            } else {
+                updated = (second + 1) << SEQUENCE_BITS;
+            }
+        } while (!state.compareAndSet(current, updated));
+
+        return format(prefix, updated >>> SEQUENCE_BITS, updated & SEQUENCE_MASK);
+    }
+
+    /**
+     * 把时钟校准到已发放编号中最晚的一秒之后：上次运行借用的后续秒尚未到来时，从其下一秒继续发号。
+     * 只看各表中本生成器格式的编号（前缀 + 23 位数字），节点号不同的编号也计入，结果只会更保守。
+     */
+    private synchronized void seed() {
+        if (seeded) {
+            return;
+        }
+        long lastSecond = 0;
+        try {
+            lastSecond = Math.max(lastSecond, lastIssuedSecond(NumberColumn.BILL, "B"));
+            lastSecond = Math.max(lastSecond, lastIssuedSecond(NumberColumn.PAYMENT, ""));
+            lastSecond = Math.max(lastSecond, lastIssuedSecond(NumberColumn.REPAIR_ORDER, "R"));
+        } catch (DataAccessException ex) {
+            log.warn("读取已发放的业务编号失败，按当前时间发号: {}", ex.getMessage());
+        }
+        long now = System.currentTimeMillis() / 1000;
+        if (lastSecond >= now) {
+            log.info("上次运行已借用到 {} 秒之后，从其下一秒继续发号", lastSecond - now);
+            state.accumulateAndGet((lastSecond + 1) << SEQUENCE_BITS, Math::max);
+        }
+        seeded = true;
+    }
+
+    private long lastIssuedSecond(NumberColumn column, String prefix) {
+        for (String number : businessNumberJdbcRepository.findHighest(column, prefix, SEED_CANDIDATES)) {
+            String digits = number.substring(prefix.length());
+            if (NUMBER_DIGITS.matcher(digits).matches()) {
+                try {
+                    LocalDateTime time = LocalDateTime.parse(digits.substring(0, 14), SECOND_FORMAT);
+                    return time.atZone(zone).toEpochSecond();
+                } catch (DateTimeParseException ex) {
+                    // 不是本生成器的编号，继续看下一个
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 同一秒内只拼接业务前缀与序号；秒变化时由首个遇到的线程重新格式化时间与节点号，
+     * 并发时可能重复计算，但结果相同
+     */
+    private String format(String prefix, long epochSecond, long sequence) {
+        SecondPrefix cached = secondPrefix;
+        if (cached.epochSecond() != epochSecond) {
+            cached = new SecondPrefix(epochSecond, formatSecond(epochSecond));
+            secondPrefix = cached;
+        }
+        StringBuilder sb = new StringBuilder(prefix.length() + 23).append(prefix).append(cached.digits());
+        appendDigits(sb, sequence, 6);
+        return sb.toString();
+    }
+
+    private String formatSecond(long epochSecond) {
+        LocalDateTime time = LocalDateTime.ofEpochSecond(epochSecond, 0,
+            zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond)));
+        StringBuilder sb = new StringBuilder(17);
+        appendDigits(sb, time.getYear(), 4);
+        appendDigits(sb, time.getMonthValue(), 2);
+        appendDigits(sb, time.getDayOfMonth(), 2);
+        appendDigits(sb, time.getHour(), 2);
+        appendDigits(sb, time.getMinute(), 2);
+        appendDigits(sb, time.getSecond(), 2);
+        appendDigits(sb, nodeId, 3);
+        return sb.toString();
+    }
+
+    private static void appendDigits(StringBuilder sb, long value, int width) {
+        long divisor = 1;
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            sb.append((char) ('0' + (value / divisor) % 10));
+        }
+    }
+
+    private static int deriveNodeId() {
+        try {
+            return Math.floorMod(InetAddress.getLocalHost().getHostName().hashCode(), 1000);
+        } catch (UnknownHostException ex) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.Reminder;
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.model.DunningNotice;
+import com.propertymgmt.property.model.DunningNotice.DeliveryStatus;
+import com.propertymgmt.property.model.DunningRun;
+import com.propertymgmt.property.model.DunningRun.RunStatus;
+import com.propertymgmt.property.repository.DunningJdbcRepository;
+import com.propertymgmt.property.repository.DunningRunRepository;
+import com.propertymgmt.property.service.DunningService;
+import com.propertymgmt.property.service.ReminderChannel;
+import com.propertymgmt.property.util.BillingPeriods;
+import com.propertymgmt.property.util.Money;
+import com.propertymgmt.property.util.RateLimiter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 催缴：按业主顺序流式读取逾期账单，每位业主（户主姓名 + 房屋，同名业主按房屋区分）合并为一条提醒，
+ * 按配置速率通过投递渠道发送。
+ * 内存中只保留当前业主的账单和一小批待写入的投递记录；已在提醒间隔内成功提醒过的业主在查询时即被排除，
+ * 因此中断后重跑不会重复提醒。
+ */
+@Service
+public class DunningServiceImpl implements DunningService {
+
+    private static final Logger log = LoggerFactory.getLogger(DunningServiceImpl.class);
+    private static final int FLUSH_SIZE = 200;
+    private static final int MAX_LISTED_BILLS = 10;
+
+    private final DunningRunRepository runRepository;
+    private final DunningJdbcRepository dunningJdbcRepository;
+    private final ReminderChannel channel;
+    private final ThreadPoolTaskExecutor dunningExecutor;
+    private final boolean enabled;
+    private final double ratePerSecond;
+    private final int remindIntervalDays;
+    private final int graceDays;
+    private final int fetchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DunningServiceImpl(DunningRunRepository runRepository,
+                              DunningJdbcRepository dunningJdbcRepository,
+                              List<ReminderChannel> channels,
+                              @Qualifier("dunningExecutor") ThreadPoolTaskExecutor dunningExecutor,
+                              @Value("${app.dunning.enabled:true}") boolean enabled,
+                              @Value("${app.dunning.channel:log}") String channelName,
+                              @Value("${app.dunning.rate-per-second:200}") double ratePerSecond,
+                              @Value("${app.dunning.remind-interval-days:7}") int remindIntervalDays,
+                              @Value("${app.dunning.grace-days:15}") int graceDays,
+                              @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.runRepository = runRepository;
+        this.dunningJdbcRepository = dunningJdbcRepository;
+        this.channel = channels.stream()
+            .filter(c -> c.name().equals(channelName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("未找到催缴提醒渠道: " + channelName));
+        this.dunningExecutor = dunningExecutor;
+        this.enabled = enabled;
+        this.ratePerSecond = ratePerSecond;
+        this.remindIntervalDays = remindIntervalDays;
+        this.graceDays = graceDays;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public DunningRun start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("催缴正在进行中，请稍后再试");
+        }
+        DunningRun run;
+        try {
+            run = new DunningRun();
+            run.setChannel(channel.name());
+            run.setCutoffPeriod(cutoffPeriod(LocalDate.now()));
+            run.setStartedAt(LocalDateTime.now());
+            run = runRepository.save(run);
+            Long runId = run.getId();
+            dunningExecutor.execute(() -> {
+                try {
+                    execute(runId);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException ex) {
+            running.set(false);
+            throw new RuntimeException("任务队列已满，请稍后重试");
+        } catch (RuntimeException ex) {
+            running.set(false);
+            throw ex;
+        }
+        return run;
+    }
+
+    @Override
+    public DunningRun findById(Long id) {
+        return runRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("催缴批次不存在"));
+    }
+
+    @Override
+    public List<DunningRun> findRecent() {
+        return runRepository.findTop20ByOrderByIdDesc();
+    }
+
+    @Scheduled(cron = "${app.dunning.cron:0 0 10 * * *}")
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            start();
+        } catch (RuntimeException ex) {
+            log.warn("定时催缴未启动: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 服务重启时仍为执行中的批次已被中断，标记为失败；重新发起即可继续提醒剩余业主
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterrupted() {
+        for (DunningRun run : runRepository.findByStatus(RunStatus.RUNNING)) {
+            run.setStatus(RunStatus.FAILED);
+            run.setErrorMessage("服务重启，催缴被中断");
+            run.setFinishedAt(LocalDateTime.now());
+            runRepository.save(run);
+        }
+    }
+
+    /**
+     * 到期日（账期月末）加宽限期仍早于今天的最晚账期
+     */
+    private int cutoffPeriod(LocalDate today) {
+        return BillingPeriods.latestDueBy(today.minusDays(graceDays + 1L));
+    }
+
+    /**
+     * 当前业主的逾期账单
+     */
+    private static final class OwnerBills {
+        final String ownerName;
+        final String location;
+        final String phone;
+        final List<String> billNumbers = new ArrayList<>();
+        int billCount;
+        long cents;
+        int oldestPeriod = Integer.MAX_VALUE;
+        String oldestBillingPeriod;
+
+        OwnerBills(String ownerName, String location, String phone) {
+            this.ownerName = ownerName;
+            this.location = location;
+            this.phone = phone;
+        }
+
+        boolean isSameOwner(String ownerName, String location) {
+            return this.ownerName.equals(ownerName) && this.location.equals(location);
+        }
+
+        void add(String billNumber, String billingPeriod, int period, BigDecimal billAmount) {
+            billCount++;
+            cents = Money.add(cents, Money.toCents(billAmount));
+            if (billNumbers.size() < MAX_LISTED_BILLS) {
+                billNumbers.add(billNumber);
+            }
+            if (period < oldestPeriod) {
+                oldestPeriod = period;
+                oldestBillingPeriod = billingPeriod;
+            }
+        }
+    }
+
+    /**
+     * 批次执行状态
+     */
+    private final class Progress {
+        final Long runId;
+        final RateLimiter limiter = new RateLimiter(ratePerSecond);
+        final List<DunningNotice> pending = new ArrayList<>(FLUSH_SIZE);
+        OwnerBills current;
+        long notified;
+        long failed;
+        long bills;
+        long cents;
+
+        Progress(Long runId) {
+            this.runId = runId;
+        }
+    }
+
+    private void execute(Long runId) {
+        DunningRun run = findById(runId);
+        Progress progress = new Progress(runId);
+        try {
+            LocalDateTime remindedSince = LocalDateTime.now().minusDays(remindIntervalDays);
+            dunningJdbcRepository.streamOverdueBills(run.getCutoffPeriod(), remindedSince, fetchSize, rs -> {
+                String ownerName = rs.getString("owner_name");
+                String location = rs.getString("building");
+                if (progress.current != null && !progress.current.isSameOwner(ownerName, location)) {
+                    deliver(progress);
+                }
+                if (progress.current == null) {
+                    progress.current = new OwnerBills(ownerName, location, rs.getString("phone"));
+                }
+                progress.current.add(rs.getString("bill_number"), rs.getString("billing_period"),
+                    rs.getInt("period"), rs.getBigDecimal("amount"));
+            });
+            if (progress.current != null) {
+                deliver(progress);
+            }
+            flush(progress);
+            finish(runId, progress, RunStatus.COMPLETED, null);
+            log.info("催缴批次 {} 完成：提醒 {} 位业主，失败 {} 位，涉及账单 {} 张", runId,
+                progress.notified, progress.failed, progress.bills);
+        } catch (RuntimeException ex) {
+            log.error("催缴批次 {} 失败", runId, ex);
+            flush(progress);
+            finish(runId, progress, RunStatus.FAILED, ex.getMessage());
+        }
+    }
+
+    private void deliver(Progress progress) {
+        OwnerBills owner = progress.current;
+        progress.current = null;
+
+        BigDecimal amount = Money.toBigDecimal(owner.cents);
+        Reminder reminder = new Reminder(owner.ownerName, owner.location, owner.phone, owner.billCount, amount,
+            owner.oldestBillingPeriod, List.copyOf(owner.billNumbers));
+        DunningNotice notice = new DunningNotice();
+        notice.setRunId(progress.runId);
+        notice.setOwnerName(owner.ownerName);
+        notice.setLocation(owner.location);
+        notice.setPhone(owner.phone);
+        notice.setChannel(channel.name());
+        notice.setBillCount(owner.billCount);
+        notice.setAmount(amount);
+
+        progress.limiter.acquire();
+        try {
+            channel.send(reminder);
+            notice.setStatus(DeliveryStatus.SENT);
+            progress.notified++;
+            progress.bills += owner.billCount;
+            progress.cents = Money.add(progress.cents, owner.cents);
+        } catch (RuntimeException ex) {
+            notice.setStatus(DeliveryStatus.FAILED);
+            notice.setErrorMessage(truncate(ex.getMessage()));
+            progress.failed++;
+        }
+
+        progress.pending.add(notice);
+        if (progress.pending.size() >= FLUSH_SIZE) {
+            flush(progress);
+            saveProgress(progress);
+        }
+    }
+
+    private void flush(Progress progress) {
+        if (progress.pending.isEmpty()) {
+            return;
+        }
+        dunningJdbcRepository.insertNotices(progress.pending);
+        progress.pending.clear();
+    }
+
+    private void saveProgress(Progress progress) {
+        DunningRun run = findById(progress.runId);
+        applyCounters(run, progress);
+        runRepository.save(run);
+    }
+
+    private void finish(Long runId, Progress progress, RunStatus status, String error) {
+        DunningRun run = findById(runId);
+        applyCounters(run, progress);
+        run.setStatus(status);
+        run.setErrorMessage(truncate(error));
+        run.setFinishedAt(LocalDateTime.now());
+        runRepository.save(run);
+    }
+
+    private static void applyCounters(DunningRun run, Progress progress) {
+        run.setOwnersNotified(progress.notified);
+        run.setOwnersFailed(progress.failed);
+        run.setBillCount(progress.bills);
+        run.setTotalAmount(Money.toBigDecimal(progress.cents));
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= 255) {
+            return message;
+        }
+        return message.substring(0, 255);
+    }
+}
@@ -0,0 +1,465 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.FeePivot;
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.FeeBill.BillStatus;
+import com.propertymgmt.property.repository.FeeBillJdbcRepository;
+import com.propertymgmt.property.service.FeeAnalyticsService;
+import com.propertymgmt.property.util.BillingPeriods;
+import com.propertymgmt.property.util.Buildings;
+import com.propertymgmt.property.util.Money;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 收费分析缓存：启动时把全部账单装入列式数组，之后随出账与缴费增量更新；
+ * 透视查询按固定行数分段在 fork-join 公共池上并行扫描，各段独立累加后合并。
+ */
+@Service
+public class FeeAnalyticsServiceImpl implements FeeAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(FeeAnalyticsServiceImpl.class);
+
+    private static final int SEGMENT_ROWS = 1 << 16;
+    private static final int LOAD_BATCH = 1000;
+    private static final int MAX_GROUPS = 1 << 18;
+
+    // 每个分组的度量：账单数、应收（分）、已缴账单数、已缴（分）
+    private static final int MEASURES = 4;
+
+    private final FeeBillJdbcRepository feeBillJdbcRepository;
+    private final int fetchSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 以下字段由 lock 保护；装载期间的增量同时写入 loading，装载完成后整体替换
+    private FeeFactColumns columns = new FeeFactColumns();
+    private FeeFactColumns loading;
+    private LocalDateTime loadedAt;
+
+    public FeeAnalyticsServiceImpl(FeeBillJdbcRepository feeBillJdbcRepository,
+                                   @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.feeBillJdbcRepository = feeBillJdbcRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    private record Fact(String billNumber, String building, String feeType, int period, long cents, byte status) {
+    }
+
+    private enum Dimension {
+        BUILDING, TYPE, MONTH, QUARTER, YEAR, STATUS;
+
+        static Dimension parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("不支持的透视维度: " + value
+                    + "，可选 building / type / month / quarter / year / status");
+            }
+        }
+    }
+
+    /**
+     * 一个透视维度在当前列存上的分组方式：分组下标 = code(row)，取值范围 [0, cardinality)
+     */
+    private record Grouping(Dimension dimension, int cardinality, int base) {
+
+        static final Grouping NONE = new Grouping(null, 1, 0);
+
+        static Grouping of(Dimension dimension, FeeFactColumns c) {
+            boolean hasPeriods = c.minMonth <= c.maxMonth;
+            return switch (dimension) {
+                case BUILDING -> new Grouping(dimension, Math.max(1, c.buildingNames().size()), 0);
+                case TYPE -> new Grouping(dimension, Math.max(1, c.typeNames().size()), 0);
+                case STATUS -> new Grouping(dimension, BillStatus.values().length, 0);
+                case MONTH -> hasPeriods
+                    ? new Grouping(dimension, c.maxMonth - c.minMonth + 2, c.minMonth)
+                    : new Grouping(dimension, 1, 0);
+                case QUARTER -> hasPeriods
+                    ? new Grouping(dimension, c.maxMonth / 3 - c.minMonth / 3 + 2, c.minMonth / 3)
+                    : new Grouping(dimension, 1, 0);
+                case YEAR -> hasPeriods
+                    ? new Grouping(dimension, c.maxMonth / 12 - c.minMonth / 12 + 2, c.minMonth / 12)
+                    : new Grouping(dimension, 1, 0);
+            };
+        }
+
+        /**
+         * 按列计算一段行的分组下标：groups[i] += code(start + i) × scale（每段只分派一次维度）
+         */
+        void addCodes(FeeFactColumns c, int start, int[] groups, int scale) {
+            if (dimension == null) {
+                return;
+            }
+            switch (dimension) {
+                case BUILDING -> addDictCodes(c.building, start, groups, scale);
+                case TYPE -> addDictCodes(c.type, start, groups, scale);
+                case STATUS -> {
+                    byte[] status = c.status;
+                    for (int i = 0; i < groups.length; i++) {
+                        groups[i] += status[start + i] * scale;
+                    }
+                }
+                case MONTH -> addPeriodCodes(c.period, start, groups, scale, 1);
+                case QUARTER -> addPeriodCodes(c.period, start, groups, scale, 3);
+                case YEAR -> addPeriodCodes(c.period, start, groups, scale, 12);
+            }
+        }
+
+        private static void addDictCodes(int[] column, int start, int[] groups, int scale) {
+            for (int i = 0; i < groups.length; i++) {
+                groups[i] += column[start + i] * scale;
+            }
+        }
+
+        /**
+         * 账期列先查表再累加：表按 yyyyMM 与最早账期的差值寻址，避免逐行做除法；无法识别的账期归入下标 0
+         */
+        private void addPeriodCodes(int[] period, int start, int[] groups, int scale, int months) {
+            if (cardinality == 1) {
+                return;
+            }
+            int firstKey = keyOf(base * months);
+            int[] table = new int[keyOf((base + cardinality - 2) * months + months - 1) - firstKey + 1];
+            for (int key = firstKey; key < firstKey + table.length; key++) {
+                int month = key % 100;
+                if (month >= 1 && month <= 12) {
+                    table[key - firstKey] = (FeeFactColumns.monthIndex(key) / months - base + 1) * scale;
+                }
+            }
+            for (int i = 0; i < groups.length; i++) {
+                int p = period[start + i];
+                groups[i] += p == BillingPeriods.UNKNOWN ? 0 : table[p - firstKey];
+            }
+        }
+
+        private static int keyOf(int monthIndex) {
+            return (monthIndex / 12) * 100 + monthIndex % 12 + 1;
+        }
+
+        String label(FeeFactColumns c, int code) {
+            if (dimension == null) {
+                return null;
+            }
+            return switch (dimension) {
+                case BUILDING -> c.buildingNames().isEmpty() ? "" : c.buildingNames().get(code);
+                case TYPE -> c.typeNames().isEmpty() ? "" : c.typeNames().get(code);
+                case STATUS -> statusLabel(BillStatus.values()[code]);
+                case MONTH -> code == 0 ? "未识别账期"
+                    : (base + code - 1) / 12 + "年" + ((base + code - 1) % 12 + 1) + "月";
+                case QUARTER -> code == 0 ? "未识别账期"
+                    : (base + code - 1) / 4 + "年第" + ((base + code - 1) % 4 + 1) + "季度";
+                case YEAR -> code == 0 ? "未识别账期" : (base + code - 1) + "年";
+            };
+        }
+
+        /**
+         * 分组的输出顺序：楼栋、费用类型按名称，其余按下标
+         */
+        int[] order(FeeFactColumns c) {
+            Comparator<Integer> comparator = dimension == Dimension.BUILDING || dimension == Dimension.TYPE
+                ? Comparator.comparing(code -> label(c, code))
+                : Comparator.naturalOrder();
+            return IntStream.range(0, cardinality).boxed().sorted(comparator).mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * 筛选条件：楼栋、费用类型为字典编码（-1 表示不限），账期为月份序号闭区间
+     */
+    private record Filter(int building, int feeType, int fromMonth, int toMonth, boolean periodBounded) {
+
+        boolean active() {
+            return building >= 0 || feeType >= 0 || periodBounded;
+        }
+
+        boolean matches(FeeFactColumns c, int row) {
+            if (building >= 0 && c.building[row] != building) {
+                return false;
+            }
+            if (feeType >= 0 && c.type[row] != feeType) {
+                return false;
+            }
+            if (periodBounded) {
+                int period = c.period[row];
+                if (period == BillingPeriods.UNKNOWN) {
+                    return false;
+                }
+                int month = FeeFactColumns.monthIndex(period);
+                return month >= fromMonth && month <= toMonth;
+            }
+            return true;
+        }
+    }
+
+    // ========== 增量维护 ==========
+
+    @Override
+    public void recordBills(Collection<FeeBill> bills) {
+        record(bills, false);
+    }
+
+    @Override
+    public void recordBillsPaid(Collection<FeeBill> bills) {
+        record(bills, true);
+    }
+
+    @Override
+    public void recordLateFees(Collection<FeeBill> bills) {
+        record(bills, false);
+    }
+
+    private void record(Collection<FeeBill> bills, boolean paid) {
+        List<Fact> facts = new ArrayList<>(bills.size());
+        for (FeeBill bill : bills) {
+            int period = bill.getPeriod() != null ? bill.getPeriod() : BillingPeriods.toKey(bill.getBillingPeriod());
+            byte status = paid ? FeeFactColumns.PAID : (byte) bill.getStatus().ordinal();
+            facts.add(new Fact(bill.getBillNumber(), Buildings.of(bill.getBuilding()), bill.getType(), period,
+                Money.toCents(bill.getPayableAmount()), status));
+        }
+        // 缓存只反映已提交的数据：事务回滚时增量随之丢弃
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(facts, true);
+                }
+            });
+        } else {
+            apply(facts, true);
+        }
+    }
+
+    private void apply(List<Fact> facts, boolean live) {
+        lock.writeLock().lock();
+        try {
+            for (Fact fact : facts) {
+                if (live) {
+                    upsert(columns, fact);
+                }
+                if (loading != null) {
+                    upsert(loading, fact);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void upsert(FeeFactColumns target, Fact fact) {
+        target.upsert(fact.billNumber(), fact.building(), fact.feeType(), fact.period(), fact.cents(), fact.status());
+    }
+
+    // ========== 透视查询 ==========
+
+    @Override
+    public FeePivot pivot(String rows, String columns, String building, String feeType, String from, String to) {
+        Dimension rowDimension = Dimension.parse(rows != null && !rows.isBlank() ? rows : "building");
+        Dimension columnDimension = columns != null && !columns.isBlank() ? Dimension.parse(columns) : null;
+        if (rowDimension == columnDimension) {
+            throw new IllegalArgumentException("行维度与列维度不能相同");
+        }
+        Integer fromPeriod = from != null && !from.isBlank() ? BillingPeriods.requireKey(from) : null;
+        Integer toPeriod = to != null && !to.isBlank() ? BillingPeriods.requireKey(to) : null;
+
+        lock.readLock().lock();
+        try {
+            if (loadedAt == null) {
+                throw new ConflictException("收费分析缓存正在装载，请稍后再试");
+            }
+            long start = System.nanoTime();
+            FeeFactColumns c = this.columns;
+            Grouping rowGrouping = Grouping.of(rowDimension, c);
+            Grouping columnGrouping = columnDimension != null ? Grouping.of(columnDimension, c) : Grouping.NONE;
+            if ((long) rowGrouping.cardinality() * columnGrouping.cardinality() > MAX_GROUPS) {
+                throw new IllegalArgumentException("透视分组过多，请缩小维度或筛选范围");
+            }
+            Filter filter = new Filter(
+                codeOf(building, c::buildingCode),
+                codeOf(feeType, c::typeCode),
+                fromPeriod != null ? FeeFactColumns.monthIndex(fromPeriod) : Integer.MIN_VALUE,
+                toPeriod != null ? FeeFactColumns.monthIndex(toPeriod) : Integer.MAX_VALUE,
+                fromPeriod != null || toPeriod != null);
+
+            int groups = rowGrouping.cardinality() * columnGrouping.cardinality();
+            int size = c.size;
+            int segments = (size + SEGMENT_ROWS - 1) / SEGMENT_ROWS;
+            long[] sums = filter.building() == Integer.MIN_VALUE || filter.feeType() == Integer.MIN_VALUE
+                ? new long[groups * MEASURES]
+                : IntStream.range(0, segments).parallel()
+                    .mapToObj(s -> scan(c, s * SEGMENT_ROWS, Math.min(size, (s + 1) * SEGMENT_ROWS),
+                        rowGrouping, columnGrouping, filter))
+                    .reduce(FeeAnalyticsServiceImpl::merge)
+                    .orElseGet(() -> new long[groups * MEASURES]);
+
+            FeePivot pivot = new FeePivot();
+            pivot.setRowDimension(rowDimension.name().toLowerCase(Locale.ROOT));
+            pivot.setColumnDimension(columnDimension != null ? columnDimension.name().toLowerCase(Locale.ROOT) : null);
+            List<FeePivot.Cell> cells = new ArrayList<>();
+            long[] total = new long[MEASURES];
+            for (int r : rowGrouping.order(c)) {
+                for (int col : columnGrouping.order(c)) {
+                    int g = (r * columnGrouping.cardinality() + col) * MEASURES;
+                    if (sums[g] == 0) {
+                        continue;
+                    }
+                    cells.add(toCell(rowGrouping.label(c, r), columnGrouping.label(c, col), sums, g));
+                    for (int m = 0; m < MEASURES; m++) {
+                        total[m] = Money.add(total[m], sums[g + m]);
+                    }
+                }
+            }
+            pivot.setCells(cells);
+            pivot.setTotal(toCell(null, null, total, 0));
+            pivot.setRowsScanned(size);
+            pivot.setScanMillis((System.nanoTime() - start) / 1_000_000.0);
+            pivot.setLoadedAt(loadedAt);
+            return pivot;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 筛选值的字典编码：未指定为 -1，缓存中不存在为 Integer.MIN_VALUE（结果为空）
+     */
+    private static int codeOf(String value, ToIntFunction<String> lookup) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        int code = lookup.applyAsInt(value.trim());
+        return code >= 0 ? code : Integer.MIN_VALUE;
+    }
+
+    private static long[] scan(FeeFactColumns c, int start, int end, Grouping rows, Grouping columns, Filter filter) {
+        int[] groups = new int[end - start];
+        rows.addCodes(c, start, groups, columns.cardinality() * MEASURES);
+        columns.addCodes(c, start, groups, MEASURES);
+
+        // 单段金额合计远小于 long 上限，段内直接累加，合并时再做溢出检查
+        long[] sums = new long[rows.cardinality() * columns.cardinality() * MEASURES];
+        long[] cents = c.cents;
+        byte[] status = c.status;
+        boolean filtered = filter.active();
+        for (int i = 0; i < groups.length; i++) {
+            int row = start + i;
+            if (filtered && !filter.matches(c, row)) {
+                continue;
+            }
+            int g = groups[i];
+            long paid = status[row] == FeeFactColumns.PAID ? 1 : 0;
+            sums[g]++;
+            sums[g + 1] += cents[row];
+            sums[g + 2] += paid;
+            sums[g + 3] += cents[row] & -paid;
+        }
+        return sums;
+    }
+
+    private static long[] merge(long[] left, long[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] = Money.add(left[i], right[i]);
+        }
+        return left;
+    }
+
+    private static FeePivot.Cell toCell(String row, String column, long[] sums, int offset) {
+        FeePivot.Cell cell = new FeePivot.Cell();
+        cell.setRow(row);
+        cell.setColumn(column);
+        cell.setBillCount(sums[offset]);
+        cell.setBilledAmount(Money.toBigDecimal(sums[offset + 1]));
+        cell.setPaidCount(sums[offset + 2]);
+        cell.setPaidAmount(Money.toBigDecimal(sums[offset + 3]));
+        cell.setArrearsAmount(Money.toBigDecimal(sums[offset + 1] - sums[offset + 3]));
+        cell.setPaidRate(Money.percent(sums[offset + 3], sums[offset + 1]));
+        return cell;
+    }
+
+    private static String statusLabel(BillStatus status) {
+        return switch (status) {
+            case PAID -> "已缴费";
+            case PENDING -> "待缴费";
+            case OVERDUE -> "已逾期";
+        };
+    }
+
+    // ========== 装载 ==========
+
+    /**
+     * 以只进游标把账单表装入新的列存再整体替换；装载期间提交的增量同时写入新列存，
+     * 与游标读到的旧状态按“已缴不回退”合并
+     */
+    @Override
+    public int reload() {
+        lock.writeLock().lock();
+        try {
+            if (loading != null) {
+                throw new ConflictException("收费分析缓存正在装载，请稍后再试");
+            }
+            loading = new FeeFactColumns();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            List<Fact> batch = new ArrayList<>(LOAD_BATCH);
+            feeBillJdbcRepository.streamFacts(fetchSize, rs -> {
+                batch.add(new Fact(rs.getString("bill_number"), Buildings.of(rs.getString("building")),
+                    rs.getString("type"), rs.getInt("period"), Money.toCents(rs.getBigDecimal("amount")),
+                    (byte) BillStatus.valueOf(rs.getString("status")).ordinal()));
+                if (batch.size() == LOAD_BATCH) {
+                    apply(batch, false);
+                    batch.clear();
+                }
+            });
+            apply(batch, false);
+
+            int size;
+            lock.writeLock().lock();
+            try {
+                columns = loading;
+                loading = null;
+                loadedAt = LocalDateTime.now();
+                size = columns.size;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("收费分析缓存已装载 {} 张账单，耗时 {} ms", size, System.currentTimeMillis() - start);
+            return size;
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                loading = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("收费分析缓存装载失败，可稍后手动重新装载: {}", ex.getMessage());
+        }
+    }
+}
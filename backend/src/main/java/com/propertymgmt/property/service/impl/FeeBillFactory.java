@@ -0,0 +1,84 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.FeeItem;
+import com.propertymgmt.property.repository.FeeBillJdbcRepository.BillingTarget;
+import com.propertymgmt.property.service.BusinessNumberService;
+import com.propertymgmt.property.util.Money;
+import com.propertymgmt.property.util.PricingFunction;
+import com.propertymgmt.property.util.PricingRules;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 账单构造：编号与按收费项目计价，供批量出账与出账任务共用。
+ * 计价规则按收费项目版本编译一次后缓存，出账时不再解析任何字符串。
+ */
+@Component
+public class FeeBillFactory {
+
+    private final BusinessNumberService businessNumberService;
+    private final Map<Long, CompiledPricing> pricingCache = new ConcurrentHashMap<>();
+
+    public FeeBillFactory(BusinessNumberService businessNumberService) {
+        this.businessNumberService = businessNumberService;
+    }
+
+    private record CompiledPricing(Long version, PricingFunction function) {
+    }
+
+    /**
+     * 取收费项目当前版本的计价函数
+     */
+    public PricingFunction pricingFor(FeeItem feeItem) {
+        CompiledPricing cached = pricingCache.get(feeItem.getId());
+        if (cached != null && Objects.equals(cached.version(), feeItem.getVersion())) {
+            return cached.function();
+        }
+        PricingFunction function = PricingRules.compile(feeItem);
+        pricingCache.put(feeItem.getId(), new CompiledPricing(feeItem.getVersion(), function));
+        return function;
+    }
+
+    /**
+     * 按面积出账使用的计价函数；抄表计费项目需要用量，不能按面积出账
+     */
+    public PricingFunction areaPricingFor(FeeItem feeItem) {
+        if (feeItem.getPricingMode() == FeeItem.PricingMode.METERED) {
+            throw new IllegalArgumentException("抄表计费项目需按抄表读数出账，请使用整月出账");
+        }
+        return pricingFor(feeItem);
+    }
+
+    /**
+     * 构造账单；住户缺少计价所需的面积或用量时返回 null
+     */
+    public FeeBill newBill(FeeItem feeItem, PricingFunction pricing, BillingTarget target, String billingPeriod) {
+        long cents = pricing.amountCents(target.quantityHundredths());
+        if (cents == PricingFunction.UNPRICED) {
+            return null;
+        }
+        FeeBill bill = new FeeBill();
+        bill.setBillNumber(businessNumberService.nextBillNumber());
+        bill.setOwnerName(target.name());
+        bill.setBuilding(location(target.building(), target.unit(), target.roomNumber()));
+        bill.setType(feeItem.getName());
+        bill.setBillingPeriod(billingPeriod);
+        bill.setStatus(FeeBill.BillStatus.PENDING);
+        bill.setAmount(Money.toBigDecimal(cents));
+        return bill;
+    }
+
+    /**
+     * 账单上的房屋描述（如 "1号楼 2单元 301"）；出账反连接以 SQL concat 按同一格式比对，两处须保持一致
+     */
+    static String location(String building, String unit, String roomNumber) {
+        return building + " " + unit + " " + roomNumber;
+    }
+
+    public void evict(Long feeItemId) {
+        pricingCache.remove(feeItemId);
+    }
+}
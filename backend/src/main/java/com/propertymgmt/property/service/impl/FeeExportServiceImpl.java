@@ -0,0 +1,131 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.FeeQueryFilter;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.Payment;
+import com.propertymgmt.property.repository.FeeBillJdbcRepository;
+import com.propertymgmt.property.repository.FeeSpecifications;
+import com.propertymgmt.property.repository.PaymentJdbcRepository;
+import com.propertymgmt.property.service.FeeExportService;
+import com.propertymgmt.property.util.BillingPeriods;
+import com.propertymgmt.property.util.ExportFormat;
+import com.propertymgmt.property.util.RowWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+@Service
+public class FeeExportServiceImpl implements FeeExportService {
+
+    private final FeeBillJdbcRepository feeBillJdbcRepository;
+    private final PaymentJdbcRepository paymentJdbcRepository;
+    private final int fetchSize;
+
+    public FeeExportServiceImpl(FeeBillJdbcRepository feeBillJdbcRepository,
+                                PaymentJdbcRepository paymentJdbcRepository,
+                                @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.feeBillJdbcRepository = feeBillJdbcRepository;
+        this.paymentJdbcRepository = paymentJdbcRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void validateBillFilter(FeeQueryFilter filter) {
+        if (StringUtils.hasText(filter.getPeriod())) {
+            BillingPeriods.requireKey(filter.getPeriod());
+        }
+        if (StringUtils.hasText(filter.getStatus())) {
+            FeeSpecifications.parseStatus(FeeBill.BillStatus.class, filter.getStatus());
+        }
+    }
+
+    @Override
+    public void validatePaymentFilter(FeeQueryFilter filter) {
+        if (StringUtils.hasText(filter.getPeriod())) {
+            BillingPeriods.requireKey(filter.getPeriod());
+        }
+        if (StringUtils.hasText(filter.getStatus())) {
+            FeeSpecifications.parseStatus(Payment.PaymentStatus.class, filter.getStatus());
+        }
+    }
+
+    @Override
+    public long exportBills(FeeQueryFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        long[] count = {0};
+        try (RowWriter writer = format.newWriter(out, "账单")) {
+            writer.writeRow("账单编号", "业主", "房屋", "费用类型", "金额", "账期", "状态", "缴费日期", "支付方式", "创建时间");
+            feeBillJdbcRepository.streamBills(filter, fetchSize, rs -> {
+                Date paidAt = rs.getDate("paid_at");
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                write(writer,
+                    rs.getString("bill_number"),
+                    rs.getString("owner_name"),
+                    rs.getString("building"),
+                    rs.getString("type"),
+                    rs.getBigDecimal("amount"),
+                    rs.getString("billing_period"),
+                    billStatusLabel(rs.getString("status")),
+                    paidAt != null ? paidAt.toLocalDate() : null,
+                    rs.getString("pay_method"),
+                    createdAt != null ? createdAt.toLocalDateTime() : null);
+                count[0]++;
+            });
+        }
+        return count[0];
+    }
+
+    @Override
+    public long exportPayments(FeeQueryFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        long[] count = {0};
+        try (RowWriter writer = format.newWriter(out, "缴费记录")) {
+            writer.writeRow("订单号", "账单ID", "业主", "房屋", "费用类型", "金额", "支付方式", "状态", "缴费时间");
+            paymentJdbcRepository.streamPayments(filter, fetchSize, rs -> {
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                long billId = rs.getLong("bill_id");
+                write(writer,
+                    rs.getString("order_number"),
+                    rs.wasNull() ? null : billId,
+                    rs.getString("owner_name"),
+                    rs.getString("building"),
+                    rs.getString("type"),
+                    rs.getBigDecimal("amount"),
+                    rs.getString("pay_method"),
+                    paymentStatusLabel(rs.getString("status")),
+                    createdAt != null ? createdAt.toLocalDateTime() : null);
+                count[0]++;
+            });
+        }
+        return count[0];
+    }
+
+    private static void write(RowWriter writer, Object... values) {
+        try {
+            writer.writeRow(values);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String billStatusLabel(String status) {
+        return switch (status) {
+            case "PAID" -> "已缴费";
+            case "PENDING" -> "待缴费";
+            case "OVERDUE" -> "已逾期";
+            default -> status;
+        };
+    }
+
+    private static String paymentStatusLabel(String status) {
+        return switch (status) {
+            case "SUCCESS" -> "成功";
+            case "FAILED" -> "失败";
+            case "PENDING" -> "处理中";
+            default -> status;
+        };
+    }
+}
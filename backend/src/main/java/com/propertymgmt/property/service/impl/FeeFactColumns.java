@@ -0,0 +1,153 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.model.FeeBill.BillStatus;
+import com.propertymgmt.property.util.BillingPeriods;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 账单事实的列式存储：楼栋、费用类型按字典编码，账期（yyyyMM）、金额（分）、状态各占一列原始类型数组。
+ * 账单按账单编号的 64 位哈希定位（JDBC 批量写入的账单没有回填 id）；非线程安全，由调用方加锁。
+ */
+final class FeeFactColumns {
+
+    static final byte PAID = (byte) BillStatus.PAID.ordinal();
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private final List<String> buildingNames = new ArrayList<>();
+    private final Map<String, Integer> buildingCodes = new HashMap<>();
+    private final List<String> typeNames = new ArrayList<>();
+    private final Map<String, Integer> typeCodes = new HashMap<>();
+
+    int[] building = new int[INITIAL_CAPACITY];
+    int[] type = new int[INITIAL_CAPACITY];
+    int[] period = new int[INITIAL_CAPACITY];
+    long[] cents = new long[INITIAL_CAPACITY];
+    byte[] status = new byte[INITIAL_CAPACITY];
+    int size;
+
+    // 已识别账期的月份序号（年 × 12 + 月 - 1）范围，用于把账期映射为连续的分组下标
+    int minMonth = Integer.MAX_VALUE;
+    int maxMonth = Integer.MIN_VALUE;
+
+    // 账单编号哈希 -> 行号 + 1 的开放寻址表，0 表示空槽
+    private long[] slotKeys = new long[INITIAL_CAPACITY * 2];
+    private int[] slotRows = new int[INITIAL_CAPACITY * 2];
+
+    /**
+     * 写入或更新一张账单；账单只会从未缴变为已缴，已缴的行不再回退（装载与增量更新交错时以已缴为准）。
+     * 应缴金额只会因计收滞纳金而增加，已有的行取较大值，计收增量与装载读到的旧金额交错时结果不变
+     */
+    void upsert(String billNumber, String buildingName, String feeType, int billPeriod, long amountCents,
+                byte billStatus) {
+        long key = hash(billNumber);
+        int slot = slotOf(key);
+        if (slotRows[slot] != 0) {
+            int row = slotRows[slot] - 1;
+            if (status[row] != PAID) {
+                status[row] = billStatus;
+            }
+            if (amountCents > cents[row]) {
+                cents[row] = amountCents;
+            }
+            return;
+        }
+        if (size == status.length) {
+            grow();
+            slot = slotOf(key);
+        }
+        int row = size++;
+        building[row] = code(buildingName, buildingNames, buildingCodes);
+        type[row] = code(feeType, typeNames, typeCodes);
+        period[row] = billPeriod;
+        cents[row] = amountCents;
+        status[row] = billStatus;
+        slotKeys[slot] = key;
+        slotRows[slot] = row + 1;
+        if (billPeriod != BillingPeriods.UNKNOWN) {
+            int month = monthIndex(billPeriod);
+            minMonth = Math.min(minMonth, month);
+            maxMonth = Math.max(maxMonth, month);
+        }
+    }
+
+    List<String> buildingNames() {
+        return buildingNames;
+    }
+
+    List<String> typeNames() {
+        return typeNames;
+    }
+
+    /**
+     * 楼栋的字典编码，不存在时为 -1
+     */
+    int buildingCode(String name) {
+        return buildingCodes.getOrDefault(name, -1);
+    }
+
+    int typeCode(String name) {
+        return typeCodes.getOrDefault(name, -1);
+    }
+
+    static int monthIndex(int billPeriod) {
+        return (billPeriod / 100) * 12 + billPeriod % 100 - 1;
+    }
+
+    private static int code(String value, List<String> names, Map<String, Integer> codes) {
+        String name = value != null ? value : "";
+        Integer code = codes.get(name);
+        if (code == null) {
+            code = names.size();
+            names.add(name);
+            codes.put(name, code);
+        }
+        return code;
+    }
+
+    private int slotOf(long key) {
+        int mask = slotKeys.length - 1;
+        int slot = (int) (key ^ (key >>> 32)) & mask;
+        while (slotRows[slot] != 0 && slotKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = status.length * 2;
+        building = Arrays.copyOf(building, capacity);
+        type = Arrays.copyOf(type, capacity);
+        period = Arrays.copyOf(period, capacity);
+        cents = Arrays.copyOf(cents, capacity);
+        status = Arrays.copyOf(status, capacity);
+
+        long[] oldKeys = slotKeys;
+        int[] oldRows = slotRows;
+        slotKeys = new long[capacity * 2];
+        slotRows = new int[capacity * 2];
+        for (int i = 0; i < oldRows.length; i++) {
+            if (oldRows[i] != 0) {
+                int slot = slotOf(oldKeys[i]);
+                slotKeys[slot] = oldKeys[i];
+                slotRows[slot] = oldRows[i];
+            }
+        }
+    }
+
+    /**
+     * FNV-1a 64 位哈希；千万级账单下发生碰撞的概率低于 1e-5；发生碰撞时后一张账单并入前一张所在的行
+     */
+    private static long hash(String billNumber) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < billNumber.length(); i++) {
+            h ^= billNumber.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
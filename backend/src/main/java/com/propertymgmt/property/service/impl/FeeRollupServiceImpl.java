@@ -0,0 +1,164 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.FeeStatistics;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.FeeMonthlyRollup;
+import com.propertymgmt.property.repository.FeeBillRepository;
+import com.propertymgmt.property.repository.FeeMonthlyRollupJdbcRepository;
+import com.propertymgmt.property.repository.FeeMonthlyRollupJdbcRepository.Delta;
+import com.propertymgmt.property.repository.FeeMonthlyRollupJdbcRepository.Key;
+import com.propertymgmt.property.repository.FeeMonthlyRollupRepository;
+import com.propertymgmt.property.service.FeeRollupService;
+import com.propertymgmt.property.util.BillingPeriods;
+import com.propertymgmt.property.util.Money;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class FeeRollupServiceImpl implements FeeRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(FeeRollupServiceImpl.class);
+
+    private final FeeMonthlyRollupRepository rollupRepository;
+    private final FeeMonthlyRollupJdbcRepository rollupJdbcRepository;
+    private final FeeBillRepository feeBillRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public FeeRollupServiceImpl(FeeMonthlyRollupRepository rollupRepository,
+                                FeeMonthlyRollupJdbcRepository rollupJdbcRepository,
+                                FeeBillRepository feeBillRepository,
+                                JdbcTemplate jdbcTemplate) {
+        this.rollupRepository = rollupRepository;
+        this.rollupJdbcRepository = rollupJdbcRepository;
+        this.feeBillRepository = feeBillRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // ========== 增量维护 ==========
+
+    @Override
+    public void recordBilled(int period, String feeType, long count, long amountCents) {
+        if (count == 0) {
+            return;
+        }
+        rollupJdbcRepository.apply(period, feeType, Delta.billed(count, amountCents));
+    }
+
+    @Override
+    public void recordBillPaid(int period, String feeType, long amountCents) {
+        rollupJdbcRepository.apply(period, feeType, Delta.paid(1, amountCents));
+    }
+
+    @Override
+    public void recordLateFee(int period, String feeType, long amountCents) {
+        rollupJdbcRepository.apply(period, feeType, Delta.billed(0, amountCents));
+    }
+
+    @Override
+    public void recordPaymentReceived(LocalDateTime paidAt, String feeType, long amountCents) {
+        rollupJdbcRepository.apply(BillingPeriods.toKey(paidAt), feeType, Delta.received(1, amountCents));
+    }
+
+    @Override
+    public void recordBillsPaid(Collection<FeeBill> bills, LocalDateTime paidAt) {
+        // 先在内存中按汇总行归并，每行只更新一次
+        int paymentMonth = BillingPeriods.toKey(paidAt);
+        Map<Key, Delta> deltas = new HashMap<>();
+        for (FeeBill bill : bills) {
+            long cents = Money.toCents(bill.getPayableAmount());
+            deltas.merge(new Key(bill.getPeriod(), bill.getType()), Delta.paid(1, cents), Delta::plus);
+            deltas.merge(new Key(paymentMonth, bill.getType()), Delta.received(1, cents), Delta::plus);
+        }
+        deltas.forEach((key, delta) -> rollupJdbcRepository.apply(key.period(), key.feeType(), delta));
+    }
+
+    // ========== 查询 ==========
+
+    @Override
+    @Transactional(readOnly = true)
+    public FeeStatistics getStatistics(YearMonth month) {
+        List<FeeMonthlyRollup> rows = rollupRepository.findByPeriod(BillingPeriods.toKey(month));
+
+        // 本月应收 / 本月账期已缴 / 本月实收（分）
+        long monthlyReceivable = Money.ZERO;
+        long monthlyBillsPaid = Money.ZERO;
+        long monthlyReceived = Money.ZERO;
+        for (FeeMonthlyRollup row : rows) {
+            monthlyReceivable = Money.add(monthlyReceivable, Money.toCents(row.getBilledAmount()));
+            monthlyBillsPaid = Money.add(monthlyBillsPaid, Money.toCents(row.getPaidAmount()));
+            monthlyReceived = Money.add(monthlyReceived, Money.toCents(row.getReceivedAmount()));
+        }
+
+        // 欠费总额：所有账期的应收减已缴
+        BigDecimal totalArrears = rollupRepository.sumArrears();
+
+        // 缴费率：本月账期已缴费 / 本月账期应收 × 100%，保留两位小数
+        Double paymentRate = Money.percent(monthlyBillsPaid, monthlyReceivable);
+
+        return new FeeStatistics(Money.toBigDecimal(monthlyReceivable), Money.toBigDecimal(monthlyReceived),
+            totalArrears, paymentRate);
+    }
+
+    // ========== 全量重建 ==========
+
+    @Override
+    public int rebuild() {
+        Map<Key, Delta> rows = new HashMap<>();
+
+        // 账单口径（本金加已计收的滞纳金）：按规范化账期、类型、状态分组
+        jdbcTemplate.query("""
+            select period, type, status, count(*) as cnt, coalesce(sum(amount + coalesce(late_fee, 0)), 0) as total
+            from fee_bills
+            group by period, type, status
+            """, rs -> {
+            Key key = new Key(rs.getInt("period"), rs.getString("type"));
+            long count = rs.getLong("cnt");
+            long total = Money.toCents(rs.getBigDecimal("total"));
+            Delta delta = Delta.billed(count, total);
+            if ("PAID".equals(rs.getString("status"))) {
+                delta = delta.plus(Delta.paid(count, total));
+            }
+            rows.merge(key, delta, Delta::plus);
+        });
+
+        // 缴费口径：按缴费发生月份、类型分组
+        jdbcTemplate.query("""
+            select year(created_at) as y, month(created_at) as m, type,
+                   count(*) as cnt, coalesce(sum(amount), 0) as total
+            from payments
+            where status = 'SUCCESS'
+            group by year(created_at), month(created_at), type
+            """, rs -> {
+            Key key = new Key(rs.getInt("y") * 100 + rs.getInt("m"), rs.getString("type"));
+            rows.merge(key, Delta.received(rs.getLong("cnt"), Money.toCents(rs.getBigDecimal("total"))), Delta::plus);
+        });
+
+        rollupJdbcRepository.deleteAll();
+        rollupJdbcRepository.insertAll(rows);
+        log.info("收费月度汇总已重建，共 {} 行", rows.size());
+        return rows.size();
+    }
+
+    /**
+     * 首次启动（汇总表为空但已有账单）时自动重建一次
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (rollupRepository.count() == 0 && feeBillRepository.count() > 0) {
+            rebuild();
+        }
+    }
+}
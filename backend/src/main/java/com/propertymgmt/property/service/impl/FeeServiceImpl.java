@@ -1,54 +1,117 @@
 package com.propertymgmt.property.service.impl;
 
+import com.propertymgmt.property.dto.BatchPaymentReceipt;
+import com.propertymgmt.property.dto.BatchPaymentRequest;
 import com.propertymgmt.property.dto.BillRequest;
+import com.propertymgmt.property.dto.CursorPage;
 import com.propertymgmt.property.dto.FeeItemRequest;
+import com.propertymgmt.property.dto.FeeQueryFilter;
 import com.propertymgmt.property.dto.FeeStatistics;
+import com.propertymgmt.property.dto.GenerateBillsResult;
 import com.propertymgmt.property.dto.PaymentRequest;
+import com.propertymgmt.property.exception.ConflictException;
 import com.propertymgmt.property.model.FeeBill;
 import com.propertymgmt.property.model.FeeItem;
 import com.propertymgmt.property.model.Payment;
+import com.propertymgmt.property.model.PricingTier;
 import com.propertymgmt.property.model.Resident;
+import com.propertymgmt.property.repository.FeeBillJdbcRepository;
 import com.propertymgmt.property.repository.FeeBillRepository;
 import com.propertymgmt.property.repository.FeeItemRepository;
+import com.propertymgmt.property.repository.FeeSpecifications;
+import com.propertymgmt.property.repository.KeysetSpecifications;
+import com.propertymgmt.property.repository.PaymentJdbcRepository;
 import com.propertymgmt.property.repository.PaymentRepository;
 import com.propertymgmt.property.repository.ResidentRepository;
+import com.propertymgmt.property.service.ArrearsAgingService;
+import com.propertymgmt.property.service.BusinessNumberService;
+import com.propertymgmt.property.service.FeeAnalyticsService;
+import com.propertymgmt.property.service.FeeRollupService;
 import com.propertymgmt.property.service.FeeService;
+import com.propertymgmt.property.service.LedgerService;
+import com.propertymgmt.property.service.PropertyUnitService;
+import com.propertymgmt.property.util.BillingPeriods;
+import com.propertymgmt.property.util.Money;
+import com.propertymgmt.property.util.KeysetCursor;
+import com.propertymgmt.property.util.PricingFunction;
+import com.propertymgmt.property.util.PricingRules;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @Transactional(readOnly = true)
 public class FeeServiceImpl implements FeeService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final FeeBillRepository feeBillRepository;
+    private final FeeBillJdbcRepository feeBillJdbcRepository;
     private final PaymentRepository paymentRepository;
+    private final PaymentJdbcRepository paymentJdbcRepository;
     private final FeeItemRepository feeItemRepository;
     private final ResidentRepository residentRepository;
+    private final FeeRollupService feeRollupService;
+    private final FeeBillFactory feeBillFactory;
+    private final BusinessNumberService businessNumberService;
+    private final LedgerService ledgerService;
+    private final ArrearsAgingService arrearsAgingService;
+    private final FeeAnalyticsService feeAnalyticsService;
+    private final PropertyUnitService propertyUnitService;
 
     public FeeServiceImpl(FeeBillRepository feeBillRepository,
+                         FeeBillJdbcRepository feeBillJdbcRepository,
                          PaymentRepository paymentRepository,
+                         PaymentJdbcRepository paymentJdbcRepository,
                          FeeItemRepository feeItemRepository,
-                         ResidentRepository residentRepository) {
+                         ResidentRepository residentRepository,
+                         FeeRollupService feeRollupService,
+                         ArrearsAgingService arrearsAgingService,
+                         FeeAnalyticsService feeAnalyticsService,
+                         PropertyUnitService propertyUnitService,
+                         FeeBillFactory feeBillFactory,
+                         BusinessNumberService businessNumberService,
+                         LedgerService ledgerService) {
         this.feeBillRepository = feeBillRepository;
+        this.feeBillJdbcRepository = feeBillJdbcRepository;
         this.paymentRepository = paymentRepository;
+        this.paymentJdbcRepository = paymentJdbcRepository;
         this.feeItemRepository = feeItemRepository;
         this.residentRepository = residentRepository;
+        this.feeRollupService = feeRollupService;
+        this.feeBillFactory = feeBillFactory;
+        this.businessNumberService = businessNumberService;
+        this.ledgerService = ledgerService;
+        this.arrearsAgingService = arrearsAgingService;
+        this.feeAnalyticsService = feeAnalyticsService;
+        this.propertyUnitService = propertyUnitService;
     }
 
     // ========== 账单管理 ==========
 
     @Override
-    public List<FeeBill> findAllBills() {
-        return feeBillRepository.findAll();
+    public List<FeeBill> findBills(FeeQueryFilter filter) {
+        return feeBillRepository.findAll(FeeSpecifications.bills(filter), KeysetSpecifications.KEYSET_SORT);
+    }
+
+    @Override
+    public CursorPage<FeeBill> findBillPage(FeeQueryFilter filter, String cursor, int size) {
+        Specification<FeeBill> spec = FeeSpecifications.bills(filter)
+            .and(KeysetSpecifications.after(KeysetCursor.decode(cursor)));
+        int limit = clampPageSize(size);
+        List<FeeBill> rows = feeBillRepository.findBy(spec,
+            q -> q.sortBy(KeysetSpecifications.KEYSET_SORT).limit(limit + 1).all());
+        return CursorPage.of(rows, limit);
     }
 
     @Override
@@ -61,50 +124,165 @@ public class FeeServiceImpl implements FeeService {
     @Transactional
     public FeeBill createBill(BillRequest request) {
         FeeBill bill = new FeeBill();
-        bill.setBillNumber(generateBillNumber());
+        bill.setBillNumber(businessNumberService.nextBillNumber());
         bill.setOwnerName(request.getOwnerName());
         bill.setBuilding(request.getBuilding());
         bill.setType(request.getType());
         bill.setAmount(request.getAmount());
         bill.setBillingPeriod(request.getBillingPeriod());
         bill.setStatus(FeeBill.BillStatus.PENDING);
-        return feeBillRepository.save(bill);
+        bill = feeBillRepository.save(bill);
+        feeRollupService.recordBilled(bill.getPeriod(), bill.getType(), 1, Money.toCents(bill.getAmount()));
+        ledgerService.recordBills(List.of(bill));
+        arrearsAgingService.recordBills(List.of(bill));
+        feeAnalyticsService.recordBills(List.of(bill));
+        propertyUnitService.recordBills(List.of(bill));
+        return bill;
     }
 
     // ========== 缴费记录 ==========
 
     @Override
-    public List<Payment> findAllPayments() {
-        return paymentRepository.findAll();
+    public List<Payment> findPayments(FeeQueryFilter filter) {
+        return paymentRepository.findAll(FeeSpecifications.payments(filter), KeysetSpecifications.KEYSET_SORT);
+    }
+
+    @Override
+    public CursorPage<Payment> findPaymentPage(FeeQueryFilter filter, String cursor, int size) {
+        Specification<Payment> spec = FeeSpecifications.payments(filter)
+            .and(KeysetSpecifications.after(KeysetCursor.decode(cursor)));
+        int limit = clampPageSize(size);
+        List<Payment> rows = paymentRepository.findBy(spec,
+            q -> q.sortBy(KeysetSpecifications.KEYSET_SORT).limit(limit + 1).all());
+        return CursorPage.of(rows, limit);
+    }
+
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
 
     @Override
     @Transactional
     public Payment createPayment(PaymentRequest request) {
-        // 查找账单
+        // 查找账单，已支付的直接返回冲突，不触碰行锁
         FeeBill bill = findBillById(request.getBillId());
+        if (bill.getStatus() == FeeBill.BillStatus.PAID) {
+            throw new ConflictException("账单已支付，请勿重复缴费");
+        }
+
+        // 条件状态迁移：并发请求中只有一个能把账单从待缴改为已支付
+        int updated = feeBillRepository.markPaidIfPayable(
+            bill.getId(), LocalDate.now(), request.getPayMethod(), LocalDateTime.now());
+        if (updated == 0) {
+            throw new ConflictException("账单已支付，请勿重复缴费");
+        }
+        requireLateFeesUnchanged(List.of(bill));
 
         // 创建支付记录
         Payment payment = new Payment();
-        payment.setOrderNumber(generateOrderNumber());
+        payment.setOrderNumber(businessNumberService.nextPaymentNumber());
         payment.setBillId(bill.getId());
         payment.setOwnerName(bill.getOwnerName());
         payment.setBuilding(bill.getBuilding());
-        payment.setAmount(bill.getAmount());
+        payment.setAmount(bill.getPayableAmount());
         payment.setType(bill.getType());
         payment.setPayMethod(request.getPayMethod());
         payment.setStatus(Payment.PaymentStatus.SUCCESS);
         payment = paymentRepository.save(payment);
 
-        // 更新账单状态
-        bill.setStatus(FeeBill.BillStatus.PAID);
-        bill.setPaidAt(LocalDate.now());
-        bill.setPayMethod(request.getPayMethod());
-        feeBillRepository.save(bill);
+        // 更新月度汇总
+        long cents = Money.toCents(bill.getPayableAmount());
+        feeRollupService.recordBillPaid(bill.getPeriod(), bill.getType(), cents);
+        feeRollupService.recordPaymentReceived(payment.getCreatedAt(), payment.getType(), cents);
+        ledgerService.recordPayments(List.of(payment));
+        arrearsAgingService.recordBillsPaid(List.of(bill));
+        feeAnalyticsService.recordBillsPaid(List.of(bill));
+        propertyUnitService.recordBillsPaid(List.of(bill));
 
         return payment;
     }
 
+    @Override
+    @Transactional
+    public BatchPaymentReceipt createBatchPayment(BatchPaymentRequest request) {
+        Set<Long> billIds = new LinkedHashSet<>(request.getBillIds());
+        if (billIds.size() != request.getBillIds().size()) {
+            throw new IllegalArgumentException("账单ID重复");
+        }
+
+        // 一次查询加载全部账单并校验
+        List<FeeBill> bills = feeBillRepository.findAllById(billIds);
+        if (bills.size() != billIds.size()) {
+            throw new RuntimeException("账单不存在");
+        }
+        for (FeeBill bill : bills) {
+            if (bill.getStatus() == FeeBill.BillStatus.PAID) {
+                throw new ConflictException("账单 " + bill.getBillNumber() + " 已支付，请勿重复缴费");
+            }
+        }
+
+        // 一条语句完成全部状态迁移，行数不符说明有账单被并发支付，整体回滚
+        LocalDateTime paidAt = LocalDateTime.now();
+        int updated = feeBillRepository.markAllPaidIfPayable(
+            billIds, paidAt.toLocalDate(), request.getPayMethod(), paidAt);
+        if (updated != bills.size()) {
+            throw new ConflictException("部分账单已被支付，请刷新后重试");
+        }
+        requireLateFeesUnchanged(bills);
+
+        // 批量写入缴费记录
+        List<Payment> payments = new ArrayList<>(bills.size());
+        List<BatchPaymentReceipt.Item> items = new ArrayList<>(bills.size());
+        long totalCents = Money.ZERO;
+        for (FeeBill bill : bills) {
+            Payment payment = new Payment();
+            payment.setOrderNumber(businessNumberService.nextPaymentNumber());
+            payment.setBillId(bill.getId());
+            payment.setOwnerName(bill.getOwnerName());
+            payment.setBuilding(bill.getBuilding());
+            payment.setAmount(bill.getPayableAmount());
+            payment.setType(bill.getType());
+            payment.setPayMethod(request.getPayMethod());
+            payment.setStatus(Payment.PaymentStatus.SUCCESS);
+            payment.setCreatedAt(paidAt);
+            payments.add(payment);
+
+            items.add(new BatchPaymentReceipt.Item(bill.getId(), bill.getBillNumber(), payment.getOrderNumber(),
+                bill.getType(), bill.getBillingPeriod(), bill.getPayableAmount()));
+            totalCents = Money.add(totalCents, Money.toCents(bill.getPayableAmount()));
+        }
+        paymentJdbcRepository.batchInsert(payments);
+        feeRollupService.recordBillsPaid(bills, paidAt);
+        ledgerService.recordPayments(payments);
+        arrearsAgingService.recordBillsPaid(bills);
+        feeAnalyticsService.recordBillsPaid(bills);
+        propertyUnitService.recordBillsPaid(bills);
+
+        BatchPaymentReceipt receipt = new BatchPaymentReceipt();
+        long owners = bills.stream().map(FeeBill::getOwnerName).distinct().count();
+        receipt.setOwnerName(owners == 1 ? bills.get(0).getOwnerName() : null);
+        receipt.setPayMethod(request.getPayMethod());
+        receipt.setPaidAt(paidAt);
+        receipt.setBillCount(bills.size());
+        receipt.setTotalAmount(Money.toBigDecimal(totalCents));
+        receipt.setItems(items);
+        return receipt;
+    }
+
+    /**
+     * 收取金额按已加载的滞纳金计算；状态迁移后账单已被本事务锁定，
+     * 若此前滞纳金已被每日计收更新（只增不减），合计必然不同，整体回滚
+     */
+    private void requireLateFeesUnchanged(Collection<FeeBill> bills) {
+        long loaded = bills.stream()
+            .mapToLong(bill -> Money.toCents(bill.getLateFee()))
+            .reduce(Money.ZERO, Money::add);
+        long current = Money.toCents(feeBillRepository.sumLateFee(bills.stream().map(FeeBill::getId).toList()));
+        if (loaded != current) {
+            throw new ConflictException("账单滞纳金已更新，请刷新后重试");
+        }
+    }
+
     // ========== 收费项目 ==========
 
     @Override
@@ -126,6 +304,8 @@ public class FeeServiceImpl implements FeeService {
         item.setUnit(request.getUnit());
         item.setPrice(request.getPrice());
         item.setDescription(request.getDescription());
+        applyPricing(request, item);
+        applyLateFeeRule(request, item);
         item.setStatus(FeeItem.ItemStatus.ACTIVE);
         return feeItemRepository.save(item);
     }
@@ -138,13 +318,66 @@ public class FeeServiceImpl implements FeeService {
         item.setUnit(request.getUnit());
         item.setPrice(request.getPrice());
         item.setDescription(request.getDescription());
-        return feeItemRepository.save(item);
+        applyPricing(request, item);
+        applyLateFeeRule(request, item);
+        FeeItem saved = feeItemRepository.save(item);
+        feeBillFactory.evict(saved.getId());
+        return saved;
+    }
+
+    /**
+     * 写入滞纳金规则；日费率为空或为 0 时清除整条规则
+     */
+    private static void applyLateFeeRule(FeeItemRequest request, FeeItem item) {
+        BigDecimal dailyRate = request.getLateFeeDailyRate();
+        if (dailyRate == null || dailyRate.signum() == 0) {
+            item.setLateFeeDailyRate(null);
+            item.setLateFeeCapRate(null);
+            item.setLateFeeGraceDays(null);
+            return;
+        }
+        item.setLateFeeDailyRate(dailyRate);
+        item.setLateFeeCapRate(request.getLateFeeCapRate());
+        item.setLateFeeGraceDays(request.getLateFeeGraceDays() != null ? request.getLateFeeGraceDays() : 0);
+    }
+
+    /**
+     * 写入计价方式与阶梯档位，并校验规则可以编译
+     */
+    private void applyPricing(FeeItemRequest request, FeeItem item) {
+        FeeItem.PricingMode mode;
+        if (StringUtils.hasText(request.getPricingMode())) {
+            try {
+                mode = FeeItem.PricingMode.valueOf(request.getPricingMode().trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("计价方式不正确: " + request.getPricingMode());
+            }
+        } else {
+            mode = FeeItem.PricingMode.defaultFor(request.getUnit());
+        }
+        item.setPricingMode(mode);
+
+        List<PricingTier> tiers = new ArrayList<>();
+        if (mode == FeeItem.PricingMode.TIERED || mode == FeeItem.PricingMode.METERED) {
+            if (request.getTiers() != null) {
+                for (FeeItemRequest.Tier tier : request.getTiers()) {
+                    tiers.add(new PricingTier(tier.getUpTo(), tier.getUnitPrice()));
+                }
+            }
+            if (mode == FeeItem.PricingMode.TIERED && tiers.isEmpty()) {
+                throw new IllegalArgumentException("阶梯计价至少需要一个档位");
+            }
+        }
+        item.getTiers().clear();
+        item.getTiers().addAll(tiers);
+        PricingRules.compile(item);
     }
 
     @Override
     @Transactional
     public void deleteFeeItem(Long id) {
         feeItemRepository.deleteById(id);
+        feeBillFactory.evict(id);
     }
 
     @Override
@@ -163,7 +396,7 @@ public class FeeServiceImpl implements FeeService {
 
     @Override
     @Transactional
-    public List<FeeBill> generateBillsFromFeeItem(Long feeItemId, String billingPeriod) {
+    public GenerateBillsResult generateBillsFromFeeItem(Long feeItemId, String billingPeriod) {
         // 查找收费项目
         FeeItem feeItem = findFeeItemById(feeItemId);
 
@@ -171,149 +404,54 @@ public class FeeServiceImpl implements FeeService {
             throw new RuntimeException("收费项目未启用，无法生成账单");
         }
 
-        if (billingPeriod == null || billingPeriod.isBlank()) {
-            throw new IllegalArgumentException("账期不能为空");
-        }
+        int period = BillingPeriods.requireKey(billingPeriod);
 
-        // 查找所有已入住的住户
-        List<Resident> residents = residentRepository.findAll().stream()
-            .filter(r -> r.getStatus() == Resident.Status.OCCUPIED)
-            .toList();
-
-        if (residents.isEmpty()) {
+        long occupied = residentRepository.countByStatus(Resident.Status.OCCUPIED);
+        if (occupied == 0) {
             throw new RuntimeException("没有已入住的住户");
         }
 
-        // 为每个住户生成账单
-        List<FeeBill> bills = new ArrayList<>();
-        for (Resident resident : residents) {
-            if (feeBillRepository.existsByTypeAndBillingPeriodAndOwnerName(
-                feeItem.getName(), billingPeriod, resident.getName())) {
+        // 一次反连接查询找出本账期尚未出账的住户
+        List<FeeBillJdbcRepository.BillingTarget> targets =
+            feeBillJdbcRepository.findMissingBillingTargets(feeItem.getName(), period, 0L, Long.MAX_VALUE);
+
+        // 在内存中用编译好的计价函数计价，然后分批插入
+        PricingFunction pricing = feeBillFactory.areaPricingFor(feeItem);
+        List<FeeBill> bills = new ArrayList<>(targets.size());
+        long totalCents = Money.ZERO;
+        for (FeeBillJdbcRepository.BillingTarget target : targets) {
+            FeeBill bill = feeBillFactory.newBill(feeItem, pricing, target, billingPeriod);
+            if (bill == null) {
                 continue;
             }
-
-            FeeBill bill = new FeeBill();
-            bill.setBillNumber(generateBillNumber());
-            bill.setOwnerName(resident.getName());
-            bill.setBuilding(resident.getBuilding() + " " + resident.getUnit() + " " + resident.getRoomNumber());
-            bill.setType(feeItem.getName());
-            bill.setBillingPeriod(billingPeriod);
-            bill.setStatus(FeeBill.BillStatus.PENDING);
-
-            // 计算金额
-            BigDecimal amount = calculateAmount(feeItem, resident);
-            bill.setAmount(amount);
-
-            bills.add(feeBillRepository.save(bill));
-        }
-
-        if (bills.isEmpty()) {
-            throw new RuntimeException("选定账期的账单已存在，无需重复生成");
+            totalCents = Money.add(totalCents, Money.toCents(bill.getAmount()));
+            bills.add(bill);
         }
-
-        return bills;
-    }
-
-    /**
-     * 根据收费项目和住户信息计算金额
-     */
-    private BigDecimal calculateAmount(FeeItem feeItem, Resident resident) {
-        BigDecimal price = feeItem.getPrice();
-        String unit = feeItem.getUnit();
-
-        // 如果单位包含 ㎡，则根据面积计算
-        if (unit != null && unit.contains("㎡") && resident.getArea() != null && !resident.getArea().isEmpty()) {
-            try {
-                // 提取面积数字（去除单位）
-                String areaStr = resident.getArea().replaceAll("[^0-9.]", "");
-                BigDecimal area = new BigDecimal(areaStr);
-                return price.multiply(area).setScale(2, RoundingMode.HALF_UP);
-            } catch (NumberFormatException e) {
-                // 如果解析失败，返回固定单价
-                return price;
-            }
-        }
-
-        // 其他情况返回固定单价
-        return price;
+        feeBillJdbcRepository.batchInsert(bills);
+        feeRollupService.recordBilled(period, feeItem.getName(), bills.size(), totalCents);
+        ledgerService.recordBills(bills);
+        arrearsAgingService.recordBills(bills);
+        feeAnalyticsService.recordBills(bills);
+        propertyUnitService.recordBills(bills);
+
+        // 已有账单的住户不在反连接结果中；无法计价的住户单独统计
+        int skipped = (int) Math.max(0, occupied - targets.size());
+        GenerateBillsResult result =
+            new GenerateBillsResult(billingPeriod, feeItem.getName(), bills.size(), skipped, Money.toBigDecimal(totalCents));
+        result.setUnpriced(targets.size() - bills.size());
+        return result;
     }
 
     // ========== 统计 ==========
 
     @Override
     public FeeStatistics getStatistics() {
-        // 获取当前月份的开始和结束时间
-        YearMonth currentYearMonth = YearMonth.now();
-        LocalDateTime monthStart = currentYearMonth.atDay(1).atStartOfDay();
-        LocalDateTime monthEnd = currentYearMonth.atEndOfMonth().atTime(23, 59, 59);
-        String currentMonth = currentYearMonth.format(DateTimeFormatter.ofPattern("yyyy年M月"));
-
-        // 获取所有账单和缴费记录
-        List<FeeBill> allBills = feeBillRepository.findAll();
-        List<Payment> allPayments = paymentRepository.findAll();
-
-        // 本月应收：从账单管理中查询本月账期的账单总金额（支持模糊匹配）
-        BigDecimal monthlyReceivable = allBills.stream()
-            .filter(bill -> {
-                String period = bill.getBillingPeriod();
-                // 支持多种格式：
-                // "2025年10月" (标准格式)
-                // "2025年10月15日" (带日期)
-                // "2025年10月15" (带日期但无"日")
-                return period != null && period.startsWith(currentMonth);
-            })
-            .map(FeeBill::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 本月实收：从缴费记录中查询本月缴费成功的总金额（按缴费时间统计）
-        BigDecimal monthlyReceived = allPayments.stream()
-            .filter(payment -> payment.getStatus() == Payment.PaymentStatus.SUCCESS)
-            .filter(payment -> {
-                LocalDateTime createdAt = payment.getCreatedAt();
-                return createdAt != null &&
-                       !createdAt.isBefore(monthStart) &&
-                       !createdAt.isAfter(monthEnd);
-            })
-            .map(Payment::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 计算本月账期账单的已缴费金额（用于计算缴费率）
-        BigDecimal monthlyBillsPaid = allBills.stream()
-            .filter(bill -> {
-                String period = bill.getBillingPeriod();
-                return period != null && period.startsWith(currentMonth);
-            })
-            .filter(bill -> bill.getStatus() == FeeBill.BillStatus.PAID)
-            .map(FeeBill::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 欠费总额：所有未支付的账单总金额
-        BigDecimal totalArrears = allBills.stream()
-            .filter(bill -> bill.getStatus() != FeeBill.BillStatus.PAID)
-            .map(FeeBill::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 缴费率：本月账期账单的完成度（本月账期已缴费 / 本月账期应收 × 100%）
-        Double paymentRate = 0.0;
-        if (monthlyReceivable.compareTo(BigDecimal.ZERO) > 0) {
-            paymentRate = monthlyBillsPaid
-                .divide(monthlyReceivable, 4, RoundingMode.HALF_UP)
-                .multiply(new BigDecimal("100"))
-                .doubleValue();
-        }
-
-        return new FeeStatistics(monthlyReceivable, monthlyReceived, totalArrears, paymentRate);
-    }
-
-    // ========== 辅助方法 ==========
-
-    private String generateBillNumber() {
-        return "B" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))
-            + UUID.randomUUID().toString().substring(0, 5).toUpperCase();
+        return feeRollupService.getStatistics(YearMonth.now());
     }
 
-    private String generateOrderNumber() {
-        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
-            + String.format("%03d", (int) (Math.random() * 1000));
+    @Override
+    @Transactional
+    public int rebuildStatistics() {
+        return feeRollupService.rebuild();
     }
 }
@@ -0,0 +1,84 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.model.Payment;
+import com.propertymgmt.property.service.PaymentIdempotencyStore;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 单节点内存实现：容量有界（按最近访问淘汰）且条目带过期时间。
+ * 处理中的 key 不参与淘汰，否则重复请求会在处理完成前再次进入；
+ * 处理中的条目数受并发请求数限制，超出容量的部分在其完成后淘汰。
+ */
+@Component
+public class InMemoryPaymentIdempotencyStore implements PaymentIdempotencyStore {
+
+    private static final Object IN_FLIGHT = new Object();
+
+    private final int capacity;
+    private final Duration ttl;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private record Entry(Long billId, Object result, Instant expiresAt) {
+    }
+
+    public InMemoryPaymentIdempotencyStore(@Value("${app.payment.idempotency-capacity:10000}") int capacity,
+                                           @Value("${app.payment.idempotency-ttl-minutes:1440}") long ttlMinutes) {
+        this.capacity = capacity;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    @Override
+    public Payment execute(String key, Long billId, Supplier<Payment> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        synchronized (entries) {
+            Entry existing = entries.get(key);
+            if (existing != null && existing.expiresAt().isAfter(Instant.now())) {
+                if (!existing.billId().equals(billId)) {
+                    throw new IllegalArgumentException("Idempotency-Key 已用于其他账单");
+                }
+                if (existing.result() == IN_FLIGHT) {
+                    throw new ConflictException("相同请求正在处理中，请勿重复提交");
+                }
+                return (Payment) existing.result();
+            }
+            entries.put(key, new Entry(billId, IN_FLIGHT, Instant.now().plus(ttl)));
+            evictOverflow();
+        }
+
+        try {
+            Payment payment = action.get();
+            synchronized (entries) {
+                entries.put(key, new Entry(billId, payment, Instant.now().plus(ttl)));
+                evictOverflow();
+            }
+            return payment;
+        } catch (RuntimeException ex) {
+            synchronized (entries) {
+                entries.remove(key);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 超出容量时从最久未访问的一端淘汰已完成的条目，跳过处理中的条目
+     */
+    private void evictOverflow() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (entries.size() > capacity && it.hasNext()) {
+            if (it.next().result() != IN_FLIGHT) {
+                it.remove();
+            }
+        }
+    }
+}
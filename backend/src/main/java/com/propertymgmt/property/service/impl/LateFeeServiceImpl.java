@@ -0,0 +1,210 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.AccountKey;
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.FeeItem;
+import com.propertymgmt.property.model.LateFeeRun;
+import com.propertymgmt.property.repository.FeeItemRepository;
+import com.propertymgmt.property.repository.LateFeeJdbcRepository;
+import com.propertymgmt.property.repository.LateFeeJdbcRepository.AccruedBill;
+import com.propertymgmt.property.repository.LateFeeRunRepository;
+import com.propertymgmt.property.service.ArrearsAgingService;
+import com.propertymgmt.property.service.FeeAnalyticsService;
+import com.propertymgmt.property.service.FeeRollupService;
+import com.propertymgmt.property.service.LateFeeService;
+import com.propertymgmt.property.service.LedgerService;
+import com.propertymgmt.property.service.PropertyUnitService;
+import com.propertymgmt.property.util.BillingPeriods;
+import com.propertymgmt.property.util.Buildings;
+import com.propertymgmt.property.util.Money;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 滞纳金每日计收：每个计收日一个事务，先写入批次行占住该日，再按收费项目各执行一条整批更新。
+ * 批次行的计收日唯一，账单上另记最近计收日，重复执行或并发执行同一日都不会重复计费。
+ * 计收额在同一事务内按业主账户记入台账借方、按账期计入月度汇总应收、按楼栋计入账龄，
+ * 缴费时按本金加滞纳金贷记；内存中的分析与房产树缓存在事务提交后按账单更新应缴金额
+ */
+@Service
+public class LateFeeServiceImpl implements LateFeeService {
+
+    private static final Logger log = LoggerFactory.getLogger(LateFeeServiceImpl.class);
+
+    private final FeeItemRepository feeItemRepository;
+    private final LateFeeRunRepository runRepository;
+    private final LateFeeJdbcRepository lateFeeJdbcRepository;
+    private final LedgerService ledgerService;
+    private final FeeRollupService feeRollupService;
+    private final ArrearsAgingService arrearsAgingService;
+    private final FeeAnalyticsService feeAnalyticsService;
+    private final PropertyUnitService propertyUnitService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxCatchUpDays;
+    private final int fetchSize;
+
+    public LateFeeServiceImpl(FeeItemRepository feeItemRepository,
+                              LateFeeRunRepository runRepository,
+                              LateFeeJdbcRepository lateFeeJdbcRepository,
+                              LedgerService ledgerService,
+                              FeeRollupService feeRollupService,
+                              ArrearsAgingService arrearsAgingService,
+                              FeeAnalyticsService feeAnalyticsService,
+                              PropertyUnitService propertyUnitService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.late-fee.enabled:true}") boolean enabled,
+                              @Value("${app.late-fee.max-catch-up-days:31}") int maxCatchUpDays,
+                              @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.feeItemRepository = feeItemRepository;
+        this.runRepository = runRepository;
+        this.lateFeeJdbcRepository = lateFeeJdbcRepository;
+        this.ledgerService = ledgerService;
+        this.feeRollupService = feeRollupService;
+        this.arrearsAgingService = arrearsAgingService;
+        this.feeAnalyticsService = feeAnalyticsService;
+        this.propertyUnitService = propertyUnitService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxCatchUpDays = maxCatchUpDays;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public LateFeeRun accrue(LocalDate accrualDate) {
+        if (accrualDate.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("不能计收未来日期的滞纳金");
+        }
+        if (runRepository.existsByAccrualDate(accrualDate)) {
+            throw new ConflictException("该日滞纳金已计收");
+        }
+        runRepository.findTopByOrderByAccrualDateDesc()
+            .filter(last -> last.getAccrualDate().isAfter(accrualDate))
+            .ifPresent(last -> {
+                throw new IllegalArgumentException("滞纳金须按日期顺序计收，最近一次计收日为 " + last.getAccrualDate());
+            });
+        try {
+            return transactionTemplate.execute(status -> accrueDay(accrualDate));
+        } catch (DataIntegrityViolationException ex) {
+            throw new ConflictException("该日滞纳金已计收");
+        }
+    }
+
+    private LateFeeRun accrueDay(LocalDate accrualDate) {
+        long start = System.currentTimeMillis();
+        LateFeeRun run = new LateFeeRun();
+        run.setAccrualDate(accrualDate);
+        runRepository.saveAndFlush(run);
+
+        long billCount = 0;
+        long cents = Money.ZERO;
+        Map<AccountKey, Long> byAccount = new HashMap<>();
+        for (FeeItem item : feeItemRepository.findByLateFeeDailyRateIsNotNullOrderByIdAsc()) {
+            int graceDays = item.getLateFeeGraceDays() != null ? item.getLateFeeGraceDays() : 0;
+            // 到期日（账期月末）加宽限期早于计收日的账单才计收
+            int cutoffPeriod = BillingPeriods.latestDueBy(accrualDate.minusDays(graceDays + 1L));
+            Map<Integer, Long> byPeriod = new HashMap<>();
+            Map<AgingKey, Long> byBuilding = new HashMap<>();
+            List<FeeBill> bills = new ArrayList<>();
+            billCount += lateFeeJdbcRepository.accrue(item.getName(), cutoffPeriod, accrualDate,
+                item.getLateFeeDailyRate(), item.getLateFeeCapRate(), fetchSize, bill -> {
+                    byAccount.merge(new AccountKey(bill.ownerName(), bill.building()), bill.cents(), Money::add);
+                    byPeriod.merge(bill.period(), bill.cents(), Money::add);
+                    byBuilding.merge(new AgingKey(bill.period(), Buildings.of(bill.building())), bill.cents(),
+                        Money::add);
+                    bills.add(accrued(item.getName(), bill));
+                });
+            byPeriod.forEach((period, amount) -> feeRollupService.recordLateFee(period, item.getName(), amount));
+            byBuilding.forEach((key, amount) ->
+                arrearsAgingService.recordLateFee(key.period(), key.building(), item.getName(), amount));
+            feeAnalyticsService.recordLateFees(bills);
+            propertyUnitService.recordLateFees(bills);
+            cents = Money.add(cents, byPeriod.values().stream().mapToLong(Long::longValue)
+                .reduce(Money.ZERO, Money::add));
+        }
+        ledgerService.recordLateFees(byAccount, accrualDate);
+        run.setBillCount(billCount);
+        run.setTotalAmount(Money.toBigDecimal(cents));
+        run.setElapsedMillis(System.currentTimeMillis() - start);
+        log.info("{} 滞纳金计收完成：{} 张账单，金额 {}，耗时 {} ms",
+            accrualDate, run.getBillCount(), run.getTotalAmount(), run.getElapsedMillis());
+        return runRepository.save(run);
+    }
+
+    /**
+     * 停机或任务漏跑时按日补计，最多回溯 maxCatchUpDays 天
+     */
+    @Override
+    public List<LateFeeRun> accrueDue() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = runRepository.findTopByOrderByAccrualDateDesc()
+            .map(last -> last.getAccrualDate().plusDays(1))
+            .orElse(today);
+        LocalDate earliest = today.minusDays(maxCatchUpDays - 1L);
+        if (from.isBefore(earliest)) {
+            from = earliest;
+        }
+        List<LateFeeRun> runs = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(today); date = date.plusDays(1)) {
+            try {
+                runs.add(accrue(date));
+            } catch (ConflictException ex) {
+                if (!runRepository.existsByAccrualDate(date)) {
+                    // 计收期间账单发生变化，该日已回滚；后续日期须等该日补计后才能计收
+                    log.warn("{} 滞纳金计收未完成：{}", date, ex.getMessage());
+                    break;
+                }
+                log.info("{} 滞纳金已计收，跳过", date);
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * 计收后账单的快照，只带内存缓存用到的字段，应缴金额 = 本金 + 累计滞纳金
+     */
+    private static FeeBill accrued(String feeType, AccruedBill accrued) {
+        FeeBill bill = new FeeBill();
+        bill.setBillNumber(accrued.billNumber());
+        bill.setOwnerName(accrued.ownerName());
+        bill.setBuilding(accrued.building());
+        bill.setType(feeType);
+        bill.setPeriod(accrued.period());
+        bill.setAmount(Money.toBigDecimal(accrued.amountCents()));
+        bill.setLateFee(Money.toBigDecimal(accrued.lateFeeCents()));
+        bill.setStatus(FeeBill.BillStatus.OVERDUE);
+        return bill;
+    }
+
+    private record AgingKey(int period, String building) {
+    }
+
+    @Override
+    public List<LateFeeRun> findRecent() {
+        return runRepository.findTop31ByOrderByAccrualDateDesc();
+    }
+
+    @Scheduled(cron = "${app.late-fee.cron:0 30 1 * * *}")
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            accrueDue();
+        } catch (RuntimeException ex) {
+            log.error("滞纳金计收失败", ex);
+        }
+    }
+}
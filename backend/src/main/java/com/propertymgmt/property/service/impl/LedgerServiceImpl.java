@@ -0,0 +1,210 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.AccountKey;
+import com.propertymgmt.property.dto.ArrearsSummary;
+import com.propertymgmt.property.dto.CursorPage;
+import com.propertymgmt.property.dto.LedgerVerification;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.LedgerEntry;
+import com.propertymgmt.property.model.LedgerEntry.EntryType;
+import com.propertymgmt.property.model.LedgerEntry.SourceType;
+import com.propertymgmt.property.model.OwnerAccount;
+import com.propertymgmt.property.model.Payment;
+import com.propertymgmt.property.repository.FeeBillRepository;
+import com.propertymgmt.property.repository.LedgerEntryRepository;
+import com.propertymgmt.property.repository.LedgerJdbcRepository;
+import com.propertymgmt.property.repository.LedgerJdbcRepository.Mismatch;
+import com.propertymgmt.property.repository.LedgerJdbcRepository.Posting;
+import com.propertymgmt.property.repository.OwnerAccountRepository;
+import com.propertymgmt.property.service.LedgerService;
+import com.propertymgmt.property.util.Money;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+@Service
+@Transactional
+public class LedgerServiceImpl implements LedgerService {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerServiceImpl.class);
+    private static final int MAX_PAGE_SIZE = 100;
+    // 滞纳金分录的引用：前缀 + 计收日（yyyyMMdd）
+    static final String LATE_FEE_REFERENCE = "LATE-FEE-";
+
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final OwnerAccountRepository ownerAccountRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final FeeBillRepository feeBillRepository;
+
+    public LedgerServiceImpl(LedgerJdbcRepository ledgerJdbcRepository,
+                             OwnerAccountRepository ownerAccountRepository,
+                             LedgerEntryRepository ledgerEntryRepository,
+                             FeeBillRepository feeBillRepository) {
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.ownerAccountRepository = ownerAccountRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.feeBillRepository = feeBillRepository;
+    }
+
+    // ========== 记账 ==========
+
+    @Override
+    public void recordBills(Collection<FeeBill> bills) {
+        ledgerJdbcRepository.post(bills.stream()
+            .map(bill -> new Posting(new AccountKey(bill.getOwnerName(), bill.getBuilding()), EntryType.DEBIT,
+                SourceType.BILL,
+                bill.getBillNumber(), bill.getAmount(), bill.getCreatedAt()))
+            .toList());
+    }
+
+    @Override
+    public void recordPayments(Collection<Payment> payments) {
+        ledgerJdbcRepository.post(payments.stream()
+            .map(payment -> new Posting(new AccountKey(payment.getOwnerName(), payment.getBuilding()),
+                EntryType.CREDIT, SourceType.PAYMENT,
+                payment.getOrderNumber(), payment.getAmount(), payment.getCreatedAt()))
+            .toList());
+    }
+
+    @Override
+    public void recordLateFees(Map<AccountKey, Long> centsByAccount, LocalDate accrualDate) {
+        String reference = LATE_FEE_REFERENCE + accrualDate.format(DateTimeFormatter.BASIC_ISO_DATE);
+        LocalDateTime occurredAt = LocalDateTime.now();
+        ledgerJdbcRepository.post(centsByAccount.entrySet().stream()
+            .map(entry -> new Posting(entry.getKey(), EntryType.DEBIT, SourceType.ADJUSTMENT,
+                reference, Money.toBigDecimal(entry.getValue()), occurredAt))
+            .toList());
+    }
+
+    // ========== 查询 ==========
+
+    @Override
+    @Transactional(readOnly = true)
+    public OwnerAccount getAccount(String ownerName, String location) {
+        return findAccount(ownerName, location).orElseGet(() -> {
+            // 尚未产生任何分录的业主，余额为 0
+            OwnerAccount account = new OwnerAccount();
+            account.setOwnerName(ownerName);
+            account.setLocation(StringUtils.hasText(location) ? location.trim() : null);
+            return account;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<LedgerEntry> getEntries(String ownerName, String location, String cursor, int size) {
+        OwnerAccount account = findAccount(ownerName, location).orElse(null);
+        if (account == null) {
+            return new CursorPage<>(List.of(), null);
+        }
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<LedgerEntry> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = ledgerEntryRepository.findByAccountIdOrderByIdDesc(account.getId(), page);
+        } else {
+            rows = ledgerEntryRepository.findByAccountIdAndIdLessThanOrderByIdDesc(
+                account.getId(), parseEntryCursor(cursor), page);
+        }
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<LedgerEntry> items = rows.subList(0, limit);
+        return new CursorPage<>(items, String.valueOf(items.get(limit - 1).getId()));
+    }
+
+    /**
+     * 指定房屋时按姓名与房屋查找；未指定时姓名须唯一对应一个账户，同名业主有多个账户时要求指定房屋
+     */
+    private Optional<OwnerAccount> findAccount(String ownerName, String location) {
+        if (StringUtils.hasText(location)) {
+            return ownerAccountRepository.findByOwnerNameAndLocation(ownerName, location.trim());
+        }
+        List<OwnerAccount> accounts = ownerAccountRepository.findByOwnerNameOrderByIdAsc(ownerName);
+        if (accounts.size() > 1) {
+            throw new IllegalArgumentException("该姓名有 " + accounts.size() + " 个业主账户，请指定房屋（location）");
+        }
+        return accounts.stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ArrearsSummary getArrearsSummary(int top) {
+        int limit = Math.max(1, Math.min(top, MAX_PAGE_SIZE));
+        return new ArrearsSummary(
+            ownerAccountRepository.sumArrears(),
+            ownerAccountRepository.countByBalanceGreaterThan(BigDecimal.ZERO),
+            ownerAccountRepository.findByBalanceGreaterThanOrderByBalanceDesc(BigDecimal.ZERO, PageRequest.of(0, limit)));
+    }
+
+    private static long parseEntryCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("分页游标无效");
+        }
+    }
+
+    // ========== 核对与重建 ==========
+
+    @Override
+    @Transactional(readOnly = true)
+    public LedgerVerification verify() {
+        List<Mismatch> mismatches = ledgerJdbcRepository.findBalanceMismatches();
+        return new LedgerVerification(LocalDateTime.now(), ownerAccountRepository.count(), mismatches);
+    }
+
+    /**
+     * 定期核对物化余额，不一致时告警（修复需人工确认后调用重建）
+     */
+    @Scheduled(cron = "${app.ledger.verify-cron:0 30 3 * * *}")
+    @Transactional(readOnly = true)
+    public void verifyPeriodically() {
+        LedgerVerification result = verify();
+        if (result.isConsistent()) {
+            log.info("业主账户余额核对通过，共 {} 个账户", result.getAccountCount());
+            return;
+        }
+        log.warn("业主账户余额核对发现 {} 个账户不一致", result.getMismatches().size());
+        for (Mismatch mismatch : result.getMismatches()) {
+            log.warn("账户 {}({} {}) 余额 {}，分录合计 {}", mismatch.accountId(), mismatch.ownerName(),
+                mismatch.location(), mismatch.balance(), mismatch.computed());
+        }
+    }
+
+    @Override
+    public int rebuild() {
+        int accounts = ledgerJdbcRepository.rebuild();
+        log.info("业主账户已重建，共 {} 个账户", accounts);
+        return accounts;
+    }
+
+    /**
+     * 首次启动（账户表为空但已有账单）时从历史数据建账；
+     * 早期按姓名建的账户（姓名唯一、无房屋描述）按户主姓名 + 房屋重建
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        boolean legacy = ledgerJdbcRepository.dropOwnerNameUniqueKey();
+        if (legacy || ledgerJdbcRepository.hasAccountsWithoutLocation()) {
+            log.info("业主账户改为按户主姓名与房屋建账，重建账户");
+            rebuild();
+        } else if (ownerAccountRepository.count() == 0 && feeBillRepository.count() > 0) {
+            rebuild();
+        }
+    }
+}
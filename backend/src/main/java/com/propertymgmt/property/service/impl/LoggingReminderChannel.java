@@ -0,0 +1,37 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.Reminder;
+import com.propertymgmt.property.service.ReminderChannel;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 本地替身渠道：只写日志不真正发送，用于开发与测试
+ */
+@Component
+public class LoggingReminderChannel implements ReminderChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderChannel.class);
+
+    private final AtomicLong sent = new AtomicLong();
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void send(Reminder reminder) {
+        if (reminder.phone() == null || reminder.phone().isBlank()) {
+            throw new IllegalStateException("业主没有登记手机号");
+        }
+        sent.incrementAndGet();
+        log.debug("[催缴提醒] {} {}", reminder.phone(), reminder.text());
+    }
+
+    public long getSentCount() {
+        return sent.get();
+    }
+}
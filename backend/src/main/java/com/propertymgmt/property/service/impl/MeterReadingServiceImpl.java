@@ -0,0 +1,256 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.MeterIngestResult;
+import com.propertymgmt.property.dto.MeterReadingBatchRequest;
+import com.propertymgmt.property.model.FeeItem;
+import com.propertymgmt.property.model.MeterReading;
+import com.propertymgmt.property.repository.FeeItemRepository;
+import com.propertymgmt.property.repository.MeterReadingJdbcRepository;
+import com.propertymgmt.property.model.Resident;
+import com.propertymgmt.property.repository.MeterReadingJdbcRepository.Reading;
+import com.propertymgmt.property.repository.MeterReadingJdbcRepository.Room;
+import com.propertymgmt.property.repository.MeterReadingRepository;
+import com.propertymgmt.property.repository.ResidentRepository;
+import com.propertymgmt.property.service.MeterReadingService;
+import com.propertymgmt.property.util.BillingPeriods;
+import com.propertymgmt.property.util.CsvRowReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * 抄表读数录入：读数记在房间上，按房间或住户 ID（取其所在房间）定位，读数换算为 1/100 单位的整数后分块批量写入，
+ * CSV 逐行读取、每 CSV_CHUNK_SIZE 条提交一次。
+ */
+@Service
+public class MeterReadingServiceImpl implements MeterReadingService {
+
+    private static final int CSV_CHUNK_SIZE = 5000;
+    private static final int MAX_ERRORS = 100;
+
+    private final FeeItemRepository feeItemRepository;
+    private final MeterReadingRepository meterReadingRepository;
+    private final MeterReadingJdbcRepository meterReadingJdbcRepository;
+    private final ResidentRepository residentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public MeterReadingServiceImpl(FeeItemRepository feeItemRepository,
+                                   MeterReadingRepository meterReadingRepository,
+                                   MeterReadingJdbcRepository meterReadingJdbcRepository,
+                                   ResidentRepository residentRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.feeItemRepository = feeItemRepository;
+        this.meterReadingRepository = meterReadingRepository;
+        this.meterReadingJdbcRepository = meterReadingJdbcRepository;
+        this.residentRepository = residentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 一条待写入的读数：按房间录入时 room 已确定，按住户 ID 录入时在写入前查出所在房间
+     */
+    private record Pending(String source, Long residentId, Room room, long readingHundredths) {
+    }
+
+    /**
+     * 一次录入的上下文：房间索引按需加载一次，同一房间的重复读数以最后一条为准
+     */
+    private final class Ingest {
+        final long feeItemId;
+        final int period;
+        final LocalDate readOn;
+        final MeterIngestResult result = new MeterIngestResult();
+        final List<Pending> pending = new ArrayList<>();
+        final long start = System.currentTimeMillis();
+        Map<String, Room> rooms;
+
+        Ingest(Long feeItemId, String billingPeriod, LocalDate readOn) {
+            FeeItem feeItem = feeItemRepository.findById(feeItemId)
+                .orElseThrow(() -> new RuntimeException("收费项目不存在"));
+            if (feeItem.getPricingMode() != FeeItem.PricingMode.METERED) {
+                throw new IllegalArgumentException("收费项目不是抄表计费，无需录入读数");
+            }
+            this.feeItemId = feeItemId;
+            this.period = BillingPeriods.requireKey(billingPeriod);
+            this.readOn = readOn;
+        }
+
+        Room resolveRoom(String building, String unit, String roomNumber) {
+            if (rooms == null) {
+                rooms = meterReadingJdbcRepository.findRoomsByKey();
+            }
+            return rooms.get(MeterReadingJdbcRepository.roomKey(building, unit, roomNumber));
+        }
+
+        void add(String source, Long residentId, Room room, BigDecimal reading) {
+            result.setReceived(result.getReceived() + 1);
+            if (residentId == null && room == null) {
+                reject(source + "：找不到对应的房间");
+                return;
+            }
+            long hundredths = toHundredths(reading);
+            if (hundredths < 0) {
+                reject(source + "：读数不合法 " + reading);
+                return;
+            }
+            pending.add(new Pending(source, residentId, room, hundredths));
+        }
+
+        void reject(String error) {
+            result.setRejected(result.getRejected() + 1);
+            if (result.getErrors().size() < MAX_ERRORS) {
+                result.getErrors().add(error);
+            }
+        }
+
+        /**
+         * 写入已收集的读数（一个事务）：按住户 ID 录入的换成其所在房间，住户不存在的读数被拒绝
+         */
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Pending> batch = new ArrayList<>(pending);
+            pending.clear();
+            int[] counts = transactionTemplate.execute(status -> {
+                Map<Long, Room> residentRooms = meterReadingJdbcRepository.findRoomsByResidentIds(batch.stream()
+                    .filter(item -> item.room() == null).map(Pending::residentId).distinct().toList());
+                Map<Room, Reading> readings = new LinkedHashMap<>();
+                for (Pending item : batch) {
+                    Room room = item.room() != null ? item.room() : residentRooms.get(item.residentId());
+                    if (room == null) {
+                        reject(item.source() + "：住户 " + item.residentId() + " 不存在");
+                        continue;
+                    }
+                    readings.put(room, new Reading(room, item.readingHundredths()));
+                }
+                return meterReadingJdbcRepository.upsert(feeItemId, period, readOn, new ArrayList<>(readings.values()));
+            });
+            result.setInserted(result.getInserted() + counts[0]);
+            result.setUpdated(result.getUpdated() + counts[1]);
+        }
+
+        MeterIngestResult finish() {
+            flush();
+            result.setElapsedMillis(System.currentTimeMillis() - start);
+            return result;
+        }
+    }
+
+    @Override
+    public MeterIngestResult append(MeterReadingBatchRequest request) {
+        Ingest ingest = new Ingest(request.getFeeItemId(), request.getBillingPeriod(), request.getReadOn());
+        int index = 0;
+        for (MeterReadingBatchRequest.Item item : request.getReadings()) {
+            index++;
+            Long residentId = item.getResidentId();
+            Room room = null;
+            if (residentId == null && StringUtils.hasText(item.getBuilding()) && StringUtils.hasText(item.getUnit())
+                    && StringUtils.hasText(item.getRoomNumber())) {
+                room = ingest.resolveRoom(item.getBuilding(), item.getUnit(), item.getRoomNumber());
+            }
+            ingest.add("第 " + index + " 条", residentId, room, item.getReading());
+        }
+        return ingest.finish();
+    }
+
+    @Override
+    public MeterIngestResult importCsv(InputStream csv, Long feeItemId, String billingPeriod, LocalDate readOn) {
+        Ingest ingest = new Ingest(feeItemId, billingPeriod, readOn);
+        try (CsvRowReader reader = new CsvRowReader(csv)) {
+            List<String> header = reader.readRow();
+            if (header == null) {
+                throw new IllegalArgumentException("读数文件为空");
+            }
+            int residentColumn = indexOf(header, "住户id", "resident_id", "residentid");
+            int buildingColumn = indexOf(header, "楼栋", "building");
+            int unitColumn = indexOf(header, "单元", "unit");
+            int roomColumn = indexOf(header, "房号", "room_number", "roomnumber");
+            int readingColumn = indexOf(header, "读数", "reading");
+            boolean byRoom = buildingColumn >= 0 && unitColumn >= 0 && roomColumn >= 0;
+            if (readingColumn < 0 || (residentColumn < 0 && !byRoom)) {
+                throw new IllegalArgumentException("读数文件表头须包含读数列，以及住户ID列或楼栋、单元、房号列");
+            }
+
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                if (row.size() == 1 && row.get(0).isBlank()) {
+                    continue;
+                }
+                String source = "第 " + reader.getLineNumber() + " 行";
+                Long residentId = null;
+                Room room = null;
+                BigDecimal reading = null;
+                try {
+                    if (residentColumn >= 0 && StringUtils.hasText(cell(row, residentColumn))) {
+                        residentId = Long.valueOf(cell(row, residentColumn).trim());
+                    } else if (byRoom) {
+                        room = ingest.resolveRoom(cell(row, buildingColumn), cell(row, unitColumn),
+                            cell(row, roomColumn));
+                    }
+                    reading = new BigDecimal(cell(row, readingColumn).trim());
+                } catch (NumberFormatException ex) {
+                    ingest.result.setReceived(ingest.result.getReceived() + 1);
+                    ingest.reject(source + "：无法识别的住户ID或读数");
+                    continue;
+                }
+                ingest.add(source, residentId, room, reading);
+                if (ingest.pending.size() >= CSV_CHUNK_SIZE) {
+                    ingest.flush();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("读取读数文件失败", ex);
+        }
+        return ingest.finish();
+    }
+
+    @Override
+    public List<MeterReading> findHistory(Long residentId, Long feeItemId) {
+        Resident resident = residentRepository.findById(residentId)
+            .orElseThrow(() -> new RuntimeException("住户不存在"));
+        return meterReadingRepository.findTop24ByFeeItemIdAndBuildingAndUnitAndRoomNumberOrderByPeriodDesc(
+            feeItemId, resident.getBuilding(), resident.getUnit(), resident.getRoomNumber());
+    }
+
+    private static int indexOf(List<String> header, String... names) {
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase();
+            for (String candidate : names) {
+                if (candidate.equals(name)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static String cell(List<String> row, int index) {
+        return index < row.size() ? row.get(index) : "";
+    }
+
+    /**
+     * 读数换算为 1/100 单位，负数或超过两位小数时返回 -1
+     */
+    private static long toHundredths(BigDecimal reading) {
+        if (reading == null || reading.signum() < 0) {
+            return -1;
+        }
+        try {
+            return reading.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException ex) {
+            return -1;
+        }
+    }
+}
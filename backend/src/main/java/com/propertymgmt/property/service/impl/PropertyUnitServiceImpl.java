@@ -0,0 +1,272 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.PropertyUnitNode;
+import com.propertymgmt.property.dto.PropertyUnitRequest;
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.PropertyUnit;
+import com.propertymgmt.property.model.Resident;
+import com.propertymgmt.property.repository.PropertyUnitJdbcRepository;
+import com.propertymgmt.property.repository.PropertyUnitJdbcRepository.UnitRow;
+import com.propertymgmt.property.repository.PropertyUnitRepository;
+import com.propertymgmt.property.service.PropertyUnitService;
+import com.propertymgmt.property.util.Money;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 房产登记与入住、欠费统计：登记数据持久化在 property_units，统计保存在内存中的房产树上，
+ * 启动时装载一次，之后随住户增删改与账单出账、缴费在事务提交后增量更新，查看概览时不再对住户表分组统计。
+ */
+@Service
+public class PropertyUnitServiceImpl implements PropertyUnitService {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyUnitServiceImpl.class);
+
+    private final PropertyUnitRepository propertyUnitRepository;
+    private final PropertyUnitJdbcRepository propertyUnitJdbcRepository;
+    private final int fetchSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 以下字段由 lock 保护；pending 非 null 表示正在装载，期间提交的增量除应用到当前树外还按提交顺序排入其中
+    private PropertyUnitTree tree;
+    private List<Consumer<PropertyUnitTree>> pending;
+
+    public PropertyUnitServiceImpl(PropertyUnitRepository propertyUnitRepository,
+                                   PropertyUnitJdbcRepository propertyUnitJdbcRepository,
+                                   @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.propertyUnitRepository = propertyUnitRepository;
+        this.propertyUnitJdbcRepository = propertyUnitJdbcRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public List<PropertyUnitNode> tree(int depth) {
+        if (depth < 1 || depth > 3) {
+            throw new IllegalArgumentException("展开层数应为 1 至 3");
+        }
+        lock.readLock().lock();
+        try {
+            return current().tree(depth);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PropertyUnitNode> children(Long id) {
+        lock.readLock().lock();
+        try {
+            PropertyUnitTree.Node node = current().node(id);
+            if (node == null) {
+                throw new RuntimeException("房产不存在");
+            }
+            return current().children(node);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private PropertyUnitTree current() {
+        if (tree == null) {
+            throw new ConflictException("房产统计正在装载，请稍后再试");
+        }
+        return tree;
+    }
+
+    @Override
+    @Transactional
+    public PropertyUnit create(PropertyUnitRequest request) {
+        PropertyUnit unit = new PropertyUnit();
+        String name = request.getName().trim();
+        if (request.getParentId() == null) {
+            unit.setLevel(PropertyUnit.Level.BUILDING);
+            unit.setPath(PropertyUnit.pathOf(name));
+        } else {
+            PropertyUnit parent = propertyUnitRepository.findById(request.getParentId())
+                .orElseThrow(() -> new RuntimeException("上级房产不存在"));
+            if (parent.getLevel() == PropertyUnit.Level.ROOM) {
+                throw new IllegalArgumentException("房间下不能再添加下级");
+            }
+            unit.setLevel(PropertyUnit.Level.values()[parent.getLevel().ordinal() + 1]);
+            unit.setParentId(parent.getId());
+            unit.setPath(PropertyUnit.pathOf(parent.getPath(), name));
+        }
+        if (propertyUnitRepository.existsByPath(unit.getPath())) {
+            throw new ConflictException("房产已登记: " + unit.getPath());
+        }
+        unit.setName(name);
+        PropertyUnit saved = propertyUnitRepository.save(unit);
+        UnitRow row = new UnitRow(saved.getId(), saved.getLevel(), saved.getParentId(), saved.getName(),
+            saved.getPath());
+        afterCommit(t -> addNode(t, row));
+        return saved;
+    }
+
+    @Override
+    public void register(String building, String unit, String roomNumber) {
+        List<UnitRow> rows = propertyUnitJdbcRepository.register(building, unit, roomNumber);
+        afterCommit(t -> rows.forEach(row -> addNode(t, row)));
+    }
+
+    private static void addNode(PropertyUnitTree target, UnitRow row) {
+        target.addNode(row.id(), row.level(), row.parentId(), row.name(), row.path());
+    }
+
+    // ========== 增量维护 ==========
+
+    @Override
+    public void recordBills(Collection<FeeBill> bills) {
+        List<FeeBill> unpaid = bills.stream().filter(bill -> bill.getStatus() != FeeBill.BillStatus.PAID).toList();
+        List<String> billNumbers = unpaid.stream().map(FeeBill::getBillNumber).toList();
+        List<String> locations = unpaid.stream().map(FeeBill::getBuilding).toList();
+        long[] cents = unpaid.stream().mapToLong(bill -> Money.toCents(bill.getPayableAmount())).toArray();
+        afterCommit(t -> {
+            for (int i = 0; i < billNumbers.size(); i++) {
+                t.putUnpaidBill(billNumbers.get(i), locations.get(i), cents[i]);
+            }
+        });
+    }
+
+    @Override
+    public void recordLateFees(Collection<FeeBill> bills) {
+        recordBills(bills);
+    }
+
+    @Override
+    public void recordBillsPaid(Collection<FeeBill> bills) {
+        List<String> billNumbers = bills.stream().map(FeeBill::getBillNumber).toList();
+        afterCommit(t -> billNumbers.forEach(t::removeUnpaidBill));
+    }
+
+    @Override
+    public void residentSaved(Resident resident) {
+        long id = resident.getId();
+        String building = resident.getBuilding();
+        String unit = resident.getUnit();
+        String roomNumber = resident.getRoomNumber();
+        boolean occupying = isOccupying(resident.getStatus());
+        afterCommit(t -> t.putResident(id, building, unit, roomNumber, occupying));
+    }
+
+    @Override
+    public void residentRemoved(Resident resident) {
+        long id = resident.getId();
+        afterCommit(t -> t.removeResident(id));
+    }
+
+    private static boolean isOccupying(Resident.Status status) {
+        return status == Resident.Status.OCCUPIED || status == Resident.Status.RENTED;
+    }
+
+    /**
+     * 统计只反映已提交的数据：事务回滚时增量随之丢弃
+     */
+    private void afterCommit(Consumer<PropertyUnitTree> change) {
+        Runnable action = () -> apply(change);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void apply(Consumer<PropertyUnitTree> change) {
+        lock.writeLock().lock();
+        try {
+            if (tree != null) {
+                change.accept(tree);
+            }
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========== 装载 ==========
+
+    /**
+     * 先按住户表补登记房间，再以只进游标依次把登记节点、住户与未缴账单装入新树，
+     * 最后按提交顺序重放装载期间的增量并整体替换。增量都是把节点、住户或账单置为最新状态，
+     * 重放到已由游标读到该状态的新树上结果不变；重放在全部节点装入之后，住户与账单总能找到所属节点
+     */
+    @Override
+    public int reload() {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                throw new ConflictException("房产统计正在装载，请稍后再试");
+            }
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            int registered = propertyUnitJdbcRepository.registerFromResidents();
+
+            PropertyUnitTree loaded = new PropertyUnitTree();
+            propertyUnitJdbcRepository.streamUnits(fetchSize, rs -> loaded.addNode(rs.getLong("id"),
+                PropertyUnit.Level.valueOf(rs.getString("level")), rs.getObject("parent_id", Long.class),
+                rs.getString("name"), rs.getString("path")));
+            propertyUnitJdbcRepository.streamResidents(fetchSize, rs -> loaded.putResident(rs.getLong("id"),
+                rs.getString("building"), rs.getString("unit"), rs.getString("room_number"),
+                isOccupying(Resident.Status.valueOf(rs.getString("status")))));
+            propertyUnitJdbcRepository.streamUnpaidBills(fetchSize, rs -> loaded.putUnpaidBill(
+                rs.getString("bill_number"), rs.getString("building"), Money.toCents(rs.getBigDecimal("amount"))));
+
+            int replayed;
+            int size;
+            lock.writeLock().lock();
+            try {
+                replayed = pending.size();
+                pending.forEach(change -> change.accept(loaded));
+                tree = loaded;
+                size = tree.size();
+            } finally {
+                pending = null;
+                lock.writeLock().unlock();
+            }
+            log.info("房产统计已装载 {} 个登记节点（新补登记 {} 个，重放装载期间的增量 {} 条），耗时 {} ms",
+                size, registered, replayed, System.currentTimeMillis() - start);
+            return size;
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("房产统计装载失败，可稍后手动重新装载: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.PropertyUnitNode;
+import com.propertymgmt.property.model.PropertyUnit;
+import com.propertymgmt.property.util.Buildings;
+import com.propertymgmt.property.util.Money;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 房产树及各节点的入住、欠费计数。住户与未缴账单按各自当前所在的节点登记，变更时先撤销旧贡献再计入新贡献，
+ * 同一事件重复到达不会重复计数。住户、账单定位到最深的已登记节点（未登记的房间计入所在单元或楼栋）。
+ * 非线程安全，由调用方加锁。
+ */
+final class PropertyUnitTree {
+
+    /**
+     * 名称按数字段的数值比较（"2号楼" 排在 "10号楼" 之前）
+     */
+    private static final Comparator<Node> NATURAL_ORDER = (a, b) -> compareNatural(a.name, b.name);
+
+    static final class Node {
+
+        final long id;
+        final PropertyUnit.Level level;
+        final String name;
+        final String path;
+        final Node parent;
+        final List<Node> children = new ArrayList<>();
+
+        // 房间内在住（自住或出租）的住户数，只用于判断房间是否有人入住
+        int occupants;
+
+        long roomCount;
+        long occupiedRoomCount;
+        long residentCount;
+        long arrearsBillCount;
+        long arrearsCents;
+
+        Node(long id, PropertyUnit.Level level, String name, String path, Node parent) {
+            this.id = id;
+            this.level = level;
+            this.name = name;
+            this.path = path;
+            this.parent = parent;
+        }
+    }
+
+    private record ResidentState(Node node, boolean occupying) {
+    }
+
+    private record BillState(Node node, long cents) {
+    }
+
+    private final Map<Long, Node> byId = new HashMap<>();
+    private final Map<String, Node> byPath = new HashMap<>();
+    private final List<Node> buildings = new ArrayList<>();
+    private final Map<Long, ResidentState> residents = new HashMap<>();
+    private final Map<String, BillState> unpaidBills = new HashMap<>();
+
+    int size() {
+        return byId.size();
+    }
+
+    Node node(long id) {
+        return byId.get(id);
+    }
+
+    void addNode(long id, PropertyUnit.Level level, Long parentId, String name, String path) {
+        if (byId.containsKey(id)) {
+            return;
+        }
+        Node parent = parentId != null ? byId.get(parentId) : null;
+        if (parentId != null && parent == null) {
+            return;
+        }
+        Node node = new Node(id, level, name, path, parent);
+        byId.put(id, node);
+        byPath.put(path, node);
+        (parent != null ? parent.children : buildings).add(node);
+        if (level == PropertyUnit.Level.ROOM) {
+            for (Node n = node; n != null; n = n.parent) {
+                n.roomCount++;
+            }
+        }
+    }
+
+    void putResident(long id, String building, String unit, String roomNumber, boolean occupying) {
+        removeResident(id);
+        Node node = locate(PropertyUnit.pathOf(building, unit, roomNumber));
+        if (node != null) {
+            residents.put(id, new ResidentState(node, occupying));
+            applyResident(node, occupying, 1);
+        }
+    }
+
+    void removeResident(long id) {
+        ResidentState old = residents.remove(id);
+        if (old != null) {
+            applyResident(old.node(), old.occupying(), -1);
+        }
+    }
+
+    private static void applyResident(Node node, boolean occupying, int sign) {
+        boolean flipped = false;
+        if (occupying && node.level == PropertyUnit.Level.ROOM) {
+            boolean wasOccupied = node.occupants > 0;
+            node.occupants += sign;
+            flipped = wasOccupied != node.occupants > 0;
+        }
+        for (Node n = node; n != null; n = n.parent) {
+            n.residentCount += sign;
+            if (flipped) {
+                n.occupiedRoomCount += sign;
+            }
+        }
+    }
+
+    /**
+     * 登记未缴账单或更新其应缴金额；location 为账单上的房屋描述（如 "1号楼 2单元 301"）
+     */
+    void putUnpaidBill(String billNumber, String location, long cents) {
+        BillState old = unpaidBills.get(billNumber);
+        if (old != null) {
+            // 未缴账单的金额只会因计收滞纳金而增加，重复写入（含装载期间的重放）时取较大值
+            if (cents > old.cents()) {
+                unpaidBills.put(billNumber, new BillState(old.node(), cents));
+                applyCents(old.node(), cents - old.cents());
+            }
+            return;
+        }
+        Node node = locate(locationPath(location));
+        if (node != null) {
+            unpaidBills.put(billNumber, new BillState(node, cents));
+            applyBill(node, cents, 1);
+        }
+    }
+
+    void removeUnpaidBill(String billNumber) {
+        BillState old = unpaidBills.remove(billNumber);
+        if (old != null) {
+            applyBill(old.node(), old.cents(), -1);
+        }
+    }
+
+    private static void applyBill(Node node, long cents, int sign) {
+        for (Node n = node; n != null; n = n.parent) {
+            n.arrearsBillCount += sign;
+            n.arrearsCents = Money.add(n.arrearsCents, sign * cents);
+        }
+    }
+
+    private static void applyCents(Node node, long cents) {
+        for (Node n = node; n != null; n = n.parent) {
+            n.arrearsCents = Money.add(n.arrearsCents, cents);
+        }
+    }
+
+    /**
+     * 房屋描述按空白拆为楼栋、单元、房间；不含空白时只取楼栋
+     */
+    static String locationPath(String location) {
+        if (location == null || location.isBlank()) {
+            return "";
+        }
+        String[] parts = location.trim().split("\\s+");
+        if (parts.length == 1) {
+            return Buildings.of(location);
+        }
+        return PropertyUnit.pathOf(parts[0], parts[1], parts.length > 2 ? parts[2] : null);
+    }
+
+    /**
+     * 路径对应的节点，未登记时逐级向上取最深的已登记节点
+     */
+    private Node locate(String path) {
+        while (!path.isEmpty()) {
+            Node node = byPath.get(path);
+            if (node != null) {
+                return node;
+            }
+            int slash = path.lastIndexOf('/');
+            path = slash > 0 ? path.substring(0, slash) : "";
+        }
+        return null;
+    }
+
+    /**
+     * 自楼栋起展开 depth 层（1 仅楼栋，2 含单元，3 含房间）
+     */
+    List<PropertyUnitNode> tree(int depth) {
+        return toDtos(buildings, depth);
+    }
+
+    List<PropertyUnitNode> children(Node node) {
+        return toDtos(node.children, 1);
+    }
+
+    private static List<PropertyUnitNode> toDtos(List<Node> nodes, int depth) {
+        List<Node> sorted = new ArrayList<>(nodes);
+        sorted.sort(NATURAL_ORDER);
+        List<PropertyUnitNode> dtos = new ArrayList<>(sorted.size());
+        for (Node node : sorted) {
+            PropertyUnitNode dto = toDto(node);
+            if (depth > 1) {
+                dto.setChildren(toDtos(node.children, depth - 1));
+            }
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    static PropertyUnitNode toDto(Node node) {
+        PropertyUnitNode dto = new PropertyUnitNode();
+        dto.setId(node.id);
+        dto.setLevel(node.level.name().toLowerCase(Locale.ROOT));
+        dto.setName(node.name);
+        dto.setPath(node.path);
+        dto.setRoomCount(node.roomCount);
+        dto.setOccupiedRoomCount(node.occupiedRoomCount);
+        dto.setResidentCount(node.residentCount);
+        dto.setArrearsBillCount(node.arrearsBillCount);
+        dto.setArrearsAmount(Money.toBigDecimal(node.arrearsCents));
+        return dto;
+    }
+
+    private static int compareNatural(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            char ca = a.charAt(i);
+            char cb = b.charAt(j);
+            if (Character.isDigit(ca) && Character.isDigit(cb)) {
+                int endA = i;
+                int endB = j;
+                while (endA < a.length() && Character.isDigit(a.charAt(endA))) {
+                    endA++;
+                }
+                while (endB < b.length() && Character.isDigit(b.charAt(endB))) {
+                    endB++;
+                }
+                String digitsA = a.substring(i, endA).replaceFirst("^0+(?=.)", "");
+                String digitsB = b.substring(j, endB).replaceFirst("^0+(?=.)", "");
+                int cmp = digitsA.length() != digitsB.length()
+                    ? Integer.compare(digitsA.length(), digitsB.length())
+                    : digitsA.compareTo(digitsB);
+                if (cmp != 0) {
+                    return cmp;
+                }
+                i = endA;
+                j = endB;
+            } else {
+                if (ca != cb) {
+                    return Character.compare(ca, cb);
+                }
+                i++;
+                j++;
+            }
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+}
@@ -0,0 +1,299 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.model.Reconciliation;
+import com.propertymgmt.property.model.Reconciliation.ReconcileStatus;
+import com.propertymgmt.property.model.ReconciliationItem;
+import com.propertymgmt.property.model.ReconciliationItem.ItemType;
+import com.propertymgmt.property.repository.FeeBillJdbcRepository;
+import com.propertymgmt.property.repository.ReconciliationItemRepository;
+import com.propertymgmt.property.repository.ReconciliationJdbcRepository;
+import com.propertymgmt.property.repository.ReconciliationRepository;
+import com.propertymgmt.property.service.ReconciliationService;
+import com.propertymgmt.property.util.BillingPeriods;
+import com.propertymgmt.property.util.CsvRowReader;
+import com.propertymgmt.property.util.Money;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 对账：先把当月缴费记录的订单号与金额装入散列索引，再单遍扫描对账单逐行查找，
+ * 最后未被对账单命中的缴费记录即为对账单缺失。对账单逐行读取，差异明细攒满一批即写库，
+ * 内存占用只与当月缴费记录数相关，与对账单大小无关。
+ */
+@Service
+public class ReconciliationServiceImpl implements ReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationServiceImpl.class);
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final Set<String> ORDER_COLUMNS =
+        Set.of("订单号", "商户订单号", "交易订单号", "order_number", "ordernumber", "order_no");
+    private static final Set<String> AMOUNT_COLUMNS =
+        Set.of("金额", "交易金额", "实收金额", "amount");
+
+    private final ReconciliationRepository reconciliationRepository;
+    private final ReconciliationItemRepository itemRepository;
+    private final ReconciliationJdbcRepository reconciliationJdbcRepository;
+    private final int fetchSize;
+
+    public ReconciliationServiceImpl(ReconciliationRepository reconciliationRepository,
+                                     ReconciliationItemRepository itemRepository,
+                                     ReconciliationJdbcRepository reconciliationJdbcRepository,
+                                     @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.reconciliationRepository = reconciliationRepository;
+        this.itemRepository = itemRepository;
+        this.reconciliationJdbcRepository = reconciliationJdbcRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 当月缴费记录的散列索引：订单号 -> 下标，订单号、id 与金额（分）存放在并行数组中
+     */
+    private static final class PaymentIndex {
+        final Map<String, Integer> positions = new HashMap<>();
+        final BitSet seen = new BitSet();
+        String[] orderNumbers = new String[1024];
+        long[] ids = new long[1024];
+        long[] cents = new long[1024];
+        int size;
+
+        void add(String orderNumber, long id, long amountCents) {
+            if (size == ids.length) {
+                orderNumbers = Arrays.copyOf(orderNumbers, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+                cents = Arrays.copyOf(cents, size * 2);
+            }
+            orderNumbers[size] = orderNumber;
+            ids[size] = id;
+            cents[size] = amountCents;
+            positions.put(orderNumber, size++);
+        }
+    }
+
+    @Override
+    public Reconciliation reconcile(InputStream statement, String fileName, String period, String payMethod) {
+        int periodKey = BillingPeriods.requireKey(period);
+        try (CsvRowReader reader = new CsvRowReader(statement)) {
+            int[] columns = locateColumns(reader.readRow());
+
+            Reconciliation run = new Reconciliation();
+            run.setFileName(fileName);
+            run.setPeriod(periodKey);
+            run.setPayMethod(payMethod != null && !payMethod.isBlank() ? payMethod.trim() : null);
+            run = reconciliationRepository.save(run);
+
+            long start = System.currentTimeMillis();
+            try {
+                PaymentIndex index = loadIndex(periodKey, run.getPayMethod());
+                match(reader, columns, index, run);
+                run.setStatus(ReconcileStatus.COMPLETED);
+            } catch (RuntimeException | IOException ex) {
+                log.error("对账批次 {} 失败", run.getId(), ex);
+                run.setStatus(ReconcileStatus.FAILED);
+                run.setErrorMessage(ex.getMessage());
+            }
+            run.setElapsedMillis(System.currentTimeMillis() - start);
+            run = reconciliationRepository.save(run);
+            log.info("对账批次 {} 完成：对账单 {} 行，一致 {}，系统缺失 {}，对账单缺失 {}，重复 {}，金额不符 {}，耗时 {} ms",
+                run.getId(), run.getStatementLines(), run.getMatchedCount(), run.getMissingInSystem(),
+                run.getMissingInStatement(), run.getDuplicateCount(), run.getAmountMismatchCount(),
+                run.getElapsedMillis());
+            return run;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("读取对账单失败", ex);
+        }
+    }
+
+    /**
+     * 按表头定位订单号列与金额列
+     */
+    private static int[] locateColumns(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("对账单为空");
+        }
+        int orderColumn = -1;
+        int amountColumn = -1;
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase();
+            if (orderColumn < 0 && ORDER_COLUMNS.contains(name)) {
+                orderColumn = i;
+            } else if (amountColumn < 0 && AMOUNT_COLUMNS.contains(name)) {
+                amountColumn = i;
+            }
+        }
+        if (orderColumn < 0 || amountColumn < 0) {
+            throw new IllegalArgumentException("对账单表头须包含订单号列与金额列");
+        }
+        return new int[] {orderColumn, amountColumn};
+    }
+
+    private PaymentIndex loadIndex(int periodKey, String payMethod) {
+        PaymentIndex index = new PaymentIndex();
+        YearMonth month = YearMonth.of(periodKey / 100, periodKey % 100);
+        reconciliationJdbcRepository.streamPayments(month, payMethod, fetchSize, rs ->
+            index.add(rs.getString("order_number"), rs.getLong("id"), Money.toCents(rs.getBigDecimal("amount"))));
+        return index;
+    }
+
+    private void match(CsvRowReader reader, int[] columns, PaymentIndex index, Reconciliation run) throws IOException {
+        Counters counters = new Counters(run.getId());
+        int width = Math.max(columns[0], columns[1]) + 1;
+        List<String> row;
+        while ((row = reader.readRow()) != null) {
+            if (row.size() == 1 && row.get(0).isBlank()) {
+                continue;
+            }
+            long lineNumber = reader.getLineNumber();
+            counters.lines++;
+            if (row.size() < width) {
+                counters.add(ItemType.INVALID, lineNumber, null, null, null, null, "列数不足");
+                continue;
+            }
+            String orderNumber = row.get(columns[0]).trim();
+            long amount = parseCents(row.get(columns[1]));
+            if (orderNumber.isEmpty() || amount == Long.MIN_VALUE) {
+                counters.add(ItemType.INVALID, lineNumber, truncate(orderNumber, 64), null, null, null,
+                    truncate("无法识别的订单号或金额: " + row.get(columns[1]), 200));
+                continue;
+            }
+
+            Integer pos = index.positions.get(orderNumber);
+            BigDecimal statementAmount = Money.toBigDecimal(amount);
+            if (pos == null) {
+                counters.add(ItemType.MISSING_IN_SYSTEM, lineNumber, truncate(orderNumber, 64), statementAmount,
+                    null, null, null);
+            } else if (index.seen.get(pos)) {
+                counters.add(ItemType.DUPLICATE, lineNumber, orderNumber, statementAmount,
+                    index.ids[pos], Money.toBigDecimal(index.cents[pos]), null);
+            } else {
+                index.seen.set(pos);
+                if (index.cents[pos] == amount) {
+                    counters.matched++;
+                    counters.matchedCents += amount;
+                } else {
+                    counters.add(ItemType.AMOUNT_MISMATCH, lineNumber, orderNumber, statementAmount,
+                        index.ids[pos], Money.toBigDecimal(index.cents[pos]), null);
+                }
+            }
+        }
+
+        // 未被对账单命中的缴费记录
+        for (int pos = index.seen.nextClearBit(0); pos < index.size; pos = index.seen.nextClearBit(pos + 1)) {
+            counters.add(ItemType.MISSING_IN_STATEMENT, null, index.orderNumbers[pos], null,
+                index.ids[pos], Money.toBigDecimal(index.cents[pos]), null);
+        }
+        counters.flush();
+        counters.applyTo(run);
+        run.setPaymentCount((long) index.size);
+    }
+
+    /**
+     * 计数与差异明细缓冲
+     */
+    private final class Counters {
+        final Long runId;
+        final List<ReconciliationItem> pending = new ArrayList<>(FeeBillJdbcRepository.BATCH_SIZE);
+        final Map<ItemType, Long> counts = new HashMap<>();
+        long lines;
+        long matched;
+        long matchedCents;
+
+        Counters(Long runId) {
+            this.runId = runId;
+        }
+
+        void add(ItemType type, Long lineNumber, String orderNumber, BigDecimal statementAmount,
+                 Long paymentId, BigDecimal paymentAmount, String detail) {
+            ReconciliationItem item = new ReconciliationItem();
+            item.setReconciliationId(runId);
+            item.setType(type);
+            item.setLineNumber(lineNumber);
+            item.setOrderNumber(orderNumber);
+            item.setStatementAmount(statementAmount);
+            item.setPaymentId(paymentId);
+            item.setPaymentAmount(paymentAmount);
+            item.setDetail(detail);
+            pending.add(item);
+            counts.merge(type, 1L, Long::sum);
+            if (pending.size() >= FeeBillJdbcRepository.BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!pending.isEmpty()) {
+                reconciliationJdbcRepository.insertItems(pending);
+                pending.clear();
+            }
+        }
+
+        void applyTo(Reconciliation run) {
+            run.setStatementLines(lines);
+            run.setMatchedCount(matched);
+            run.setMatchedAmount(Money.toBigDecimal(matchedCents));
+            run.setMissingInSystem(counts.getOrDefault(ItemType.MISSING_IN_SYSTEM, 0L));
+            run.setMissingInStatement(counts.getOrDefault(ItemType.MISSING_IN_STATEMENT, 0L));
+            run.setDuplicateCount(counts.getOrDefault(ItemType.DUPLICATE, 0L));
+            run.setAmountMismatchCount(counts.getOrDefault(ItemType.AMOUNT_MISMATCH, 0L));
+            run.setInvalidCount(counts.getOrDefault(ItemType.INVALID, 0L));
+        }
+    }
+
+    /**
+     * 解析对账单金额（允许货币符号与千分位），无法解析或超过两位小数时返回 Long.MIN_VALUE
+     */
+    private static long parseCents(String text) {
+        String cleaned = text.trim().replace(",", "").replace("¥", "").replace("￥", "");
+        if (cleaned.isEmpty()) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return new BigDecimal(cleaned).setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (NumberFormatException | ArithmeticException ex) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static String truncate(String text, int max) {
+        return text == null || text.length() <= max ? text : text.substring(0, max);
+    }
+
+    @Override
+    public Reconciliation findById(Long id) {
+        return reconciliationRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("对账批次不存在"));
+    }
+
+    @Override
+    public List<Reconciliation> findRecent() {
+        return reconciliationRepository.findTop20ByOrderByIdDesc();
+    }
+
+    @Override
+    public List<ReconciliationItem> findItems(Long reconciliationId, String type, Long afterId, int size) {
+        ItemType itemType;
+        try {
+            itemType = ItemType.valueOf(type.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("差异类型不正确: " + type);
+        }
+        return itemRepository.findByReconciliationIdAndTypeAndIdGreaterThanOrderByIdAsc(reconciliationId, itemType,
+            afterId != null ? afterId : 0L, PageRequest.of(0, Math.max(1, Math.min(size, MAX_PAGE_SIZE))));
+    }
+}
@@ -4,10 +4,10 @@ import com.propertymgmt.property.dto.RepairOrderRequest;
 import com.propertymgmt.property.dto.RepairStatusUpdateRequest;
 import com.propertymgmt.property.model.RepairOrder;
 import com.propertymgmt.property.repository.RepairOrderRepository;
+import com.propertymgmt.property.service.BusinessNumberService;
 import com.propertymgmt.property.service.RepairOrderService;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +16,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class RepairOrderServiceImpl implements RepairOrderService {
 
     private final RepairOrderRepository repairOrderRepository;
+    private final BusinessNumberService businessNumberService;
 
-    public RepairOrderServiceImpl(RepairOrderRepository repairOrderRepository) {
+    public RepairOrderServiceImpl(RepairOrderRepository repairOrderRepository,
+                                  BusinessNumberService businessNumberService) {
         this.repairOrderRepository = repairOrderRepository;
+        this.businessNumberService = businessNumberService;
     }
 
     @Override
@@ -37,7 +40,7 @@ public class RepairOrderServiceImpl implements RepairOrderService {
     @Override
     public RepairOrder create(RepairOrderRequest request) {
         RepairOrder order = new RepairOrder();
-        order.setOrderNumber(generateOrderNumber());
+        order.setOrderNumber(businessNumberService.nextRepairOrderNumber());
         order.setOwnerName(request.getOwnerName());
         order.setPhone(request.getPhone());
         order.setType(request.getType());
@@ -75,9 +78,4 @@ public class RepairOrderServiceImpl implements RepairOrderService {
         }
         return repairOrderRepository.save(order);
     }
-
-    private String generateOrderNumber() {
-        return "R" + LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd"))
-            + UUID.randomUUID().toString().substring(0, 5).toUpperCase();
-    }
 }
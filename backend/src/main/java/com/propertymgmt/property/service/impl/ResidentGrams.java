@@ -0,0 +1,231 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.model.Resident;
+import com.propertymgmt.property.util.KeysetCursor;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 住户检索的 n-gram 倒排表：姓名、电话、楼栋、房号转小写后按码点切分为单字与相邻二元组（不跨字段），
+ * 每个词元对应按 id 升序的住户 id 列表。中文按字切分、无需分词，二元组即可定位姓名与地址片段。
+ * 非线程安全，由调用方加锁。
+ */
+final class ResidentGrams {
+
+    /**
+     * 键集分页的顺序：创建时间倒序，同一时刻按 id 倒序
+     */
+    private static final Comparator<Doc> NEWEST_FIRST = Comparator.comparing(Doc::createdAt)
+        .thenComparingLong(Doc::id).reversed();
+
+    /**
+     * 一个住户的检索字段（已转小写）与创建时间（截到微秒，与数据库中的精度一致）
+     */
+    record Doc(long id, String[] fields, Resident.Status status, LocalDateTime createdAt) {
+
+        static Doc of(long id, String name, String phone, String building, String roomNumber,
+                      Resident.Status status, LocalDateTime createdAt) {
+            return new Doc(id, new String[] {normalize(name), normalize(phone), normalize(building),
+                normalize(roomNumber)}, status, createdAt.truncatedTo(ChronoUnit.MICROS));
+        }
+
+        /**
+         * 按键集分页的顺序排在游标之后
+         */
+        boolean isAfter(KeysetCursor cursor) {
+            int cmp = createdAt.compareTo(cursor.createdAt());
+            return cmp < 0 || (cmp == 0 && id < cursor.id());
+        }
+
+        /**
+         * 匹配程度：某字段与关键字相同为 3，以关键字开头为 2，包含关键字为 1，均不包含为 0
+         */
+        int score(String keyword) {
+            int best = 0;
+            for (String field : fields) {
+                if (field.equals(keyword)) {
+                    return 3;
+                }
+                if (field.startsWith(keyword)) {
+                    best = 2;
+                } else if (best == 0 && field.contains(keyword)) {
+                    best = 1;
+                }
+            }
+            return best;
+        }
+    }
+
+    private record Match(Doc doc, int score) {
+    }
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    static String normalize(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    int size() {
+        return docs.size();
+    }
+
+    void put(Doc doc) {
+        remove(doc.id());
+        docs.put(doc.id(), doc);
+        for (long gram : grams(doc)) {
+            postings.computeIfAbsent(gram, g -> new Postings()).add(doc.id());
+        }
+    }
+
+    void remove(long id) {
+        Doc old = docs.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (long gram : grams(old)) {
+            Postings list = postings.get(gram);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * 包含关键字（已转小写）的住户 id，按匹配程度降序、id 升序排列；status 为空时不限状态。
+     * 单字查单字表；多字取各二元组表的交集作候选，再逐个核对子串，排除由不同字段的二元组拼出的误命中
+     */
+    List<Long> search(String keyword, Resident.Status status) {
+        List<Match> matches = matches(keyword, status);
+        // 候选按 id 升序产生，稳定排序后同分者仍按 id 升序
+        matches.sort(Comparator.comparingInt(Match::score).reversed());
+        return matches.stream().map(match -> match.doc().id()).toList();
+    }
+
+    /**
+     * 包含关键字（已转小写）的住户中，按 (创建时间, id) 倒序排在游标之后的前 limit 个 id；cursor 为空时从头开始
+     */
+    List<Long> searchNewestFirst(String keyword, Resident.Status status, KeysetCursor cursor, int limit) {
+        return matches(keyword, status).stream()
+            .map(Match::doc)
+            .filter(doc -> cursor == null || doc.isAfter(cursor))
+            .sorted(NEWEST_FIRST)
+            .limit(limit)
+            .map(Doc::id)
+            .toList();
+    }
+
+    private List<Match> matches(String keyword, Resident.Status status) {
+        int[] codePoints = keyword.codePoints().toArray();
+        List<Postings> lists = new ArrayList<>();
+        if (codePoints.length == 1) {
+            lists.add(postings.get(unigram(codePoints[0])));
+        } else {
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                lists.add(postings.get(bigram(codePoints[i], codePoints[i + 1])));
+            }
+        }
+        if (lists.contains(null)) {
+            return new ArrayList<>();
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        Postings shortest = lists.get(0);
+        List<Match> matches = new ArrayList<>();
+        candidates:
+        for (int i = 0; i < shortest.size; i++) {
+            long id = shortest.ids[i];
+            for (int j = 1; j < lists.size(); j++) {
+                if (!lists.get(j).contains(id)) {
+                    continue candidates;
+                }
+            }
+            Doc doc = docs.get(id);
+            if (status != null && doc.status() != status) {
+                continue;
+            }
+            int score = doc.score(keyword);
+            if (score > 0) {
+                matches.add(new Match(doc, score));
+            }
+        }
+        return matches;
+    }
+
+    private static long[] grams(Doc doc) {
+        long[] grams = new long[0];
+        int count = 0;
+        for (String field : doc.fields()) {
+            int[] codePoints = field.codePoints().toArray();
+            if (count + codePoints.length * 2 > grams.length) {
+                grams = Arrays.copyOf(grams, count + codePoints.length * 2);
+            }
+            for (int i = 0; i < codePoints.length; i++) {
+                grams[count++] = unigram(codePoints[i]);
+                if (i + 1 < codePoints.length) {
+                    grams[count++] = bigram(codePoints[i], codePoints[i + 1]);
+                }
+            }
+        }
+        return Arrays.stream(grams, 0, count).distinct().toArray();
+    }
+
+    private static long unigram(int codePoint) {
+        return (long) codePoint << 32;
+    }
+
+    private static long bigram(int first, int second) {
+        return (long) first << 32 | second;
+    }
+
+    /**
+     * 按 id 升序的住户 id 列表；按 id 顺序装载时为追加
+     */
+    private static final class Postings {
+
+        long[] ids = new long[4];
+        int size;
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                if (index >= 0) {
+                    return;
+                }
+                insertAt(-index - 1, id);
+                return;
+            }
+            insertAt(size, id);
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private void insertAt(int index, long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.ResidentRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 住户导入文件的表头：中英文列名映射到 ResidentRequest 的字段，缺少必填列时拒绝整个文件
+ */
+final class ResidentImportColumns {
+
+    private record Column(String property, String label, boolean required,
+                          BiConsumer<ResidentRequest, String> setter, String... names) {
+    }
+
+    private static final List<Column> COLUMNS = List.of(
+        new Column("name", "姓名", true, ResidentRequest::setName, "姓名", "name"),
+        new Column("phone", "电话", true, ResidentRequest::setPhone, "电话", "phone"),
+        new Column("idCard", "身份证号", true, ResidentRequest::setIdCard, "身份证号", "id_card", "idcard"),
+        new Column("building", "楼栋", true, ResidentRequest::setBuilding, "楼栋", "building"),
+        new Column("unit", "单元", true, ResidentRequest::setUnit, "单元", "unit"),
+        new Column("roomNumber", "房号", true, ResidentRequest::setRoomNumber,
+            "房号", "room_number", "roomnumber"),
+        new Column("area", "面积", false, ResidentRequest::setArea, "面积", "area"),
+        new Column("residenceType", "居住类型", false, ResidentRequest::setResidenceType,
+            "居住类型", "residence_type", "residencetype"),
+        new Column("status", "状态", false, ResidentRequest::setStatus, "状态", "status"),
+        new Column("moveInDate", "入住日期", false, ResidentRequest::setMoveInDate,
+            "入住日期", "move_in_date", "moveindate"),
+        new Column("emergencyContact", "紧急联系人", false, ResidentRequest::setEmergencyContact,
+            "紧急联系人", "emergency_contact", "emergencycontact"),
+        new Column("emergencyPhone", "紧急联系电话", false, ResidentRequest::setEmergencyPhone,
+            "紧急联系电话", "emergency_phone", "emergencyphone"),
+        new Column("remark", "备注", false, ResidentRequest::setRemark, "备注", "remark"));
+
+    private static final Map<String, String> LABELS = COLUMNS.stream()
+        .collect(Collectors.toMap(Column::property, Column::label));
+
+    private final List<Column> columns;
+    private final int[] indexes;
+
+    private ResidentImportColumns(List<Column> columns, int[] indexes) {
+        this.columns = columns;
+        this.indexes = indexes;
+    }
+
+    static ResidentImportColumns of(List<String> header) {
+        List<Column> found = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (Column column : COLUMNS) {
+            int index = indexOf(header, column.names());
+            if (index >= 0) {
+                found.add(column);
+                indexes.add(index);
+            } else if (column.required()) {
+                missing.add(column.label());
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("住户文件表头缺少必填列：" + String.join("、", missing));
+        }
+        return new ResidentImportColumns(found, indexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * 一行数据转换为录入请求，单元格去掉首尾空白，空单元格视为未填写
+     */
+    ResidentRequest toRequest(List<String> row) {
+        ResidentRequest request = new ResidentRequest();
+        for (int i = 0; i < indexes.length; i++) {
+            String value = indexes[i] < row.size() ? row.get(indexes[i]).trim() : "";
+            columns.get(i).setter().accept(request, value.isEmpty() ? null : value);
+        }
+        return request;
+    }
+
+    static String labelOf(String property) {
+        return LABELS.getOrDefault(property, property);
+    }
+
+    private static int indexOf(List<String> header, String... names) {
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase();
+            for (String candidate : names) {
+                if (candidate.equals(name)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+}
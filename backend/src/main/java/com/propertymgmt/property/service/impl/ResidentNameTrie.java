@@ -0,0 +1,181 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.ResidentSuggestion;
+import com.propertymgmt.property.util.Pinyin;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 住户姓名联想的前缀树：每位住户以姓名原文、全拼、首字母（含多音字的各读音）作为键插入，
+ * 键的末节点记录住户 id。联想时从前缀所在节点按层遍历，先返回补全最短的住户，取够即停。
+ * 非线程安全，由调用方加锁。
+ */
+final class ResidentNameTrie {
+
+    private record Entry(ResidentSuggestion suggestion, List<String> keys) {
+    }
+
+    private final Node root = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    static String normalize(String value) {
+        return value != null ? value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT) : "";
+    }
+
+    void put(ResidentSuggestion suggestion) {
+        long id = suggestion.getId();
+        remove(id);
+        Set<String> keys = new LinkedHashSet<>();
+        String name = normalize(suggestion.getName());
+        if (!name.isEmpty()) {
+            keys.add(name);
+        }
+        keys.addAll(Pinyin.keys(name));
+        for (String key : keys) {
+            insert(key, id);
+        }
+        entries.put(id, new Entry(suggestion, List.copyOf(keys)));
+    }
+
+    void remove(long id) {
+        Entry old = entries.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (String key : old.keys()) {
+            delete(key, id);
+        }
+    }
+
+    /**
+     * 以 prefix（已规范化）开头的键所对应的住户，最多 limit 个，补全越短越靠前
+     */
+    List<ResidentSuggestion> suggest(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        queue.add(node);
+        while (!queue.isEmpty() && ids.size() < limit) {
+            Node current = queue.poll();
+            for (int i = 0; i < current.idCount && ids.size() < limit; i++) {
+                ids.add(current.ids[i]);
+            }
+            for (int i = 0; i < current.childCount; i++) {
+                queue.add(current.children[i]);
+            }
+        }
+        List<ResidentSuggestion> suggestions = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            suggestions.add(entries.get(id).suggestion());
+        }
+        return suggestions;
+    }
+
+    private void insert(String key, long id) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        node.addId(id);
+    }
+
+    /**
+     * 删除键上的住户 id，并自下而上剪掉不再有住户也没有子节点的节点
+     */
+    private void delete(String key, long id) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        path[key.length()].removeId(id);
+        for (int i = key.length(); i > 0 && path[i].idCount == 0 && path[i].childCount == 0; i--) {
+            path[i - 1].removeChild(key.charAt(i - 1));
+        }
+    }
+
+    /**
+     * 子节点按字符升序存放在并行数组中，按二分查找定位
+     */
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final long[] NO_IDS = new long[0];
+
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        int childCount;
+        long[] ids = NO_IDS;
+        int idCount;
+
+        Node child(char ch) {
+            int index = Arrays.binarySearch(keys, 0, childCount, ch);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char ch) {
+            int index = Arrays.binarySearch(keys, 0, childCount, ch);
+            if (index >= 0) {
+                return children[index];
+            }
+            index = -index - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, index, keys, index + 1, childCount - index);
+            System.arraycopy(children, index, children, index + 1, childCount - index);
+            Node node = new Node();
+            keys[index] = ch;
+            children[index] = node;
+            childCount++;
+            return node;
+        }
+
+        void removeChild(char ch) {
+            int index = Arrays.binarySearch(keys, 0, childCount, ch);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(keys, index + 1, keys, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            children[--childCount] = null;
+        }
+
+        // 同一住户的键互不相同、写入前先整体移除，节点上不会出现重复 id
+        void addId(long id) {
+            if (idCount == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(1, idCount * 2));
+            }
+            ids[idCount++] = id;
+        }
+
+        void removeId(long id) {
+            for (int i = 0; i < idCount; i++) {
+                if (ids[i] == id) {
+                    System.arraycopy(ids, i + 1, ids, i, idCount - i - 1);
+                    idCount--;
+                    return;
+                }
+            }
+        }
+    }
+}
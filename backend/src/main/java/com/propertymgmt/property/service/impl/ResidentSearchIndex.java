@@ -0,0 +1,253 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.ResidentSuggestion;
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.model.Resident;
+import com.propertymgmt.property.repository.ResidentJdbcRepository;
+import com.propertymgmt.property.service.ResidentChangeListener;
+import com.propertymgmt.property.util.KeysetCursor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 住户内存索引（关键字检索的 n-gram 倒排表与姓名联想的前缀树）：启动时从住户表装载，
+ * 之后随住户的增删改（{@link ResidentChangeListener}）在事务提交后增量维护。
+ * 装载完成前关键字检索返回空，由调用方回退到数据库查询。
+ */
+@Component
+public class ResidentSearchIndex implements ResidentChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ResidentSearchIndex.class);
+
+    private static final int LOAD_BATCH = 1000;
+
+    private final ResidentJdbcRepository residentJdbcRepository;
+    private final int fetchSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 以下字段由 lock 保护；装载期间的增量同时写入 loading，并记下住户 id，游标读到的旧状态不再覆盖这些住户
+    private Indexes indexes;
+    private Indexes loading;
+    private final Set<Long> changedWhileLoading = new HashSet<>();
+
+    /**
+     * 一位住户在各索引中的数据
+     */
+    private record Entry(ResidentGrams.Doc doc, ResidentSuggestion suggestion) {
+
+        static Entry of(long id, String name, String phone, String building, String unit, String roomNumber,
+                        Resident.Status status, LocalDateTime createdAt) {
+            return new Entry(ResidentGrams.Doc.of(id, name, phone, building, roomNumber, status, createdAt),
+                new ResidentSuggestion(id, name, building, unit, roomNumber));
+        }
+    }
+
+    private static final class Indexes {
+
+        final ResidentGrams grams = new ResidentGrams();
+        final ResidentNameTrie names = new ResidentNameTrie();
+
+        void put(Entry entry) {
+            grams.put(entry.doc());
+            names.put(entry.suggestion());
+        }
+
+        void remove(long id) {
+            grams.remove(id);
+            names.remove(id);
+        }
+    }
+
+    public ResidentSearchIndex(ResidentJdbcRepository residentJdbcRepository,
+                               @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.residentJdbcRepository = residentJdbcRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 包含关键字的住户 id（按匹配程度排序）；索引尚未装载时为空
+     */
+    public Optional<List<Long>> search(String keyword, Resident.Status status) {
+        String normalized = ResidentGrams.normalize(keyword);
+        lock.readLock().lock();
+        try {
+            if (indexes == null) {
+                return Optional.empty();
+            }
+            return Optional.of(normalized.isEmpty() ? List.of() : indexes.grams.search(normalized, status));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 包含关键字的住户中，按 (创建时间, id) 倒序排在游标之后的前 limit 个 id（键集分页用）；索引尚未装载时为空
+     */
+    public Optional<List<Long>> searchPage(String keyword, Resident.Status status, KeysetCursor cursor, int limit) {
+        String normalized = ResidentGrams.normalize(keyword);
+        lock.readLock().lock();
+        try {
+            if (indexes == null) {
+                return Optional.empty();
+            }
+            return Optional.of(normalized.isEmpty() ? List.of()
+                : indexes.grams.searchNewestFirst(normalized, status, cursor, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 姓名联想：按姓名原文、全拼或首字母前缀匹配，最多 limit 个；索引尚未装载时为空列表
+     */
+    public List<ResidentSuggestion> suggest(String prefix, int limit) {
+        String normalized = ResidentNameTrie.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return indexes != null ? indexes.names.suggest(normalized, limit) : List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void residentSaved(Resident resident) {
+        Entry entry = Entry.of(resident.getId(), resident.getName(), resident.getPhone(), resident.getBuilding(),
+            resident.getUnit(), resident.getRoomNumber(), resident.getStatus(), resident.getCreatedAt());
+        afterCommit(() -> change(resident.getId(), entry));
+    }
+
+    @Override
+    public void residentRemoved(Resident resident) {
+        long id = resident.getId();
+        afterCommit(() -> change(id, null));
+    }
+
+    /**
+     * 索引只反映已提交的数据：事务回滚时增量随之丢弃
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void change(long id, Entry entry) {
+        lock.writeLock().lock();
+        try {
+            for (Indexes target : new Indexes[] {indexes, loading}) {
+                if (target == null) {
+                    continue;
+                }
+                if (entry != null) {
+                    target.put(entry);
+                } else {
+                    target.remove(id);
+                }
+            }
+            if (loading != null) {
+                changedWhileLoading.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 以只进游标把住户表装入新的索引再整体替换，返回装载的住户数
+     */
+    public int reload() {
+        lock.writeLock().lock();
+        try {
+            if (loading != null) {
+                throw new ConflictException("住户索引正在装载，请稍后再试");
+            }
+            loading = new Indexes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            List<Entry> batch = new ArrayList<>(LOAD_BATCH);
+            residentJdbcRepository.streamSearchFields(fetchSize, rs -> {
+                batch.add(Entry.of(rs.getLong("id"), rs.getString("name"), rs.getString("phone"),
+                    rs.getString("building"), rs.getString("unit"), rs.getString("room_number"),
+                    Resident.Status.valueOf(rs.getString("status")),
+                    rs.getTimestamp("created_at").toLocalDateTime()));
+                if (batch.size() == LOAD_BATCH) {
+                    load(batch);
+                    batch.clear();
+                }
+            });
+            load(batch);
+
+            int size;
+            lock.writeLock().lock();
+            try {
+                indexes = loading;
+                size = indexes.grams.size();
+            } finally {
+                loading = null;
+                changedWhileLoading.clear();
+                lock.writeLock().unlock();
+            }
+            log.info("住户索引已装载 {} 户，耗时 {} ms", size, System.currentTimeMillis() - start);
+            return size;
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                loading = null;
+                changedWhileLoading.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+    }
+
+    private void load(List<Entry> batch) {
+        lock.writeLock().lock();
+        try {
+            for (Entry entry : batch) {
+                if (!changedWhileLoading.contains(entry.doc().id())) {
+                    loading.put(entry);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("住户索引装载失败，关键字检索将直接查询数据库、姓名联想暂不可用: {}", ex.getMessage());
+        }
+    }
+}
@@ -1,40 +1,100 @@
 package com.propertymgmt.property.service.impl;
 
+import com.propertymgmt.property.dto.CursorPage;
+import com.propertymgmt.property.dto.ResidentImportResult;
 import com.propertymgmt.property.dto.ResidentRequest;
+import com.propertymgmt.property.dto.ResidentSuggestion;
+import com.propertymgmt.property.exception.ConflictException;
 import com.propertymgmt.property.model.Resident;
 import com.propertymgmt.property.model.User;
+import com.propertymgmt.property.repository.KeysetSpecifications;
+import com.propertymgmt.property.repository.ResidentJdbcRepository;
 import com.propertymgmt.property.repository.ResidentRepository;
+import com.propertymgmt.property.repository.ResidentSpecifications;
 import com.propertymgmt.property.repository.UserRepository;
+import com.propertymgmt.property.service.PropertyUnitService;
 import com.propertymgmt.property.service.ResidentService;
+import com.propertymgmt.property.util.Areas;
+import com.propertymgmt.property.util.KeysetCursor;
+import com.propertymgmt.property.util.RowReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 @Service
 @Transactional
 public class ResidentServiceImpl implements ResidentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int IMPORT_CHUNK_SIZE = 5000;
+    private static final int MAX_ERRORS = 100;
+    private static final int AREA_LENGTH = 20;
+    private static final BigDecimal MAX_AREA_VALUE = new BigDecimal("100000000");
+
+    private static final Logger log = LoggerFactory.getLogger(ResidentServiceImpl.class);
+
     private final ResidentRepository residentRepository;
+    private final ResidentJdbcRepository residentJdbcRepository;
     private final UserRepository userRepository;
+    private final ResidentSearchIndex residentSearchIndex;
+    private final PropertyUnitService propertyUnitService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
 
-    public ResidentServiceImpl(ResidentRepository residentRepository, UserRepository userRepository) {
+    public ResidentServiceImpl(ResidentRepository residentRepository, ResidentJdbcRepository residentJdbcRepository,
+                               UserRepository userRepository, ResidentSearchIndex residentSearchIndex,
+                               PropertyUnitService propertyUnitService, Validator validator,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.export.fetch-size:1000}") int fetchSize) {
         this.residentRepository = residentRepository;
+        this.residentJdbcRepository = residentJdbcRepository;
         this.userRepository = userRepository;
+        this.residentSearchIndex = residentSearchIndex;
+        this.propertyUnitService = propertyUnitService;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fetchSize = fetchSize;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<Resident> search(String keyword, String status, Pageable pageable) {
-        Resident.Status residentStatus = null;
-        if (StringUtils.hasText(status)) {
-            residentStatus = Resident.Status.valueOf(status.trim().toUpperCase());
-        }
+        Resident.Status residentStatus = parseStatus(status);
 
+        // 未指定排序时走内存检索索引（按匹配程度排序），只加载当前页；指定排序或索引未就绪时查询数据库
+        if (StringUtils.hasText(keyword) && pageable.getSort().isUnsorted()) {
+            Optional<List<Long>> ids = residentSearchIndex.search(keyword, residentStatus);
+            if (ids.isPresent()) {
+                return loadPage(ids.get(), pageable);
+            }
+        }
         if (StringUtils.hasText(keyword) && residentStatus != null) {
             return residentRepository.searchByKeywordAndStatus(keyword.trim(), residentStatus, pageable);
         }
@@ -47,6 +107,51 @@ public class ResidentServiceImpl implements ResidentService {
         return residentRepository.findAll(pageable);
     }
 
+    /**
+     * 按 (created_at, id) 倒序的键集分页：每页多取一行判断是否还有下一页，不执行 count，任意深度代价相同。
+     * 有关键字时在内存检索索引中定位本页住户 id 再按 id 加载，索引未就绪时查询数据库
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Resident> findPage(String keyword, String status, String cursor, int size) {
+        Resident.Status residentStatus = parseStatus(status);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        if (StringUtils.hasText(keyword)) {
+            Optional<List<Long>> ids = residentSearchIndex.searchPage(keyword, residentStatus, after, limit + 1);
+            if (ids.isPresent()) {
+                return CursorPage.of(loadPage(ids.get(), Pageable.unpaged()).getContent(), limit);
+            }
+        }
+        Specification<Resident> spec = ResidentSpecifications.residents(keyword, residentStatus)
+            .and(KeysetSpecifications.after(after));
+        List<Resident> rows = residentRepository.findBy(spec,
+            q -> q.sortBy(KeysetSpecifications.KEYSET_SORT).limit(limit + 1).all());
+        return CursorPage.of(rows, limit);
+    }
+
+    private static Resident.Status parseStatus(String status) {
+        return StringUtils.hasText(status) ? Resident.Status.valueOf(status.trim().toUpperCase()) : null;
+    }
+
+    private Page<Resident> loadPage(List<Long> ids, Pageable pageable) {
+        List<Long> pageIds = ids;
+        if (pageable.isPaged()) {
+            int from = (int) Math.min(pageable.getOffset(), ids.size());
+            pageIds = ids.subList(from, Math.min(from + pageable.getPageSize(), ids.size()));
+        }
+        Map<Long, Resident> residents = residentRepository.findAllById(pageIds).stream()
+            .collect(Collectors.toMap(Resident::getId, Function.identity()));
+        List<Resident> content = pageIds.stream().map(residents::get).filter(r -> r != null).toList();
+        return new PageImpl<>(content, pageable, ids.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResidentSuggestion> suggest(String prefix, int limit) {
+        return residentSearchIndex.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
     @Override
     public Resident create(ResidentRequest request) {
         Resident resident = new Resident();
@@ -55,6 +160,7 @@ public class ResidentServiceImpl implements ResidentService {
         if (resident.getMoveInDate() == null) {
             resident.setMoveInDate(LocalDate.now());
         }
+        propertyUnitService.register(resident.getBuilding(), resident.getUnit(), resident.getRoomNumber());
         return residentRepository.save(resident);
     }
 
@@ -63,6 +169,7 @@ public class ResidentServiceImpl implements ResidentService {
         Resident resident = residentRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("住户不存在"));
         applyRequest(request, resident);
+        propertyUnitService.register(resident.getBuilding(), resident.getUnit(), resident.getRoomNumber());
         return residentRepository.save(resident);
     }
 
@@ -79,6 +186,134 @@ public class ResidentServiceImpl implements ResidentService {
         residentRepository.delete(resident);
     }
 
+    /**
+     * 批量导入：逐行读取，按与单条录入相同的规则校验，以 (楼栋, 单元, 房号, 姓名) 在内存中查重，
+     * 每 IMPORT_CHUNK_SIZE 行以 JDBC 批量插入并提交一次；结束后重新装载住户索引与房产统计
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResidentImportResult importResidents(RowReader reader) {
+        long start = System.currentTimeMillis();
+        ResidentImportResult result = new ResidentImportResult();
+        try {
+            List<String> header = reader.readRow();
+            if (header == null) {
+                throw new IllegalArgumentException("住户文件为空");
+            }
+            ResidentImportColumns columns = ResidentImportColumns.of(header);
+
+            Set<String> seen = new HashSet<>();
+            residentJdbcRepository.streamIdentities(fetchSize, rs -> seen.add(identity(
+                rs.getString("building"), rs.getString("unit"), rs.getString("room_number"), rs.getString("name"))));
+
+            List<Resident> pending = new ArrayList<>(IMPORT_CHUNK_SIZE);
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                if (row.stream().allMatch(String::isBlank)) {
+                    continue;
+                }
+                result.setReceived(result.getReceived() + 1);
+                String source = "第 " + reader.getLineNumber() + " 行";
+                Resident resident;
+                try {
+                    resident = toResident(columns.toRequest(row));
+                } catch (IllegalArgumentException ex) {
+                    reject(result, source + "：" + ex.getMessage());
+                    continue;
+                }
+                if (!seen.add(identity(resident.getBuilding(), resident.getUnit(), resident.getRoomNumber(),
+                        resident.getName()))) {
+                    result.setDuplicates(result.getDuplicates() + 1);
+                    continue;
+                }
+                pending.add(resident);
+                if (pending.size() >= IMPORT_CHUNK_SIZE) {
+                    insert(pending, result);
+                }
+            }
+            insert(pending, result);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("读取住户文件失败", ex);
+        }
+
+        if (result.getInserted() > 0) {
+            // JDBC 批量插入不经过实体监听器，重新装载索引并补登记房间
+            try {
+                residentSearchIndex.reload();
+                propertyUnitService.reload();
+            } catch (ConflictException ex) {
+                log.warn("住户导入后重新装载失败，请稍后手动重新装载: {}", ex.getMessage());
+            }
+        }
+        result.setElapsedMillis(System.currentTimeMillis() - start);
+        return result;
+    }
+
+    /**
+     * 按 applyRequest 的规则把一行转换为住户，不合法时抛出 IllegalArgumentException
+     */
+    private Resident toResident(ResidentRequest request) {
+        Set<ConstraintViolation<ResidentRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<ResidentRequest> violation = violations.iterator().next();
+            throw new IllegalArgumentException(
+                ResidentImportColumns.labelOf(violation.getPropertyPath().toString()) + "：" + violation.getMessage());
+        }
+        requireEnum(Resident.ResidenceType.class, request.getResidenceType(), "居住类型");
+        requireEnum(Resident.Status.class, request.getStatus(), "状态");
+        Resident resident = new Resident();
+        try {
+            applyRequest(request, resident);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("入住日期格式不正确（应为 yyyy-MM-dd）");
+        }
+        if (resident.getMoveInDate() == null) {
+            resident.setMoveInDate(LocalDate.now());
+        }
+        resident.setAreaValue(Areas.parse(resident.getArea()));
+        if (resident.getArea() != null && (resident.getArea().length() > AREA_LENGTH
+                || resident.getAreaValue().compareTo(MAX_AREA_VALUE) >= 0)) {
+            throw new IllegalArgumentException("面积超出范围");
+        }
+        return resident;
+    }
+
+    private static <E extends Enum<E>> void requireEnum(Class<E> type, String value, String label) {
+        if (!StringUtils.hasText(value)) {
+            return;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equals(value.toUpperCase())) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException(label + "不合法：" + value);
+    }
+
+    private void insert(List<Resident> pending, ResidentImportResult result) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> residentJdbcRepository.batchInsert(pending));
+        result.setInserted(result.getInserted() + pending.size());
+        pending.clear();
+    }
+
+    private static void reject(ResidentImportResult result, String error) {
+        result.setRejected(result.getRejected() + 1);
+        if (result.getErrors().size() < MAX_ERRORS) {
+            result.getErrors().add(error);
+        }
+    }
+
+    private static String identity(String building, String unit, String roomNumber, String name) {
+        return trim(building) + '\u0001' + trim(unit) + '\u0001' + trim(roomNumber) + '\u0001' + trim(name);
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : "";
+    }
+
     private void applyRequest(ResidentRequest request, Resident resident) {
         resident.setName(request.getName());
         resident.setPhone(request.getPhone());
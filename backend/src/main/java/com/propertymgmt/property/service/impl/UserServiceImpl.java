@@ -1,16 +1,20 @@
 package com.propertymgmt.property.service.impl;
 
+import com.propertymgmt.property.dto.CursorPage;
 import com.propertymgmt.property.dto.UpdateUserRequest;
 import com.propertymgmt.property.dto.UserRequest;
 import com.propertymgmt.property.dto.UserResponse;
 import com.propertymgmt.property.model.Resident;
 import com.propertymgmt.property.model.Role;
 import com.propertymgmt.property.model.User;
+import com.propertymgmt.property.repository.KeysetSpecifications;
 import com.propertymgmt.property.repository.ResidentRepository;
 import com.propertymgmt.property.repository.RoleRepository;
 import com.propertymgmt.property.repository.UserRepository;
 import com.propertymgmt.property.service.UserService;
+import com.propertymgmt.property.util.KeysetCursor;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class UserServiceImpl implements UserService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final ResidentRepository residentRepository;
@@ -39,6 +45,14 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll(pageable).map(UserResponse::new);
     }
 
+    @Override
+    public CursorPage<UserResponse> getUserPage(String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<User> rows = userRepository.findBy(KeysetSpecifications.after(KeysetCursor.decode(cursor)),
+            q -> q.sortBy(KeysetSpecifications.KEYSET_SORT).limit(limit + 1).all());
+        return CursorPage.of(rows, limit).map(UserResponse::new);
+    }
+
     @Override
     @Transactional
     public UserResponse createUser(UserRequest request) {
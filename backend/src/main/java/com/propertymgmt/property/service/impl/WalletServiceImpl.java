@@ -0,0 +1,288 @@
+package com.propertymgmt.property.service.impl;
+
+import com.propertymgmt.property.dto.AutoDebitResult;
+import com.propertymgmt.property.dto.WalletDepositRequest;
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.Payment;
+import com.propertymgmt.property.model.Resident;
+import com.propertymgmt.property.model.Wallet;
+import com.propertymgmt.property.model.WalletTransaction;
+import com.propertymgmt.property.model.WalletTransaction.TransactionType;
+import com.propertymgmt.property.repository.FeeBillRepository;
+import com.propertymgmt.property.repository.PaymentJdbcRepository;
+import com.propertymgmt.property.repository.ResidentRepository;
+import com.propertymgmt.property.repository.WalletJdbcRepository;
+import com.propertymgmt.property.repository.WalletJdbcRepository.FundedWallet;
+import com.propertymgmt.property.repository.WalletJdbcRepository.OwnerKey;
+import com.propertymgmt.property.repository.WalletRepository;
+import com.propertymgmt.property.repository.WalletTransactionRepository;
+import com.propertymgmt.property.service.ArrearsAgingService;
+import com.propertymgmt.property.service.BusinessNumberService;
+import com.propertymgmt.property.service.FeeAnalyticsService;
+import com.propertymgmt.property.service.FeeRollupService;
+import com.propertymgmt.property.service.LedgerService;
+import com.propertymgmt.property.service.PropertyUnitService;
+import com.propertymgmt.property.service.WalletService;
+import com.propertymgmt.property.util.Money;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 预存款钱包与自动扣缴。
+ * 扣缴按钱包 id 键集分块，每块一个事务：锁定钱包与对应业主的待缴账单，在内存中按账期从早到晚匹配，
+ * 再以一条条件更新迁移账单状态、一批更新扣减余额、批量写入缴费记录与流水。
+ * 只有待缴/逾期账单会被选中，已扣款的账单不会再次扣款，因此中断后可直接重新执行。
+ */
+@Service
+public class WalletServiceImpl implements WalletService {
+
+    private static final Logger log = LoggerFactory.getLogger(WalletServiceImpl.class);
+    static final String PAY_METHOD = "预存款扣缴";
+
+    private final WalletRepository walletRepository;
+    private final WalletTransactionRepository transactionRepository;
+    private final WalletJdbcRepository walletJdbcRepository;
+    private final ResidentRepository residentRepository;
+    private final FeeBillRepository feeBillRepository;
+    private final PaymentJdbcRepository paymentJdbcRepository;
+    private final BusinessNumberService businessNumberService;
+    private final FeeRollupService feeRollupService;
+    private final LedgerService ledgerService;
+    private final ArrearsAgingService arrearsAgingService;
+    private final FeeAnalyticsService feeAnalyticsService;
+    private final PropertyUnitService propertyUnitService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final AtomicBoolean debiting = new AtomicBoolean();
+
+    public WalletServiceImpl(WalletRepository walletRepository,
+                             WalletTransactionRepository transactionRepository,
+                             WalletJdbcRepository walletJdbcRepository,
+                             ResidentRepository residentRepository,
+                             FeeBillRepository feeBillRepository,
+                             PaymentJdbcRepository paymentJdbcRepository,
+                             BusinessNumberService businessNumberService,
+                             FeeRollupService feeRollupService,
+                             LedgerService ledgerService,
+                             ArrearsAgingService arrearsAgingService,
+                             FeeAnalyticsService feeAnalyticsService,
+                             PropertyUnitService propertyUnitService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.wallet.auto-debit-chunk-size:500}") int chunkSize) {
+        this.walletRepository = walletRepository;
+        this.transactionRepository = transactionRepository;
+        this.walletJdbcRepository = walletJdbcRepository;
+        this.residentRepository = residentRepository;
+        this.feeBillRepository = feeBillRepository;
+        this.paymentJdbcRepository = paymentJdbcRepository;
+        this.businessNumberService = businessNumberService;
+        this.feeRollupService = feeRollupService;
+        this.ledgerService = ledgerService;
+        this.arrearsAgingService = arrearsAgingService;
+        this.feeAnalyticsService = feeAnalyticsService;
+        this.propertyUnitService = propertyUnitService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Transactional
+    public Wallet deposit(WalletDepositRequest request) {
+        Resident resident = residentRepository.findById(request.getResidentId())
+            .orElseThrow(() -> new RuntimeException("住户不存在"));
+        long walletId = walletJdbcRepository.ensureWallet(resident.getId(), resident.getName());
+        BigDecimal balance = walletJdbcRepository.deposit(walletId, request.getAmount());
+
+        WalletTransaction tx = new WalletTransaction();
+        tx.setWalletId(walletId);
+        tx.setType(TransactionType.DEPOSIT);
+        tx.setAmount(request.getAmount());
+        tx.setBalanceAfter(balance);
+        tx.setReference(request.getPayMethod());
+        walletJdbcRepository.insertTransactions(List.of(tx));
+
+        return walletRepository.findById(walletId)
+            .orElseThrow(() -> new RuntimeException("钱包不存在"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Wallet getWallet(Long residentId) {
+        return walletRepository.findByResidentId(residentId).orElseGet(() -> {
+            Resident resident = residentRepository.findById(residentId)
+                .orElseThrow(() -> new RuntimeException("住户不存在"));
+            // 尚未预存的住户，余额为 0
+            Wallet wallet = new Wallet();
+            wallet.setResidentId(resident.getId());
+            wallet.setOwnerName(resident.getName());
+            return wallet;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WalletTransaction> getTransactions(Long residentId, int limit) {
+        return walletRepository.findByResidentId(residentId)
+            .map(wallet -> transactionRepository.findByWalletIdOrderByIdDesc(wallet.getId(),
+                PageRequest.of(0, Math.max(1, Math.min(limit, 100)))))
+            .orElse(List.of());
+    }
+
+    @Override
+    public AutoDebitResult autoDebit() {
+        if (!debiting.compareAndSet(false, true)) {
+            throw new ConflictException("自动扣缴正在进行中，请稍后再试");
+        }
+        AutoDebitResult result = new AutoDebitResult();
+        result.setStartedAt(LocalDateTime.now());
+        long start = System.nanoTime();
+        try {
+            long afterId = 0;
+            while (afterId >= 0) {
+                long from = afterId;
+                afterId = transactionTemplate.execute(status -> debitChunk(from, result));
+            }
+        } catch (RuntimeException ex) {
+            log.error("自动扣缴中断，已提交 {} 个批次", result.getChunks(), ex);
+            result.setError(ex.getMessage());
+        } finally {
+            debiting.set(false);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setBillsPerSecond(elapsedNanos > 0 ? result.getBillsPaid() * 1e9 / elapsedNanos : 0);
+        log.info("自动扣缴完成：扫描钱包 {} 个，扣款钱包 {} 个，无法确定归属跳过 {} 个，缴清账单 {} 张，金额 {}，耗时 {} ms（{} 张/秒）",
+            result.getWalletsScanned(), result.getWalletsDebited(), result.getWalletsAmbiguous(),
+            result.getBillsPaid(), result.getTotalAmount(),
+            result.getElapsedMillis(), String.format("%.1f", result.getBillsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 处理 afterId 之后的一块钱包，返回本块最后一个钱包 id；没有更多钱包时返回 -1
+     */
+    private long debitChunk(long afterId, AutoDebitResult result) {
+        List<FundedWallet> wallets = walletJdbcRepository.lockFundedWallets(afterId, chunkSize);
+        if (wallets.isEmpty()) {
+            return -1;
+        }
+        long lastId = wallets.get(wallets.size() - 1).id();
+
+        // 账单按业主姓名 + 房屋归属住户；同名住户的账单互不相干，同一姓名 + 房屋对应多个钱包时无法确定扣款钱包，跳过
+        Set<String> owners = new LinkedHashSet<>();
+        wallets.forEach(wallet -> owners.add(wallet.ownerName()));
+        Set<String> ambiguous = new HashSet<>();
+        for (OwnerKey key : walletJdbcRepository.findSharedOwnerKeys(owners)) {
+            ambiguous.add(ownerKey(key.ownerName(), FeeBillFactory.location(key.building(), key.unit(),
+                key.roomNumber())));
+        }
+        Map<String, Deque<FeeBill>> payable = new HashMap<>();
+        for (FeeBill bill : feeBillRepository.lockPayableByOwners(owners)) {
+            payable.computeIfAbsent(ownerKey(bill.getOwnerName(), bill.getBuilding()), key -> new ArrayDeque<>())
+                .add(bill);
+        }
+
+        // 逐个钱包从最早的账单开始扣（本金加滞纳金），余额不足以缴清下一张账单即停止
+        LocalDateTime paidAt = LocalDateTime.now();
+        List<FeeBill> paidBills = new ArrayList<>();
+        List<Payment> payments = new ArrayList<>();
+        List<WalletTransaction> transactions = new ArrayList<>();
+        Map<Long, Long> debits = new TreeMap<>();
+        int skipped = 0;
+        for (FundedWallet wallet : wallets) {
+            String key = ownerKey(wallet.ownerName(),
+                FeeBillFactory.location(wallet.building(), wallet.unit(), wallet.roomNumber()));
+            if (ambiguous.contains(key)) {
+                skipped++;
+                continue;
+            }
+            Deque<FeeBill> bills = payable.get(key);
+            long balance = Money.toCents(wallet.balance());
+            while (bills != null && !bills.isEmpty() && Money.toCents(bills.peekFirst().getPayableAmount()) <= balance) {
+                FeeBill bill = bills.pollFirst();
+                long cents = Money.toCents(bill.getPayableAmount());
+                balance -= cents;
+                Payment payment = newPayment(bill, paidAt);
+                paidBills.add(bill);
+                payments.add(payment);
+                transactions.add(newDebit(wallet.id(), bill, Money.toBigDecimal(balance), payment.getOrderNumber()));
+                debits.merge(wallet.id(), cents, Money::add);
+            }
+        }
+
+        if (!paidBills.isEmpty()) {
+            // 账单与钱包均已加锁，状态迁移行数不符说明数据被绕过锁修改，整块回滚
+            int updated = feeBillRepository.markAllPaidIfPayable(
+                paidBills.stream().map(FeeBill::getId).toList(), paidAt.toLocalDate(), PAY_METHOD, paidAt);
+            if (updated != paidBills.size() || walletJdbcRepository.debit(debits) != debits.size()) {
+                throw new ConflictException("账单或钱包余额已变化，请重新执行");
+            }
+            paymentJdbcRepository.batchInsert(payments);
+            walletJdbcRepository.insertTransactions(transactions);
+            feeRollupService.recordBillsPaid(paidBills, paidAt);
+            ledgerService.recordPayments(payments);
+            arrearsAgingService.recordBillsPaid(paidBills);
+            feeAnalyticsService.recordBillsPaid(paidBills);
+            propertyUnitService.recordBillsPaid(paidBills);
+        }
+
+        long cents = debits.values().stream().mapToLong(Long::longValue).reduce(Money.ZERO, Money::add);
+        result.setChunks(result.getChunks() + 1);
+        result.setWalletsScanned(result.getWalletsScanned() + wallets.size());
+        result.setWalletsDebited(result.getWalletsDebited() + debits.size());
+        result.setWalletsAmbiguous(result.getWalletsAmbiguous() + skipped);
+        result.setBillsPaid(result.getBillsPaid() + paidBills.size());
+        result.setTotalAmount(Money.toBigDecimal(Money.add(Money.toCents(result.getTotalAmount()), cents)));
+        return lastId;
+    }
+
+    private static String ownerKey(String ownerName, String location) {
+        return ownerName + '\n' + location;
+    }
+
+    private Payment newPayment(FeeBill bill, LocalDateTime paidAt) {
+        Payment payment = new Payment();
+        payment.setOrderNumber(businessNumberService.nextPaymentNumber());
+        payment.setBillId(bill.getId());
+        payment.setOwnerName(bill.getOwnerName());
+        payment.setBuilding(bill.getBuilding());
+        payment.setAmount(bill.getPayableAmount());
+        payment.setType(bill.getType());
+        payment.setPayMethod(PAY_METHOD);
+        payment.setStatus(Payment.PaymentStatus.SUCCESS);
+        payment.setCreatedAt(paidAt);
+        return payment;
+    }
+
+    private static WalletTransaction newDebit(long walletId, FeeBill bill, BigDecimal balanceAfter, String orderNumber) {
+        WalletTransaction tx = new WalletTransaction();
+        tx.setWalletId(walletId);
+        tx.setType(TransactionType.DEBIT);
+        tx.setAmount(bill.getPayableAmount());
+        tx.setBalanceAfter(balanceAfter);
+        tx.setBillId(bill.getId());
+        tx.setReference(orderNumber);
+        return tx;
+    }
+}
@@ -0,0 +1,46 @@
+package com.propertymgmt.property.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 住户面积：展示用的文本（如 89.5㎡）与计价用的数值之间的转换
+ */
+public final class Areas {
+
+    /**
+     * 缺少面积时的数量值
+     */
+    public static final long MISSING = -1L;
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?:\\.\\d*)?|\\.\\d+");
+
+    private Areas() {
+    }
+
+    /**
+     * 取文本中的第一个数字作为面积（保留两位小数），没有数字时返回 null
+     */
+    public static BigDecimal parse(String area) {
+        if (area == null) {
+            return null;
+        }
+        Matcher matcher = NUMBER.matcher(area);
+        if (!matcher.find()) {
+            return null;
+        }
+        return new BigDecimal(matcher.group()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 面积数值换算为百分之一平方米的整数，供计价函数使用
+     */
+    public static long toHundredths(BigDecimal area) {
+        if (area == null) {
+            return MISSING;
+        }
+        return area.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
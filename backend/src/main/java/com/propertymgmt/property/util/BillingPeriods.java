@@ -0,0 +1,74 @@
+package com.propertymgmt.property.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 账期工具：把 "2025年10月"、"2025年10月15日"、"2025-10" 等写法统一成 yyyyMM 整数
+ */
+public final class BillingPeriods {
+
+    /** 无法识别的账期统一归到 0 */
+    public static final int UNKNOWN = 0;
+
+    private static final Pattern YEAR_MONTH = Pattern.compile("^\\s*(\\d{4})\\D+(\\d{1,2})");
+
+    private BillingPeriods() {
+    }
+
+    public static int toKey(String billingPeriod) {
+        if (billingPeriod == null) {
+            return UNKNOWN;
+        }
+        Matcher matcher = YEAR_MONTH.matcher(billingPeriod);
+        if (!matcher.find()) {
+            return UNKNOWN;
+        }
+        int year = Integer.parseInt(matcher.group(1));
+        int month = Integer.parseInt(matcher.group(2));
+        if (month < 1 || month > 12) {
+            return UNKNOWN;
+        }
+        return year * 100 + month;
+    }
+
+    /**
+     * 解析用户输入的账期，为空或无法识别时抛出 IllegalArgumentException
+     */
+    public static int requireKey(String billingPeriod) {
+        if (billingPeriod == null || billingPeriod.isBlank()) {
+            throw new IllegalArgumentException("账期不能为空");
+        }
+        int key = toKey(billingPeriod);
+        if (key == UNKNOWN) {
+            throw new IllegalArgumentException("账期格式不正确，例如 2025年1月");
+        }
+        return key;
+    }
+
+    /**
+     * 到期日（账期月末）不晚于 date 的最晚账期
+     */
+    public static int latestDueBy(LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        if (!date.equals(month.atEndOfMonth())) {
+            month = month.minusMonths(1);
+        }
+        return toKey(month);
+    }
+
+    public static int toKey(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    public static int toKey(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    public static int toKey(LocalDateTime dateTime) {
+        return dateTime.getYear() * 100 + dateTime.getMonthValue();
+    }
+}
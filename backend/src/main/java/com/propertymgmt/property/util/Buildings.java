@@ -0,0 +1,28 @@
+package com.propertymgmt.property.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 从账单的房屋描述（如 "1号楼 2单元 301" 或 "1号楼2单元301"）中取出楼栋
+ */
+public final class Buildings {
+
+    private static final Pattern BUILDING = Pattern.compile("^\\s*(.+?(?:号楼|栋|幢|座))");
+
+    private Buildings() {
+    }
+
+    public static String of(String location) {
+        if (location == null || location.isBlank()) {
+            return "";
+        }
+        String trimmed = location.trim();
+        int space = trimmed.indexOf(' ');
+        if (space > 0) {
+            return trimmed.substring(0, space);
+        }
+        Matcher matcher = BUILDING.matcher(trimmed);
+        return matcher.find() ? matcher.group(1) : trimmed;
+    }
+}
@@ -0,0 +1,53 @@
+package com.propertymgmt.property.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 行写出（UTF-8 带 BOM，便于 Excel 直接打开）
+ */
+public class CsvRowWriter implements RowWriter {
+
+    private final Writer writer;
+
+    public CsvRowWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        this.writer.write('﻿');
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCell(values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCell(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+            || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,43 @@
+package com.propertymgmt.property.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 导出文件格式
+ */
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static ExportFormat of(String format) {
+        if (format == null || format.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("不支持的文件格式: " + format);
+        }
+    }
+
+    public RowWriter newWriter(OutputStream out, String sheetName) throws IOException {
+        return this == XLSX ? new XlsxRowWriter(out, sheetName) : new CsvRowWriter(out);
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
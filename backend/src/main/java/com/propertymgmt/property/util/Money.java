@@ -0,0 +1,72 @@
+package com.propertymgmt.property.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 金额的定点表示：以 long 保存的“分”。
+ * 汇总、计价、账户余额等批量路径在内部一律用分做整数运算（溢出时抛出 ArithmeticException），
+ * 只在接口与持久化边界与 BigDecimal 互转；舍入规则与原先的 setScale(2, HALF_UP) 一致。
+ */
+public final class Money {
+
+    public static final long ZERO = 0L;
+
+    private static final int SCALE = 2;
+
+    private Money() {
+    }
+
+    /**
+     * BigDecimal 换算为分，超过两位小数的部分四舍五入（HALF_UP），null 视为 0
+     */
+    public static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return ZERO;
+        }
+        if (amount.scale() == SCALE) {
+            return amount.unscaledValue().longValueExact();
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 分换算为两位小数的 BigDecimal
+     */
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * 以 1/100 为单位的乘积（如 分 × 1/100 数量）四舍五入到分，与 BigDecimal HALF_UP 一致（负数向远离 0 的方向进位）
+     */
+    public static long roundHundredths(long value) {
+        return divideHalfUp(value, 100);
+    }
+
+    /**
+     * 整数除法，按 HALF_UP 舍入到整数
+     */
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder != 0 && Math.abs(remainder) * 2 >= Math.abs(divisor)) {
+            quotient += (dividend < 0) == (divisor < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+
+    /**
+     * 比例（part / whole）的百分数，与 part.divide(whole, 4, HALF_UP) × 100 的结果一致；whole 不大于 0 时为 0
+     */
+    public static double percent(long part, long whole) {
+        if (whole <= 0) {
+            return 0.0;
+        }
+        return divideHalfUp(Math.multiplyExact(part, 10_000L), whole) / 100.0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.propertymgmt.property.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import net.sourceforge.pinyin4j.PinyinHelper;
+import net.sourceforge.pinyin4j.format.HanyuPinyinCaseType;
+import net.sourceforge.pinyin4j.format.HanyuPinyinOutputFormat;
+import net.sourceforge.pinyin4j.format.HanyuPinyinToneType;
+import net.sourceforge.pinyin4j.format.HanyuPinyinVCharType;
+import net.sourceforge.pinyin4j.format.exception.BadHanyuPinyinOutputFormatCombination;
+
+/**
+ * 姓名的拼音检索键：全拼（如 "zhangsan"）与首字母（如 "zs"），小写、不带声调，ü 写作 v。
+ * 多音字按各读音组合展开（如 "单" 同时得到 dan 与 shan），组合数超过上限时其余字只取第一个读音；
+ * 字母与数字原样保留，其他字符（空格、间隔号等）忽略
+ */
+public final class Pinyin {
+
+    private static final int MAX_COMBINATIONS = 16;
+
+    private static final HanyuPinyinOutputFormat FORMAT = new HanyuPinyinOutputFormat();
+
+    static {
+        FORMAT.setCaseType(HanyuPinyinCaseType.LOWERCASE);
+        FORMAT.setToneType(HanyuPinyinToneType.WITHOUT_TONE);
+        FORMAT.setVCharType(HanyuPinyinVCharType.WITH_V);
+    }
+
+    private Pinyin() {
+    }
+
+    /**
+     * 全拼与首字母两类检索键（去重）
+     */
+    public static Set<String> keys(String name) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (name == null) {
+            return keys;
+        }
+        List<String> fulls = List.of("");
+        List<String> initials = List.of("");
+        for (char ch : name.toLowerCase(Locale.ROOT).toCharArray()) {
+            List<String> readings = readings(ch);
+            if (readings.isEmpty()) {
+                continue;
+            }
+            if (fulls.size() * readings.size() > MAX_COMBINATIONS) {
+                readings = readings.subList(0, 1);
+            }
+            fulls = append(fulls, readings, false);
+            initials = append(initials, readings, true);
+        }
+        for (String key : fulls) {
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        for (String key : initials) {
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static List<String> readings(char ch) {
+        if (Character.isLetterOrDigit(ch) && ch < 0x80) {
+            return List.of(String.valueOf(ch));
+        }
+        String[] readings;
+        try {
+            readings = PinyinHelper.toHanyuPinyinStringArray(ch, FORMAT);
+        } catch (BadHanyuPinyinOutputFormatCombination ex) {
+            throw new IllegalStateException(ex);
+        }
+        if (readings == null) {
+            return List.of();
+        }
+        return List.copyOf(new LinkedHashSet<>(List.of(readings)));
+    }
+
+    private static List<String> append(List<String> prefixes, List<String> readings, boolean initialOnly) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String prefix : prefixes) {
+            for (String reading : readings) {
+                result.add(prefix + (initialOnly ? reading.substring(0, 1) : reading));
+            }
+        }
+        return new ArrayList<>(result);
+    }
+}
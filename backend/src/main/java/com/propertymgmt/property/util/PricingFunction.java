@@ -0,0 +1,16 @@
+package com.propertymgmt.property.util;
+
+/**
+ * 编译后的计价函数：输入数量（面积或用量，单位为 1/100），返回金额（分）。
+ * 实现只做整数运算，不分配对象，可被多个线程共享。
+ */
+@FunctionalInterface
+public interface PricingFunction {
+
+    /**
+     * 缺少计价所需的数量时的返回值
+     */
+    long UNPRICED = -1L;
+
+    long amountCents(long quantityHundredths);
+}
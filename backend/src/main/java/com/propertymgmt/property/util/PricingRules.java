@@ -0,0 +1,74 @@
+package com.propertymgmt.property.util;
+
+import com.propertymgmt.property.model.FeeItem;
+import com.propertymgmt.property.model.FeeItem.PricingMode;
+import com.propertymgmt.property.model.PricingTier;
+import java.util.List;
+
+/**
+ * 把收费项目的计价规则编译为 {@link PricingFunction}。
+ * 价格与档位边界在编译时一次性换算为整数（分、1/100 数量），计价时只做 long 运算，
+ * 金额按四舍五入保留到分。
+ */
+public final class PricingRules {
+
+    private PricingRules() {
+    }
+
+    public static PricingFunction compile(FeeItem item) {
+        PricingMode mode = item.getPricingMode() != null
+            ? item.getPricingMode() : PricingMode.defaultFor(item.getUnit());
+        long priceCents = Money.toCents(item.getPrice());
+        List<PricingTier> tiers = item.getTiers();
+
+        return switch (mode) {
+            case FLAT -> quantity -> priceCents;
+            case PER_AREA -> perUnit(priceCents);
+            case TIERED -> tiered(tiers);
+            case METERED -> tiers == null || tiers.isEmpty() ? perUnit(priceCents) : tiered(tiers);
+        };
+    }
+
+    private static PricingFunction perUnit(long priceCents) {
+        return quantity -> {
+            if (quantity < 0) {
+                return PricingFunction.UNPRICED;
+            }
+            return Money.roundHundredths(Math.multiplyExact(priceCents, quantity));
+        };
+    }
+
+    /**
+     * 累进阶梯：每档只对落在本档区间内的数量按本档单价计价
+     */
+    private static PricingFunction tiered(List<PricingTier> tiers) {
+        if (tiers == null || tiers.isEmpty()) {
+            throw new IllegalArgumentException("阶梯计价至少需要一个档位");
+        }
+        int size = tiers.size();
+        long[] bounds = new long[size];
+        long[] prices = new long[size];
+        for (int i = 0; i < size; i++) {
+            PricingTier tier = tiers.get(i);
+            // 最后一档始终不设上限，超出部分按最后一档单价
+            bounds[i] = tier.getUpTo() == null || i == size - 1 ? Long.MAX_VALUE : Areas.toHundredths(tier.getUpTo());
+            prices[i] = Money.toCents(tier.getUnitPrice());
+            if (i > 0 && bounds[i] <= bounds[i - 1]) {
+                throw new IllegalArgumentException("阶梯档位上限必须递增");
+            }
+        }
+        return quantity -> {
+            if (quantity < 0) {
+                return PricingFunction.UNPRICED;
+            }
+            long total = 0;
+            long lower = 0;
+            for (int i = 0; i < bounds.length && quantity > lower; i++) {
+                long upper = Math.min(quantity, bounds[i]);
+                total = Math.addExact(total, Math.multiplyExact(upper - lower, prices[i]));
+                lower = bounds[i];
+            }
+            return Money.roundHundredths(total);
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.propertymgmt.property.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 简单的匀速限流：两次 acquire 之间至少间隔 1/permitsPerSecond 秒
+ */
+public final class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos;
+
+    public RateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("限流速率必须大于 0");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    public synchronized void acquire() {
+        long wait;
+        while ((wait = nextFreeNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        // 空闲之后不累积许可，避免突发
+        nextFreeNanos = Math.max(nextFreeNanos, System.nanoTime()) + intervalNanos;
+    }
+}
@@ -0,0 +1,23 @@
+package com.propertymgmt.property.util;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 逐行读取表格数据，实现类只缓冲当前一行
+ */
+public interface RowReader extends AutoCloseable {
+
+    /**
+     * 读取下一行，结束时返回 null；返回的列表可能在下次调用时被复用
+     */
+    List<String> readRow() throws IOException;
+
+    /**
+     * 最近读取的行在文件中的行号（从 1 开始）
+     */
+    long getLineNumber();
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.propertymgmt.property.util;
+
+import java.io.IOException;
+
+/**
+ * 逐行写出表格数据，实现类不得缓存全部行
+ */
+public interface RowWriter extends AutoCloseable {
+
+    void writeRow(Object... values) throws IOException;
+
+    /**
+     * 写完剩余内容并释放资源，不关闭底层输出流
+     */
+    @Override
+    void close() throws IOException;
+}
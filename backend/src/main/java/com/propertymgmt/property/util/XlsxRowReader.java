@@ -0,0 +1,170 @@
+package com.propertymgmt.property.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.SAXException;
+
+/**
+ * XLSX 逐行读取第一个工作表：以 StAX 拉取解析工作表 XML，不构建工作簿对象模型，只缓冲当前一行
+ * （共享字符串表与样式表整体装入内存）。数字去掉多余的小数位，日期格式的单元格转为 yyyy-MM-dd。
+ */
+public class XlsxRowReader implements RowReader {
+
+    private final OPCPackage pkg;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final StylesTable styles;
+    private final InputStream sheet;
+    private final XMLStreamReader xml;
+    private final List<String> cells = new ArrayList<>();
+    private long lineNumber;
+
+    public XlsxRowReader(File file) throws IOException {
+        try {
+            this.pkg = OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException | RuntimeException ex) {
+            throw new IllegalArgumentException("无法识别的 XLSX 文件", ex);
+        }
+        try {
+            this.sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            this.styles = xssfReader.getStylesTable();
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("XLSX 文件中没有工作表");
+            }
+            this.sheet = sheets.next();
+            this.xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheet);
+        } catch (OpenXML4JException | SAXException | XMLStreamException ex) {
+            pkg.revert();
+            throw new IllegalArgumentException("无法识别的 XLSX 文件", ex);
+        } catch (IOException | RuntimeException ex) {
+            pkg.revert();
+            throw ex;
+        }
+    }
+
+    @Override
+    public List<String> readRow() throws IOException {
+        try {
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                    String r = xml.getAttributeValue(null, "r");
+                    lineNumber = r != null ? Long.parseLong(r) : lineNumber + 1;
+                    readCells();
+                    return cells;
+                }
+            }
+            return null;
+        } catch (XMLStreamException | RuntimeException ex) {
+            throw new IllegalArgumentException("XLSX 文件格式错误（第 " + (lineNumber + 1) + " 行附近）", ex);
+        }
+    }
+
+    /**
+     * 读取当前 row 元素内的单元格，按单元格引用（如 "C5"）中的列号放置，缺失的列补空串
+     */
+    private void readCells() throws XMLStreamException {
+        cells.clear();
+        String type = null;
+        String style = null;
+        int column = -1;
+        StringBuilder value = new StringBuilder();
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("c".equals(name)) {
+                    type = xml.getAttributeValue(null, "t");
+                    style = xml.getAttributeValue(null, "s");
+                    column = columnOf(xml.getAttributeValue(null, "r"), cells.size());
+                    value.setLength(0);
+                } else if ("v".equals(name) || "t".equals(name)) {
+                    value.append(xml.getElementText());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("c".equals(name)) {
+                    while (cells.size() < column) {
+                        cells.add("");
+                    }
+                    cells.add(cellValue(type, style, value.toString()));
+                } else if ("row".equals(name)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private String cellValue(String type, String style, String raw) {
+        if ("s".equals(type)) {
+            return sharedStrings.getItemAt(Integer.parseInt(raw.trim())).getString();
+        }
+        if ("b".equals(type)) {
+            return "1".equals(raw) ? "TRUE" : "FALSE";
+        }
+        if ((type == null || "n".equals(type)) && !raw.isEmpty()) {
+            return numericValue(style, raw);
+        }
+        return raw;
+    }
+
+    private String numericValue(String style, String raw) {
+        try {
+            if (style != null && styles != null) {
+                XSSFCellStyle cellStyle = styles.getStyleAt(Integer.parseInt(style));
+                if (cellStyle != null
+                        && DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString())) {
+                    return DateUtil.getLocalDateTime(Double.parseDouble(raw)).toLocalDate().toString();
+                }
+            }
+            return new BigDecimal(raw).stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException ex) {
+            return raw;
+        }
+    }
+
+    private static int columnOf(String reference, int fallback) {
+        if (reference == null) {
+            return fallback;
+        }
+        int column = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            column = column * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+        }
+        return column > 0 ? column - 1 : fallback;
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            xml.close();
+        } catch (XMLStreamException ex) {
+            // 忽略，随后关闭底层流
+        } finally {
+            sheet.close();
+            pkg.revert();
+        }
+    }
+}
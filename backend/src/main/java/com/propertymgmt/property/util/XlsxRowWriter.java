@@ -0,0 +1,79 @@
+package com.propertymgmt.property.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * XLSX 行写出：SXSSF 只在内存中保留滑动窗口内的行，其余写入临时文件；
+ * 单个工作表写满后自动续写到新工作表（表头重复）。
+ */
+public class XlsxRowWriter implements RowWriter {
+
+    private static final int WINDOW_SIZE = 200;
+    private static final int MAX_ROWS_PER_SHEET = 1_000_000;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final String sheetName;
+    private Object[] header;
+    private SXSSFSheet sheet;
+    private int rowIndex;
+
+    public XlsxRowWriter(OutputStream out, String sheetName) {
+        this.out = out;
+        this.sheetName = sheetName;
+        this.workbook = new SXSSFWorkbook(WINDOW_SIZE);
+        this.workbook.setCompressTempFiles(true);
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        if (header == null) {
+            header = values;
+        }
+        if (sheet == null || rowIndex >= MAX_ROWS_PER_SHEET) {
+            sheet = workbook.createSheet(sheetName + (workbook.getNumberOfSheets() == 0 ? "" : workbook.getNumberOfSheets() + 1));
+            rowIndex = 0;
+            if (values != header) {
+                writeCells(sheet.createRow(rowIndex++), header);
+            }
+        }
+        writeCells(sheet.createRow(rowIndex++), values);
+    }
+
+    private void writeCells(Row row, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(i);
+            if (value instanceof BigDecimal decimal) {
+                cell.setCellValue(decimal.doubleValue());
+            } else if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else {
+                cell.setCellValue(value.toString());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (sheet == null) {
+                workbook.createSheet(sheetName);
+            }
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
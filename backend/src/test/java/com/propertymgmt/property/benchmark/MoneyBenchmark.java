@@ -0,0 +1,79 @@
+package com.propertymgmt.property.benchmark;
+
+import com.propertymgmt.property.util.Money;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 汇总 100 万笔账单金额：原先逐笔 BigDecimal 相加并保留两位小数，对比以分为单位的 long 累加。
+ * 两者的输入都已在内存中（分别对应 JDBC 读出的 BigDecimal 与换算后的分），只比较累加本身。
+ * 运行：mvn -Pbenchmark test-compile exec:exec -Djmh.args="MoneyBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    static final int BILLS = 1_000_000;
+
+    private BigDecimal[] amounts;
+    private long[] cents;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        amounts = new BigDecimal[BILLS];
+        cents = new long[BILLS];
+        for (int i = 0; i < BILLS; i++) {
+            long value = 1_000 + random.nextInt(100_000);
+            amounts[i] = BigDecimal.valueOf(value, 2);
+            cents[i] = value;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BILLS)
+    public BigDecimal bigDecimalSum() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : amounts) {
+            total = total.add(amount).setScale(2, RoundingMode.HALF_UP);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BILLS)
+    public long centsSum() {
+        long total = Money.ZERO;
+        for (long amount : cents) {
+            total = Money.add(total, amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BILLS)
+    public long centsFromBigDecimalSum() {
+        long total = Money.ZERO;
+        for (BigDecimal amount : amounts) {
+            total = Money.add(total, Money.toCents(amount));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,120 @@
+package com.propertymgmt.property.benchmark;
+
+import com.propertymgmt.property.model.FeeItem;
+import com.propertymgmt.property.model.PricingTier;
+import com.propertymgmt.property.util.Areas;
+import com.propertymgmt.property.util.Money;
+import com.propertymgmt.property.util.PricingFunction;
+import com.propertymgmt.property.util.PricingRules;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 为 10 万户计价：原先逐户用正则清洗面积文本再构造 BigDecimal 的实现，对比编译后的计价函数。
+ * 运行：mvn -Pbenchmark test-compile exec:exec -Djmh.args="PricingBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+
+    static final int RESIDENTS = 100_000;
+
+    private FeeItem perAreaItem;
+    private PricingFunction perArea;
+    private PricingFunction tiered;
+    private String[] areaTexts;
+    private long[] areaHundredths;
+
+    @Setup
+    public void setUp() {
+        perAreaItem = new FeeItem();
+        perAreaItem.setUnit("元/㎡/月");
+        perAreaItem.setPrice(new BigDecimal("2.35"));
+        perAreaItem.setPricingMode(FeeItem.PricingMode.PER_AREA);
+        perArea = PricingRules.compile(perAreaItem);
+
+        FeeItem tieredItem = new FeeItem();
+        tieredItem.setUnit("元/㎡/月");
+        tieredItem.setPricingMode(FeeItem.PricingMode.TIERED);
+        tieredItem.setTiers(List.of(
+            new PricingTier(new BigDecimal("90"), new BigDecimal("1.80")),
+            new PricingTier(new BigDecimal("144"), new BigDecimal("2.40")),
+            new PricingTier(null, new BigDecimal("3.10"))));
+        tiered = PricingRules.compile(tieredItem);
+
+        Random random = new Random(42);
+        areaTexts = new String[RESIDENTS];
+        areaHundredths = new long[RESIDENTS];
+        for (int i = 0; i < RESIDENTS; i++) {
+            BigDecimal area = BigDecimal.valueOf(4000 + random.nextInt(16000), 2);
+            areaTexts[i] = area.stripTrailingZeros().toPlainString() + "㎡";
+            areaHundredths[i] = Areas.toHundredths(Areas.parse(areaTexts[i]));
+        }
+    }
+
+    /**
+     * 原实现：每户检查单位、正则清洗面积文本、构造 BigDecimal 相乘后舍入
+     */
+    @Benchmark
+    @OperationsPerInvocation(RESIDENTS)
+    public BigDecimal legacyBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (String area : areaTexts) {
+            total = total.add(legacyAmount(perAreaItem, area));
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESIDENTS)
+    public long compiledPerArea() {
+        long total = Money.ZERO;
+        for (long area : areaHundredths) {
+            total += perArea.amountCents(area);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESIDENTS)
+    public long compiledTiered() {
+        long total = Money.ZERO;
+        for (long area : areaHundredths) {
+            total += tiered.amountCents(area);
+        }
+        return total;
+    }
+
+    private static BigDecimal legacyAmount(FeeItem feeItem, String residentArea) {
+        BigDecimal price = feeItem.getPrice();
+        String unit = feeItem.getUnit();
+        if (unit != null && unit.contains("㎡") && residentArea != null && !residentArea.isEmpty()) {
+            try {
+                String areaStr = residentArea.replaceAll("[^0-9.]", "");
+                BigDecimal area = new BigDecimal(areaStr);
+                return price.multiply(area).setScale(2, RoundingMode.HALF_UP);
+            } catch (NumberFormatException e) {
+                return price;
+            }
+        }
+        return price;
+    }
+}
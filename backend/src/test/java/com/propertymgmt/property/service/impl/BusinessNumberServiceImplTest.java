@@ -0,0 +1,88 @@
+package com.propertymgmt.property.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.propertymgmt.property.repository.BusinessNumberJdbcRepository;
+import com.propertymgmt.property.repository.BusinessNumberJdbcRepository.NumberColumn;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class BusinessNumberServiceImplTest {
+
+    private static final DateTimeFormatter SECOND_FORMAT = DateTimeFormatter.ofPattern("uuuuMMddHHmmss");
+
+    private final BusinessNumberJdbcRepository repository = mock(BusinessNumberJdbcRepository.class);
+
+    private BusinessNumberServiceImpl service() {
+        return new BusinessNumberServiceImpl(repository, new MockEnvironment(), 7);
+    }
+
+    private static long epochSecond(String digits) {
+        return LocalDateTime.parse(digits.substring(0, 14), SECOND_FORMAT)
+            .atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    @Test
+    void numbersCarryPrefixSecondNodeAndSequence() {
+        when(repository.findHighest(any(), anyString(), anyInt())).thenReturn(List.of());
+        BusinessNumberServiceImpl service = service();
+
+        long before = System.currentTimeMillis() / 1000;
+        String bill = service.nextBillNumber();
+        String payment = service.nextPaymentNumber();
+        String repair = service.nextRepairOrderNumber();
+        long after = System.currentTimeMillis() / 1000;
+
+        assertThat(bill).matches("B\\d{23}");
+        assertThat(payment).matches("\\d{23}");
+        assertThat(repair).matches("R\\d{23}");
+        assertThat(epochSecond(bill.substring(1))).isBetween(before, after);
+        assertThat(bill.substring(15, 18)).isEqualTo("007");
+        assertThat(payment.substring(14, 17)).isEqualTo("007");
+        // 同一秒内三种编号共用一个序号
+        if (bill.substring(1, 15).equals(repair.substring(1, 15))) {
+            assertThat(Long.parseLong(repair.substring(18)) - Long.parseLong(bill.substring(18))).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void numbersStayUniqueAcrossSecondsAndResumeAfterBorrowedSeconds() {
+        long now = System.currentTimeMillis() / 1000;
+        String borrowed = LocalDateTime.ofEpochSecond(now + 5, 0,
+            ZoneId.systemDefault().getRules().getOffset(Instant.ofEpochSecond(now + 5)))
+            .format(SECOND_FORMAT);
+        when(repository.findHighest(any(), anyString(), anyInt())).thenReturn(List.of());
+        when(repository.findHighest(eq(NumberColumn.BILL), eq("B"), anyInt()))
+            .thenReturn(List.of("B" + borrowed + "007000042"));
+        BusinessNumberServiceImpl service = service();
+
+        Set<String> issued = new HashSet<>();
+        String previous = "";
+        for (int i = 0; i < 2_500_000; i++) {
+            String number = service.nextBillNumber();
+            assertThat(number.compareTo(previous)).isPositive();
+            previous = number;
+            if (i % 1000 == 0) {
+                issued.add(number);
+            }
+        }
+
+        // 从借用秒的下一秒开始；每秒最多 1,000,000 个序号，用尽后进入后续秒
+        assertThat(epochSecond(service.nextPaymentNumber())).isGreaterThanOrEqualTo(now + 8);
+        assertThat(issued).hasSize(2_500);
+        assertThat(issued).allSatisfy(number -> assertThat(number.substring(15, 18)).isEqualTo("007"));
+    }
+}
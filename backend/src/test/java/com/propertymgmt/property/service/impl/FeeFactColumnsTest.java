@@ -0,0 +1,88 @@
+package com.propertymgmt.property.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.propertymgmt.property.model.FeeBill.BillStatus;
+import com.propertymgmt.property.util.BillingPeriods;
+import org.junit.jupiter.api.Test;
+
+class FeeFactColumnsTest {
+
+    private static final byte PENDING = (byte) BillStatus.PENDING.ordinal();
+
+    @Test
+    void storesOneRowPerBillWithDictionaryCodes() {
+        FeeFactColumns facts = new FeeFactColumns();
+
+        facts.upsert("B1", "1号楼", "物业费", 202601, 12050, PENDING);
+        facts.upsert("B2", "2号楼", "物业费", 202602, 8000, PENDING);
+        facts.upsert("B3", "1号楼", "停车费", 202512, 30000, FeeFactColumns.PAID);
+
+        assertThat(facts.size).isEqualTo(3);
+        assertThat(facts.buildingNames()).containsExactly("1号楼", "2号楼");
+        assertThat(facts.typeNames()).containsExactly("物业费", "停车费");
+        assertThat(facts.building[2]).isEqualTo(facts.buildingCode("1号楼"));
+        assertThat(facts.type[2]).isEqualTo(facts.typeCode("停车费"));
+        assertThat(facts.buildingCode("3号楼")).isEqualTo(-1);
+        assertThat(facts.cents[0]).isEqualTo(12050);
+        assertThat(facts.minMonth).isEqualTo(FeeFactColumns.monthIndex(202512));
+        assertThat(facts.maxMonth).isEqualTo(FeeFactColumns.monthIndex(202602));
+    }
+
+    @Test
+    void upsertOnlyMovesStatusForwardToPaid() {
+        FeeFactColumns facts = new FeeFactColumns();
+
+        facts.upsert("B1", "1号楼", "物业费", 202601, 12050, PENDING);
+        facts.upsert("B1", "1号楼", "物业费", 202601, 12050, FeeFactColumns.PAID);
+        facts.upsert("B1", "1号楼", "物业费", 202601, 12050, PENDING);
+
+        assertThat(facts.size).isEqualTo(1);
+        assertThat(facts.status[0]).isEqualTo(FeeFactColumns.PAID);
+    }
+
+    @Test
+    void upsertKeepsTheLargerAmountAsLateFeesAccrue() {
+        FeeFactColumns facts = new FeeFactColumns();
+        byte overdue = (byte) BillStatus.OVERDUE.ordinal();
+
+        facts.upsert("B1", "1号楼", "物业费", 202601, 12050, PENDING);
+        facts.upsert("B1", "1号楼", "物业费", 202601, 12056, overdue);
+        // 装载时读到的计收前旧金额不覆盖计收后的金额
+        facts.upsert("B1", "1号楼", "物业费", 202601, 12050, overdue);
+
+        assertThat(facts.size).isEqualTo(1);
+        assertThat(facts.cents[0]).isEqualTo(12056);
+        assertThat(facts.status[0]).isEqualTo(overdue);
+    }
+
+    @Test
+    void unknownPeriodsDoNotWidenTheMonthRange() {
+        FeeFactColumns facts = new FeeFactColumns();
+
+        facts.upsert("B1", null, "物业费", BillingPeriods.UNKNOWN, 100, PENDING);
+
+        assertThat(facts.buildingNames()).containsExactly("");
+        assertThat(facts.minMonth).isEqualTo(Integer.MAX_VALUE);
+        assertThat(facts.maxMonth).isEqualTo(Integer.MIN_VALUE);
+    }
+
+    @Test
+    void growsPastInitialCapacityAndKeepsLookups() {
+        FeeFactColumns facts = new FeeFactColumns();
+        int count = 50_000;
+
+        for (int i = 0; i < count; i++) {
+            facts.upsert("B" + i, "1号楼", "物业费", 202601, i, PENDING);
+        }
+        for (int i = 0; i < count; i += 2) {
+            facts.upsert("B" + i, "1号楼", "物业费", 202601, i, FeeFactColumns.PAID);
+        }
+
+        assertThat(facts.size).isEqualTo(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(facts.cents[i]).isEqualTo(i);
+            assertThat(facts.status[i]).isEqualTo(i % 2 == 0 ? FeeFactColumns.PAID : PENDING);
+        }
+    }
+}
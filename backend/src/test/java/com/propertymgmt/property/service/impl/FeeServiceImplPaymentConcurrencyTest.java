@@ -0,0 +1,192 @@
+package com.propertymgmt.property.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.propertymgmt.property.dto.BatchPaymentRequest;
+import com.propertymgmt.property.dto.BillRequest;
+import com.propertymgmt.property.dto.PaymentRequest;
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.Payment;
+import com.propertymgmt.property.repository.FeeBillRepository;
+import com.propertymgmt.property.repository.PaymentRepository;
+import com.propertymgmt.property.service.FeeService;
+import com.propertymgmt.property.service.PaymentIdempotencyStore;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 并发缴费：同一账单的并发请求只有一个成功，其余返回冲突，且只写入一条缴费记录
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:payment-concurrency;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+        + "NON_KEYWORDS=VALUE,YEAR,MONTH;LOCK_TIMEOUT=30000",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "app.dunning.enabled=false",
+    "app.late-fee.enabled=false"
+})
+class FeeServiceImplPaymentConcurrencyTest {
+
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    private FeeService feeService;
+
+    @Autowired
+    private PaymentIdempotencyStore paymentIdempotencyStore;
+
+    @Autowired
+    private FeeBillRepository feeBillRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(32);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private FeeBill bill(String ownerName) {
+        BillRequest request = new BillRequest();
+        request.setOwnerName(ownerName);
+        request.setBuilding("8号楼 1单元 101");
+        request.setType("物业费");
+        request.setAmount(new BigDecimal("120.50"));
+        request.setBillingPeriod("2026-09");
+        return feeService.createBill(request);
+    }
+
+    private long paymentsFor(Long billId) {
+        return paymentRepository.findAll().stream().filter(p -> billId.equals(p.getBillId())).count();
+    }
+
+    /**
+     * 所有任务在同一起跑线释放后并发执行，按结果类型计数（成功记为 "ok"）
+     */
+    private Map<String, Integer> race(List<Callable<?>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Callable<?> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+
+        Map<String, Integer> outcomes = new ConcurrentHashMap<>();
+        for (Future<?> future : futures) {
+            String outcome;
+            try {
+                future.get(60, TimeUnit.SECONDS);
+                outcome = "ok";
+            } catch (ExecutionException ex) {
+                outcome = ex.getCause().getClass().getSimpleName();
+            }
+            outcomes.merge(outcome, 1, Integer::sum);
+        }
+        return outcomes;
+    }
+
+    @Test
+    void concurrentPaymentsForOneBillSucceedExactlyOnce() throws Exception {
+        FeeBill bill = bill("并发缴费");
+        PaymentRequest request = new PaymentRequest();
+        request.setBillId(bill.getId());
+        request.setPayMethod("WECHAT");
+
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            tasks.add(() -> feeService.createPayment(request));
+        }
+        Map<String, Integer> outcomes = race(tasks);
+
+        assertThat(outcomes).containsOnly(
+            Map.entry("ok", 1), Map.entry(ConflictException.class.getSimpleName(), REQUESTS - 1));
+        assertThat(paymentsFor(bill.getId())).isEqualTo(1);
+        assertThat(feeBillRepository.findById(bill.getId()).orElseThrow().getStatus())
+            .isEqualTo(FeeBill.BillStatus.PAID);
+    }
+
+    @Test
+    void overlappingBatchAndSinglePaymentsPayEachBillOnce() throws Exception {
+        FeeBill first = bill("批量并发");
+        FeeBill second = bill("批量并发");
+        FeeBill third = bill("批量并发");
+
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            BatchPaymentRequest batch = new BatchPaymentRequest();
+            batch.setBillIds(i % 2 == 0 ? List.of(first.getId(), second.getId())
+                : List.of(second.getId(), third.getId()));
+            batch.setPayMethod("ALIPAY");
+            tasks.add(() -> feeService.createBatchPayment(batch));
+            if (i % 10 == 0) {
+                PaymentRequest single = new PaymentRequest();
+                single.setBillId(second.getId());
+                single.setPayMethod("CASH");
+                tasks.add(() -> feeService.createPayment(single));
+            }
+        }
+        Map<String, Integer> outcomes = race(tasks);
+
+        // 第二张账单出现在每个请求中，只有一个请求能成功
+        assertThat(outcomes).containsOnly(
+            Map.entry("ok", 1), Map.entry(ConflictException.class.getSimpleName(), tasks.size() - 1));
+        assertThat(paymentsFor(second.getId())).isEqualTo(1);
+        assertThat(paymentsFor(first.getId()) + paymentsFor(third.getId())).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void concurrentRequestsWithOneIdempotencyKeyPayOnceAndShareTheResult() throws Exception {
+        FeeBill bill = bill("幂等缴费");
+        PaymentRequest request = new PaymentRequest();
+        request.setBillId(bill.getId());
+        request.setPayMethod("WECHAT");
+        AtomicInteger attempts = new AtomicInteger();
+
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            tasks.add(() -> paymentIdempotencyStore.execute("retry-" + bill.getId(), bill.getId(), () -> {
+                attempts.incrementAndGet();
+                return feeService.createPayment(request);
+            }));
+        }
+        Map<String, Integer> outcomes = race(tasks);
+
+        // 处理中的重复请求返回冲突，完成后的重复请求拿到同一结果；只执行一次缴费
+        assertThat(attempts).hasValue(1);
+        assertThat(outcomes.keySet()).containsOnly("ok", ConflictException.class.getSimpleName());
+        assertThat(paymentsFor(bill.getId())).isEqualTo(1);
+        Payment replayed = paymentIdempotencyStore.execute("retry-" + bill.getId(), bill.getId(), () -> {
+            throw new AssertionError("重复请求不应再次执行");
+        });
+        assertThat(replayed.getBillId()).isEqualTo(bill.getId());
+    }
+}
@@ -0,0 +1,68 @@
+package com.propertymgmt.property.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.propertymgmt.property.exception.ConflictException;
+import com.propertymgmt.property.model.Payment;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class InMemoryPaymentIdempotencyStoreTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private Supplier<Payment> pay(String orderNumber) {
+        return () -> {
+            executions.incrementAndGet();
+            Payment payment = new Payment();
+            payment.setOrderNumber(orderNumber);
+            return payment;
+        };
+    }
+
+    @Test
+    void repeatedKeyReturnsTheFirstResultWithoutPayingAgain() {
+        InMemoryPaymentIdempotencyStore store = new InMemoryPaymentIdempotencyStore(10, 60);
+
+        Payment first = store.execute("k1", 1L, pay("P1"));
+        Payment second = store.execute("k1", 1L, pay("P2"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(executions).hasValue(1);
+        assertThatThrownBy(() -> store.execute("k1", 2L, pay("P3")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void failedExecutionReleasesTheKey() {
+        InMemoryPaymentIdempotencyStore store = new InMemoryPaymentIdempotencyStore(10, 60);
+
+        assertThatThrownBy(() -> store.execute("k1", 1L, () -> {
+            throw new ConflictException("账单已支付，请勿重复缴费");
+        })).isInstanceOf(ConflictException.class);
+
+        assertThat(store.execute("k1", 1L, pay("P1")).getOrderNumber()).isEqualTo("P1");
+    }
+
+    @Test
+    void inFlightKeyIsNotEvictedWhenCapacityOverflows() {
+        InMemoryPaymentIdempotencyStore store = new InMemoryPaymentIdempotencyStore(2, 60);
+
+        store.execute("in-flight", 1L, () -> {
+            // 处理期间其他请求把容量挤满：最久未访问的是处理中的 key，只能淘汰已完成的条目
+            store.execute("k2", 2L, pay("P2"));
+            store.execute("k3", 3L, pay("P3"));
+            store.execute("k4", 4L, pay("P4"));
+            assertThatThrownBy(() -> store.execute("in-flight", 1L, pay("duplicate")))
+                .isInstanceOf(ConflictException.class);
+            return pay("P1").get();
+        });
+
+        assertThat(executions).hasValue(4);
+        assertThat(store.execute("in-flight", 1L, pay("duplicate")).getOrderNumber()).isEqualTo("P1");
+        // 已完成的较早条目已被淘汰，再次提交会重新执行
+        assertThat(store.execute("k2", 2L, pay("P2 again")).getOrderNumber()).isEqualTo("P2 again");
+    }
+}
@@ -0,0 +1,147 @@
+package com.propertymgmt.property.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.propertymgmt.property.dto.PropertyUnitNode;
+import com.propertymgmt.property.model.FeeBill;
+import com.propertymgmt.property.model.Resident;
+import com.propertymgmt.property.repository.PropertyUnitJdbcRepository;
+import com.propertymgmt.property.repository.PropertyUnitRepository;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class PropertyUnitServiceImplTest {
+
+    private PropertyUnitJdbcRepository jdbcRepository;
+    private PropertyUnitServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcRepository = mock(PropertyUnitJdbcRepository.class);
+        service = new PropertyUnitServiceImpl(mock(PropertyUnitRepository.class), jdbcRepository, 100);
+    }
+
+    private static ResultSet row(Map<String, Object> values) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(anyString())).thenAnswer(inv -> ((Number) values.get(inv.getArgument(0, String.class)))
+            .longValue());
+        when(rs.getString(anyString())).thenAnswer(inv -> (String) values.get(inv.getArgument(0, String.class)));
+        when(rs.getObject(anyString(), ArgumentMatchers.<Class<Long>>any()))
+            .thenAnswer(inv -> values.get(inv.getArgument(0, String.class)));
+        when(rs.getBigDecimal(anyString()))
+            .thenAnswer(inv -> (BigDecimal) values.get(inv.getArgument(0, String.class)));
+        return rs;
+    }
+
+    private static Map<String, Object> unit(long id, String level, Long parentId, String name, String path) {
+        HashMap<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("level", level);
+        values.put("parent_id", parentId);
+        values.put("name", name);
+        values.put("path", path);
+        return values;
+    }
+
+    private void streamRows(String method, List<Map<String, Object>> rows, Runnable beforeFirstRow) throws Exception {
+        var stubber = doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            beforeFirstRow.run();
+            for (Map<String, Object> values : rows) {
+                handler.processRow(row(values));
+            }
+            return null;
+        });
+        switch (method) {
+            case "units" -> stubber.when(jdbcRepository).streamUnits(anyInt(), any());
+            case "residents" -> stubber.when(jdbcRepository).streamResidents(anyInt(),
+                any());
+            default -> stubber.when(jdbcRepository).streamUnpaidBills(anyInt(), any());
+        }
+    }
+
+    private static Resident resident(long id, String room) {
+        Resident resident = new Resident();
+        resident.setId(id);
+        resident.setBuilding("1号楼");
+        resident.setUnit("2单元");
+        resident.setRoomNumber(room);
+        resident.setStatus(Resident.Status.OCCUPIED);
+        return resident;
+    }
+
+    private static FeeBill bill(String billNumber) {
+        FeeBill bill = new FeeBill();
+        bill.setBillNumber(billNumber);
+        bill.setBuilding("1号楼 2单元 301");
+        bill.setAmount(new BigDecimal("100.00"));
+        return bill;
+    }
+
+    private PropertyUnitNode building() {
+        return service.tree(1).get(0);
+    }
+
+    @Test
+    void changesCommittedBeforeUnitsAreLoadedAreReplayedAfterTheStreams() throws Exception {
+        streamRows("units", List.of(
+            unit(1, "BUILDING", null, "1号楼", "1号楼"),
+            unit(2, "UNIT", 1L, "2单元", "1号楼/2单元"),
+            unit(3, "ROOM", 2L, "301", "1号楼/2单元/301"),
+            unit(4, "ROOM", 2L, "302", "1号楼/2单元/302")), () -> {
+                // 装载开始、节点尚未读到时提交的增量
+                service.residentSaved(resident(10, "301"));
+                service.recordBills(List.of(bill("B1")));
+            });
+        // 游标读到住户 10 的旧位置与账单 B1：不应覆盖已重放的最新状态，也不应被跳过
+        streamRows("residents", List.of(Map.of("id", 10L, "building", "1号楼", "unit", "2单元",
+            "room_number", "302", "status", "OCCUPIED"),
+            Map.of("id", 11L, "building", "1号楼", "unit", "2单元", "room_number", "302", "status", "OCCUPIED")),
+            () -> { });
+        streamRows("bills", List.of(Map.of("bill_number", "B1", "building", "1号楼 2单元 301",
+            "amount", new BigDecimal("100.00"))), () -> { });
+
+        service.reload();
+
+        PropertyUnitNode building = building();
+        assertThat(building.getResidentCount()).isEqualTo(2);
+        assertThat(building.getOccupiedRoomCount()).isEqualTo(2);
+        assertThat(building.getArrearsBillCount()).isEqualTo(1);
+        assertThat(service.children(2L)).extracting(PropertyUnitNode::getResidentCount).containsExactly(1L, 1L);
+    }
+
+    @Test
+    void changesCommittedAfterTheCursorReadARowWin() throws Exception {
+        streamRows("units", List.of(
+            unit(1, "BUILDING", null, "1号楼", "1号楼"),
+            unit(2, "UNIT", 1L, "2单元", "1号楼/2单元"),
+            unit(3, "ROOM", 2L, "301", "1号楼/2单元/301")), () -> { });
+        streamRows("residents", List.of(Map.of("id", 10L, "building", "1号楼", "unit", "2单元",
+            "room_number", "301", "status", "OCCUPIED")), () -> { });
+        streamRows("bills", List.of(Map.of("bill_number", "B1", "building", "1号楼 2单元 301",
+            "amount", new BigDecimal("100.00"))), () -> {
+                service.residentRemoved(resident(10, "301"));
+                service.recordBillsPaid(List.of(bill("B1")));
+            });
+
+        service.reload();
+
+        PropertyUnitNode building = building();
+        assertThat(building.getResidentCount()).isZero();
+        assertThat(building.getArrearsBillCount()).isZero();
+    }
+}
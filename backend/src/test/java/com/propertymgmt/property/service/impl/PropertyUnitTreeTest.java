@@ -0,0 +1,140 @@
+package com.propertymgmt.property.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.propertymgmt.property.dto.PropertyUnitNode;
+import com.propertymgmt.property.model.PropertyUnit.Level;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PropertyUnitTreeTest {
+
+    private PropertyUnitTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new PropertyUnitTree();
+        tree.addNode(1, Level.BUILDING, null, "1号楼", "1号楼");
+        tree.addNode(2, Level.UNIT, 1L, "2单元", "1号楼/2单元");
+        tree.addNode(3, Level.ROOM, 2L, "301", "1号楼/2单元/301");
+        tree.addNode(4, Level.ROOM, 2L, "302", "1号楼/2单元/302");
+    }
+
+    private PropertyUnitNode dto(long id) {
+        return PropertyUnitTree.toDto(tree.node(id));
+    }
+
+    @Test
+    void countsRoomsUpTheTree() {
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(dto(1).getRoomCount()).isEqualTo(2);
+        assertThat(dto(2).getRoomCount()).isEqualTo(2);
+        assertThat(dto(3).getRoomCount()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresNodesWhoseParentIsNotLoaded() {
+        tree.addNode(9, Level.ROOM, 99L, "101", "9号楼/1单元/101");
+        tree.addNode(3, Level.ROOM, 2L, "301", "1号楼/2单元/301");
+
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(dto(1).getRoomCount()).isEqualTo(2);
+    }
+
+    @Test
+    void occupiedRoomsCountOncePerRoom() {
+        tree.putResident(10, "1号楼", "2单元", "301", true);
+        tree.putResident(11, "1号楼", "2单元", "301", true);
+        tree.putResident(12, "1号楼", "2单元", "302", false);
+
+        assertThat(dto(1).getResidentCount()).isEqualTo(3);
+        assertThat(dto(1).getOccupiedRoomCount()).isEqualTo(1);
+        assertThat(dto(3).getOccupiedRoomCount()).isEqualTo(1);
+        assertThat(dto(4).getOccupiedRoomCount()).isZero();
+    }
+
+    @Test
+    void movingAResidentReplacesItsOldContribution() {
+        tree.putResident(10, "1号楼", "2单元", "301", true);
+        tree.putResident(10, "1号楼", "2单元", "302", true);
+        tree.putResident(10, "1号楼", "2单元", "302", true);
+
+        assertThat(dto(3).getResidentCount()).isZero();
+        assertThat(dto(3).getOccupiedRoomCount()).isZero();
+        assertThat(dto(4).getResidentCount()).isEqualTo(1);
+        assertThat(dto(1).getResidentCount()).isEqualTo(1);
+        assertThat(dto(1).getOccupiedRoomCount()).isEqualTo(1);
+
+        tree.removeResident(10);
+        tree.removeResident(10);
+
+        assertThat(dto(1).getResidentCount()).isZero();
+        assertThat(dto(1).getOccupiedRoomCount()).isZero();
+    }
+
+    @Test
+    void unregisteredRoomsCountAtTheDeepestRegisteredNode() {
+        tree.putResident(10, "1号楼", "2单元", "999", true);
+        tree.putResident(11, "5号楼", "1单元", "101", true);
+
+        assertThat(dto(2).getResidentCount()).isEqualTo(1);
+        assertThat(dto(2).getOccupiedRoomCount()).isZero();
+        assertThat(dto(1).getResidentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unpaidBillsAreCountedOnceAndRemovedOnPayment() {
+        tree.putUnpaidBill("B1", "1号楼 2单元 301", 12050);
+        tree.putUnpaidBill("B1", "1号楼 2单元 301", 12050);
+        tree.putUnpaidBill("B2", "1号楼", 5000);
+
+        assertThat(dto(3).getArrearsBillCount()).isEqualTo(1);
+        assertThat(dto(1).getArrearsBillCount()).isEqualTo(2);
+        assertThat(dto(1).getArrearsAmount()).isEqualTo(new BigDecimal("170.50"));
+
+        tree.removeUnpaidBill("B1");
+
+        assertThat(dto(3).getArrearsBillCount()).isZero();
+        assertThat(dto(1).getArrearsAmount()).isEqualTo(new BigDecimal("50.00"));
+    }
+
+    @Test
+    void accruedLateFeesRaiseTheUnpaidAmountOnce() {
+        tree.putUnpaidBill("B1", "1号楼 2单元 301", 12050);
+        tree.putUnpaidBill("B1", "1号楼 2单元 301", 12056);
+        tree.putUnpaidBill("B1", "1号楼 2单元 301", 12056);
+        tree.putUnpaidBill("B1", "1号楼 2单元 301", 12050);
+
+        assertThat(dto(3).getArrearsBillCount()).isEqualTo(1);
+        assertThat(dto(1).getArrearsAmount()).isEqualTo(new BigDecimal("120.56"));
+
+        tree.removeUnpaidBill("B1");
+
+        assertThat(dto(1).getArrearsAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void locationPathSplitsOnWhitespace() {
+        assertThat(PropertyUnitTree.locationPath("1号楼 2单元 301")).isEqualTo("1号楼/2单元/301");
+        assertThat(PropertyUnitTree.locationPath(" 1号楼  2单元 ")).isEqualTo("1号楼/2单元");
+        assertThat(PropertyUnitTree.locationPath("1号楼2单元301")).isEqualTo("1号楼");
+        assertThat(PropertyUnitTree.locationPath(null)).isEmpty();
+    }
+
+    @Test
+    void treeSortsNamesNaturally() {
+        tree.addNode(20, Level.BUILDING, null, "10号楼", "10号楼");
+        tree.addNode(21, Level.BUILDING, null, "2号楼", "2号楼");
+        tree.addNode(22, Level.BUILDING, null, "02号楼A", "02号楼A");
+
+        List<PropertyUnitNode> buildings = tree.tree(1);
+
+        assertThat(buildings).extracting(PropertyUnitNode::getName)
+            .containsExactly("1号楼", "2号楼", "02号楼A", "10号楼");
+        assertThat(buildings.get(0).getChildren()).isNull();
+        assertThat(tree.tree(3).get(0).getChildren().get(0).getChildren())
+            .extracting(PropertyUnitNode::getName).containsExactly("301", "302");
+    }
+}
@@ -0,0 +1,88 @@
+package com.propertymgmt.property.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.propertymgmt.property.model.Resident.Status;
+import com.propertymgmt.property.util.KeysetCursor;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResidentGramsTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 8, 0);
+
+    private ResidentGrams grams;
+
+    @BeforeEach
+    void setUp() {
+        grams = new ResidentGrams();
+        grams.put(ResidentGrams.Doc.of(1, "张三丰", "13800000001", "1号楼", "301", Status.OCCUPIED,
+            CREATED.plusMinutes(3)));
+        grams.put(ResidentGrams.Doc.of(2, "张三", "13800000002", "2号楼", "302", Status.OCCUPIED,
+            CREATED.plusMinutes(1)));
+        grams.put(ResidentGrams.Doc.of(3, "李张三", "13900000003", "1号楼", "101", Status.VACANT,
+            CREATED.plusMinutes(2)));
+        grams.put(ResidentGrams.Doc.of(4, "Wang Wu", "13900000004", "3号楼", "张三", Status.OCCUPIED,
+            CREATED.plusMinutes(2)));
+    }
+
+    @Test
+    void ranksExactThenPrefixThenContains() {
+        assertThat(grams.search("张三", null)).containsExactly(2L, 4L, 1L, 3L);
+    }
+
+    @Test
+    void singleCharacterUsesUnigrams() {
+        assertThat(grams.search("李", null)).containsExactly(3L);
+        assertThat(grams.search("丰", null)).containsExactly(1L);
+    }
+
+    @Test
+    void filtersByStatus() {
+        assertThat(grams.search("张三", Status.VACANT)).containsExactly(3L);
+    }
+
+    @Test
+    void matchesPhoneAndCaseInsensitiveNames() {
+        assertThat(grams.search("1380000000", null)).containsExactly(1L, 2L);
+        assertThat(grams.search("wang w", null)).containsExactly(4L);
+    }
+
+    @Test
+    void rejectsCandidatesAssembledFromDifferentFields() {
+        // "号楼3" 的二元组 "号楼"、"楼3" 分别出现在楼栋与房号的拼接之外，但没有任一字段包含整个关键字
+        grams.put(ResidentGrams.Doc.of(5, "楼3", "1", "1号楼", "9", Status.OCCUPIED, CREATED));
+
+        assertThat(grams.search("号楼3", null)).isEmpty();
+    }
+
+    @Test
+    void pagesNewestFirstFromTheCursor() {
+        assertThat(grams.searchNewestFirst("张三", null, null, 2)).containsExactly(1L, 4L);
+        // 创建时间相同的按 id 倒序，游标之后从同一时刻的下一个 id 继续
+        assertThat(grams.searchNewestFirst("张三", null, new KeysetCursor(CREATED.plusMinutes(2), 4), 2))
+            .containsExactly(3L, 2L);
+        assertThat(grams.searchNewestFirst("张三", Status.OCCUPIED, new KeysetCursor(CREATED.plusMinutes(2), 4), 2))
+            .containsExactly(2L);
+        assertThat(grams.searchNewestFirst("张三", null, new KeysetCursor(CREATED.plusMinutes(1), 2), 2)).isEmpty();
+    }
+
+    @Test
+    void unknownGramsMatchNothing() {
+        assertThat(grams.search("赵钱", null)).isEmpty();
+    }
+
+    @Test
+    void putReplacesAndRemoveForgets() {
+        grams.put(ResidentGrams.Doc.of(2, "赵六", "13800000002", "2号楼", "302", Status.OCCUPIED,
+            CREATED.plusMinutes(1)));
+        grams.remove(3);
+        grams.remove(3);
+
+        assertThat(grams.size()).isEqualTo(3);
+        assertThat(grams.search("张三", null)).containsExactly(4L, 1L);
+        assertThat(grams.search("赵六", null)).containsExactly(2L);
+        assertThat(grams.search("李", null)).isEmpty();
+    }
+}
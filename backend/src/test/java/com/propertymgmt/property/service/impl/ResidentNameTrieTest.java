@@ -0,0 +1,64 @@
+package com.propertymgmt.property.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.propertymgmt.property.dto.ResidentSuggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResidentNameTrieTest {
+
+    private ResidentNameTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new ResidentNameTrie();
+        trie.put(suggestion(1, "张三丰"));
+        trie.put(suggestion(2, "张三"));
+        trie.put(suggestion(3, "章散"));
+        trie.put(suggestion(4, "李四"));
+    }
+
+    private static ResidentSuggestion suggestion(long id, String name) {
+        return new ResidentSuggestion(id, name, "1号楼", "1单元", "10" + id);
+    }
+
+    private static String prefix(String value) {
+        return ResidentNameTrie.normalize(value);
+    }
+
+    @Test
+    void suggestsByNamePrefixShortestCompletionFirst() {
+        assertThat(trie.suggest(prefix("张"), 10)).extracting(ResidentSuggestion::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void suggestsByFullPinyinAndInitials() {
+        assertThat(trie.suggest(prefix("zhangsan"), 10)).extracting(ResidentSuggestion::getId)
+            .containsExactly(2L, 3L, 1L);
+        assertThat(trie.suggest(prefix("ZS"), 10)).extracting(ResidentSuggestion::getId)
+            .containsExactly(2L, 3L, 1L);
+        assertThat(trie.suggest(prefix("ls"), 10)).extracting(ResidentSuggestion::getId).containsExactly(4L);
+    }
+
+    @Test
+    void respectsLimit() {
+        assertThat(trie.suggest(prefix("z"), 2)).hasSize(2);
+    }
+
+    @Test
+    void unknownPrefixSuggestsNothing() {
+        assertThat(trie.suggest(prefix("wang"), 10)).isEmpty();
+    }
+
+    @Test
+    void removeAndReplaceUpdateAllKeys() {
+        trie.remove(4);
+        trie.put(suggestion(2, "王五"));
+
+        assertThat(trie.suggest(prefix("ls"), 10)).isEmpty();
+        assertThat(trie.suggest(prefix("李"), 10)).isEmpty();
+        assertThat(trie.suggest(prefix("zs"), 10)).extracting(ResidentSuggestion::getId).containsExactly(3L, 1L);
+        assertThat(trie.suggest(prefix("ww"), 10)).extracting(ResidentSuggestion::getName).containsExactly("王五");
+    }
+}
@@ -0,0 +1,48 @@
+package com.propertymgmt.property.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsCreatedAtAndId() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 3, 1, 8, 30, 15, 123_456_789), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(KeysetCursor.decode(" " + encoded + " ")).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsWholeSeconds() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 3, 1, 0, 0), Long.MAX_VALUE);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2026-03-01T00:00".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2026-03-01T00:00|x".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : new String[] {"!!!", noSeparator, badId}) {
+            assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("分页游标无效");
+        }
+    }
+}
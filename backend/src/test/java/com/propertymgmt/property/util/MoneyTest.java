@@ -0,0 +1,64 @@
+package com.propertymgmt.property.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    @Test
+    void toCentsRoundsHalfUpAwayFromZero() {
+        assertThat(Money.toCents(new BigDecimal("12.3"))).isEqualTo(1230);
+        assertThat(Money.toCents(new BigDecimal("12.34"))).isEqualTo(1234);
+        assertThat(Money.toCents(new BigDecimal("1.005"))).isEqualTo(101);
+        assertThat(Money.toCents(new BigDecimal("1.0049"))).isEqualTo(100);
+        assertThat(Money.toCents(new BigDecimal("-1.005"))).isEqualTo(-101);
+        assertThat(Money.toCents(new BigDecimal("1E+3"))).isEqualTo(100_000);
+        assertThat(Money.toCents(null)).isZero();
+    }
+
+    @Test
+    void toBigDecimalHasTwoDecimals() {
+        assertThat(Money.toBigDecimal(12345)).isEqualTo(new BigDecimal("123.45"));
+        assertThat(Money.toBigDecimal(-5)).isEqualTo(new BigDecimal("-0.05"));
+        assertThat(Money.toBigDecimal(0).scale()).isEqualTo(2);
+    }
+
+    @Test
+    void roundHundredthsMatchesBigDecimalHalfUp() {
+        Random random = new Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >> 12;
+            long expected = BigDecimal.valueOf(value).movePointLeft(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+            assertThat(Money.roundHundredths(value)).as("%d", value).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void divideHalfUpHandlesSigns() {
+        assertThat(Money.divideHalfUp(5, 10)).isEqualTo(1);
+        assertThat(Money.divideHalfUp(4, 10)).isZero();
+        assertThat(Money.divideHalfUp(-5, 10)).isEqualTo(-1);
+        assertThat(Money.divideHalfUp(-4, 10)).isZero();
+        assertThat(Money.divideHalfUp(15, -10)).isEqualTo(-2);
+        assertThat(Money.divideHalfUp(-15, -10)).isEqualTo(2);
+    }
+
+    @Test
+    void percentMatchesFourDecimalRatio() {
+        assertThat(Money.percent(1, 3)).isEqualTo(33.33);
+        assertThat(Money.percent(2, 3)).isEqualTo(66.67);
+        assertThat(Money.percent(3, 3)).isEqualTo(100.0);
+        assertThat(Money.percent(1, 0)).isZero();
+    }
+
+    @Test
+    void overflowIsAnError() {
+        assertThatThrownBy(() -> Money.add(Long.MAX_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.toCents(new BigDecimal("1E+30"))).isInstanceOf(ArithmeticException.class);
+    }
+}
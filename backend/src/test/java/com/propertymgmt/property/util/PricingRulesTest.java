@@ -0,0 +1,121 @@
+package com.propertymgmt.property.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.propertymgmt.property.model.FeeItem;
+import com.propertymgmt.property.model.FeeItem.PricingMode;
+import com.propertymgmt.property.model.PricingTier;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PricingRulesTest {
+
+    private static FeeItem item(PricingMode mode, String price, PricingTier... tiers) {
+        FeeItem item = new FeeItem();
+        item.setUnit("元/㎡/月");
+        item.setPricingMode(mode);
+        item.setPrice(price != null ? new BigDecimal(price) : null);
+        item.setTiers(List.of(tiers));
+        return item;
+    }
+
+    private static PricingTier tier(String upTo, String unitPrice) {
+        return new PricingTier(upTo != null ? new BigDecimal(upTo) : null, new BigDecimal(unitPrice));
+    }
+
+    private static long area(String value) {
+        return Areas.toHundredths(new BigDecimal(value));
+    }
+
+    @Test
+    void flatIgnoresQuantity() {
+        PricingFunction pricing = PricingRules.compile(item(PricingMode.FLAT, "120.50"));
+
+        assertThat(pricing.amountCents(area("89.5"))).isEqualTo(12050);
+        assertThat(pricing.amountCents(Areas.MISSING)).isEqualTo(12050);
+    }
+
+    @Test
+    void perAreaRoundsHalfUpToTheCent() {
+        PricingFunction pricing = PricingRules.compile(item(PricingMode.PER_AREA, "2.35"));
+
+        assertThat(pricing.amountCents(area("89.55"))).isEqualTo(21044); // 210.4425
+        assertThat(pricing.amountCents(area("89.57"))).isEqualTo(21049); // 210.4895
+        assertThat(PricingRules.compile(item(PricingMode.PER_AREA, "0.01")).amountCents(area("0.5")))
+            .isEqualTo(1); // 0.005
+    }
+
+    @Test
+    void perAreaMatchesBigDecimalReference() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal price = BigDecimal.valueOf(random.nextInt(100_000), 2);
+            BigDecimal area = BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+            long expected = Money.toCents(price.multiply(area).setScale(2, RoundingMode.HALF_UP));
+
+            PricingFunction pricing = PricingRules.compile(item(PricingMode.PER_AREA, price.toPlainString()));
+            assertThat(pricing.amountCents(Areas.toHundredths(area))).as("%s × %s", price, area).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void missingQuantityIsUnpriced() {
+        assertThat(PricingRules.compile(item(PricingMode.PER_AREA, "2.35")).amountCents(Areas.MISSING))
+            .isEqualTo(PricingFunction.UNPRICED);
+        assertThat(PricingRules.compile(item(PricingMode.TIERED, null, tier(null, "1.00"))).amountCents(Areas.MISSING))
+            .isEqualTo(PricingFunction.UNPRICED);
+    }
+
+    @Test
+    void tieredChargesEachBandAtItsOwnPrice() {
+        PricingFunction pricing = PricingRules.compile(item(PricingMode.TIERED, null,
+            tier("90", "1.80"), tier("144", "2.40"), tier(null, "3.10")));
+
+        assertThat(pricing.amountCents(0)).isZero();
+        assertThat(pricing.amountCents(area("90"))).isEqualTo(16200);
+        assertThat(pricing.amountCents(area("90.01"))).isEqualTo(16202);  // 162 + 0.024
+        assertThat(pricing.amountCents(area("144"))).isEqualTo(29160);    // 162 + 54 × 2.40
+        assertThat(pricing.amountCents(area("144.01"))).isEqualTo(29163); // + 0.031
+        assertThat(pricing.amountCents(area("200"))).isEqualTo(46520);    // + 56 × 3.10
+    }
+
+    @Test
+    void lastTierIsAlwaysUnbounded() {
+        PricingFunction pricing = PricingRules.compile(item(PricingMode.TIERED, null,
+            tier("90", "1.80"), tier("144", "2.40")));
+
+        assertThat(pricing.amountCents(area("200"))).isEqualTo(42600); // 162 + 110 × 2.40
+    }
+
+    @Test
+    void meteredWithoutTiersChargesPerUnit() {
+        PricingFunction pricing = PricingRules.compile(item(PricingMode.METERED, "3.50"));
+
+        assertThat(pricing.amountCents(area("12.34"))).isEqualTo(4319); // 43.19
+    }
+
+    @Test
+    void rejectsInvalidTiers() {
+        assertThatThrownBy(() -> PricingRules.compile(item(PricingMode.TIERED, "1")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PricingRules.compile(item(PricingMode.TIERED, null,
+            tier("144", "1.80"), tier("90", "2.40"), tier(null, "3.10"))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PricingRules.compile(item(PricingMode.TIERED, null,
+            tier("90", "1.80"), tier("90", "2.40"), tier(null, "3.10"))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void infersModeFromUnitWhenUnset() {
+        FeeItem item = item(null, "2.00");
+
+        assertThat(PricingRules.compile(item).amountCents(area("50"))).isEqualTo(10000);
+        item.setUnit("元/月");
+        assertThat(PricingRules.compile(item).amountCents(area("50"))).isEqualTo(200);
+    }
+}
@@ -344,10 +344,14 @@ export function FeeManagement() {
     }
 
     try {
-      const bills = await generateBillsFromFeeItem(targetFeeItem.id, {
+      const result = await generateBillsFromFeeItem(targetFeeItem.id, {
         billingPeriod: generateBillingPeriod.trim(),
       });
-      toast.success(`已生成 ${bills.length} 条账单`);
+      if (result.created === 0) {
+        toast.info(`选定账期的账单已存在，跳过 ${result.skipped} 户`);
+      } else {
+        toast.success(`已生成 ${result.created} 条账单，跳过 ${result.skipped} 户，合计 ¥${result.totalAmount}`);
+      }
       handleGenerateDialogChange(false);
       loadBills();
       loadStatistics();
@@ -2,12 +2,15 @@ import { get, post, put, del } from "../utils/apiClient";
 import type {
   Bill,
   BillRequest,
+  CursorPage,
+  FeeQueryFilter,
   Payment,
   PaymentRequest,
   FeeItem,
   FeeItemRequest,
   FeeStatistics,
-  GenerateBillsRequest
+  GenerateBillsRequest,
+  GenerateBillsResult
 } from "../types/api";
 
 // ========== 账单管理 ==========
@@ -20,6 +23,13 @@ export async function getAllBills(ownerName?: string): Promise<Bill[]> {
   return get<Bill[]>("/fees/bills", params);
 }
 
+/**
+ * 按筛选条件分页获取账单（键集分页，cursor 取上一页的 nextCursor）
+ */
+export async function getBillPage(filter: FeeQueryFilter = {}, cursor?: string, size = 20): Promise<CursorPage<Bill>> {
+  return get<CursorPage<Bill>>("/fees/bills/page", { ...filter, ...(cursor ? { cursor } : {}), size });
+}
+
 /**
  * 根据ID获取账单
  */
@@ -43,6 +53,13 @@ export async function getAllPayments(): Promise<Payment[]> {
   return get<Payment[]>("/fees/payments");
 }
 
+/**
+ * 按筛选条件分页获取缴费记录
+ */
+export async function getPaymentPage(filter: FeeQueryFilter = {}, cursor?: string, size = 20): Promise<CursorPage<Payment>> {
+  return get<CursorPage<Payment>>("/fees/payments/page", { ...filter, ...(cursor ? { cursor } : {}), size });
+}
+
 /**
  * 创建缴费记录（记录缴费）
  */
@@ -97,8 +114,8 @@ export async function toggleFeeItemStatus(id: number): Promise<FeeItem> {
 /**
  * 为指定收费项目批量生成账单
  */
-export async function generateBillsFromFeeItem(id: number, data: GenerateBillsRequest): Promise<Bill[]> {
-  return post<Bill[]>(`/fees/items/${id}/generate-bills`, data);
+export async function generateBillsFromFeeItem(id: number, data: GenerateBillsRequest): Promise<GenerateBillsResult> {
+  return post<GenerateBillsResult>(`/fees/items/${id}/generate-bills`, data);
 }
 
 // ========== 统计 ==========
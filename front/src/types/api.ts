@@ -360,6 +360,31 @@ export interface GenerateBillsRequest {
   billingPeriod: string;
 }
 
+export interface GenerateBillsResult {
+  billingPeriod: string;
+  feeItemName: string;
+  created: number;      // 新生成账单数
+  skipped: number;      // 已存在而跳过的住户数
+  totalAmount: number;  // 新生成账单总金额
+  unpriced?: number;    // 缺少面积而未出账的住户数
+}
+
+// 账单/缴费记录筛选条件
+export interface FeeQueryFilter {
+  ownerName?: string;
+  period?: string;    // 账期，如 2025年10月
+  status?: string;
+  building?: string;  // 楼栋前缀
+  type?: string;
+}
+
+// 键集分页结果
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
 // 缴费记录类型
 export interface Payment {
   id: number;
@@ -381,6 +406,14 @@ export interface PaymentRequest {
 }
 
 // 收费项目类型
+// 计价方式与阶梯档位
+export type PricingMode = "FLAT" | "PER_AREA" | "TIERED" | "METERED";
+
+export interface PricingTier {
+  upTo?: number | null;  // 为空表示不设上限
+  unitPrice: number;
+}
+
 export interface FeeItem {
   id: number;
   name: string;
@@ -388,6 +421,8 @@ export interface FeeItem {
   price: number;
   description?: string;
   status: string; // ACTIVE, INACTIVE
+  pricingMode?: PricingMode;
+  tiers?: PricingTier[];
   createdAt: string;
   updatedAt: string;
 }
@@ -397,6 +432,8 @@ export interface FeeItemRequest {
   unit: string;
   price: number;
   description?: string;
+  pricingMode?: PricingMode;
+  tiers?: PricingTier[];
 }
 
 // 财务统计类型